@@ -125,6 +125,20 @@ public class Metrics {
 	 */
 	public static final String TLS_HANDSHAKE_TIME = ".tls.handshake.time";
 
+	/**
+	 * The number of the successful TLS handshakes, either resumed or full.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final String TLS_HANDSHAKES = ".tls.handshakes";
+
+	/**
+	 * Time spent for looking up the certificate for the SNI host name in a {@link reactor.netty.tcp.SniCertificateStore}.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final String TLS_SNI_LOOKUP_TIME = ".tls.sni.lookup.time";
+
 	/**
 	 * Time spent for connecting to the remote address.
 	 */
@@ -145,6 +159,34 @@ public class Metrics {
 	 */
 	public static final String RESPONSE_TIME = ".response.time";
 
+	/**
+	 * The number of the response cache lookups.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final String CACHE_LOOKUPS = ".cache.lookups";
+
+	/**
+	 * The number of the hedged requests.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final String HEDGED_REQUESTS = ".hedged.requests";
+
+	/**
+	 * Amount of the compressed data received, before the decompression, in bytes.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final String COMPRESSED_DATA_RECEIVED = ".compressed.data.received";
+
+	/**
+	 * Amount of the compressed data received, after the decompression, in bytes.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final String DECOMPRESSED_DATA_RECEIVED = ".decompressed.data.received";
+
 	/**
 	 * The number of all connections, whether they are active or idle.
 	 */
@@ -256,6 +298,26 @@ public class Metrics {
 	 */
 	public static final String CHUNK_SIZE = ".chunk.size";
 
+	/**
+	 * The number of chunks in an arena per chunk usage range.
+	 */
+	public static final String ARENA_CHUNKS = ".arena.chunks";
+
+	/**
+	 * The number of allocations done via an arena per size class.
+	 */
+	public static final String ARENA_ALLOCATIONS = ".arena.allocations";
+
+	/**
+	 * The number of currently active allocations in an arena per size class.
+	 */
+	public static final String ARENA_ACTIVE_ALLOCATIONS = ".arena.active.allocations";
+
+	/**
+	 * The number of leaked buffers reported by the sampled resource leak detection.
+	 */
+	public static final String LEAKS = ".leaks";
+
 	// EventLoop Metrics
 	/**
 	 * The number of tasks that are pending for processing on an event loop.
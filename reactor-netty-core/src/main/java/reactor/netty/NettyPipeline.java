@@ -39,6 +39,7 @@ import io.netty.channel.ChannelInboundHandler;
  * -> http/1.1 codec ? [HttpCodec]
  * -> h2 multiplex handler ? [H2MultiplexHandler]
  * -> http/1.1 decompressor ? [HttpDecompressor]
+ * -> request compression ? [CompressionHandler]
  * -> h2 to http/1.1 codec ? [H2ToHttp11Codec]
  * -> http traffic handler ? [HttpTrafficHandler]
  * -> http metrics ? [HttpMetricsHandler]
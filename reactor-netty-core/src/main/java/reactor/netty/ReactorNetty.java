@@ -127,6 +127,14 @@ public final class ReactorNetty {
 	public static final String NATIVE = "reactor.netty.native";
 
 
+	/**
+	 * Specifies whether per-arena metrics (chunk usage, allocations per size class) will be registered
+	 * for {@link io.netty.buffer.PooledByteBufAllocator}, when the allocator metrics are enabled.
+	 * By default, it is disabled as the number of meters grows with the number of arenas.
+	 */
+	public static final String BYTE_BUF_ALLOCATOR_ARENA_METRICS = "reactor.netty.bytebuf.allocator.arenaMetrics";
+
+
 	/**
 	 * Default max connections. Fallback to
 	 * 2 * available number of processors (but with a minimum value of 16)
@@ -206,6 +214,15 @@ public final class ReactorNetty {
 	 */
 	public static final String ERROR_LOG_ENABLED = "reactor.netty.http.server.errorLogEnabled";
 
+	/**
+	 * Specifies the tick in milliseconds of the timing wheel that drives the HTTP read, request and response timeouts,
+	 * fallback to {@code 10}.
+	 * While timeouts are armed, the wheel wakes up each event loop once per tick.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final String HTTP_TIMEOUT_WHEEL_TICK = "reactor.netty.http.timeoutWheelTick";
+
 	/**
 	 *  Specifies the zone id used by the access log.
 	 */
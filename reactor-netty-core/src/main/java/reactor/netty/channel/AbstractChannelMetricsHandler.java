@@ -24,11 +24,13 @@ import io.netty.channel.socket.DatagramPacket;
 import io.netty.handler.proxy.ProxyHandler;
 import io.netty.handler.ssl.AbstractSniHandler;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AttributeKey;
 import org.jspecify.annotations.Nullable;
 import reactor.netty.NettyPipeline;
 import reactor.util.Logger;
 import reactor.util.Loggers;
 
+import javax.net.ssl.SSLSession;
 import java.net.SocketAddress;
 
 import static java.util.Objects.requireNonNull;
@@ -44,6 +46,12 @@ public abstract class AbstractChannelMetricsHandler extends ChannelDuplexHandler
 
 	private static final Logger log = Loggers.getLogger(AbstractChannelMetricsHandler.class);
 
+	static final String SNI_HIT = "hit";
+	static final String SNI_MISS = "miss";
+
+	static final AttributeKey<@Nullable Boolean> SNI_CACHE_HIT = AttributeKey.valueOf("$SNI_CACHE_HIT");
+	static final AttributeKey<@Nullable Long> SNI_LOOKUP_TIME = AttributeKey.valueOf("$SNI_LOOKUP_TIME");
+
 	final @Nullable SocketAddress remoteAddress;
 
 	final boolean onServer;
@@ -195,6 +203,35 @@ public abstract class AbstractChannelMetricsHandler extends ChannelDuplexHandler
 
 	public abstract ChannelHandler connectMetricsHandler();
 
+	/**
+	 * Returns whether the TLS handshake resumed a previous session.
+	 * A resumed session was created before the handshake started, while a full handshake creates a new one.
+	 *
+	 * @param sslHandler the {@link SslHandler} which completed the handshake
+	 * @param handshakeStartMillis the wall clock time when the handshake started
+	 * @return {@code true} when a previous TLS session was resumed
+	 */
+	static boolean isSessionResumed(SslHandler sslHandler, long handshakeStartMillis) {
+		SSLSession session = sslHandler.engine().getSession();
+		return session != null && session.getCreationTime() < handshakeStartMillis;
+	}
+
+	/**
+	 * Returns the time in nanoseconds that is spent for looking up the certificate for the SNI host name
+	 * in a {@link reactor.netty.tcp.SniCertificateStore}, or {@code -1} when the certificate was not provided by such a store.
+	 *
+	 * @param ctx the channel handler context
+	 * @return the SNI lookup time in nanoseconds or {@code -1}
+	 */
+	static long sniLookupTime(ChannelHandlerContext ctx) {
+		Long lookupTime = ctx.channel().attr(SNI_LOOKUP_TIME).get();
+		return lookupTime != null ? lookupTime : -1;
+	}
+
+	static boolean sniCacheHit(ChannelHandlerContext ctx) {
+		return Boolean.TRUE.equals(ctx.channel().attr(SNI_CACHE_HIT).get());
+	}
+
 	public abstract ChannelHandler tlsMetricsHandler();
 
 	public abstract ChannelMetricsRecorder recorder();
@@ -116,6 +116,50 @@ public enum ChannelMeters implements MeterDocumentation {
 		public Meter.Type getType() {
 			return Meter.Type.COUNTER;
 		}
+	},
+
+	/**
+	 * The number of the successful TLS handshakes, either resumed or full.
+	 *
+	 * @since 1.3.3
+	 */
+	TLS_HANDSHAKES {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return TlsHandshakesMeterTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Time spent for looking up the certificate for the SNI host name, either found in the cache or loaded.
+	 *
+	 * @since 1.3.3
+	 */
+	TLS_SNI_LOOKUP_TIME {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return TlsSniLookupTimeMeterTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
 	};
 
 	public enum ChannelMetersTags implements KeyName {
@@ -173,4 +217,85 @@ public enum ChannelMeters implements MeterDocumentation {
 			}
 		}
 	}
+
+	/**
+	 * TLS handshakes meter tags.
+	 *
+	 * @since 1.3.3
+	 */
+	public enum TlsHandshakesMeterTags implements KeyName {
+
+		/**
+		 * Proxy address, when there is a proxy configured.
+		 */
+		PROXY_ADDRESS {
+			@Override
+			public String asString() {
+				return "proxy.address";
+			}
+		},
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		},
+
+		/**
+		 * Whether a previous TLS session was resumed ({@code true}) or a full TLS handshake was performed ({@code false}).
+		 */
+		RESUMED {
+			@Override
+			public String asString() {
+				return "resumed";
+			}
+		},
+
+		/**
+		 * URI.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		}
+	}
+
+	public enum TlsSniLookupTimeMeterTags implements KeyName {
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		},
+
+		/**
+		 * Whether the certificate was found in the cache ({@code hit}) or had to be loaded ({@code miss}).
+		 */
+		RESULT {
+			@Override
+			public String asString() {
+				return "result";
+			}
+		},
+
+		/**
+		 * URI.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		}
+	}
 }
@@ -139,16 +139,45 @@ public class ChannelMetricsHandler extends AbstractChannelMetricsHandler {
 			}
 		}
 
+		protected void recordTlsHandshakeResumption(ChannelHandlerContext ctx, boolean resumed) {
+			if (proxyAddress == null) {
+				recorder.incrementTlsHandshakesCount(
+						remoteAddress != null ? remoteAddress : ctx.channel().remoteAddress(),
+						resumed);
+			}
+			else {
+				recorder.incrementTlsHandshakesCount(
+						remoteAddress != null ? remoteAddress : ctx.channel().remoteAddress(),
+						proxyAddress,
+						resumed);
+			}
+		}
+
+		protected void recordTlsSniLookupTime(ChannelHandlerContext ctx) {
+			long sniLookupTime = sniLookupTime(ctx);
+			if (sniLookupTime >= 0) {
+				recorder.recordTlsSniLookupTime(
+						remoteAddress != null ? remoteAddress : ctx.channel().remoteAddress(),
+						Duration.ofNanos(sniLookupTime),
+						sniCacheHit(ctx));
+			}
+		}
+
 		private void addListener(ChannelHandlerContext ctx) {
 			if (!listenerAdded) {
 				SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
 				if (sslHandler != null) {
 					listenerAdded = true;
 					long tlsHandshakeTimeStart = System.nanoTime();
+					long tlsHandshakeStartMillis = System.currentTimeMillis();
 					sslHandler.handshakeFuture()
 					          .addListener(f -> {
 					              ctx.pipeline().remove(this);
 					              recordTlsHandshakeTime(ctx, tlsHandshakeTimeStart, f.isSuccess() ? SUCCESS : ERROR);
+					              if (f.isSuccess()) {
+					                  recordTlsHandshakeResumption(ctx, isSessionResumed(sslHandler, tlsHandshakeStartMillis));
+					                  recordTlsSniLookupTime(ctx);
+					              }
 					          });
 				}
 			}
@@ -105,6 +105,44 @@ public interface ChannelMetricsRecorder {
 		recordTlsHandshakeTime(remoteAddress, time, status);
 	}
 
+	/**
+	 * Increments the number of the successful TLS handshakes.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param resumed {@code true} when a previous TLS session was resumed,
+	 * {@code false} when a full TLS handshake was performed
+	 * @since 1.3.3
+	 */
+	default void incrementTlsHandshakesCount(SocketAddress remoteAddress, boolean resumed) {
+	}
+
+	/**
+	 * Increments the number of the successful TLS handshakes.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param proxyAddress The proxy address
+	 * @param resumed {@code true} when a previous TLS session was resumed,
+	 * {@code false} when a full TLS handshake was performed
+	 * @since 1.3.3
+	 */
+	default void incrementTlsHandshakesCount(SocketAddress remoteAddress, SocketAddress proxyAddress, boolean resumed) {
+		incrementTlsHandshakesCount(remoteAddress, resumed);
+	}
+
+	/**
+	 * Records the time that is spent for looking up the certificate for the SNI host name
+	 * in a {@link reactor.netty.tcp.SniCertificateStore}.
+	 * Relevant only when on the server.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param time the time in nanoseconds that is spent for looking up the certificate
+	 * @param hit {@code true} when the certificate was found in the cache,
+	 * {@code false} when it had to be loaded
+	 * @since 1.3.3
+	 */
+	default void recordTlsSniLookupTime(SocketAddress remoteAddress, Duration time, boolean hit) {
+	}
+
 	/**
 	 * Records the time that is spent for connecting to the remote address.
 	 * Relevant only when on the client
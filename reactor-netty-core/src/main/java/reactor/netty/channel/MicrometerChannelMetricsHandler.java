@@ -32,6 +32,7 @@ import reactor.util.context.ContextView;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import static reactor.netty.Metrics.CONNECT_TIME;
@@ -232,6 +233,8 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 	static final class TlsMetricsHandler extends Observation.Context
 			implements ReactorNettyHandlerContext, ChannelInboundHandler, Supplier<Observation.Context> {
 		static final String CONTEXTUAL_NAME = "tls handshake";
+		static final String REACTOR_NETTY_TLS_RESUMED = "reactor.netty.tls.resumed";
+		static final String REACTOR_NETTY_TLS_SNI_LOOKUP = "reactor.netty.tls.sni.lookup";
 		static final String TYPE_CLIENT = "client";
 		static final String TYPE_SERVER = "server";
 
@@ -246,6 +249,8 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 		String netPeerName = UNKNOWN;
 		String netPeerPort = UNKNOWN;
 		String status = UNKNOWN;
+		String resumed = UNKNOWN;
+		String sniLookup = UNKNOWN;
 		@Nullable ContextView parentContextView;
 
 		TlsMetricsHandler(MicrometerChannelMetricsRecorder recorder, boolean onServer,
@@ -313,7 +318,9 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 		public KeyValues getHighCardinalityKeyValues() {
 			return KeyValues.of(NET_PEER_NAME.asString(), netPeerName, NET_PEER_PORT.asString(), netPeerPort,
 					REACTOR_NETTY_PROTOCOL.asString(), recorder.protocol(),
-					REACTOR_NETTY_STATUS.asString(), status, REACTOR_NETTY_TYPE.asString(), type);
+					REACTOR_NETTY_STATUS.asString(), status, REACTOR_NETTY_TLS_RESUMED, resumed,
+					REACTOR_NETTY_TLS_SNI_LOOKUP, sniLookup,
+					REACTOR_NETTY_TYPE.asString(), type);
 		}
 
 		@Override
@@ -367,11 +374,25 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 					}
 					Observation observation = Observation.createNotStarted(recorder.name() + TLS_HANDSHAKE_TIME, this, OBSERVATION_REGISTRY);
 					parentContextView = updateChannelContext(ctx.channel(), observation);
+					long tlsHandshakeStartMillis = System.currentTimeMillis();
 					observation.start();
 					sslHandler.handshakeFuture()
 					          .addListener(f -> {
 					               ctx.pipeline().remove(this);
 					               status = f.isSuccess() ? SUCCESS : ERROR;
+					               if (f.isSuccess()) {
+					                   boolean isResumed = isSessionResumed(sslHandler, tlsHandshakeStartMillis);
+					                   resumed = Boolean.toString(isResumed);
+					                   recorder.incrementTlsHandshakesCount(netPeerName + ':' + netPeerPort,
+					                           proxyAddress == null ? NA : proxyAddress, isResumed);
+					                   long sniLookupTime = sniLookupTime(ctx);
+					                   if (sniLookupTime >= 0) {
+					                       boolean sniCacheHit = sniCacheHit(ctx);
+					                       sniLookup = sniCacheHit ? SNI_HIT : SNI_MISS;
+					                       recorder.recordTlsSniLookupTime(netPeerName + ':' + netPeerPort,
+					                               Duration.ofNanos(sniLookupTime), sniCacheHit);
+					                   }
+					               }
 					               observation.stop();
 
 					               ReactorNetty.setChannelContext(ctx.channel(), parentContextView);
@@ -41,7 +41,9 @@ import static reactor.netty.Metrics.PROXY_ADDRESS;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.REMOTE_ADDRESS;
 import static reactor.netty.Metrics.STATUS;
+import static reactor.netty.Metrics.TLS_HANDSHAKES;
 import static reactor.netty.Metrics.TLS_HANDSHAKE_TIME;
+import static reactor.netty.Metrics.TLS_SNI_LOOKUP_TIME;
 import static reactor.netty.Metrics.formatSocketAddress;
 
 /**
@@ -61,6 +63,10 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	final ConcurrentMap<MeterKey, Timer> tlsHandshakeTimeCache = new ConcurrentHashMap<>();
 
+	final ConcurrentMap<MeterKey, Counter> tlsHandshakesCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, Timer> tlsSniLookupTimeCache = new ConcurrentHashMap<>();
+
 	final ConcurrentMap<MeterKey, Timer> addressResolverTimeCache = new ConcurrentHashMap<>();
 
 	final ConcurrentMap<String, LongAdder> totalConnectionsCache = new ConcurrentHashMap<>();
@@ -219,6 +225,53 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 		});
 	}
 
+	@Override
+	public void incrementTlsHandshakesCount(SocketAddress remoteAddress, boolean resumed) {
+		incrementTlsHandshakesCount(formatSocketAddress(remoteAddress), NA, resumed);
+	}
+
+	@Override
+	public void incrementTlsHandshakesCount(SocketAddress remoteAddress, SocketAddress proxyAddress, boolean resumed) {
+		incrementTlsHandshakesCount(formatSocketAddress(remoteAddress), formatSocketAddress(proxyAddress), resumed);
+	}
+
+	void incrementTlsHandshakesCount(String remoteAddress, String proxyAddress, boolean resumed) {
+		String result = Boolean.toString(resumed);
+		MeterKey meterKey = new MeterKey(null, remoteAddress, proxyAddress, null, result);
+		Counter c = MapUtils.computeIfAbsent(tlsHandshakesCache, meterKey, key -> {
+			Counter.Builder builder = Counter.builder(name + TLS_HANDSHAKES)
+			                                 .tags(ChannelMeters.TlsHandshakesMeterTags.URI.asString(), protocol,
+			                                       ChannelMeters.TlsHandshakesMeterTags.REMOTE_ADDRESS.asString(), remoteAddress,
+			                                       ChannelMeters.TlsHandshakesMeterTags.RESUMED.asString(), result);
+			if (!onServer) {
+				builder.tag(ChannelMeters.TlsHandshakesMeterTags.PROXY_ADDRESS.asString(), proxyAddress);
+			}
+			return filter(builder.register(REGISTRY));
+		});
+		if (c != null) {
+			c.increment();
+		}
+	}
+
+	@Override
+	public void recordTlsSniLookupTime(SocketAddress remoteAddress, Duration time, boolean hit) {
+		recordTlsSniLookupTime(formatSocketAddress(remoteAddress), time, hit);
+	}
+
+	void recordTlsSniLookupTime(String remoteAddress, Duration time, boolean hit) {
+		String result = hit ? AbstractChannelMetricsHandler.SNI_HIT : AbstractChannelMetricsHandler.SNI_MISS;
+		MeterKey meterKey = new MeterKey(null, remoteAddress, null, null, result);
+		Timer timer = MapUtils.computeIfAbsent(tlsSniLookupTimeCache, meterKey,
+				key -> filter(Timer.builder(name + TLS_SNI_LOOKUP_TIME)
+				                   .tags(ChannelMeters.TlsSniLookupTimeMeterTags.URI.asString(), protocol,
+				                         ChannelMeters.TlsSniLookupTimeMeterTags.REMOTE_ADDRESS.asString(), remoteAddress,
+				                         ChannelMeters.TlsSniLookupTimeMeterTags.RESULT.asString(), result)
+				                   .register(REGISTRY)));
+		if (timer != null) {
+			timer.record(time);
+		}
+	}
+
 	@Override
 	public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
 		Timer timer = getConnectTimer(name + CONNECT_TIME, formatSocketAddress(remoteAddress), NA, status);
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient concurrency limiter. The limit grows while the observed round trip time stays close to
+ * its long term average and shrinks when the round trip time increases (queueing at the remote host)
+ * or when acquires fail.
+ *
+ * @since 1.3.3
+ */
+final class AdaptiveConcurrencyLimiter {
+
+	/**
+	 * The number of samples of the long term round trip time average.
+	 */
+	static final int LONG_WINDOW = 600;
+
+	/**
+	 * The weight of a new limit estimation.
+	 */
+	static final double SMOOTHING = 0.2;
+
+	/**
+	 * The permit of the request that is currently served by the connection.
+	 */
+	static final AttributeKey<@Nullable Permit> PERMIT = AttributeKey.valueOf("$adaptiveConcurrencyPermit");
+
+	/**
+	 * Whether the close listener that releases the current permit is registered on the connection.
+	 */
+	static final AttributeKey<@Nullable Boolean> CLOSE_LISTENER = AttributeKey.valueOf("$adaptiveConcurrencyCloseListener");
+
+	final int minLimit;
+	final int maxLimit;
+	final double rttTolerance;
+	final double backoffRatio;
+	final AtomicInteger inFlight = new AtomicInteger();
+
+	volatile double limit;
+
+	// Guarded by this
+	double longRtt;
+	long samples;
+
+	AdaptiveConcurrencyLimiter(ConnectionProvider.AdaptiveConcurrencySpec spec) {
+		this.minLimit = spec.minLimit;
+		this.maxLimit = spec.maxLimit;
+		this.rttTolerance = spec.rttTolerance;
+		this.backoffRatio = spec.backoffRatio;
+		this.limit = spec.initialLimit;
+	}
+
+	int limit() {
+		return (int) limit;
+	}
+
+	/**
+	 * Returns a permit or null when the limit is reached.
+	 *
+	 * @return a permit or null when the limit is reached
+	 */
+	@Nullable Permit tryAcquire() {
+		for (;;) {
+			int current = inFlight.get();
+			if (current >= (int) limit) {
+				return null;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return new Permit(current + 1, System.nanoTime());
+			}
+		}
+	}
+
+	synchronized void onSample(long rtt, int inFlightOnAcquire) {
+		if (rtt <= 0) {
+			return;
+		}
+		if (samples < LONG_WINDOW) {
+			samples++;
+			longRtt += (rtt - longRtt) / samples;
+		}
+		else {
+			longRtt += (rtt - longRtt) / LONG_WINDOW;
+		}
+		if (longRtt / rtt > 2) {
+			// The remote host recovered, let the long term average follow faster
+			longRtt *= 0.95;
+		}
+
+		double currentLimit = limit;
+		if (inFlightOnAcquire < currentLimit / 2) {
+			// The limit is not exercised, the sample says nothing about the limit
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / rtt));
+		double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+		newLimit = currentLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+		limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+	}
+
+	synchronized void onDropped() {
+		limit = Math.max(minLimit, limit * backoffRatio);
+	}
+
+	/**
+	 * Registers, once per connection, a close listener that releases the permit of the request
+	 * that is currently served by the connection. A keep-alive connection serves many requests,
+	 * the close future must not collect one listener per request.
+	 */
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static void closeListener(Channel channel) {
+		if (channel.attr(CLOSE_LISTENER).setIfAbsent(Boolean.TRUE) == null) {
+			// "FutureReturnValueIgnored" this is deliberate
+			channel.closeFuture().addListener(f -> {
+				Permit permit = channel.attr(PERMIT).getAndSet(null);
+				if (permit != null) {
+					permit.release();
+				}
+			});
+		}
+	}
+
+	final class Permit implements ConnectionObserver {
+		final int inFlightOnAcquire;
+		final long startTime;
+		final AtomicBoolean released = new AtomicBoolean();
+
+		volatile @Nullable Attribute<@Nullable Permit> attribute;
+
+		Permit(int inFlightOnAcquire, long startTime) {
+			this.inFlightOnAcquire = inFlightOnAcquire;
+			this.startTime = startTime;
+		}
+
+		@Override
+		public void onStateChange(Connection connection, State newState) {
+			if (newState == State.RELEASED || newState == State.DISCONNECTING) {
+				release();
+			}
+			else if (attribute == null && !released.get()) {
+				// The connection might be closed without being released
+				Channel channel = connection.channel();
+				Attribute<@Nullable Permit> attribute = channel.attr(PERMIT);
+				this.attribute = attribute;
+				attribute.set(this);
+				closeListener(channel);
+			}
+		}
+
+		@Override
+		public void onUncaughtException(Connection connection, Throwable error) {
+			dropped();
+		}
+
+		void release() {
+			if (released.compareAndSet(false, true)) {
+				detach();
+				inFlight.decrementAndGet();
+				onSample(System.nanoTime() - startTime, inFlightOnAcquire);
+			}
+		}
+
+		void dropped() {
+			if (released.compareAndSet(false, true)) {
+				detach();
+				inFlight.decrementAndGet();
+				onDropped();
+			}
+		}
+
+		void cancel() {
+			if (released.compareAndSet(false, true)) {
+				detach();
+				inFlight.decrementAndGet();
+			}
+		}
+
+		void detach() {
+			Attribute<@Nullable Permit> attribute = this.attribute;
+			if (attribute != null) {
+				this.attribute = null;
+				attribute.compareAndSet(this, null);
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+/**
+ * An exception signalling that an acquire was rejected because the adaptive concurrency limit
+ * of the connection pool is reached.
+ *
+ * @since 1.3.3
+ * @see ConnectionProvider.ConnectionPoolSpec#adaptiveConcurrency(java.util.function.Consumer)
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+	final int limit;
+
+	public ConcurrencyLimitExceededException(String message, int limit) {
+		super(message);
+		this.limit = limit;
+	}
+
+	/**
+	 * Returns the concurrency limit at the time of the rejection.
+	 *
+	 * @return the concurrency limit at the time of the rejection
+	 */
+	public int limit() {
+		return limit;
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		// The rejection is an expected signal under load, the stack trace is not useful
+		return this;
+	}
+
+	private static final long serialVersionUID = 2873460351923517264L;
+}
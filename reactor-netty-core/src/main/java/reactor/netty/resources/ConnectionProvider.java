@@ -399,6 +399,7 @@ public interface ConnectionProvider extends Disposable {
 		@Nullable Duration poolInactivity;
 		@Nullable Duration disposeTimeout;
 		int maxConnectionPools = MAX_CONNECTION_POOLS;
+		@Nullable LoadBalancingSpec loadBalancing;
 		final Map<SocketAddress, ConnectionPoolSpec<?>> confPerRemoteHost = new HashMap<>();
 
 		/**
@@ -418,6 +419,7 @@ public interface ConnectionProvider extends Disposable {
 			this.poolInactivity = copy.poolInactivity;
 			this.disposeTimeout = copy.disposeTimeout;
 			this.maxConnectionPools = copy.maxConnectionPools;
+			this.loadBalancing = copy.loadBalancing;
 			copy.confPerRemoteHost.forEach((address, spec) -> this.confPerRemoteHost.put(address, new ConnectionPoolSpec<>(spec)));
 		}
 
@@ -489,6 +491,28 @@ public interface ConnectionProvider extends Disposable {
 			return this;
 		}
 
+		/**
+		 * Enables client-side load balancing across the addresses a host name resolves to.
+		 * A connection pool is kept per resolved address and every acquire selects the address with fewer outstanding
+		 * requests out of two chosen at random (power of two choices). For {@code HTTP/2} the outstanding requests are
+		 * the active streams. The resolved addresses are refreshed in the background, addresses that fail
+		 * consecutively are temporarily ejected.
+		 * <p>Note: The limits such as {@link #maxConnections(int)} apply per resolved address.
+		 * Load balancing does not apply when a proxy is configured.
+		 *
+		 * @param spec load balancing configuration
+		 * @return {@literal this}
+		 * @throws NullPointerException if spec is null
+		 * @since 1.3.3
+		 */
+		public final Builder loadBalancing(Consumer<LoadBalancingSpec> spec) {
+			Objects.requireNonNull(spec, "spec");
+			LoadBalancingSpec builder = new LoadBalancingSpec();
+			spec.accept(builder);
+			this.loadBalancing = builder;
+			return this;
+		}
+
 		/**
 		 * Specifies the maximum number of connection pools that the provider can create.
 		 * If the number of connection pools created exceeds this value, a warning message is logged.
@@ -525,6 +549,7 @@ public interface ConnectionProvider extends Disposable {
 	class ConnectionPoolSpec<SPEC extends ConnectionPoolSpec<SPEC>> implements Supplier<SPEC> {
 
 		static final Duration EVICT_IN_BACKGROUND_DISABLED       = Duration.ZERO;
+		static final Duration DEFAULT_MIN_IDLE_INTERVAL          = Duration.ofSeconds(5);
 		static final int PENDING_ACQUIRE_MAX_COUNT_NOT_SPECIFIED = -2;
 
 		Duration evictionInterval       = EVICT_IN_BACKGROUND_DISABLED;
@@ -540,6 +565,8 @@ public interface ConnectionProvider extends Disposable {
 		@Nullable AllocationStrategy<?> allocationStrategy;
 		@Nullable BiPredicate<Connection, ConnectionMetadata> evictionPredicate;
 		@Nullable Scheduler evictInBackgroundScheduler;
+		@Nullable AdaptiveConcurrencySpec adaptiveConcurrency;
+		int      minIdle;
 
 		/**
 		 * Returns {@link ConnectionPoolSpec} new instance with default properties.
@@ -567,6 +594,8 @@ public interface ConnectionProvider extends Disposable {
 			this.allocationStrategy = copy.allocationStrategy;
 			this.evictionPredicate = copy.evictionPredicate;
 			this.evictInBackgroundScheduler = copy.evictInBackgroundScheduler;
+			this.adaptiveConcurrency = copy.adaptiveConcurrency;
+			this.minIdle = copy.minIdle;
 		}
 
 		/**
@@ -603,6 +632,33 @@ public interface ConnectionProvider extends Disposable {
 			return get();
 		}
 
+		/**
+		 * Set the minimum number of idle connections to keep in each connection pool.
+		 * Once a connection pool is created, connections (including address resolution, connect and TLS handshake)
+		 * are opened in the background until the number of idle connections reaches this value, bounded by
+		 * the maximum number of connections. The connection pool is checked again at a jittered interval, so that
+		 * connections closed because of {@link #maxIdleTime(Duration)}, {@link #maxLifeTime(Duration)} or
+		 * by the remote peer are replaced without all of them being refreshed at the same time.
+		 * The interval is the {@link #evictInBackground(Duration)} interval, when configured, otherwise
+		 * {@link #DEFAULT_MIN_IDLE_INTERVAL}.
+		 * Default to {@code 0} - no connections are opened in advance.
+		 * <p><strong>Note:</strong> This configuration is not applicable for {@link reactor.netty.tcp.TcpClient}.
+		 * A TCP connection is always closed and never returned to the pool.
+		 * <p><strong>Note:</strong> For {@code HTTP/2} use {@code Http2AllocationStrategy#minConnections}.
+		 *
+		 * @param minIdle the minimum number of idle connections (per connection pool)
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if minIdle is negative
+		 * @since 1.3.3
+		 */
+		public final SPEC minIdle(int minIdle) {
+			if (minIdle < 0) {
+				throw new IllegalArgumentException("Min idle must be positive or zero");
+			}
+			this.minIdle = minIdle;
+			return get();
+		}
+
 		/**
 		 * Set the options to use for configuring {@link ConnectionProvider} the maximum number of registered
 		 * requests for acquire to keep in a pending queue.
@@ -840,6 +896,34 @@ public interface ConnectionProvider extends Disposable {
 			return get();
 		}
 
+		/**
+		 * Enables an adaptive concurrency limit on top of {@link #maxConnections(int)} and
+		 * {@link #pendingAcquireMaxCount(int)}. The limit of concurrent acquires follows the round trip time
+		 * between acquire and release, it shrinks when the round trip time increases (e.g. the remote host slows down)
+		 * or when acquires fail and grows back when the round trip time recovers.
+		 * Acquires beyond the limit are rejected immediately with {@link ConcurrencyLimitExceededException}
+		 * instead of waiting in the pending queue.
+		 * <p>For {@code HTTP/2} the limit applies to the streams.
+		 * <p><strong>Note:</strong> This configuration is not applicable for {@link reactor.netty.tcp.TcpClient}.
+		 * A TCP connection is always closed and never returned to the pool.
+		 *
+		 * @param spec adaptive concurrency limit configuration
+		 * @return {@literal this}
+		 * @throws NullPointerException if spec is null
+		 * @since 1.3.3
+		 */
+		public final SPEC adaptiveConcurrency(Consumer<AdaptiveConcurrencySpec> spec) {
+			Objects.requireNonNull(spec, "spec");
+			AdaptiveConcurrencySpec builder = new AdaptiveConcurrencySpec();
+			spec.accept(builder);
+			if (builder.minLimit > builder.maxLimit || builder.initialLimit < builder.minLimit ||
+					builder.initialLimit > builder.maxLimit) {
+				throw new IllegalArgumentException("Initial limit must be between min limit and max limit");
+			}
+			this.adaptiveConcurrency = builder;
+			return get();
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		public SPEC get() {
@@ -855,6 +939,182 @@ public interface ConnectionProvider extends Disposable {
 	final class HostSpecificSpec extends ConnectionPoolSpec<HostSpecificSpec> {
 	}
 
+	/**
+	 * Configuration for the adaptive concurrency limit of a connection pool.
+	 *
+	 * @since 1.3.3
+	 */
+	final class AdaptiveConcurrencySpec {
+
+		static final int DEFAULT_INITIAL_LIMIT = 20;
+		static final int DEFAULT_MIN_LIMIT = 1;
+		static final int DEFAULT_MAX_LIMIT = 1000;
+		static final double DEFAULT_RTT_TOLERANCE = 1.5;
+		static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+		int initialLimit = DEFAULT_INITIAL_LIMIT;
+		int minLimit = DEFAULT_MIN_LIMIT;
+		int maxLimit = DEFAULT_MAX_LIMIT;
+		double rttTolerance = DEFAULT_RTT_TOLERANCE;
+		double backoffRatio = DEFAULT_BACKOFF_RATIO;
+
+		AdaptiveConcurrencySpec() {
+		}
+
+		/**
+		 * Set the limit used until enough round trip times are observed.
+		 * Default to {@link #DEFAULT_INITIAL_LIMIT}.
+		 *
+		 * @param initialLimit the initial limit
+		 * @return {@literal this}
+		 */
+		public AdaptiveConcurrencySpec initialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		/**
+		 * Set the lower bound of the limit. Default to {@link #DEFAULT_MIN_LIMIT}.
+		 *
+		 * @param minLimit the lower bound of the limit, must be strictly positive
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if minLimit is not strictly positive
+		 */
+		public AdaptiveConcurrencySpec minLimit(int minLimit) {
+			if (minLimit <= 0) {
+				throw new IllegalArgumentException("Min limit must be strictly positive");
+			}
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		/**
+		 * Set the upper bound of the limit. Default to {@link #DEFAULT_MAX_LIMIT}.
+		 *
+		 * @param maxLimit the upper bound of the limit, must be strictly positive
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if maxLimit is not strictly positive
+		 */
+		public AdaptiveConcurrencySpec maxLimit(int maxLimit) {
+			if (maxLimit <= 0) {
+				throw new IllegalArgumentException("Max limit must be strictly positive");
+			}
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * Set how much the round trip time can exceed its long term average before the limit shrinks.
+		 * Default to {@link #DEFAULT_RTT_TOLERANCE}.
+		 *
+		 * @param rttTolerance the tolerance, must be greater than or equal to 1
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if rttTolerance is less than 1
+		 */
+		public AdaptiveConcurrencySpec rttTolerance(double rttTolerance) {
+			if (!(rttTolerance >= 1)) {
+				throw new IllegalArgumentException("RTT tolerance must be greater than or equal to 1");
+			}
+			this.rttTolerance = rttTolerance;
+			return this;
+		}
+
+		/**
+		 * Set the ratio applied to the limit when an acquire fails. Default to {@link #DEFAULT_BACKOFF_RATIO}.
+		 *
+		 * @param backoffRatio the ratio, between 0 (exclusive) and 1 (exclusive)
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if backoffRatio is not between 0 and 1
+		 */
+		public AdaptiveConcurrencySpec backoffRatio(double backoffRatio) {
+			if (!(backoffRatio > 0 && backoffRatio < 1)) {
+				throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+			}
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+	}
+
+	/**
+	 * Configuration for the client-side load balancing across resolved addresses.
+	 *
+	 * @since 1.3.3
+	 */
+	final class LoadBalancingSpec {
+
+		static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(10);
+		static final int DEFAULT_CONSECUTIVE_FAILURES = 5;
+		static final Duration DEFAULT_BASE_EJECTION_TIME = Duration.ofSeconds(30);
+		static final int DEFAULT_MAX_EJECTION_PERCENT = 50;
+
+		Duration refreshInterval = DEFAULT_REFRESH_INTERVAL;
+		int consecutiveFailures = DEFAULT_CONSECUTIVE_FAILURES;
+		Duration baseEjectionTime = DEFAULT_BASE_EJECTION_TIME;
+		int maxEjectionPercent = DEFAULT_MAX_EJECTION_PERCENT;
+
+		LoadBalancingSpec() {
+		}
+
+		/**
+		 * Set the interval after which the resolved addresses are refreshed. The refresh happens in the background
+		 * on the next acquire, the cached answers of the resolver are honoured so that the addresses follow
+		 * the DNS records TTL. Default to {@link #DEFAULT_REFRESH_INTERVAL}.
+		 *
+		 * @param refreshInterval the refresh interval (resolution: ms)
+		 * @return {@literal this}
+		 * @throws NullPointerException if refreshInterval is null
+		 */
+		public LoadBalancingSpec refreshInterval(Duration refreshInterval) {
+			this.refreshInterval = Objects.requireNonNull(refreshInterval, "refreshInterval");
+			return this;
+		}
+
+		/**
+		 * Set the number of consecutive connection failures after which an address is ejected.
+		 * Default to {@link #DEFAULT_CONSECUTIVE_FAILURES}.
+		 *
+		 * @param consecutiveFailures the number of consecutive failures, must be strictly positive
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if consecutiveFailures is not strictly positive
+		 */
+		public LoadBalancingSpec consecutiveFailures(int consecutiveFailures) {
+			if (consecutiveFailures <= 0) {
+				throw new IllegalArgumentException("Consecutive failures must be strictly positive");
+			}
+			this.consecutiveFailures = consecutiveFailures;
+			return this;
+		}
+
+		/**
+		 * Set the time an address stays ejected. The time is multiplied by the number of times
+		 * the address was ejected in a row. Default to {@link #DEFAULT_BASE_EJECTION_TIME}.
+		 *
+		 * @param baseEjectionTime the base ejection time (resolution: ms)
+		 * @return {@literal this}
+		 * @throws NullPointerException if baseEjectionTime is null
+		 */
+		public LoadBalancingSpec baseEjectionTime(Duration baseEjectionTime) {
+			this.baseEjectionTime = Objects.requireNonNull(baseEjectionTime, "baseEjectionTime");
+			return this;
+		}
+
+		/**
+		 * Set the maximum percentage of the addresses that can be ejected at the same time.
+		 * Default to {@link #DEFAULT_MAX_EJECTION_PERCENT}.
+		 *
+		 * @param maxEjectionPercent the maximum percentage of ejected addresses, between 0 and 100
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if maxEjectionPercent is not between 0 and 100
+		 */
+		public LoadBalancingSpec maxEjectionPercent(int maxEjectionPercent) {
+			if (maxEjectionPercent < 0 || maxEjectionPercent > 100) {
+				throw new IllegalArgumentException("Max ejection percent must be between 0 and 100");
+			}
+			this.maxEjectionPercent = maxEjectionPercent;
+			return this;
+		}
+	}
+
 
 	/**
 	 * A strategy to register which metrics are collected in a particular connection pool.
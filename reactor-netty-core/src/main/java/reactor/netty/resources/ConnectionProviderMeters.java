@@ -47,6 +47,26 @@ enum ConnectionProviderMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * Time spent in allocating a new connection for the connection pool (resolution and connect).
+	 */
+	ALLOCATION_TIME {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.allocation.time";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return PendingConnectionsTimeTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	},
+
 	/**
 	 * The number of the idle connections in the connection pool.
 	 */
@@ -127,6 +147,26 @@ enum ConnectionProviderMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * The highest number of requests observed pending acquire a connection from the connection pool.
+	 */
+	PENDING_CONNECTIONS_HIGH_WATER_MARK {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.pending.connections.high.water.mark";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return ConnectionProviderMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
 	/**
 	 * Time spent in pending acquire a connection from the connection pool.
 	 */
@@ -165,6 +205,27 @@ enum ConnectionProviderMeters implements MeterDocumentation {
 		public Meter.Type getType() {
 			return Meter.Type.GAUGE;
 		}
+	},
+
+	/**
+	 * Time spent in delivering a connection handed out by the connection pool, from the pool to the event loop
+	 * of the connection where it is checked to be still active.
+	 */
+	DELIVERY_TIME {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.delivery.time";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return PendingConnectionsTimeTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
 	};
 
 	enum ConnectionProviderMetersTags implements KeyName {
@@ -21,6 +21,9 @@ import java.time.Clock;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -40,6 +43,8 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Operators;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.FutureMono;
@@ -132,6 +137,8 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 		// See onSubscribe(Subscription).
 		@SuppressWarnings("NullAway")
 		Subscription subscription;
+		// Set in onNext(PooledRef) when the pool is instrumented with MicrometerPoolMetricsRecorder
+		long deliveredNanos;
 
 		DisposableAcquire(
 				ConnectionObserver obs,
@@ -185,6 +192,9 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 		@Override
 		public void onNext(PooledRef<PooledConnection> value) {
 			pooledRef = value;
+			if (pool.config().metricsRecorder() instanceof MicrometerPoolMetricsRecorder) {
+				deliveredNanos = System.nanoTime();
+			}
 
 			PooledConnection pooledConnection = value.poolable();
 			pooledConnection.pooledRef = pooledRef;
@@ -224,6 +234,10 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 					sink.onCancel(cancellations);
 				}
 				s.request(Long.MAX_VALUE);
+				if (pool.config().metricsRecorder() instanceof MicrometerPoolMetricsRecorder) {
+					((MicrometerPoolMetricsRecorder) pool.config().metricsRecorder())
+							.recordPendingAcquireSize(pool.metrics().pendingAcquireSize());
+				}
 			}
 		}
 
@@ -239,7 +253,9 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 			Channel c = pooledConnection.channel;
 
 			// The connection might be closed after checking the eviction predicate
-			if (!c.isActive()) {
+			boolean active = c.isActive();
+			recordDeliveryLatency(active);
+			if (!active) {
 				pooledRef.invalidate()
 				         .subscribe(null, null, () -> {
 				             if (log.isDebugEnabled()) {
@@ -326,6 +342,13 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 			}
 		}
 
+		void recordDeliveryLatency(boolean active) {
+			if (deliveredNanos != 0 && pool.config().metricsRecorder() instanceof MicrometerPoolMetricsRecorder) {
+				((MicrometerPoolMetricsRecorder) pool.config().metricsRecorder())
+						.recordDeliveryLatency(System.nanoTime() - deliveredNanos, active);
+			}
+		}
+
 		static void registerClose(PooledRef<PooledConnection> pooledRef, InstrumentedPool<PooledConnection> pool) {
 			Channel channel = pooledRef.poolable().channel;
 			if (log.isDebugEnabled()) {
@@ -543,6 +566,17 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 							// Deliberately suppress "NullAway"
 							// With id != null, this means name != null
 							new MicrometerPoolMetricsRecorder(id, name, remoteAddress));
+			if (provider.minIdle > 0) {
+				Duration interval = provider.evictionInterval.isZero() ?
+						ConnectionProvider.ConnectionPoolSpec.DEFAULT_MIN_IDLE_INTERVAL : provider.evictionInterval;
+				Scheduler scheduler = provider.evictInBackgroundScheduler != null ?
+						provider.evictInBackgroundScheduler : Schedulers.parallel();
+				reactor.pool.AllocationStrategy strategy = pool.config().allocationStrategy();
+				if (strategy instanceof PoolFactory.MinIdleAllocationStrategy) {
+					new MinIdleMaintenance(pool, (PoolFactory.MinIdleAllocationStrategy) strategy, provider.minIdle, interval, scheduler)
+							.schedule(0);
+				}
+			}
 		}
 
 		Publisher<PooledConnection> connectChannel() {
@@ -568,6 +602,71 @@ final class DefaultPooledConnectionProvider extends PooledConnectionProvider<Def
 			});
 		}
 
+		/**
+		 * Opens connections in the background until the pool has the configured minimum number of idle connections.
+		 * Only the missing connections are opened, with a warmup that alone is granted the missing permits,
+		 * the existing idle connections are neither acquired nor released, so that they remain available
+		 * and are evicted as usual.
+		 * A new connection keeps its {@link PendingConnectionObserver} until it is acquired, the first real acquire
+		 * replays the pending connection events as for a freshly allocated connection.
+		 */
+		static final class MinIdleMaintenance implements Runnable {
+			final InstrumentedPool<PooledConnection> pool;
+			final PoolFactory.MinIdleAllocationStrategy strategy;
+			final int minIdle;
+			final long interval;
+			final Scheduler scheduler;
+
+			MinIdleMaintenance(InstrumentedPool<PooledConnection> pool, PoolFactory.MinIdleAllocationStrategy strategy,
+					int minIdle, Duration interval, Scheduler scheduler) {
+				this.pool = pool;
+				this.strategy = strategy;
+				this.minIdle = minIdle;
+				this.interval = interval.toMillis();
+				this.scheduler = scheduler;
+			}
+
+			@Override
+			public void run() {
+				if (pool.isDisposed()) {
+					return;
+				}
+				InstrumentedPool.PoolMetrics metrics = pool.metrics();
+				int toOpen = Math.min(minIdle - metrics.idleSize(), metrics.getMaxAllocatedSize() - metrics.allocatedSize());
+				if (toOpen <= 0 || metrics.pendingAcquireSize() > 0) {
+					schedule(jitteredInterval());
+					return;
+				}
+				strategy.openIdle(pool, toOpen)
+				        .doFinally(signal -> schedule(jitteredInterval()))
+				        .subscribe(null, t -> {
+				            if (log.isDebugEnabled()) {
+				                log.debug("Failed to open a connection to keep {} idle connections in {}", minIdle, pool, t);
+				            }
+				        });
+			}
+
+			void schedule(long delay) {
+				if (pool.isDisposed()) {
+					return;
+				}
+				try {
+					scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+				}
+				catch (RejectedExecutionException e) {
+					// The scheduler is disposed, the pool is not maintained anymore
+					if (log.isDebugEnabled()) {
+						log.debug("Stopped keeping {} idle connections in {}", minIdle, pool, e);
+					}
+				}
+			}
+
+			long jitteredInterval() {
+				// Between 0.5 and 1.5 times the interval so that the pools do not refresh all at once
+				return interval / 2 + ThreadLocalRandom.current().nextLong(interval + 1);
+			}
+		}
+
 		final class PooledConnectionInitializer extends ChannelInitializer<Channel> implements CoreSubscriber<Channel> {
 			final MonoSink<PooledConnection> sink;
 
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import io.netty.channel.EventLoop;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.FutureListener;
+import reactor.core.publisher.Mono;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Selects, for a host name, one of the addresses it resolves to with power of two choices on
+ * the outstanding requests, and ejects addresses that fail consecutively.
+ *
+ * @since 1.3.3
+ */
+final class EndpointLoadBalancer {
+
+	static final Logger log = Loggers.getLogger(EndpointLoadBalancer.class);
+
+	/**
+	 * The maximum multiplier applied to the base ejection time.
+	 */
+	static final int MAX_EJECTION_MULTIPLIER = 10;
+
+	final long refreshInterval;
+	final int consecutiveFailures;
+	final long baseEjectionTime;
+	final int maxEjectionPercent;
+	final ConcurrentMap<InetSocketAddress, Endpoints> endpointsPerHost = new ConcurrentHashMap<>();
+
+	EndpointLoadBalancer(ConnectionProvider.LoadBalancingSpec spec) {
+		this.refreshInterval = spec.refreshInterval.toNanos();
+		this.consecutiveFailures = spec.consecutiveFailures;
+		this.baseEjectionTime = spec.baseEjectionTime.toNanos();
+		this.maxEjectionPercent = spec.maxEjectionPercent;
+	}
+
+	/**
+	 * Selects the endpoint for the given unresolved address.
+	 *
+	 * @param eventLoop the event loop used for the resolution
+	 * @param address the unresolved address
+	 * @param resolverGroup the resolver
+	 * @param outstanding returns the number of outstanding requests for a resolved address
+	 * @return the selected endpoint
+	 */
+	Mono<Endpoint> select(EventLoop eventLoop, InetSocketAddress address, AddressResolverGroup<?> resolverGroup,
+			ToIntFunction<SocketAddress> outstanding) {
+		Endpoints endpoints = endpointsPerHost.computeIfAbsent(address, k -> new Endpoints());
+		List<Endpoint> list = endpoints.list;
+		long now = System.nanoTime();
+		if (list.isEmpty()) {
+			return resolve(eventLoop, address, resolverGroup)
+					.map(resolved -> {
+						endpoints.update(resolved, System.nanoTime());
+						return choose(endpoints.list, outstanding, System.nanoTime());
+					});
+		}
+		if (now - endpoints.refreshedAt >= refreshInterval && endpoints.refreshing.compareAndSet(false, true)) {
+			resolve(eventLoop, address, resolverGroup)
+					.doFinally(signal -> endpoints.refreshing.set(false))
+					.subscribe(
+							resolved -> endpoints.update(resolved, System.nanoTime()),
+							t -> {
+								if (log.isDebugEnabled()) {
+									log.debug("Failed to refresh the addresses for [{}], keeping {}", address, endpoints.list, t);
+								}
+							});
+		}
+		return Mono.just(choose(list, outstanding, now));
+	}
+
+	Endpoint choose(List<Endpoint> list, ToIntFunction<SocketAddress> outstanding, long now) {
+		List<Endpoint> candidates = list;
+		int ejected = 0;
+		for (Endpoint endpoint : list) {
+			if (endpoint.isEjected(now)) {
+				ejected++;
+			}
+		}
+		if (ejected > 0 && ejected < list.size()) {
+			candidates = new ArrayList<>(list.size() - ejected);
+			for (Endpoint endpoint : list) {
+				if (!endpoint.isEjected(now)) {
+					candidates.add(endpoint);
+				}
+			}
+		}
+
+		int size = candidates.size();
+		if (size == 1) {
+			return candidates.get(0);
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(size);
+		int second = random.nextInt(size - 1);
+		if (second >= first) {
+			second++;
+		}
+		Endpoint a = candidates.get(first);
+		Endpoint b = candidates.get(second);
+		return outstanding.applyAsInt(a.address) <= outstanding.applyAsInt(b.address) ? a : b;
+	}
+
+	void onSuccess(Endpoint endpoint) {
+		endpoint.failures.set(0);
+		if (!endpoint.isEjected(System.nanoTime())) {
+			endpoint.ejections = 0;
+		}
+	}
+
+	void onError(Endpoint endpoint, InetSocketAddress host, Throwable t) {
+		if (!(t instanceof IOException) || endpoint.failures.incrementAndGet() < consecutiveFailures) {
+			return;
+		}
+		Endpoints endpoints = endpointsPerHost.get(host);
+		if (endpoints == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		synchronized (endpoints) {
+			if (endpoint.isEjected(now)) {
+				return;
+			}
+			List<Endpoint> list = endpoints.list;
+			int ejected = 1;
+			for (Endpoint e : list) {
+				if (e.isEjected(now)) {
+					ejected++;
+				}
+			}
+			if (ejected * 100 > maxEjectionPercent * list.size()) {
+				return;
+			}
+			endpoint.failures.set(0);
+			endpoint.ejections = Math.min(endpoint.ejections + 1, MAX_EJECTION_MULTIPLIER);
+			endpoint.ejectedUntil = now + baseEjectionTime * endpoint.ejections;
+			endpoint.ejected = true;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Ejected [{}] of [{}] after {} consecutive failures", endpoint.address, host, consecutiveFailures);
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "FutureReturnValueIgnored"})
+	static Mono<List<InetSocketAddress>> resolve(EventLoop eventLoop, InetSocketAddress address,
+			AddressResolverGroup<?> resolverGroup) {
+		return Mono.create(sink -> {
+			AddressResolver<SocketAddress> resolver = (AddressResolver<SocketAddress>) resolverGroup.getResolver(eventLoop);
+			if (!resolver.isSupported(address)) {
+				sink.success(Collections.singletonList(address));
+				return;
+			}
+			// "FutureReturnValueIgnored" this is deliberate
+			resolver.resolveAll(address).addListener((FutureListener<List<SocketAddress>>) future -> {
+				if (future.cause() != null) {
+					sink.error(future.cause());
+				}
+				else {
+					try {
+						sink.success(endpoints(address, future.getNow()));
+					}
+					catch (Throwable t) {
+						sink.error(t);
+					}
+				}
+			});
+		});
+	}
+
+	static List<InetSocketAddress> endpoints(InetSocketAddress address, List<SocketAddress> resolved) throws UnknownHostException {
+		List<InetSocketAddress> endpoints = new ArrayList<>(resolved.size());
+		for (SocketAddress socketAddress : resolved) {
+			if (!(socketAddress instanceof InetSocketAddress) || ((InetSocketAddress) socketAddress).isUnresolved()) {
+				continue;
+			}
+			InetAddress inetAddress = ((InetSocketAddress) socketAddress).getAddress();
+			// Keep the host name so that it is still available for SNI and hostname verification
+			InetSocketAddress endpoint = new InetSocketAddress(
+					InetAddress.getByAddress(address.getHostString(), inetAddress.getAddress()), address.getPort());
+			if (!endpoints.contains(endpoint)) {
+				endpoints.add(endpoint);
+			}
+		}
+		if (endpoints.isEmpty()) {
+			throw new UnknownHostException("No address resolved for " + address.getHostString());
+		}
+		return endpoints;
+	}
+
+	static final class Endpoints {
+		volatile List<Endpoint> list = Collections.emptyList();
+		volatile long refreshedAt;
+		final AtomicBoolean refreshing = new AtomicBoolean();
+
+		synchronized void update(List<InetSocketAddress> addresses, long now) {
+			List<Endpoint> current = list;
+			List<Endpoint> updated = new ArrayList<>(addresses.size());
+			for (InetSocketAddress address : addresses) {
+				Endpoint endpoint = null;
+				for (Endpoint e : current) {
+					if (e.address.equals(address)) {
+						// Keep the outlier detection state
+						endpoint = e;
+						break;
+					}
+				}
+				updated.add(endpoint != null ? endpoint : new Endpoint(address));
+			}
+			list = Collections.unmodifiableList(updated);
+			refreshedAt = now;
+		}
+	}
+
+	static final class Endpoint {
+		final InetSocketAddress address;
+		final AtomicInteger failures = new AtomicInteger();
+		volatile boolean ejected;
+		volatile long ejectedUntil;
+		volatile int ejections;
+
+		Endpoint(InetSocketAddress address) {
+			this.address = address;
+		}
+
+		boolean isEjected(long now) {
+			return ejected && ejectedUntil - now > 0;
+		}
+
+		@Override
+		public String toString() {
+			return address.toString();
+		}
+	}
+}
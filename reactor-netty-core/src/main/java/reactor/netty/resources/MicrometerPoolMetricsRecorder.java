@@ -15,6 +15,7 @@
  */
 package reactor.netty.resources;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
@@ -22,35 +23,65 @@ import reactor.pool.PoolMetricsRecorder;
 
 import java.net.SocketAddress;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static reactor.netty.Metrics.ERROR;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.SUCCESS;
 import static reactor.netty.Metrics.formatSocketAddress;
+import static reactor.netty.resources.ConnectionProviderMeters.ALLOCATION_TIME;
+import static reactor.netty.resources.ConnectionProviderMeters.PENDING_CONNECTIONS_HIGH_WATER_MARK;
 import static reactor.netty.resources.ConnectionProviderMeters.PENDING_CONNECTIONS_TIME;
+import static reactor.netty.resources.ConnectionProviderMeters.DELIVERY_TIME;
 import static reactor.netty.resources.ConnectionProviderMeters.PendingConnectionsTimeTags.ID;
 import static reactor.netty.resources.ConnectionProviderMeters.PendingConnectionsTimeTags.NAME;
 import static reactor.netty.resources.ConnectionProviderMeters.PendingConnectionsTimeTags.REMOTE_ADDRESS;
 import static reactor.netty.resources.ConnectionProviderMeters.PendingConnectionsTimeTags.STATUS;
 
+/**
+ * {@link PoolMetricsRecorder} for Reactor Netty built-in integration with Micrometer.
+ * <p>
+ * The acquire timeline is split into phases, each of them recorded with its own timer:
+ * <ul>
+ *     <li>queue-wait - time spent in the pending queue of the pool</li>
+ *     <li>allocation - time spent in allocating a new connection</li>
+ *     <li>delivery - time spent in delivering a connection handed out by the pool to the event loop of the connection</li>
+ * </ul>
+ * The highest observed number of pending acquire requests is exposed as a gauge.
+ */
 final class MicrometerPoolMetricsRecorder implements Disposable, PoolMetricsRecorder {
 
 	final Timer pendingSuccessTimer;
 	final Timer pendingErrorTimer;
+	final Timer allocationSuccessTimer;
+	final Timer allocationErrorTimer;
+	final Timer deliverySuccessTimer;
+	final Timer deliveryErrorTimer;
+	final Gauge pendingHighWaterMarkGauge;
+	final AtomicInteger pendingHighWaterMark = new AtomicInteger();
 
 	MicrometerPoolMetricsRecorder(String id, String poolName, SocketAddress remoteAddress) {
-		pendingSuccessTimer = buildTimer(id, poolName, remoteAddress, SUCCESS);
-		pendingErrorTimer = buildTimer(id, poolName, remoteAddress, ERROR);
+		pendingSuccessTimer = buildTimer(PENDING_CONNECTIONS_TIME.getName(), id, poolName, remoteAddress, SUCCESS);
+		pendingErrorTimer = buildTimer(PENDING_CONNECTIONS_TIME.getName(), id, poolName, remoteAddress, ERROR);
+		allocationSuccessTimer = buildTimer(ALLOCATION_TIME.getName(), id, poolName, remoteAddress, SUCCESS);
+		allocationErrorTimer = buildTimer(ALLOCATION_TIME.getName(), id, poolName, remoteAddress, ERROR);
+		deliverySuccessTimer = buildTimer(DELIVERY_TIME.getName(), id, poolName, remoteAddress, SUCCESS);
+		deliveryErrorTimer = buildTimer(DELIVERY_TIME.getName(), id, poolName, remoteAddress, ERROR);
+		pendingHighWaterMarkGauge =
+				Gauge.builder(PENDING_CONNECTIONS_HIGH_WATER_MARK.getName(), pendingHighWaterMark, AtomicInteger::get)
+				     .tags(Tags.of(ID.asString(), id, REMOTE_ADDRESS.asString(), formatSocketAddress(remoteAddress),
+				             NAME.asString(), poolName))
+				     .register(REGISTRY);
 	}
 
 	@Override
 	public void recordAllocationSuccessAndLatency(long latencyMs) {
-		//noop
+		allocationSuccessTimer.record(latencyMs, TimeUnit.MILLISECONDS);
 	}
 
 	@Override
 	public void recordAllocationFailureAndLatency(long latencyMs) {
-		//noop
+		allocationErrorTimer.record(latencyMs, TimeUnit.MILLISECONDS);
 	}
 
 	@Override
@@ -98,14 +129,48 @@ final class MicrometerPoolMetricsRecorder implements Disposable, PoolMetricsReco
 		pendingErrorTimer.record(latencyMs, TimeUnit.MILLISECONDS);
 	}
 
+	/**
+	 * Records the time spent in delivering a connection handed out by the pool to the event loop of the connection.
+	 *
+	 * @param latencyNanos the delivery latency in nanoseconds
+	 * @param active whether the connection was delivered or found closed and discarded
+	 */
+	void recordDeliveryLatency(long latencyNanos, boolean active) {
+		if (active) {
+			deliverySuccessTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+		}
+		else {
+			deliveryErrorTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Records the number of requests pending acquire, keeping the highest observed value.
+	 *
+	 * @param pendingAcquireSize the current number of requests pending acquire
+	 */
+	void recordPendingAcquireSize(int pendingAcquireSize) {
+		int current;
+		while (pendingAcquireSize > (current = pendingHighWaterMark.get())) {
+			if (pendingHighWaterMark.compareAndSet(current, pendingAcquireSize)) {
+				return;
+			}
+		}
+	}
+
 	@Override
 	public void dispose() {
 		REGISTRY.remove(pendingSuccessTimer);
 		REGISTRY.remove(pendingErrorTimer);
+		REGISTRY.remove(allocationSuccessTimer);
+		REGISTRY.remove(allocationErrorTimer);
+		REGISTRY.remove(deliverySuccessTimer);
+		REGISTRY.remove(deliveryErrorTimer);
+		REGISTRY.remove(pendingHighWaterMarkGauge);
 	}
 
-	static Timer buildTimer(String id, String poolName, SocketAddress remoteAddress, String status) {
-		return Timer.builder(PENDING_CONNECTIONS_TIME.getName())
+	static Timer buildTimer(String name, String id, String poolName, SocketAddress remoteAddress, String status) {
+		return Timer.builder(name)
 		            .tags(Tags.of(ID.asString(), id, REMOTE_ADDRESS.asString(), formatSocketAddress(remoteAddress),
 		                    NAME.asString(), poolName, STATUS.asString(), status))
 		            .register(REGISTRY);
@@ -33,6 +33,7 @@ import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.ReactorNetty;
 import reactor.netty.internal.util.Metrics;
+import reactor.netty.transport.ClientTransportConfig;
 import reactor.netty.transport.TransportConfig;
 import reactor.netty.internal.util.MapUtils;
 import reactor.pool.InstrumentedPool;
@@ -84,10 +85,19 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 	 */
 	protected static final String CONTEXT_CALLER_EVENTLOOP = "callereventloop";
 
+	/**
+	 * Context key marking acquires that allocate a connection for another pool (e.g. {@code HTTP/2} connections),
+	 * the adaptive concurrency limit is applied by that pool.
+	 *
+	 * @since 1.3.3
+	 */
+	protected static final String CONTEXT_BYPASS_CONCURRENCY_LIMIT = "bypassconcurrencylimit";
+
 	final PoolFactory<T> defaultPoolFactory;
 	final Map<SocketAddress, PoolFactory<T>> poolFactoryPerRemoteHost = new HashMap<>();
 
 	final ConcurrentMap<PoolKey, InstrumentedPool<T>> channelPools = new ConcurrentHashMap<>();
+	final ConcurrentMap<PoolKey, AdaptiveConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
 
 	final Builder builder;
 	final String name;
@@ -97,6 +107,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 	final int maxConnectionPools;
 	final AtomicInteger connectionPoolCount = new AtomicInteger(0);
 	final Map<SocketAddress, Integer> maxConnections = new HashMap<>();
+	final @Nullable EndpointLoadBalancer loadBalancer;
 	Mono<Void> onDispose;
 
 	protected PooledConnectionProvider(Builder builder) {
@@ -111,6 +122,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		this.poolInactivity = builder.poolInactivity;
 		this.disposeTimeout = builder.disposeTimeout;
 		this.maxConnectionPools = builder.maxConnectionPools;
+		this.loadBalancer = builder.loadBalancing != null ? new EndpointLoadBalancer(builder.loadBalancing) : null;
 		this.defaultPoolFactory = new PoolFactory<>(builder, builder.disposeTimeout, clock);
 		for (Map.Entry<SocketAddress, ConnectionPoolSpec<?>> entry : builder.confPerRemoteHost.entrySet()) {
 			poolFactoryPerRemoteHost.put(entry.getKey(), new PoolFactory<>(entry.getValue(), builder.disposeTimeout));
@@ -130,8 +142,62 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		Objects.requireNonNull(config, "config");
 		Objects.requireNonNull(connectionObserver, "connectionObserver");
 		Objects.requireNonNull(remote, "remoteAddress");
+		EndpointLoadBalancer loadBalancer = this.loadBalancer;
+		if (loadBalancer != null && resolverGroup != null &&
+				!(config instanceof ClientTransportConfig && ((ClientTransportConfig<?>) config).proxyProvider() != null)) {
+			return Mono.defer(() -> {
+				SocketAddress remoteAddress = Objects.requireNonNull(remote.get(), "Remote Address supplier returned null");
+				if (!(remoteAddress instanceof InetSocketAddress) || !((InetSocketAddress) remoteAddress).isUnresolved()) {
+					return acquireInternal(config, connectionObserver, remoteAddress, resolverGroup);
+				}
+				InetSocketAddress host = (InetSocketAddress) remoteAddress;
+				EventLoop eventLoop = config.loopResources().onClient(config.isPreferNative()).next();
+				int channelHash = config.channelHash();
+				return loadBalancer.select(eventLoop, host, resolverGroup, address -> outstandingRequests(address, channelHash))
+				                   .flatMap(endpoint ->
+				                       acquireInternal(config, connectionObserver, endpoint.address, resolverGroup)
+				                               .doOnNext(connection -> loadBalancer.onSuccess(endpoint))
+				                               .doOnError(t -> loadBalancer.onError(endpoint, host, t)));
+			});
+		}
+		return Mono.defer(() ->
+				acquireInternal(config, connectionObserver,
+						Objects.requireNonNull(remote.get(), "Remote Address supplier returned null"), resolverGroup));
+	}
+
+	Mono<? extends Connection> acquireInternal(
+			TransportConfig config,
+			ConnectionObserver connectionObserver,
+			SocketAddress remoteAddress,
+			@Nullable AddressResolverGroup<?> resolverGroup) {
+		ConnectionProvider.AdaptiveConcurrencySpec adaptiveConcurrency = poolFactory(remoteAddress).adaptiveConcurrency;
+		if (adaptiveConcurrency == null) {
+			return acquirePooled(config, connectionObserver, remoteAddress, resolverGroup);
+		}
+		return Mono.deferContextual(ctx -> {
+			if (ctx.hasKey(CONTEXT_BYPASS_CONCURRENCY_LIMIT)) {
+				return acquirePooled(config, connectionObserver, remoteAddress, resolverGroup);
+			}
+			AdaptiveConcurrencyLimiter limiter = MapUtils.computeIfAbsent(concurrencyLimiters,
+					new PoolKey(remoteAddress, config.channelHash()), key -> new AdaptiveConcurrencyLimiter(adaptiveConcurrency));
+			AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+			if (permit == null) {
+				return Mono.error(new ConcurrencyLimitExceededException(
+						"Concurrency limit of " + limiter.limit() + " reached for [" + remoteAddress + "]", limiter.limit()));
+			}
+			return acquirePooled(config, connectionObserver.then(permit), remoteAddress, resolverGroup)
+					.doOnError(t -> permit.dropped())
+					.doOnCancel(permit::cancel);
+		});
+	}
+
+	@SuppressWarnings("NullAway")
+	Mono<? extends Connection> acquirePooled(
+			TransportConfig config,
+			ConnectionObserver connectionObserver,
+			SocketAddress remoteAddress,
+			@Nullable AddressResolverGroup<?> resolverGroup) {
 		return Mono.create(sink -> {
-			SocketAddress remoteAddress = Objects.requireNonNull(remote.get(), "Remote Address supplier returned null");
 			PoolKey holder = new PoolKey(remoteAddress, config.channelHash());
 			PoolFactory<T> poolFactory = poolFactory(remoteAddress);
 			InstrumentedPool<T> pool = MapUtils.computeIfAbsent(channelPools, holder, poolKey -> {
@@ -209,6 +275,24 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		});
 	}
 
+	/**
+	 * Returns the number of outstanding requests for the connection pool, used by the load balancing
+	 * to select the least loaded resolved address. By default, this is the number of acquired and pending connections.
+	 *
+	 * @param pool the connection pool
+	 * @return the number of outstanding requests
+	 * @since 1.3.3
+	 */
+	protected int outstandingRequests(InstrumentedPool<T> pool) {
+		InstrumentedPool.PoolMetrics metrics = pool.metrics();
+		return metrics.acquiredSize() + metrics.pendingAcquireSize();
+	}
+
+	int outstandingRequests(SocketAddress remoteAddress, int channelHash) {
+		InstrumentedPool<T> pool = channelPools.get(new PoolKey(remoteAddress, channelHash));
+		return pool != null ? outstandingRequests(pool) : 0;
+	}
+
 	@Override
 	@SuppressWarnings("NullAway")
 	public final Mono<Void> disposeLater() {
@@ -240,6 +324,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 				return onDispose;
 			}
 			channelPools.clear();
+			concurrencyLimiters.clear();
 			return onDispose.and(Mono.when(pools));
 		});
 	}
@@ -255,6 +340,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 
 		toDispose.forEach(e -> {
 			if (channelPools.remove(e.getKey(), e.getValue())) {
+				concurrencyLimiters.remove(e.getKey());
 				if (log.isDebugEnabled()) {
 					log.debug("ConnectionProvider[name={}]: Disposing pool for [{}]", name, e.getKey().holder);
 				}
@@ -344,7 +430,14 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 	}
 
 	protected PoolFactory<T> poolFactory(SocketAddress remoteAddress) {
-		return poolFactoryPerRemoteHost.getOrDefault(remoteAddress, defaultPoolFactory);
+		PoolFactory<T> poolFactory = poolFactoryPerRemoteHost.get(remoteAddress);
+		if (poolFactory == null && loadBalancer != null && remoteAddress instanceof InetSocketAddress &&
+				!poolFactoryPerRemoteHost.isEmpty()) {
+			// With load balancing, the pools are per resolved address, the configuration is per host name
+			InetSocketAddress address = (InetSocketAddress) remoteAddress;
+			poolFactory = poolFactoryPerRemoteHost.get(InetSocketAddress.createUnresolved(address.getHostString(), address.getPort()));
+		}
+		return poolFactory != null ? poolFactory : defaultPoolFactory;
 	}
 
 	protected ConnectionPoolMetrics delegateConnectionPoolMetrics(InstrumentedPool.PoolMetrics metrics) {
@@ -440,6 +533,7 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 
 			toDispose.forEach(e -> {
 				if (channelPools.remove(e.getKey(), e.getValue())) {
+					concurrencyLimiters.remove(e.getKey());
 					if (log.isDebugEnabled()) {
 						log.debug("ConnectionProvider[name={}]: Disposing inactive pool for [{}]", name, e.getKey().holder);
 					}
@@ -516,6 +610,8 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 		final @Nullable AllocationStrategy<?> allocationStrategy;
 		final @Nullable BiPredicate<Connection, ConnectionMetadata> evictionPredicate;
 		final @Nullable Scheduler evictInBackgroundScheduler;
+		final ConnectionProvider.@Nullable AdaptiveConcurrencySpec adaptiveConcurrency;
+		final int minIdle;
 
 		PoolFactory(ConnectionPoolSpec<?> conf, @Nullable Duration disposeTimeout) {
 			this(conf, disposeTimeout, null);
@@ -539,6 +635,8 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 			this.allocationStrategy = conf.allocationStrategy;
 			this.evictionPredicate = conf.evictionPredicate;
 			this.evictInBackgroundScheduler = conf.evictInBackgroundScheduler;
+			this.adaptiveConcurrency = conf.adaptiveConcurrency;
+			this.minIdle = conf.minIdle;
 		}
 
 		public InstrumentedPool<T> newPool(
@@ -624,21 +722,29 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 								|| (maxLifeTime != -1 && meta.lifeTime() >= maxLifeTime)));
 			}
 
+			reactor.pool.@Nullable AllocationStrategy strategy = null;
 			if (DEFAULT_POOL_GET_PERMITS_SAMPLING_RATE > 0d && DEFAULT_POOL_GET_PERMITS_SAMPLING_RATE <= 1d
 					&& DEFAULT_POOL_RETURN_PERMITS_SAMPLING_RATE > 0d && DEFAULT_POOL_RETURN_PERMITS_SAMPLING_RATE <= 1d) {
-				poolBuilder = poolBuilder.allocationStrategy(SamplingAllocationStrategy.sizeBetweenWithSampling(
+				strategy = SamplingAllocationStrategy.sizeBetweenWithSampling(
 						0,
 						maxConnections,
 						DEFAULT_POOL_GET_PERMITS_SAMPLING_RATE,
-						DEFAULT_POOL_RETURN_PERMITS_SAMPLING_RATE));
+						DEFAULT_POOL_RETURN_PERMITS_SAMPLING_RATE);
+			}
+			else if (allocationStrategy != null) {
+				strategy = new DelegatingAllocationStrategy(allocationStrategy.copy());
+			}
+
+			if (minIdle > 0) {
+				// The idle connections are opened with warmup, without acquiring the existing idle connections
+				poolBuilder = poolBuilder.allocationStrategy(
+						new MinIdleAllocationStrategy(strategy != null ? strategy : sizeBetween(maxConnections)));
+			}
+			else if (strategy != null) {
+				poolBuilder = poolBuilder.allocationStrategy(strategy);
 			}
 			else {
-				if (allocationStrategy == null) {
-					poolBuilder = poolBuilder.sizeBetween(0, maxConnections);
-				}
-				else {
-					poolBuilder = poolBuilder.allocationStrategy(new DelegatingAllocationStrategy(allocationStrategy.copy()));
-				}
+				poolBuilder = poolBuilder.sizeBetween(0, maxConnections);
 			}
 
 			if (pendingAcquireTimer != null) {
@@ -731,6 +837,98 @@ public abstract class PooledConnectionProvider<T extends Connection> implements
 				delegate.returnPermits(returned);
 			}
 		}
+
+		/**
+		 * Grants the permits requested with {@link #openIdle(Pool, int)} only to the {@link Pool#warmup()}
+		 * subscribed by that call, so that the pool opens new idle connections without handing out the existing ones.
+		 * A concurrent {@link Pool#warmup()} from the application is not affected. All other requests are delegated.
+		 */
+		static final class MinIdleAllocationStrategy implements reactor.pool.AllocationStrategy {
+
+			final reactor.pool.AllocationStrategy delegate;
+
+			// Set only while openIdle subscribes to the warmup, which asks for its permits on the subscribing thread
+			volatile @Nullable Thread grantee;
+			volatile int granted;
+
+			MinIdleAllocationStrategy(reactor.pool.AllocationStrategy delegate) {
+				this.delegate = delegate;
+			}
+
+			/**
+			 * Opens the given number of idle connections with {@link Pool#warmup()}.
+			 *
+			 * @param pool the pool configured with this strategy
+			 * @param count the number of idle connections to open
+			 * @return a {@link Mono} emitting the number of opened connections
+			 */
+			Mono<Integer> openIdle(Pool<?> pool, int count) {
+				return Mono.from(subscriber -> {
+					granted = count;
+					grantee = Thread.currentThread();
+					try {
+						pool.warmup().subscribe(subscriber);
+					}
+					finally {
+						grantee = null;
+						granted = 0;
+					}
+				});
+			}
+
+			boolean isGranted() {
+				return grantee == Thread.currentThread() && granted > 0;
+			}
+
+			@Override
+			public int estimatePermitCount() {
+				return delegate.estimatePermitCount();
+			}
+
+			@Override
+			public int getPermits(int desired) {
+				// Pool#warmup() asks for the permits needed to reach the minimum with getPermits(0)
+				if (desired == 0 && isGranted()) {
+					int count = granted;
+					granted = 0;
+					return delegate.getPermits(count);
+				}
+				return delegate.getPermits(desired);
+			}
+
+			@Override
+			public int permitGranted() {
+				return delegate.permitGranted();
+			}
+
+			@Override
+			public int permitMinimum() {
+				// Pool#warmup() does nothing when there is no minimum
+				return isGranted() ? Math.max(1, delegate.permitMinimum()) : delegate.permitMinimum();
+			}
+
+			@Override
+			public int permitMaximum() {
+				return delegate.permitMaximum();
+			}
+
+			@Override
+			public void returnPermits(int returned) {
+				delegate.returnPermits(returned);
+			}
+		}
+
+		/**
+		 * Returns the reactor-pool allocation strategy granting up to {@code max} permits, without minimum.
+		 * reactor-pool exposes it only through the configuration of the pools it builds.
+		 */
+		static reactor.pool.AllocationStrategy sizeBetween(int max) {
+			return PoolBuilder.from(Mono.empty())
+			                  .sizeBetween(0, max)
+			                  .buildPool()
+			                  .config()
+			                  .allocationStrategy();
+		}
 	}
 
 	static final class PooledConnectionMetadata implements ConnectionMetadata {
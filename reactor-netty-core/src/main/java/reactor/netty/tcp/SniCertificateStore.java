@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.netty.channel.Channel;
+import io.netty.util.AsyncMapping;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.net.ssl.SSLException;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An {@link AsyncMapping} of SNI host names to {@link SslProvider}s, to be configured with
+ * {@link SslProvider.Builder#setSniAsyncMappings(AsyncMapping)}.
+ * <p>In contrast to {@link SslProvider.Builder#addSniMappings(Map)}, which builds every {@link SslProvider}
+ * up front, this store creates an {@link SslProvider} the first time a ClientHello asks for its host name
+ * and keeps it in a size-bounded cache, evicting the least recently used entries.
+ * The certificates are resolved from the domain names added with {@link #put(String, Consumer)} and then from
+ * a loader, either a directory with {@code <domain name>.crt} and {@code <domain name>.key} files or a user provided
+ * function. An exact domain name takes precedence over a single level wildcard domain name e.g. {@code *.example.com}.
+ * Certificates can be added, replaced and removed at any time without rebinding the server.
+ * <p>The loading happens on a {@link Scheduler} (by default {@link Schedulers#boundedElastic()}), so that the event
+ * loop is not blocked by the file system or the creation of the {@link io.netty.handler.ssl.SslContext}.
+ * Concurrent lookups for the same host name share one load.
+ * <p>When a host name is not found, the {@link SslProvider} configured on the server is used.
+ * When the store is used directly as an {@link AsyncMapping}, the lookup fails.
+ *
+ * @since 1.3.3
+ */
+public final class SniCertificateStore implements AsyncMapping<String, SslProvider> {
+
+	/**
+	 * Creates a builder for {@link SniCertificateStore}.
+	 *
+	 * @return a new {@link SniCertificateStore} builder
+	 */
+	public static SniCertificateStore.Builder builder() {
+		return new SniCertificateStore.Build();
+	}
+
+	/**
+	 * Adds or replaces the {@link SslProvider} builder for the given domain name.
+	 * It takes precedence over the loader and the cached {@link SslProvider}, if any, is discarded.
+	 *
+	 * @param domainName the domain name, it may contain a single level wildcard e.g. {@code *.example.com}
+	 * @param sslProviderBuilder an {@link SslProvider} builder for building the {@link SslProvider}
+	 * @return {@literal this}
+	 */
+	public SniCertificateStore put(String domainName, Consumer<? super SslProvider.SslContextSpec> sslProviderBuilder) {
+		Objects.requireNonNull(domainName, "domainName");
+		Objects.requireNonNull(sslProviderBuilder, "sslProviderBuilder");
+		String key = normalize(domainName);
+		sslProviderBuilders.put(key, sslProviderBuilder);
+		invalidate(key);
+		return this;
+	}
+
+	/**
+	 * Removes the {@link SslProvider} builder for the given domain name, added with {@link #put(String, Consumer)}.
+	 * The cached {@link SslProvider}, if any, is discarded.
+	 *
+	 * @param domainName the domain name
+	 * @return {@literal this}
+	 */
+	public SniCertificateStore remove(String domainName) {
+		Objects.requireNonNull(domainName, "domainName");
+		String key = normalize(domainName);
+		sslProviderBuilders.remove(key);
+		invalidate(key);
+		return this;
+	}
+
+	/**
+	 * Discards the cached {@link SslProvider} for the given domain name.
+	 * The next lookup loads it again e.g. after the certificate files were renewed.
+	 *
+	 * @param domainName the domain name, it may contain a single level wildcard e.g. {@code *.example.com}
+	 */
+	public void invalidate(String domainName) {
+		Objects.requireNonNull(domainName, "domainName");
+		String key = normalize(domainName);
+		synchronized (cache) {
+			generation++;
+			if (key.startsWith("*.")) {
+				// the host names resolved to the wildcard domain name are cached too
+				cache.keySet().removeIf(host -> key.equals(host) || key.equals(wildcard(host)));
+			}
+			else {
+				cache.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Discards all cached {@link SslProvider}s.
+	 */
+	public void invalidateAll() {
+		synchronized (cache) {
+			generation++;
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of the cached domain names.
+	 * A host name resolved to a wildcard domain name is cached as well, sharing the wildcard {@link SslProvider}.
+	 *
+	 * @return the number of the cached domain names
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	@Override
+	public Future<SslProvider> map(String input, Promise<SslProvider> promise) {
+		return lookup(null, input, promise, null);
+	}
+
+	static final AttributeKey<@Nullable Boolean> SNI_CACHE_HIT = AttributeKey.valueOf("$SNI_CACHE_HIT");
+	static final AttributeKey<@Nullable Long> SNI_LOOKUP_TIME = AttributeKey.valueOf("$SNI_LOOKUP_TIME");
+
+	final ConcurrentMap<String, Mono<SslProvider>> inFlight = new ConcurrentHashMap<>();
+	final @Nullable Function<String, ? extends @Nullable Consumer<? super SslProvider.SslContextSpec>> loader;
+	final Scheduler loadScheduler;
+	final Map<String, SslProvider> cache;
+	final ConcurrentMap<String, Consumer<? super SslProvider.SslContextSpec>> sslProviderBuilders = new ConcurrentHashMap<>();
+
+	// guarded by cache, incremented whenever a cached SslProvider may become stale,
+	// so that an in-flight load does not cache an SslProvider that was replaced in the meantime
+	long generation;
+
+	SniCertificateStore(Build build) {
+		this.loader = build.loader;
+		this.loadScheduler = build.loadScheduler;
+		this.cache = new LruCache(build.maxSize);
+	}
+
+	/**
+	 * Looks up the {@link SslProvider} for the given host name.
+	 * When a channel is provided, the lookup time and whether it was a cache hit are recorded as channel attributes,
+	 * so that the TLS metrics handlers can report them when the TLS handshake completes.
+	 *
+	 * @param channel the channel that received the ClientHello, or {@code null}
+	 * @param hostname the SNI host name, or {@code null} when the ClientHello does not contain one
+	 * @param promise the promise to complete
+	 * @param defaultSslProvider the {@link SslProvider} to use when the host name is not found, or {@code null}
+	 * @return the future
+	 */
+	Future<SslProvider> lookup(@Nullable Channel channel, @Nullable String hostname, Promise<SslProvider> promise,
+			@Nullable SslProvider defaultSslProvider) {
+		if (hostname == null) {
+			return notFound(null, promise, defaultSslProvider);
+		}
+
+		long lookupTimeStart = System.nanoTime();
+		String host = normalize(hostname);
+		String wildcard = wildcard(host);
+		SslProvider sslProvider = cached(host);
+		if (sslProvider != null) {
+			recordLookup(channel, true, lookupTimeStart);
+			return promise.setSuccess(sslProvider);
+		}
+
+		inFlight.computeIfAbsent(host,
+		        h -> Mono.fromCallable(() -> load(h, wildcard))
+		                 .subscribeOn(loadScheduler)
+		                 .doFinally(s -> inFlight.remove(h))
+		                 .cache())
+		        .subscribe(
+		                p -> {
+		                    recordLookup(channel, false, lookupTimeStart);
+		                    promise.trySuccess(p);
+		                },
+		                promise::tryFailure,
+		                () -> {
+		                    if (!promise.isDone()) {
+		                        recordLookup(channel, false, lookupTimeStart);
+		                        notFound(host, promise, defaultSslProvider);
+		                    }
+		                });
+		return promise;
+	}
+
+	@Nullable SslProvider cached(String domainName) {
+		synchronized (cache) {
+			return cache.get(domainName);
+		}
+	}
+
+	@Nullable SslProvider load(String host, @Nullable String wildcard) {
+		long loadGeneration;
+		synchronized (cache) {
+			loadGeneration = generation;
+		}
+		SslProvider sslProvider = cached(host);
+		if (sslProvider != null) {
+			return sslProvider;
+		}
+
+		Consumer<? super SslProvider.SslContextSpec> sslProviderBuilder = find(host);
+		String loadedWildcard = null;
+		if (sslProviderBuilder != null) {
+			sslProvider = build(sslProviderBuilder);
+		}
+		else if (wildcard != null) {
+			sslProvider = cached(wildcard);
+			if (sslProvider == null) {
+				sslProviderBuilder = find(wildcard);
+				if (sslProviderBuilder == null) {
+					return null;
+				}
+				sslProvider = build(sslProviderBuilder);
+				loadedWildcard = wildcard;
+			}
+		}
+		else {
+			return null;
+		}
+
+		synchronized (cache) {
+			if (loadGeneration == generation) {
+				// the host name resolved to the wildcard domain name is cached as well,
+				// so that the next lookup does not need to look for an exact match again
+				cache.put(host, sslProvider);
+				if (loadedWildcard != null) {
+					cache.put(loadedWildcard, sslProvider);
+				}
+			}
+		}
+		return sslProvider;
+	}
+
+	static SslProvider build(Consumer<? super SslProvider.SslContextSpec> sslProviderBuilder) {
+		SslProvider.SslContextSpec builder = SslProvider.builder();
+		sslProviderBuilder.accept(builder);
+		return ((SslProvider.Builder) builder).build();
+	}
+
+	@Nullable Consumer<? super SslProvider.SslContextSpec> find(String domainName) {
+		Consumer<? super SslProvider.SslContextSpec> sslProviderBuilder = sslProviderBuilders.get(domainName);
+		if (sslProviderBuilder == null && loader != null) {
+			sslProviderBuilder = loader.apply(domainName);
+		}
+		return sslProviderBuilder;
+	}
+
+	static Future<SslProvider> notFound(@Nullable String host, Promise<SslProvider> promise,
+			@Nullable SslProvider defaultSslProvider) {
+		if (defaultSslProvider != null) {
+			return promise.setSuccess(defaultSslProvider);
+		}
+		return promise.setFailure(new SSLException("No certificate found for SNI host name: " + host));
+	}
+
+	static void recordLookup(@Nullable Channel channel, boolean hit, long lookupTimeStart) {
+		if (channel != null) {
+			channel.attr(SNI_CACHE_HIT).set(hit);
+			channel.attr(SNI_LOOKUP_TIME).set(System.nanoTime() - lookupTimeStart);
+		}
+	}
+
+	static String normalize(String domainName) {
+		return domainName.toLowerCase(Locale.ROOT);
+	}
+
+	static @Nullable String wildcard(String host) {
+		int index = host.indexOf('.');
+		return index > 0 && index < host.length() - 1 ? "*" + host.substring(index) : null;
+	}
+
+	public interface Builder {
+
+		/**
+		 * Loads the certificates from the given directory.
+		 * For a domain name, the certificate chain is expected in {@code <domain name>.crt} and the private key in
+		 * {@code <domain name>.key}, both in PEM format. A wildcard domain name is stored with {@code _} in place of
+		 * {@code *} e.g. {@code _.example.com.crt}.
+		 * New files are picked up on the first lookup of their domain name, renewed files
+		 * after {@link SniCertificateStore#invalidate(String)}.
+		 * <p><strong>Note:</strong> This method is an alternative of {@link #loader(Function)}.
+		 *
+		 * @param directory the directory with the certificates
+		 * @param sslContextSpecFactory creates the SslContext builder from the certificate chain and the private key
+		 * files e.g. {@code TcpSslContextSpec::forServer}
+		 * @return {@literal this}
+		 */
+		Builder directory(Path directory,
+				BiFunction<File, File, ? extends SslProvider.GenericSslContextSpec<?>> sslContextSpecFactory);
+
+		/**
+		 * Loads the {@link SslProvider} builder for a domain name with the given function.
+		 * The function is invoked with the exact host name and then with the single level wildcard domain name,
+		 * and returns {@code null} when there is no certificate for the domain name.
+		 * <p><strong>Note:</strong> This method is an alternative of {@link #directory(Path, BiFunction)}.
+		 *
+		 * @param loader the function to load the {@link SslProvider} builder for a domain name
+		 * @return {@literal this}
+		 */
+		Builder loader(Function<String, ? extends @Nullable Consumer<? super SslProvider.SslContextSpec>> loader);
+
+		/**
+		 * Sets the maximum number of the cached domain names.
+		 * A host name resolved to a wildcard domain name counts as well.
+		 * When the maximum is reached, the least recently used domain name is evicted.
+		 * Default to {@code 1024}.
+		 *
+		 * @param maxSize the maximum number of the cached domain names
+		 * @return {@literal this}
+		 */
+		Builder maxSize(int maxSize);
+
+		/**
+		 * Sets the {@link Scheduler} on which the {@link SslProvider}s are loaded.
+		 * Default to {@link Schedulers#boundedElastic()}.
+		 *
+		 * @param loadScheduler the {@link Scheduler} on which the {@link SslProvider}s are loaded
+		 * @return {@literal this}
+		 */
+		Builder loadScheduler(Scheduler loadScheduler);
+
+		/**
+		 * Builds new {@link SniCertificateStore}.
+		 *
+		 * @return builds new {@link SniCertificateStore}
+		 */
+		SniCertificateStore build();
+	}
+
+	static final class Build implements Builder {
+
+		static final int DEFAULT_MAX_SIZE = 1024;
+
+		@Nullable Function<String, ? extends @Nullable Consumer<? super SslProvider.SslContextSpec>> loader;
+		Scheduler loadScheduler = Schedulers.boundedElastic();
+		int maxSize = DEFAULT_MAX_SIZE;
+
+		@Override
+		public Builder directory(Path directory,
+				BiFunction<File, File, ? extends SslProvider.GenericSslContextSpec<?>> sslContextSpecFactory) {
+			Objects.requireNonNull(directory, "directory");
+			Objects.requireNonNull(sslContextSpecFactory, "sslContextSpecFactory");
+			this.loader = domainName -> {
+				if (!isValidFileName(domainName)) {
+					return null;
+				}
+				String fileName = domainName.replace('*', '_');
+				File keyCertChainFile = directory.resolve(fileName + ".crt").toFile();
+				File keyFile = directory.resolve(fileName + ".key").toFile();
+				if (!keyCertChainFile.isFile() || !keyFile.isFile()) {
+					return null;
+				}
+				return spec -> spec.sslContext(sslContextSpecFactory.apply(keyCertChainFile, keyFile));
+			};
+			return this;
+		}
+
+		@Override
+		public Builder loader(Function<String, ? extends @Nullable Consumer<? super SslProvider.SslContextSpec>> loader) {
+			this.loader = Objects.requireNonNull(loader, "loader");
+			return this;
+		}
+
+		@Override
+		public Builder maxSize(int maxSize) {
+			if (maxSize <= 0) {
+				throw new IllegalArgumentException("maxSize must be positive");
+			}
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		@Override
+		public Builder loadScheduler(Scheduler loadScheduler) {
+			this.loadScheduler = Objects.requireNonNull(loadScheduler, "loadScheduler");
+			return this;
+		}
+
+		@Override
+		public SniCertificateStore build() {
+			return new SniCertificateStore(this);
+		}
+
+		/**
+		 * The host name comes from the ClientHello, only letters, digits, {@code -} and {@code .} are accepted
+		 * (and a leading {@code *.} for a wildcard domain name), so that it cannot point outside the directory.
+		 */
+		static boolean isValidFileName(String domainName) {
+			int start = domainName.startsWith("*.") ? 2 : 0;
+			if (start == domainName.length() || domainName.charAt(start) == '.') {
+				return false;
+			}
+			for (int i = start; i < domainName.length(); i++) {
+				char c = domainName.charAt(i);
+				if (!(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9') && c != '-' && c != '.') {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	static final class LruCache extends LinkedHashMap<String, SslProvider> {
+
+		final int maxSize;
+
+		LruCache(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SslProvider> eldest) {
+			return size() > maxSize;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.PlatformDependent;
+import org.jspecify.annotations.Nullable;
 import reactor.netty.NettyPipeline;
 
 import java.util.Map;
@@ -59,10 +60,18 @@ final class SniProvider {
 
 	final long handshakeTimeoutMillis;
 	final AsyncMapping<String, SslProvider> mappings;
+	final @Nullable SslProvider defaultSslProvider;
 
 	SniProvider(AsyncMapping<String, SslProvider> mappings, long handshakeTimeoutMillis) {
 		this.mappings = mappings;
 		this.handshakeTimeoutMillis = handshakeTimeoutMillis;
+		this.defaultSslProvider = null;
+	}
+
+	SniProvider(SniCertificateStore store, SslProvider defaultSslProvider) {
+		this.mappings = store;
+		this.handshakeTimeoutMillis = defaultSslProvider.handshakeTimeoutMillis;
+		this.defaultSslProvider = defaultSslProvider;
 	}
 
 	SniProvider(Map<String, SslProvider> confPerDomainName, SslProvider defaultSslProvider) {
@@ -71,10 +80,11 @@ final class SniProvider {
 		confPerDomainName.forEach(mappingsSslProviderBuilder::add);
 		this.mappings = new AsyncMappingAdapter(mappingsSslProviderBuilder.build());
 		this.handshakeTimeoutMillis = defaultSslProvider.handshakeTimeoutMillis;
+		this.defaultSslProvider = null;
 	}
 
 	SniHandler newSniHandler() {
-		return new SniHandler(mappings, handshakeTimeoutMillis);
+		return new SniHandler(mappings, handshakeTimeoutMillis, defaultSslProvider);
 	}
 
 	static final class AsyncMappingAdapter implements AsyncMapping<String, SslProvider> {
@@ -99,14 +109,21 @@ final class SniProvider {
 	static final class SniHandler extends AbstractSniHandler<SslProvider> {
 
 		final AsyncMapping<String, SslProvider> mappings;
+		final @Nullable SslProvider defaultSslProvider;
 
-		SniHandler(AsyncMapping<String, SslProvider> mappings, long handshakeTimeoutMillis) {
+		SniHandler(AsyncMapping<String, SslProvider> mappings, long handshakeTimeoutMillis,
+				@Nullable SslProvider defaultSslProvider) {
 			super(handshakeTimeoutMillis);
 			this.mappings = mappings;
+			this.defaultSslProvider = defaultSslProvider;
 		}
 
 		@Override
 		protected Future<SslProvider> lookup(ChannelHandlerContext ctx, String hostname) {
+			if (mappings instanceof SniCertificateStore) {
+				return ((SniCertificateStore) mappings).lookup(ctx.channel(), hostname, ctx.executor().newPromise(),
+						defaultSslProvider);
+			}
 			return mappings.map(hostname, ctx.executor().newPromise());
 		}
 
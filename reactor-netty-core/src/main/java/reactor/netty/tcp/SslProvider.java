@@ -25,10 +25,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import javax.net.ssl.SNIHostName;
 import javax.net.ssl.SNIServerName;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSessionContext;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -157,6 +159,35 @@ public final class SslProvider {
 		 */
 		Builder closeNotifyReadTimeoutMillis(long closeNotifyReadTimeoutMillis);
 
+		/**
+		 * Set the size of the cache used for storing the TLS sessions that can be resumed.
+		 * By default, the size configured on the {@link SslContext} is used.
+		 * {@code 0} means no limit.
+		 * <p>On the client, the sessions are cached per remote host and port (or per {@code SNI} host name
+		 * when {@link #serverNames(SNIServerName...)} is configured), so that the new connections of a connection pool
+		 * resume the session of the previous ones instead of performing a full TLS handshake.
+		 * <p><strong>Note:</strong> The configuration is applied on the {@link SslContext} and is visible
+		 * to all users of the same {@link SslContext}.
+		 *
+		 * @param sessionCacheSize the size of the cache used for storing the TLS sessions
+		 * @return {@literal this}
+		 * @since 1.3.3
+		 */
+		Builder sessionCacheSize(int sessionCacheSize);
+
+		/**
+		 * Set the timeout after which a cached TLS session cannot be resumed anymore.
+		 * By default, the timeout configured on the {@link SslContext} is used.
+		 * {@link Duration#ZERO} means no limit.
+		 * <p><strong>Note:</strong> The configuration is applied on the {@link SslContext} and is visible
+		 * to all users of the same {@link SslContext}.
+		 *
+		 * @param sessionTimeout the timeout {@link Duration} (resolution: seconds)
+		 * @return {@literal this}
+		 * @since 1.3.3
+		 */
+		Builder sessionTimeout(Duration sessionTimeout);
+
 		/**
 		 * Adds a mapping for the given domain name to an {@link SslProvider} builder.
 		 * If a mapping already exists, it will be overridden.
@@ -354,6 +385,9 @@ public final class SslProvider {
 		else {
 			this.sslContext = builder.sslContext;
 		}
+		if (builder.sessionCacheSize >= 0 || builder.sessionTimeout != null) {
+			configureSessionContext(sslContext, builder.sessionCacheSize, builder.sessionTimeout);
+		}
 		this.serverNames = builder.serverNames;
 		if (serverNames != null) {
 			Consumer<SslHandler> configurator =
@@ -377,6 +411,9 @@ public final class SslProvider {
 		if (!confPerDomainName.isEmpty()) {
 			this.sniProvider = new SniProvider(confPerDomainName, this);
 		}
+		else if (sniMappings instanceof SniCertificateStore) {
+			this.sniProvider = new SniProvider((SniCertificateStore) sniMappings, this);
+		}
 		else if (sniMappings != null) {
 			this.sniProvider = new SniProvider(sniMappings, builder.handshakeTimeoutMillis);
 		}
@@ -441,8 +478,9 @@ public final class SslProvider {
 
 		if (remoteAddress instanceof InetSocketAddress) {
 			InetSocketAddress sniInfo = (InetSocketAddress) remoteAddress;
+			// The peer host and port are the key in the TLS session cache
 			sslHandler = getSslContext()
-					.newHandler(channel.alloc(), sniInfo.getHostString(), sniInfo.getPort());
+					.newHandler(channel.alloc(), peerHost(sniInfo), sniInfo.getPort());
 
 			if (log.isDebugEnabled()) {
 				log.debug(format(channel, "SSL enabled using engine {} and SNI {}"), sslHandler.engine(), sniInfo);
@@ -498,6 +536,36 @@ public final class SslProvider {
 		return builderHashCode;
 	}
 
+	String peerHost(InetSocketAddress remoteAddress) {
+		if (serverNames != null) {
+			for (SNIServerName serverName : serverNames) {
+				if (serverName instanceof SNIHostName) {
+					return ((SNIHostName) serverName).getAsciiName();
+				}
+			}
+		}
+		return remoteAddress.getHostString();
+	}
+
+	static void configureSessionContext(SslContext sslContext, int sessionCacheSize, @Nullable Duration sessionTimeout) {
+		SSLSessionContext sessionContext;
+		try {
+			sessionContext = sslContext.sessionContext();
+		}
+		catch (UnsupportedOperationException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("The TLS session cache cannot be configured for {}", sslContext, e);
+			}
+			return;
+		}
+		if (sessionCacheSize >= 0) {
+			sessionContext.setSessionCacheSize(sessionCacheSize);
+		}
+		if (sessionTimeout != null) {
+			sessionContext.setSessionTimeout((int) Math.min(sessionTimeout.getSeconds(), Integer.MAX_VALUE));
+		}
+	}
+
 	static void addSslReadHandler(ChannelPipeline pipeline, boolean sslDebug) {
 		if (pipeline.get(NettyPipeline.LoggingHandler) != null) {
 			pipeline.addAfter(NettyPipeline.LoggingHandler, NettyPipeline.SslReader, new SslReadHandler());
@@ -526,6 +594,8 @@ public final class SslProvider {
 		long handshakeTimeoutMillis = DEFAULT_SSL_HANDSHAKE_TIMEOUT;
 		long closeNotifyFlushTimeoutMillis = 3000L;
 		long closeNotifyReadTimeoutMillis;
+		int sessionCacheSize = -1;
+		@Nullable Duration sessionTimeout;
 		@Nullable List<SNIServerName> serverNames;
 		final Map<String, SslProvider> confPerDomainName = new HashMap<>();
 		@Nullable AsyncMapping<String, SslProvider> sniMappings;
@@ -607,6 +677,27 @@ public final class SslProvider {
 			return this;
 		}
 
+		@Override
+		public final Builder sessionCacheSize(int sessionCacheSize) {
+			if (sessionCacheSize < 0) {
+				throw new IllegalArgumentException("ssl session cache size must be positive or zero,"
+						+ " was: " + sessionCacheSize);
+			}
+			this.sessionCacheSize = sessionCacheSize;
+			return this;
+		}
+
+		@Override
+		public final Builder sessionTimeout(Duration sessionTimeout) {
+			Objects.requireNonNull(sessionTimeout, "sessionTimeout");
+			if (sessionTimeout.isNegative()) {
+				throw new IllegalArgumentException("ssl session timeout must be positive or zero,"
+						+ " was: " + sessionTimeout);
+			}
+			this.sessionTimeout = sessionTimeout;
+			return this;
+		}
+
 		@Override
 		public Builder addSniMapping(String domainName, Consumer<? super SslContextSpec> sslProviderBuilder) {
 			addInternal(domainName, sslProviderBuilder);
@@ -662,6 +753,8 @@ public final class SslProvider {
 			return handshakeTimeoutMillis == build.handshakeTimeoutMillis &&
 					closeNotifyFlushTimeoutMillis == build.closeNotifyFlushTimeoutMillis &&
 					closeNotifyReadTimeoutMillis == build.closeNotifyReadTimeoutMillis &&
+					sessionCacheSize == build.sessionCacheSize &&
+					Objects.equals(sessionTimeout, build.sessionTimeout) &&
 					Objects.equals(sslContext, build.sslContext) &&
 					Objects.equals(handlerConfigurator, build.handlerConfigurator) &&
 					Objects.equals(serverNames, build.serverNames) &&
@@ -677,6 +770,8 @@ public final class SslProvider {
 			result = 31 * result + Long.hashCode(handshakeTimeoutMillis);
 			result = 31 * result + Long.hashCode(closeNotifyFlushTimeoutMillis);
 			result = 31 * result + Long.hashCode(closeNotifyReadTimeoutMillis);
+			result = 31 * result + sessionCacheSize;
+			result = 31 * result + Objects.hashCode(sessionTimeout);
 			result = 31 * result + Objects.hashCode(serverNames);
 			result = 31 * result + Objects.hashCode(confPerDomainName);
 			result = 31 * result + Objects.hashCode(genericSslContextSpec);
@@ -71,6 +71,31 @@ enum TlsHandshakeObservations implements ObservationDocumentation {
 			}
 		},
 
+		/**
+		 * Whether a previous TLS session was resumed ({@code true}) or a full TLS handshake was performed ({@code false}).
+		 *
+		 * @since 1.3.3
+		 */
+		REACTOR_NETTY_TLS_RESUMED {
+			@Override
+			public String asString() {
+				return "reactor.netty.tls.resumed";
+			}
+		},
+
+		/**
+		 * Whether the certificate for the SNI host name was found in the cache ({@code hit}) or had to be loaded
+		 * ({@code miss}) by a {@link SniCertificateStore}.
+		 *
+		 * @since 1.3.3
+		 */
+		REACTOR_NETTY_TLS_SNI_LOOKUP {
+			@Override
+			public String asString() {
+				return "reactor.netty.tls.sni.lookup";
+			}
+		},
+
 		/**
 		 * Reactor Netty type (client/server).
 		 */
@@ -67,6 +67,66 @@ enum ByteBufAllocatorMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * The number of currently active allocations in an arena per size class (when {@code PooledByteBufAllocator} and arena metrics are enabled).
+	 */
+	ARENA_ACTIVE_ALLOCATIONS {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.arena.active.allocations";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return ArenaAllocationsTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * The number of allocations done via an arena per size class, huge allocations are not pooled (when {@code PooledByteBufAllocator} and arena metrics are enabled).
+	 */
+	ARENA_ALLOCATIONS {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.arena.allocations";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return ArenaAllocationsTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of chunks in an arena per chunk usage range (when {@code PooledByteBufAllocator} and arena metrics are enabled).
+	 */
+	ARENA_CHUNKS {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.arena.chunks";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return ArenaChunksTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
 	/**
 	 * The chunk size for an arena.
 	 */
@@ -127,6 +187,26 @@ enum ByteBufAllocatorMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * The number of leaked buffers reported by the sampled resource leak detection (when leak detection metrics are enabled).
+	 */
+	LEAKS {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.leaks";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return LeaksTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
 	/**
 	 * The size of the normal cache.
 	 */
@@ -249,4 +329,103 @@ enum ByteBufAllocatorMeters implements MeterDocumentation {
 			}
 		}
 	}
+
+	enum ArenaAllocationsTags implements KeyName {
+
+		/**
+		 * Arena, e.g. heap-0 or direct-0.
+		 */
+		ARENA {
+			@Override
+			public String asString() {
+				return "arena";
+			}
+		},
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		},
+
+		/**
+		 * TYPE.
+		 */
+		TYPE {
+			@Override
+			public String asString() {
+				return "type";
+			}
+		},
+
+		/**
+		 * Size class, one of small, normal or huge.
+		 */
+		SIZE_CLASS {
+			@Override
+			public String asString() {
+				return "size.class";
+			}
+		}
+	}
+
+	enum ArenaChunksTags implements KeyName {
+
+		/**
+		 * Arena, e.g. heap-0 or direct-0.
+		 */
+		ARENA {
+			@Override
+			public String asString() {
+				return "arena";
+			}
+		},
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		},
+
+		/**
+		 * TYPE.
+		 */
+		TYPE {
+			@Override
+			public String asString() {
+				return "type";
+			}
+		},
+
+		/**
+		 * Chunk usage range in percent, e.g. 25-75.
+		 */
+		USAGE {
+			@Override
+			public String asString() {
+				return "usage";
+			}
+		}
+	}
+
+	enum LeaksTags implements KeyName {
+
+		/**
+		 * Resource type, e.g. ByteBuf.
+		 */
+		RESOURCE_TYPE {
+			@Override
+			public String asString() {
+				return "resource.type";
+			}
+		}
+	}
 }
@@ -15,21 +15,34 @@
  */
 package reactor.netty.transport;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Tags;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PoolChunkListMetric;
+import io.netty.buffer.PoolChunkMetric;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocatorMetric;
+import reactor.netty.ReactorNetty;
 import reactor.netty.internal.util.MapUtils;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToDoubleFunction;
 
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.transport.ByteBufAllocatorMeters.ACTIVE_DIRECT_MEMORY;
 import static reactor.netty.transport.ByteBufAllocatorMeters.ACTIVE_HEAP_MEMORY;
+import static reactor.netty.transport.ByteBufAllocatorMeters.ARENA_ACTIVE_ALLOCATIONS;
+import static reactor.netty.transport.ByteBufAllocatorMeters.ARENA_ALLOCATIONS;
+import static reactor.netty.transport.ByteBufAllocatorMeters.ARENA_CHUNKS;
+import static reactor.netty.transport.ByteBufAllocatorMeters.ArenaAllocationsTags.SIZE_CLASS;
+import static reactor.netty.transport.ByteBufAllocatorMeters.ArenaChunksTags.ARENA;
+import static reactor.netty.transport.ByteBufAllocatorMeters.ArenaChunksTags.USAGE;
 import static reactor.netty.transport.ByteBufAllocatorMeters.ByteBufAllocatorMetersTags.ID;
 import static reactor.netty.transport.ByteBufAllocatorMeters.ByteBufAllocatorMetersTags.TYPE;
 import static reactor.netty.transport.ByteBufAllocatorMeters.CHUNK_SIZE;
@@ -51,6 +64,9 @@ final class ByteBufAllocatorMetrics {
 
 	static final ByteBufAllocatorMetrics INSTANCE = new ByteBufAllocatorMetrics();
 
+	static final boolean ARENA_METRICS =
+			Boolean.parseBoolean(System.getProperty(ReactorNetty.BYTE_BUF_ALLOCATOR_ARENA_METRICS, "false"));
+
 	final ConcurrentMap<String, ByteBufAllocatorMetric> cache = new ConcurrentHashMap<>();
 
 	private ByteBufAllocatorMetrics() {
@@ -103,9 +119,55 @@ final class ByteBufAllocatorMetrics {
 				Gauge.builder(ACTIVE_DIRECT_MEMORY.getName(), pooledAlloc, PooledByteBufAllocator::pinnedDirectMemory)
 				     .tags(tags)
 				     .register(REGISTRY);
+
+				if (ARENA_METRICS) {
+					registerArenaMetrics("heap-", pooledMetrics.heapArenas(), tags);
+					registerArenaMetrics("direct-", pooledMetrics.directArenas(), tags);
+				}
 			}
 
 			return metrics;
 		});
 	}
+
+	static void registerArenaMetrics(String prefix, List<PoolArenaMetric> arenas, Tags tags) {
+		for (int i = 0; i < arenas.size(); i++) {
+			PoolArenaMetric arena = arenas.get(i);
+			Tags arenaTags = tags.and(ARENA.asString(), prefix + i);
+
+			registerSizeClass(arena, arenaTags, "small",
+					PoolArenaMetric::numSmallAllocations, PoolArenaMetric::numActiveSmallAllocations);
+			registerSizeClass(arena, arenaTags, "normal",
+					PoolArenaMetric::numNormalAllocations, PoolArenaMetric::numActiveNormalAllocations);
+			registerSizeClass(arena, arenaTags, "huge",
+					PoolArenaMetric::numHugeAllocations, PoolArenaMetric::numActiveHugeAllocations);
+
+			for (PoolChunkListMetric chunkList : arena.chunkLists()) {
+				Gauge.builder(ARENA_CHUNKS.getName(), chunkList, ByteBufAllocatorMetrics::chunks)
+				     .tags(arenaTags.and(USAGE.asString(), chunkList.minUsage() + "-" + chunkList.maxUsage()))
+				     .register(REGISTRY);
+			}
+		}
+	}
+
+	static void registerSizeClass(PoolArenaMetric arena, Tags arenaTags, String sizeClass,
+			ToDoubleFunction<PoolArenaMetric> allocations, ToDoubleFunction<PoolArenaMetric> activeAllocations) {
+		Tags tags = arenaTags.and(SIZE_CLASS.asString(), sizeClass);
+
+		FunctionCounter.builder(ARENA_ALLOCATIONS.getName(), arena, allocations)
+		               .tags(tags)
+		               .register(REGISTRY);
+
+		Gauge.builder(ARENA_ACTIVE_ALLOCATIONS.getName(), arena, activeAllocations)
+		     .tags(tags)
+		     .register(REGISTRY);
+	}
+
+	static double chunks(PoolChunkListMetric chunkList) {
+		int count = 0;
+		for (PoolChunkMetric ignored : chunkList) {
+			count++;
+		}
+		return count;
+	}
 }
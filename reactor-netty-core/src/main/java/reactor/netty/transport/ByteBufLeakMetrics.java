@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetectorFactory;
+import reactor.netty.internal.util.Metrics;
+
+/**
+ * Reports the leaked resources found by the Netty sampled resource leak detection
+ * (see {@link ResourceLeakDetector.Level#SIMPLE}) as a counter in addition to the log lines.
+ * The counter {@code reactor.netty.bytebuf.allocator.leaks} is tagged with the resource type
+ * (e.g. {@code ByteBuf}). As only every {@code samplingInterval}-th resource is tracked,
+ * the leak rate can be estimated as the counter rate multiplied by the sampling interval.
+ * Every sampled leak is counted, also the leaks repeated from the same place, which are logged only once.
+ * <p><strong>Note:</strong> Netty creates the leak detector for {@link io.netty.buffer.ByteBuf} when the buffer
+ * classes are initialized, so this has to be enabled as early as possible, before any buffer is allocated.
+ *
+ * @since 1.3.3
+ */
+public final class ByteBufLeakMetrics {
+
+	/**
+	 * Enables the leak detection metrics with the sampling interval configured
+	 * via {@code io.netty.leakDetection.samplingInterval} (by default 128).
+	 */
+	public static void enable() {
+		enable(DEFAULT_SAMPLING_INTERVAL);
+	}
+
+	/**
+	 * Enables the leak detection metrics with the provided sampling interval.
+	 *
+	 * @param samplingInterval every {@code samplingInterval}-th resource is tracked for leaks, must be positive
+	 * @throws IllegalArgumentException if {@code samplingInterval} is not positive
+	 * @throws UnsupportedOperationException if Micrometer is not available on the class path
+	 */
+	public static void enable(int samplingInterval) {
+		if (samplingInterval < 1) {
+			throw new IllegalArgumentException("samplingInterval must be positive, provided: " + samplingInterval);
+		}
+		if (!Metrics.isMicrometerAvailable()) {
+			throw new UnsupportedOperationException(
+					"To enable metrics, you must add the dependency `io.micrometer:micrometer-core`" +
+							" to the class path first");
+		}
+		ResourceLeakDetectorFactory.setResourceLeakDetectorFactory(
+				new MicrometerResourceLeakDetectorFactory(samplingInterval));
+	}
+
+	static final int DEFAULT_SAMPLING_INTERVAL = Integer.getInteger("io.netty.leakDetection.samplingInterval", 128);
+
+	private ByteBufLeakMetrics() {
+	}
+}
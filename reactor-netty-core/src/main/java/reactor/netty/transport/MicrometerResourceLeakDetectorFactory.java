@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.micrometer.core.instrument.Counter;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetectorFactory;
+import io.netty.util.ResourceLeakHint;
+import io.netty.util.internal.StringUtil;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.transport.ByteBufAllocatorMeters.LEAKS;
+import static reactor.netty.transport.ByteBufAllocatorMeters.LeaksTags.RESOURCE_TYPE;
+
+/**
+ * {@link ResourceLeakDetectorFactory} that counts the leaks with Micrometer.
+ * The leaks are still logged, once per distinct access records as Netty does.
+ */
+final class MicrometerResourceLeakDetectorFactory extends ResourceLeakDetectorFactory {
+
+	final int samplingInterval;
+
+	MicrometerResourceLeakDetectorFactory(int samplingInterval) {
+		this.samplingInterval = samplingInterval;
+	}
+
+	@Override
+	public <T> ResourceLeakDetector<T> newResourceLeakDetector(Class<T> resource, int samplingInterval) {
+		// The configured sampling interval takes precedence over the Netty default one
+		return new MicrometerResourceLeakDetector<>(resource, this.samplingInterval);
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public <T> ResourceLeakDetector<T> newResourceLeakDetector(Class<T> resource, int samplingInterval, long maxActive) {
+		return new MicrometerResourceLeakDetector<>(resource, this.samplingInterval);
+	}
+
+	static final class MicrometerResourceLeakDetector<T> extends ResourceLeakDetector<T> {
+
+		static final String HINT_PREFIX = "reactor.netty.leak#";
+
+		static final Pattern HINT = Pattern.compile(Pattern.quote(HINT_PREFIX) + "\\d+");
+
+		final Counter leaks;
+		final AtomicLong hints = new AtomicLong();
+		final Set<String> logged = ConcurrentHashMap.newKeySet();
+
+		MicrometerResourceLeakDetector(Class<?> resourceType, int samplingInterval) {
+			super(resourceType, samplingInterval);
+			this.leaks = Counter.builder(LEAKS.getName())
+			                    .tags(RESOURCE_TYPE.asString(), StringUtil.simpleClassName(resourceType))
+			                    .register(REGISTRY);
+		}
+
+		@Override
+		protected Object getInitialHint(String resourceType) {
+			// Netty reports a leak only once per distinct access records, a unique hint per tracked resource
+			// makes the records distinct so that the leaks repeated from the same place are counted too
+			return new LeakHint(hints.incrementAndGet());
+		}
+
+		@Override
+		protected boolean needReport() {
+			// Count the leaks even when the error logging is disabled
+			return true;
+		}
+
+		@Override
+		protected void reportTracedLeak(String resourceType, String records) {
+			leaks.increment();
+			// The unique hint is not part of the key, the repeated leaks are logged once as Netty does
+			if (logged.add(HINT.matcher(records).replaceAll(""))) {
+				super.reportTracedLeak(resourceType, records);
+			}
+		}
+
+		@Override
+		protected void reportUntracedLeak(String resourceType) {
+			leaks.increment();
+			if (logged.add("")) {
+				super.reportUntracedLeak(resourceType);
+			}
+		}
+	}
+
+	static final class LeakHint implements ResourceLeakHint {
+
+		final long id;
+
+		LeakHint(long id) {
+			this.id = id;
+		}
+
+		@Override
+		public String toHintString() {
+			return MicrometerResourceLeakDetector.HINT_PREFIX + id;
+		}
+	}
+}
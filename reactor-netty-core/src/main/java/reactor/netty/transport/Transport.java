@@ -19,6 +19,7 @@ import java.net.SocketAddress;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.netty.buffer.ByteBuf;
@@ -35,6 +36,7 @@ import reactor.netty.DisposableChannel;
 import reactor.netty.channel.ChannelMetricsRecorder;
 import reactor.netty.internal.util.Metrics;
 import reactor.netty.transport.logging.AdvancedByteBufFormat;
+import reactor.netty.transport.logging.WiretapSpec;
 import reactor.netty.resources.LoopResources;
 import reactor.util.Logger;
 import reactor.util.Loggers;
@@ -379,6 +381,48 @@ public abstract class Transport<T extends Transport<T, C>, C extends TransportCo
 		return dup;
 	}
 
+	/**
+	 * Apply a wire logger configuration using the specific category (logger),
+	 * logger level, {@link ByteBuf} format, charset and {@link WiretapSpec} options.
+	 * The {@link WiretapSpec} options allow enabling the wire logger on live traffic by selecting
+	 * the connections to be logged, truncating the dumped content, rate limiting the log events and
+	 * emitting them on a different {@link java.util.concurrent.Executor}.
+	 * <p>For example:
+	 * <pre class="code">
+	 * wiretap("reactor.netty", LogLevel.DEBUG, AdvancedByteBufFormat.HEX_DUMP, StandardCharsets.UTF_8,
+	 *         spec -&gt; spec.channelFilter(ch -&gt; remoteAddress.equals(ch.remoteAddress()))
+	 *                     .maxBytes(256)
+	 *                     .maxEventsPerSecond(100));
+	 * </pre>
+	 *
+	 * @param category    the logger category
+	 * @param level       the logger level
+	 * @param format      the {@link ByteBuf} format
+	 * @param charset     the charset
+	 * @param wiretapSpec the {@link WiretapSpec} options
+	 * @return a new {@link Transport} reference
+	 * @since 1.3.3
+	 */
+	public final T wiretap(String category, LogLevel level, AdvancedByteBufFormat format, Charset charset,
+			Consumer<? super WiretapSpec.Builder> wiretapSpec) {
+		Objects.requireNonNull(category, "category");
+		Objects.requireNonNull(level, "level");
+		Objects.requireNonNull(format, "format");
+		Objects.requireNonNull(charset, "charset");
+		Objects.requireNonNull(wiretapSpec, "wiretapSpec");
+		WiretapSpec.Builder builder = WiretapSpec.builder();
+		wiretapSpec.accept(builder);
+		LoggingHandler loggingHandler = format.toLoggingHandler(category, level, charset, builder.build());
+		if (loggingHandler.equals(configuration().loggingHandler)) {
+			@SuppressWarnings("unchecked")
+			T dup = (T) this;
+			return dup;
+		}
+		T dup = duplicate();
+		dup.configuration().loggingHandler = loggingHandler;
+		return dup;
+	}
+
 	/**
 	 * Return a new {@link Transport} inheriting the current configuration.
 	 * This is a shallow copy.
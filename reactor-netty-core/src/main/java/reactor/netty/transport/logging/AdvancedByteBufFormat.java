@@ -21,6 +21,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Used to control the format and verbosity of logging for {@link ByteBuf}s and {@link ByteBufHolder}s.
@@ -102,13 +103,27 @@ public enum AdvancedByteBufFormat {
 	 * @return a new {@link LoggingHandler} reference
 	 */
 	public LoggingHandler toLoggingHandler(String category, LogLevel level, Charset charset) {
+		return toLoggingHandler(category, level, charset, null);
+	}
+
+	/**
+	 * Creates the matching LoggingHandler regarding the format and the wiretap options.
+	 *
+	 * @param category    the logger category
+	 * @param level       the logger level
+	 * @param charset     the charset (only relevant for {@link AdvancedByteBufFormat#TEXTUAL})
+	 * @param wiretapSpec the wiretap options, {@code null} means that the events are neither filtered nor limited
+	 * @return a new {@link LoggingHandler} reference
+	 * @since 1.3.3
+	 */
+	public LoggingHandler toLoggingHandler(String category, LogLevel level, Charset charset, @Nullable WiretapSpec wiretapSpec) {
 		switch (this) {
 			case SIMPLE:
-				return new ReactorNettyLoggingHandler(category, level, SIMPLE);
+				return new ReactorNettyLoggingHandler(category, level, SIMPLE, wiretapSpec);
 			case HEX_DUMP:
-				return new ReactorNettyLoggingHandler(category, level, HEX_DUMP);
+				return new ReactorNettyLoggingHandler(category, level, HEX_DUMP, wiretapSpec);
 			default:
-				return new ReactorNettyLoggingHandler(category, level, charset);
+				return new ReactorNettyLoggingHandler(category, level, charset, wiretapSpec);
 		}
 	}
 }
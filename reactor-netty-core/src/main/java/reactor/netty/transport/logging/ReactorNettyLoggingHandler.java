@@ -15,13 +15,20 @@
  */
 package reactor.netty.transport.logging;
 
+import java.net.SocketAddress;
 import java.nio.charset.Charset;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.logging.ByteBufFormat;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
@@ -44,6 +51,9 @@ import static reactor.netty.transport.logging.AdvancedByteBufFormat.TEXTUAL;
  * textual representation, so it's human readable and less verbose.
  * <p>
  * Hint: Logger escapes newlines as "\n" to reduce output.
+ * <p>
+ * When a {@link WiretapSpec} is provided, the events are filtered per connection, rate limited
+ * and the dumped content is truncated according to it.
  *
  * @author Maximilian Goeke
  * @author Violeta Georgieva
@@ -54,6 +64,12 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 	private final AdvancedByteBufFormat byteBufFormat;
 	private final @Nullable Charset charset;
 	private final String name;
+	private final @Nullable WiretapSpec wiretapSpec;
+
+	// Token bucket implemented as a generic cell rate algorithm, holds the theoretical arrival time in nanoseconds
+	private final @Nullable AtomicLong theoreticalArrivalTime;
+	private final long emissionIntervalNanos;
+	private final @Nullable LongAdder droppedEvents;
 
 	/**
 	 * Creates a new instance with the specified logger name, level and byte buffer format.
@@ -63,10 +79,27 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 	 * @param byteBufFormat the byte buffer format
 	 */
 	ReactorNettyLoggingHandler(String name, LogLevel level, AdvancedByteBufFormat byteBufFormat) {
+		this(name, level, byteBufFormat, null);
+	}
+
+	/**
+	 * Creates a new instance with the specified logger name, level, byte buffer format and wiretap options.
+	 *
+	 * @param name          the name of the class to use for the logger
+	 * @param level         the log level
+	 * @param byteBufFormat the byte buffer format
+	 * @param wiretapSpec   the wiretap options
+	 */
+	ReactorNettyLoggingHandler(String name, LogLevel level, AdvancedByteBufFormat byteBufFormat, @Nullable WiretapSpec wiretapSpec) {
 		super(name, level, byteBufFormat == SIMPLE ? ByteBufFormat.SIMPLE : ByteBufFormat.HEX_DUMP);
 		this.byteBufFormat = byteBufFormat;
 		this.charset = null;
 		this.name = name;
+		this.wiretapSpec = wiretapSpec;
+		int maxEventsPerSecond = wiretapSpec != null ? wiretapSpec.maxEventsPerSecond : -1;
+		this.theoreticalArrivalTime = maxEventsPerSecond > 0 ? new AtomicLong(System.nanoTime()) : null;
+		this.emissionIntervalNanos = maxEventsPerSecond > 0 ? ONE_SECOND_NANOS / maxEventsPerSecond : 0;
+		this.droppedEvents = maxEventsPerSecond > 0 ? new LongAdder() : null;
 	}
 
 	/**
@@ -78,10 +111,28 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 	 * @param charset the charset used to decode the ByteBuf
 	 */
 	ReactorNettyLoggingHandler(final String name, final LogLevel level, final Charset charset) {
+		this(name, level, charset, null);
+	}
+
+	/**
+	 * Creates a new instance with the specified logger name, level, charset and wiretap options.
+	 * The byte buffer format is {@link AdvancedByteBufFormat#TEXTUAL}
+	 *
+	 * @param name        the name of the class to use for the logger
+	 * @param level       the log level
+	 * @param charset     the charset used to decode the ByteBuf
+	 * @param wiretapSpec the wiretap options
+	 */
+	ReactorNettyLoggingHandler(final String name, final LogLevel level, final Charset charset, @Nullable WiretapSpec wiretapSpec) {
 		super(name, level);
 		this.byteBufFormat = TEXTUAL;
 		this.charset = requireNonNull(charset, "charset");
 		this.name = name;
+		this.wiretapSpec = wiretapSpec;
+		int maxEventsPerSecond = wiretapSpec != null ? wiretapSpec.maxEventsPerSecond : -1;
+		this.theoreticalArrivalTime = maxEventsPerSecond > 0 ? new AtomicLong(System.nanoTime()) : null;
+		this.emissionIntervalNanos = maxEventsPerSecond > 0 ? ONE_SECOND_NANOS / maxEventsPerSecond : 0;
+		this.droppedEvents = maxEventsPerSecond > 0 ? new LongAdder() : null;
 	}
 
 	/*
@@ -111,7 +162,8 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 		return byteBufFormat == that.byteBufFormat &&
 				Objects.equals(charset, that.charset) &&
 				level() == that.level() &&
-				name.equals(that.name);
+				name.equals(that.name) &&
+				Objects.equals(wiretapSpec, that.wiretapSpec);
 	}
 
 	@Override
@@ -121,9 +173,270 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 		result = 31 * result + Objects.hashCode(charset);
 		result = 31 * result + Objects.hashCode(level());
 		result = 31 * result + Objects.hashCode(name);
+		result = 31 * result + Objects.hashCode(wiretapSpec);
 		return result;
 	}
 
+	@Override
+	public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+		if (wiretapSpec == null) {
+			super.channelRegistered(ctx);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "REGISTERED"));
+		}
+		ctx.fireChannelRegistered();
+	}
+
+	@Override
+	public void channelUnregistered(ChannelHandlerContext ctx) throws Exception {
+		if (wiretapSpec == null) {
+			super.channelUnregistered(ctx);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "UNREGISTERED"));
+		}
+		ctx.fireChannelUnregistered();
+	}
+
+	@Override
+	public void channelActive(ChannelHandlerContext ctx) throws Exception {
+		if (wiretapSpec == null) {
+			super.channelActive(ctx);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "ACTIVE"));
+		}
+		ctx.fireChannelActive();
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+		if (wiretapSpec == null) {
+			super.channelInactive(ctx);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "INACTIVE"));
+		}
+		ctx.fireChannelInactive();
+	}
+
+	@Override
+	public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+		if (wiretapSpec == null) {
+			super.exceptionCaught(ctx, cause);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "EXCEPTION", cause), cause);
+		}
+		ctx.fireExceptionCaught(cause);
+	}
+
+	@Override
+	public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+		if (wiretapSpec == null) {
+			super.userEventTriggered(ctx, evt);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "USER_EVENT", evt));
+		}
+		ctx.fireUserEventTriggered(evt);
+	}
+
+	@Override
+	public void bind(ChannelHandlerContext ctx, SocketAddress localAddress, ChannelPromise promise) throws Exception {
+		if (wiretapSpec == null) {
+			super.bind(ctx, localAddress, promise);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "BIND", localAddress));
+		}
+		ctx.bind(localAddress, promise);
+	}
+
+	@Override
+	public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, @Nullable SocketAddress localAddress,
+			ChannelPromise promise) throws Exception {
+		if (wiretapSpec == null) {
+			super.connect(ctx, remoteAddress, localAddress, promise);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "CONNECT", remoteAddress, localAddress));
+		}
+		ctx.connect(remoteAddress, localAddress, promise);
+	}
+
+	@Override
+	public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+		if (wiretapSpec == null) {
+			super.disconnect(ctx, promise);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "DISCONNECT"));
+		}
+		ctx.disconnect(promise);
+	}
+
+	@Override
+	public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+		if (wiretapSpec == null) {
+			super.close(ctx, promise);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "CLOSE"));
+		}
+		ctx.close(promise);
+	}
+
+	@Override
+	public void deregister(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+		if (wiretapSpec == null) {
+			super.deregister(ctx, promise);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "DEREGISTER"));
+		}
+		ctx.deregister(promise);
+	}
+
+	@Override
+	public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+		if (wiretapSpec == null) {
+			super.channelReadComplete(ctx);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "READ COMPLETE"));
+		}
+		ctx.fireChannelReadComplete();
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+		if (wiretapSpec == null) {
+			super.channelRead(ctx, msg);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "READ", msg));
+		}
+		ctx.fireChannelRead(msg);
+	}
+
+	@Override
+	public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+		if (wiretapSpec == null) {
+			super.write(ctx, msg, promise);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "WRITE", msg));
+		}
+		ctx.write(msg, promise);
+	}
+
+	@Override
+	public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+		if (wiretapSpec == null) {
+			super.channelWritabilityChanged(ctx);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "WRITABILITY CHANGED"));
+		}
+		ctx.fireChannelWritabilityChanged();
+	}
+
+	@Override
+	public void flush(ChannelHandlerContext ctx) throws Exception {
+		if (wiretapSpec == null) {
+			super.flush(ctx);
+			return;
+		}
+		if (accept(ctx)) {
+			emit(format(ctx, "FLUSH"));
+		}
+		ctx.flush();
+	}
+
+	/*
+	 * Checks (in this order) whether the logger is enabled, whether the connection is selected
+	 * and whether the rate limit allows this event.
+	 */
+	private boolean accept(ChannelHandlerContext ctx) {
+		if (!logger.isEnabled(internalLevel)) {
+			return false;
+		}
+		WiretapSpec spec = requireNonNull(wiretapSpec);
+		Predicate<? super Channel> channelFilter = spec.channelFilter;
+		if (channelFilter != null && !channelFilter.test(ctx.channel())) {
+			return false;
+		}
+		return tryAcquire();
+	}
+
+	private boolean tryAcquire() {
+		AtomicLong tat = theoreticalArrivalTime;
+		if (tat == null) {
+			return true;
+		}
+		long now = System.nanoTime();
+		for (;;) {
+			long current = tat.get();
+			long next = Math.max(current, now) + emissionIntervalNanos;
+			if (next - now > ONE_SECOND_NANOS) {
+				requireNonNull(droppedEvents).increment();
+				return false;
+			}
+			if (tat.compareAndSet(current, next)) {
+				return true;
+			}
+		}
+	}
+
+	private void emit(String message) {
+		emit(message, null);
+	}
+
+	private void emit(String message, @Nullable Throwable cause) {
+		String msg = message;
+		LongAdder dropped = droppedEvents;
+		if (dropped != null) {
+			long count = dropped.sumThenReset();
+			if (count > 0) {
+				msg = message + " (" + count + " events dropped)";
+			}
+		}
+		Executor sink = requireNonNull(wiretapSpec).sink;
+		if (sink == null) {
+			log(msg, cause);
+		}
+		else {
+			String finalMsg = msg;
+			sink.execute(() -> log(finalMsg, cause));
+		}
+	}
+
+	private void log(String message, @Nullable Throwable cause) {
+		if (cause == null) {
+			logger.log(internalLevel, message);
+		}
+		else {
+			logger.log(internalLevel, message, cause);
+		}
+	}
+
 	@Override
 	protected String format(ChannelHandlerContext ctx, String eventName) {
 		String chStr = channelString(ctx.channel());
@@ -214,15 +527,16 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 					.toString();
 		}
 		else {
+			int dumpLength = dumpLength(length);
 			int outputLength = chStr.length() + 1 + eventName.length() + 2 + 10 + 1;
 			String message = "";
 			if (byteBufFormat == HEX_DUMP) {
-				int rows = length / 16 + (length % 15 == 0 ? 0 : 1) + 4;
+				int rows = dumpLength / 16 + (dumpLength % 15 == 0 ? 0 : 1) + 4;
 				int hexDumpLength = 2 + rows * 80;
 				outputLength += hexDumpLength;
 			}
 			else if (byteBufFormat == TEXTUAL) {
-				message = msg.toString(charset);
+				message = msg.toString(msg.readerIndex(), dumpLength, requireNonNull(charset));
 				outputLength += message.length() + 1;
 			}
 			StringBuilder buf = new StringBuilder(outputLength)
@@ -232,9 +546,12 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 					.append(": ")
 					.append(length)
 					.append('B');
+			if (dumpLength < length) {
+				buf.append(TRUNCATED_PREFIX).append(dumpLength).append(TRUNCATED_SUFFIX);
+			}
 			if (byteBufFormat == HEX_DUMP) {
 				buf.append(NEWLINE);
-				appendPrettyHexDump(buf, msg);
+				appendPrettyHexDump(buf, msg, msg.readerIndex(), dumpLength);
 			}
 			else if (byteBufFormat == TEXTUAL) {
 				buf.append(' ').append(message);
@@ -260,11 +577,12 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 					.toString();
 		}
 		else {
+			int dumpLength = dumpLength(length);
 			StringBuilder buf;
 			if (byteBufFormat != TEXTUAL) {
 				int outputLength = chStr.length() + 1 + eventName.length() + 2 + msgStr.length() + 2 + 10 + 1;
 				if (byteBufFormat == HEX_DUMP) {
-					int rows = length / 16 + (length % 15 == 0 ? 0 : 1) + 4;
+					int rows = dumpLength / 16 + (dumpLength % 15 == 0 ? 0 : 1) + 4;
 					int hexDumpLength = 2 + rows * 80;
 					outputLength += hexDumpLength;
 				}
@@ -277,13 +595,16 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 						.append(", ")
 						.append(length)
 						.append('B');
+				if (dumpLength < length) {
+					buf.append(TRUNCATED_PREFIX).append(dumpLength).append(TRUNCATED_SUFFIX);
+				}
 				if (byteBufFormat == HEX_DUMP) {
 					buf.append(NEWLINE);
-					appendPrettyHexDump(buf, content);
+					appendPrettyHexDump(buf, content, content.readerIndex(), dumpLength);
 				}
 			}
 			else {
-				String message = content.toString(charset);
+				String message = content.toString(content.readerIndex(), dumpLength, requireNonNull(charset));
 				int outputLength = chStr.length() + 1 + eventName.length() + 2 + 10 + 2 + message.length();
 				buf = new StringBuilder(outputLength)
 						.append(chStr)
@@ -291,14 +612,23 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 						.append(eventName)
 						.append(": ")
 						.append(length)
-						.append("B ")
-						.append(message);
+						.append('B');
+				if (dumpLength < length) {
+					buf.append(TRUNCATED_PREFIX).append(dumpLength).append(TRUNCATED_SUFFIX);
+				}
+				buf.append(' ')
+				   .append(message);
 			}
 
 			return buf.toString();
 		}
 	}
 
+	private int dumpLength(int length) {
+		int maxBytes = wiretapSpec != null ? wiretapSpec.maxBytes : -1;
+		return maxBytes > 0 ? Math.min(length, maxBytes) : length;
+	}
+
 	private static String formatSimple(ChannelHandlerContext ctx, String eventName, Object msg) {
 		String chStr = channelString(ctx.channel());
 		String msgStr = String.valueOf(msg);
@@ -316,4 +646,7 @@ final class ReactorNettyLoggingHandler extends LoggingHandler {
 	static final String ORIGINAL_CHANNEL_ID_PREFIX = "[id: 0x";
 	static final int ORIGINAL_CHANNEL_ID_PREFIX_LENGTH = ORIGINAL_CHANNEL_ID_PREFIX.length();
 	static final char TRACE_ID_PREFIX = '(';
+	static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+	static final String TRUNCATED_PREFIX = " (truncated to ";
+	static final String TRUNCATED_SUFFIX = "B)";
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport.logging;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * A configuration builder to limit the overhead of the wire logger,
+ * so that it can be enabled selectively on live traffic.
+ *
+ * @since 1.3.3
+ */
+public final class WiretapSpec {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link WiretapSpec}.
+		 *
+		 * @return a new {@link WiretapSpec}
+		 */
+		WiretapSpec build();
+
+		/**
+		 * Configures a predicate that selects the connections for which the events are logged,
+		 * for example by remote address or by SNI. The predicate is invoked for every event that
+		 * would be logged, so it is expected to be cheap.
+		 * By default, all connections are logged.
+		 *
+		 * @param channelFilter the predicate that returns {@code true} if the events for the given {@link Channel}
+		 * should be logged, {@code false} otherwise
+		 * @return {@code this}
+		 */
+		Builder channelFilter(Predicate<? super Channel> channelFilter);
+
+		/**
+		 * Configures the maximum number of bytes of a {@link ByteBuf} content that are dumped per message.
+		 * The size of the message is always logged, only the dumped content is truncated.
+		 * By default, the content is not truncated.
+		 *
+		 * @param maxBytes the maximum number of bytes dumped per message, must be positive
+		 * @return {@code this}
+		 */
+		Builder maxBytes(int maxBytes);
+
+		/**
+		 * Configures the maximum number of events logged per second. The limit is enforced with a token bucket
+		 * shared by all connections that use this wire logger configuration, with a capacity of one second worth of events.
+		 * The number of the dropped events is reported with the next logged event.
+		 * By default, the events are not rate limited.
+		 *
+		 * @param maxEventsPerSecond the maximum number of events logged per second, must be positive
+		 * @return {@code this}
+		 */
+		Builder maxEventsPerSecond(int maxEventsPerSecond);
+
+		/**
+		 * Configures an {@link Executor} that is used to emit the log events. The event is still formatted
+		 * on the event loop (the content might be released afterwards), but the logger invocation
+		 * is offloaded to the provided {@link Executor}.
+		 * By default, the log events are emitted on the event loop.
+		 *
+		 * @param sink the {@link Executor} used to emit the log events
+		 * @return {@code this}
+		 */
+		Builder sink(Executor sink);
+	}
+
+	/**
+	 * Creates a builder for {@link WiretapSpec}.
+	 *
+	 * @return a new {@link WiretapSpec.Builder}
+	 */
+	public static Builder builder() {
+		return new Build();
+	}
+
+	/**
+	 * Returns the configured predicate that selects the connections for which the events are logged or null.
+	 *
+	 * @return the configured predicate that selects the connections for which the events are logged or null
+	 */
+	public @Nullable Predicate<? super Channel> channelFilter() {
+		return channelFilter;
+	}
+
+	/**
+	 * Returns the configured maximum number of bytes dumped per message or -1 when not limited.
+	 *
+	 * @return the configured maximum number of bytes dumped per message or -1 when not limited
+	 */
+	public int maxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Returns the configured maximum number of events logged per second or -1 when not limited.
+	 *
+	 * @return the configured maximum number of events logged per second or -1 when not limited
+	 */
+	public int maxEventsPerSecond() {
+		return maxEventsPerSecond;
+	}
+
+	/**
+	 * Returns the configured {@link Executor} used to emit the log events or null.
+	 *
+	 * @return the configured {@link Executor} used to emit the log events or null
+	 */
+	public @Nullable Executor sink() {
+		return sink;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof WiretapSpec)) {
+			return false;
+		}
+		WiretapSpec that = (WiretapSpec) o;
+		return maxBytes == that.maxBytes &&
+				maxEventsPerSecond == that.maxEventsPerSecond &&
+				Objects.equals(channelFilter, that.channelFilter) &&
+				Objects.equals(sink, that.sink);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		result = 31 * result + Objects.hashCode(channelFilter);
+		result = 31 * result + maxBytes;
+		result = 31 * result + maxEventsPerSecond;
+		result = 31 * result + Objects.hashCode(sink);
+		return result;
+	}
+
+	final @Nullable Predicate<? super Channel> channelFilter;
+	final int maxBytes;
+	final int maxEventsPerSecond;
+	final @Nullable Executor sink;
+
+	WiretapSpec(Build build) {
+		this.channelFilter = build.channelFilter;
+		this.maxBytes = build.maxBytes;
+		this.maxEventsPerSecond = build.maxEventsPerSecond;
+		this.sink = build.sink;
+	}
+
+	static final class Build implements Builder {
+
+		@Nullable Predicate<? super Channel> channelFilter;
+		int maxBytes = -1;
+		int maxEventsPerSecond = -1;
+		@Nullable Executor sink;
+
+		@Override
+		public WiretapSpec build() {
+			return new WiretapSpec(this);
+		}
+
+		@Override
+		public Builder channelFilter(Predicate<? super Channel> channelFilter) {
+			this.channelFilter = Objects.requireNonNull(channelFilter, "channelFilter");
+			return this;
+		}
+
+		@Override
+		public Builder maxBytes(int maxBytes) {
+			if (maxBytes < 1) {
+				throw new IllegalArgumentException("maxBytes must be positive");
+			}
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		@Override
+		public Builder maxEventsPerSecond(int maxEventsPerSecond) {
+			if (maxEventsPerSecond < 1) {
+				throw new IllegalArgumentException("maxEventsPerSecond must be positive");
+			}
+			this.maxEventsPerSecond = maxEventsPerSecond;
+			return this;
+		}
+
+		@Override
+		public Builder sink(Executor sink) {
+			this.sink = Objects.requireNonNull(sink, "sink");
+			return this;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	@Test
+	void rejectBeyondLimit() {
+		AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+		AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+		AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+		assertThat(first).isNotNull();
+		assertThat(second).isNotNull();
+		assertThat(limiter.tryAcquire()).isNull();
+
+		first.cancel();
+		first.cancel();
+		assertThat(limiter.inFlight.get()).isEqualTo(1);
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void limitShrinksWhenRttIncreases() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+		for (int i = 0; i < 100; i++) {
+			limiter.onSample(1_000_000, 1000);
+		}
+		int stable = limiter.limit();
+		assertThat(stable).isGreaterThanOrEqualTo(20);
+
+		for (int i = 0; i < 10; i++) {
+			limiter.onSample(10_000_000, 1000);
+		}
+		assertThat(limiter.limit()).isLessThan(stable);
+	}
+
+	@Test
+	void limitIsKeptWhenNotExercised() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+		for (int i = 0; i < 100; i++) {
+			limiter.onSample(1_000_000, 1);
+		}
+		assertThat(limiter.limit()).isEqualTo(20);
+	}
+
+	@Test
+	void limitShrinksOnDrop() {
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+		assertThat(permit).isNotNull();
+
+		permit.dropped();
+		assertThat(limiter.limit()).isEqualTo(18);
+		assertThat(limiter.inFlight.get()).isEqualTo(0);
+
+		for (int i = 0; i < 100; i++) {
+			limiter.onDropped();
+		}
+		assertThat(limiter.limit()).isEqualTo(1);
+	}
+
+	@Test
+	void oneCloseListenerPerConnection() {
+		ChannelFuture closeFuture = Mockito.mock(ChannelFuture.class);
+		EmbeddedChannel channel = new EmbeddedChannel() {
+			@Override
+			public ChannelFuture closeFuture() {
+				return closeFuture;
+			}
+		};
+		Connection connection = Connection.from(channel);
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+		for (int i = 0; i < 1000; i++) {
+			AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+			assertThat(permit).isNotNull();
+			permit.onStateChange(connection, ConnectionObserver.State.CONFIGURED);
+			permit.onStateChange(connection, ConnectionObserver.State.RELEASED);
+		}
+
+		Mockito.verify(closeFuture, Mockito.times(1)).addListener(Mockito.any());
+		assertThat(limiter.inFlight.get()).isEqualTo(0);
+		assertThat(channel.attr(AdaptiveConcurrencyLimiter.PERMIT).get()).isNull();
+	}
+
+	@Test
+	void closeReleasesCurrentPermit() {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		Connection connection = Connection.from(channel);
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+		for (int i = 0; i < 10; i++) {
+			AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+			assertThat(permit).isNotNull();
+			permit.onStateChange(connection, ConnectionObserver.State.CONFIGURED);
+			permit.onStateChange(connection, ConnectionObserver.State.RELEASED);
+		}
+
+		AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+		assertThat(permit).isNotNull();
+		permit.onStateChange(connection, ConnectionObserver.State.CONFIGURED);
+		assertThat(limiter.inFlight.get()).isEqualTo(1);
+
+		channel.close();
+		assertThat(limiter.inFlight.get()).isEqualTo(0);
+		assertThat(permit.released.get()).isTrue();
+	}
+
+	@Test
+	void invalidLimits() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> ConnectionProvider.builder("test")
+				                                    .adaptiveConcurrency(spec -> spec.minLimit(10).initialLimit(5)));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> ConnectionProvider.builder("test")
+				                                    .adaptiveConcurrency(spec -> spec.rttTolerance(0.5)));
+	}
+
+	static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+		ConnectionProvider.AdaptiveConcurrencySpec spec = new ConnectionProvider.AdaptiveConcurrencySpec();
+		spec.initialLimit(initialLimit);
+		return new AdaptiveConcurrencyLimiter(spec);
+	}
+}
@@ -73,6 +73,7 @@ import reactor.netty.transport.NameResolverProvider;
 import reactor.pool.AllocationStrategy;
 import reactor.pool.InstrumentedPool;
 import reactor.pool.PoolAcquirePendingLimitException;
+import reactor.pool.PoolBuilder;
 import reactor.pool.PoolConfig;
 import reactor.pool.PoolMetricsRecorder;
 import reactor.pool.PooledRef;
@@ -82,6 +83,7 @@ import reactor.test.StepVerifier;
 import reactor.test.scheduler.VirtualTimeScheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.awaitility.Awaitility.await;
 
 class DefaultPooledConnectionProviderTest {
@@ -545,6 +547,129 @@ class DefaultPooledConnectionProviderTest {
 		}
 	}
 
+	@Test
+	void minIdleOpensConnectionsInBackground() {
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("minIdleOpensConnectionsInBackground")
+				                                                    .maxConnections(5)
+				                                                    .minIdle(3)
+				                                                    .build();
+
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .port(0)
+				         .wiretap(true)
+				         .bindNow();
+
+		Connection connection = null;
+		try {
+			connection =
+					TcpClient.create(provider)
+					         .port(disposableServer.port())
+					         .wiretap(true)
+					         .connectNow();
+
+			assertThat(provider.channelPools).hasSize(1);
+
+			InstrumentedPool<DefaultPooledConnectionProvider.PooledConnection> channelPool =
+					provider.channelPools.values().iterator().next();
+			await().atMost(5, TimeUnit.SECONDS)
+			       .with()
+			       .pollInterval(10, TimeUnit.MILLISECONDS)
+			       .untilAsserted(() -> assertThat(channelPool.metrics().idleSize()).isEqualTo(3));
+			assertThat(channelPool.metrics().acquiredSize()).isEqualTo(1);
+		}
+		finally {
+			if (connection != null) {
+				connection.disposeNow();
+			}
+			disposableServer.disposeNow();
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+		}
+	}
+
+	@Test
+	void minIdleKeepsMaxIdleTimeEviction() {
+		DefaultPooledConnectionProvider provider =
+				(DefaultPooledConnectionProvider) ConnectionProvider.builder("minIdleKeepsMaxIdleTimeEviction")
+				                                                    .maxConnections(5)
+				                                                    .minIdle(2)
+				                                                    .maxIdleTime(Duration.ofMillis(300))
+				                                                    .evictInBackground(Duration.ofMillis(50))
+				                                                    .build();
+
+		AtomicInteger connections = new AtomicInteger();
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .port(0)
+				         .doOnConnection(conn -> connections.incrementAndGet())
+				         .wiretap(true)
+				         .bindNow();
+
+		Connection connection = null;
+		try {
+			connection =
+					TcpClient.create(provider)
+					         .port(disposableServer.port())
+					         .wiretap(true)
+					         .connectNow();
+
+			assertThat(provider.channelPools).hasSize(1);
+
+			InstrumentedPool<DefaultPooledConnectionProvider.PooledConnection> channelPool =
+					provider.channelPools.values().iterator().next();
+			// The idle connections are not acquired by the maintenance, they are evicted once idle for too long
+			// and replaced with new ones: 1 acquired connection, 2 idle connections and at least 2 replacements
+			await().atMost(5, TimeUnit.SECONDS)
+			       .with()
+			       .pollInterval(10, TimeUnit.MILLISECONDS)
+			       .untilAsserted(() -> assertThat(connections.get()).isGreaterThanOrEqualTo(5));
+			await().atMost(5, TimeUnit.SECONDS)
+			       .with()
+			       .pollInterval(10, TimeUnit.MILLISECONDS)
+			       .untilAsserted(() -> assertThat(channelPool.metrics().idleSize()).isEqualTo(2));
+			assertThat(channelPool.metrics().acquiredSize()).isEqualTo(1);
+		}
+		finally {
+			if (connection != null) {
+				connection.disposeNow();
+			}
+			disposableServer.disposeNow();
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+		}
+	}
+
+	@Test
+	void minIdlePermitsAreGrantedOnlyToTheMaintenanceWarmup() {
+		PooledConnectionProvider.PoolFactory.MinIdleAllocationStrategy strategy =
+				new PooledConnectionProvider.PoolFactory.MinIdleAllocationStrategy(
+						PooledConnectionProvider.PoolFactory.sizeBetween(3));
+		InstrumentedPool<Object> pool =
+				PoolBuilder.from(Mono.fromSupplier(Object::new))
+				           .allocationStrategy(strategy)
+				           .buildPool();
+
+		// A warmup from the application does not open idle connections
+		assertThat(pool.warmup().block(Duration.ofSeconds(5))).isEqualTo(0);
+		assertThat(strategy.getPermits(0)).isEqualTo(0);
+
+		assertThat(strategy.openIdle(pool, 2).block(Duration.ofSeconds(5))).isEqualTo(2);
+		assertThat(pool.metrics().idleSize()).isEqualTo(2);
+
+		// The grant is consumed, the maximum is enforced by the reactor-pool strategy
+		assertThat(pool.warmup().block(Duration.ofSeconds(5))).isEqualTo(0);
+		assertThat(strategy.openIdle(pool, 2).block(Duration.ofSeconds(5))).isEqualTo(1);
+		assertThat(pool.metrics().allocatedSize()).isEqualTo(3);
+	}
+
+	@Test
+	void minIdleMustNotBeNegative() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> ConnectionProvider.builder("minIdleMustNotBeNegative").minIdle(-1));
+	}
+
 	@Test
 	void testIssue3316() throws ExecutionException, InterruptedException {
 		DisposableServer disposableServer =
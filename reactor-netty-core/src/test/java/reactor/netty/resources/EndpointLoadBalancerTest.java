@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class EndpointLoadBalancerTest {
+
+	static final InetSocketAddress HOST = InetSocketAddress.createUnresolved("example.com", 80);
+
+	@Test
+	void endpointsKeepHostName() throws UnknownHostException {
+		List<InetSocketAddress> endpoints = EndpointLoadBalancer.endpoints(HOST, Arrays.asList(
+				new InetSocketAddress(InetAddress.getByAddress(new byte[] {10, 0, 0, 1}), 80),
+				new InetSocketAddress(InetAddress.getByAddress(new byte[] {10, 0, 0, 1}), 80),
+				new InetSocketAddress(InetAddress.getByAddress(new byte[] {10, 0, 0, 2}), 80)));
+
+		assertThat(endpoints).hasSize(2);
+		assertThat(endpoints).allSatisfy(endpoint -> {
+			assertThat(endpoint.getHostString()).isEqualTo("example.com");
+			assertThat(endpoint.isUnresolved()).isFalse();
+		});
+
+		assertThatExceptionOfType(UnknownHostException.class)
+				.isThrownBy(() -> EndpointLoadBalancer.endpoints(HOST, Arrays.asList(HOST)));
+	}
+
+	@Test
+	void chooseLeastOutstanding() throws UnknownHostException {
+		EndpointLoadBalancer balancer = new EndpointLoadBalancer(new ConnectionProvider.LoadBalancingSpec());
+		EndpointLoadBalancer.Endpoints endpoints = endpoints(balancer, 2);
+
+		Map<SocketAddress, Integer> outstanding = new HashMap<>();
+		outstanding.put(endpoints.list.get(0).address, 10);
+		outstanding.put(endpoints.list.get(1).address, 1);
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(balancer.choose(endpoints.list, outstanding::get, System.nanoTime()))
+					.isSameAs(endpoints.list.get(1));
+		}
+	}
+
+	@Test
+	void ejectConsecutiveFailures() throws UnknownHostException {
+		EndpointLoadBalancer balancer = new EndpointLoadBalancer(
+				new ConnectionProvider.LoadBalancingSpec().consecutiveFailures(2).maxEjectionPercent(50));
+		EndpointLoadBalancer.Endpoints endpoints = endpoints(balancer, 2);
+		EndpointLoadBalancer.Endpoint first = endpoints.list.get(0);
+		EndpointLoadBalancer.Endpoint second = endpoints.list.get(1);
+
+		balancer.onError(first, HOST, new IOException());
+		balancer.onSuccess(first);
+		balancer.onError(first, HOST, new IOException());
+		assertThat(first.isEjected(System.nanoTime())).isFalse();
+
+		balancer.onError(first, HOST, new IllegalStateException());
+		assertThat(first.isEjected(System.nanoTime())).isFalse();
+
+		balancer.onError(first, HOST, new IOException());
+		assertThat(first.isEjected(System.nanoTime())).isTrue();
+		for (int i = 0; i < 10; i++) {
+			assertThat(balancer.choose(endpoints.list, address -> 0, System.nanoTime())).isSameAs(second);
+		}
+
+		// At most 50% of the addresses can be ejected
+		balancer.onError(second, HOST, new IOException());
+		balancer.onError(second, HOST, new IOException());
+		assertThat(second.isEjected(System.nanoTime())).isFalse();
+	}
+
+	@Test
+	void updateKeepsOutlierState() throws UnknownHostException {
+		EndpointLoadBalancer balancer = new EndpointLoadBalancer(new ConnectionProvider.LoadBalancingSpec());
+		EndpointLoadBalancer.Endpoints endpoints = endpoints(balancer, 2);
+		EndpointLoadBalancer.Endpoint first = endpoints.list.get(0);
+		first.failures.set(3);
+
+		endpoints.update(Arrays.asList(first.address), System.nanoTime());
+
+		assertThat(endpoints.list).containsExactly(first);
+		assertThat(first.failures.get()).isEqualTo(3);
+	}
+
+	static EndpointLoadBalancer.Endpoints endpoints(EndpointLoadBalancer balancer, int count) throws UnknownHostException {
+		InetSocketAddress[] addresses = new InetSocketAddress[count];
+		for (int i = 0; i < count; i++) {
+			addresses[i] = new InetSocketAddress(
+					InetAddress.getByAddress(HOST.getHostString(), new byte[] {10, 0, 0, (byte) (i + 1)}), HOST.getPort());
+		}
+		EndpointLoadBalancer.Endpoints endpoints = balancer.endpointsPerHost.computeIfAbsent(HOST, k -> new EndpointLoadBalancer.Endpoints());
+		endpoints.update(Arrays.asList(addresses), System.nanoTime());
+		return endpoints;
+	}
+}
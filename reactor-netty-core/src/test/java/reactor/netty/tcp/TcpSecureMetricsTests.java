@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeAll;
 import reactor.core.publisher.Mono;
 
+import javax.net.ssl.SNIHostName;
 import javax.net.ssl.SSLException;
 import java.net.InetSocketAddress;
 import java.util.concurrent.CountDownLatch;
@@ -35,6 +36,10 @@ import static reactor.netty.Metrics.NA;
 import static reactor.netty.Metrics.PROXY_ADDRESS;
 import static reactor.netty.Metrics.REMOTE_ADDRESS;
 import static reactor.netty.Metrics.STATUS;
+import static reactor.netty.Metrics.TCP_CLIENT_PREFIX;
+import static reactor.netty.Metrics.TCP_SERVER_PREFIX;
+import static reactor.netty.Metrics.TLS_HANDSHAKES;
+import static reactor.netty.Metrics.TLS_SNI_LOOKUP_TIME;
 import static reactor.netty.Metrics.URI;
 import static reactor.netty.micrometer.CounterAssert.assertCounter;
 import static reactor.netty.micrometer.DistributionSummaryAssert.assertDistributionSummary;
@@ -116,6 +121,79 @@ class TcpSecureMetricsTests extends TcpMetricsTests {
 		checkExpectationsNegative();
 	}
 
+	@Test
+	void testTlsHandshakesCount() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		disposableServer =
+				tcpServer.handle((in, out) -> out.sendString(Mono.just("hello")))
+				         .bindNow();
+
+		connection = tcpClient.connectNow();
+
+		connection.inbound()
+		          .receive()
+		          .asString()
+		          .subscribe(s -> latch.countDown());
+
+		assertThat(latch.await(30, TimeUnit.SECONDS)).as("latch await").isTrue();
+
+		InetSocketAddress ca = (InetSocketAddress) connection.channel().localAddress();
+		String clientAddress = ca.getHostString() + ":" + ca.getPort();
+		InetSocketAddress sa = (InetSocketAddress) disposableServer.channel().localAddress();
+		String serverAddress = sa.getHostString() + ":" + sa.getPort();
+
+		assertCounter(registry, SERVER_TLS_HANDSHAKES, REMOTE_ADDRESS, clientAddress, URI, "tcp", RESUMED, "false")
+				.hasCountEqualTo(1);
+		assertCounter(registry, CLIENT_TLS_HANDSHAKES, REMOTE_ADDRESS, serverAddress, PROXY_ADDRESS, NA, URI, "tcp",
+				RESUMED, "false")
+				.hasCountEqualTo(1);
+	}
+
+	@Test
+	void testTlsSniLookupTime() throws Exception {
+		SslContext serverCtx = SslContextBuilder.forServer(ssc.toTempCertChainPem(), ssc.toTempPrivateKeyPem())
+		                                        .sslProvider(SslProvider.JDK)
+		                                        .build();
+		SniCertificateStore store =
+				SniCertificateStore.builder()
+				                   .loader(domainName -> "test.com".equals(domainName) ? spec -> spec.sslContext(serverCtx) : null)
+				                   .build();
+		disposableServer =
+				tcpServer.secure(spec -> spec.sslContext(serverCtx).setSniAsyncMappings(store))
+				         .handle((in, out) -> out.sendString(Mono.just("hello")))
+				         .bindNow();
+
+		SslContext clientCtx = SslContextBuilder.forClient()
+		                                        .trustManager(InsecureTrustManagerFactory.INSTANCE)
+		                                        .sslProvider(SslProvider.JDK)
+		                                        .build();
+		TcpClient client = tcpClient.secure(spec -> spec.sslContext(clientCtx).serverNames(new SNIHostName("test.com")));
+
+		String missAddress = connectAndReceive(client);
+		String hitAddress = connectAndReceive(client);
+
+		assertTimer(registry, SERVER_TLS_SNI_LOOKUP_TIME, REMOTE_ADDRESS, missAddress, URI, "tcp", RESULT, "miss")
+				.hasCountEqualTo(1);
+		assertTimer(registry, SERVER_TLS_SNI_LOOKUP_TIME, REMOTE_ADDRESS, hitAddress, URI, "tcp", RESULT, "hit")
+				.hasCountEqualTo(1);
+	}
+
+	private String connectAndReceive(TcpClient client) throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		connection = client.connectNow();
+
+		connection.inbound()
+		          .receive()
+		          .asString()
+		          .subscribe(s -> latch.countDown());
+
+		assertThat(latch.await(30, TimeUnit.SECONDS)).as("latch await").isTrue();
+
+		InetSocketAddress ca = (InetSocketAddress) connection.channel().localAddress();
+		connection.disposeNow();
+		return ca.getHostString() + ":" + ca.getPort();
+	}
+
 	private void checkExpectationsNegative() {
 		InetSocketAddress ca = (InetSocketAddress) connection.channel().localAddress();
 		String clientAddress = ca.getHostString() + ":" + ca.getPort();
@@ -141,4 +219,10 @@ class TcpSecureMetricsTests extends TcpMetricsTests {
 		assertDistributionSummary(registry, CLIENT_DATA_RECEIVED, summaryTags).isNull();
 		assertCounter(registry, CLIENT_ERRORS, summaryTags).isNull();
 	}
+
+	static final String RESUMED = "resumed";
+	static final String SERVER_TLS_HANDSHAKES = TCP_SERVER_PREFIX + TLS_HANDSHAKES;
+	static final String CLIENT_TLS_HANDSHAKES = TCP_CLIENT_PREFIX + TLS_HANDSHAKES;
+	static final String RESULT = "result";
+	static final String SERVER_TLS_SNI_LOOKUP_TIME = TCP_SERVER_PREFIX + TLS_SNI_LOOKUP_TIME;
 }
@@ -28,6 +28,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -57,6 +58,7 @@ import io.netty.handler.codec.json.JsonObjectDecoder;
 import io.netty.handler.ssl.SniCompletionEvent;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.pkitesting.CertificateBuilder;
@@ -69,6 +71,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.reactivestreams.Publisher;
@@ -1185,6 +1188,104 @@ class TcpServerTests {
 		server.disposeNow();
 	}
 
+	@Test
+	void testSniCertificateStore(@TempDir Path certificates) throws Exception {
+		X509Bundle defaultCert = new CertificateBuilder().subject("CN=default").setIsCertificateAuthority(true).buildSelfSigned();
+		TcpSslContextSpec defaultTcpSslContextSpec =
+				TcpSslContextSpec.forServer(defaultCert.toTempCertChainPem(), defaultCert.toTempPrivateKeyPem());
+
+		X509Bundle testCert = new CertificateBuilder().subject("CN=test.com").setIsCertificateAuthority(true).buildSelfSigned();
+		Files.copy(testCert.toTempCertChainPem().toPath(), certificates.resolve("_.test.com.crt"));
+		Files.copy(testCert.toTempPrivateKeyPem().toPath(), certificates.resolve("_.test.com.key"));
+
+		X509Bundle fooCert = new CertificateBuilder().subject("CN=foo.test.com").setIsCertificateAuthority(true).buildSelfSigned();
+		TcpSslContextSpec fooTcpSslContextSpec =
+				TcpSslContextSpec.forServer(fooCert.toTempCertChainPem(), fooCert.toTempPrivateKeyPem());
+
+		SniCertificateStore store =
+				SniCertificateStore.builder()
+				                   .directory(certificates, TcpSslContextSpec::forServer)
+				                   .build();
+
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .wiretap(true)
+				         .secure(spec -> spec.sslContext(defaultTcpSslContextSpec)
+				                             .setSniAsyncMappings(store))
+				         .handle((in, out) -> in.receive().then())
+				         .bindNow();
+
+		try {
+			assertThat(store.size()).isEqualTo(0);
+
+			// *.test.com is loaded from the directory, foo.test.com is cached as well
+			assertThat(peerSubject(server, "foo.test.com")).isEqualTo("CN=test.com");
+			assertThat(store.size()).isEqualTo(2);
+
+			// *.test.com is found in the cache
+			assertThat(peerSubject(server, "BAR.test.com")).isEqualTo("CN=test.com");
+			assertThat(store.size()).isEqualTo(3);
+
+			// not found, the default certificate is used and nothing is cached
+			assertThat(peerSubject(server, "example.com")).isEqualTo("CN=default");
+			assertThat(store.size()).isEqualTo(3);
+
+			// foo.test.com is replaced without rebinding the server
+			store.put("foo.test.com", spec -> spec.sslContext(fooTcpSslContextSpec));
+			assertThat(peerSubject(server, "foo.test.com")).isEqualTo("CN=foo.test.com");
+			assertThat(peerSubject(server, "bar.test.com")).isEqualTo("CN=test.com");
+
+			store.remove("foo.test.com");
+			assertThat(peerSubject(server, "foo.test.com")).isEqualTo("CN=test.com");
+
+			store.invalidate("*.test.com");
+			assertThat(store.size()).isEqualTo(0);
+		}
+		finally {
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("NullAway")
+	void testSniCertificateStoreBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SniCertificateStore.builder().maxSize(0))
+				.withMessage("maxSize must be positive");
+
+		// Deliberately suppress "NullAway" for testing purposes
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> SniCertificateStore.builder().loader(null));
+
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> SniCertificateStore.builder().loadScheduler(null));
+	}
+
+	static String peerSubject(DisposableServer server, String serverName) throws Exception {
+		TcpSslContextSpec clientTcpSslContextSpec =
+				TcpSslContextSpec.forClient()
+				                 .configure(builder -> builder.trustManager(InsecureTrustManagerFactory.INSTANCE));
+
+		Connection conn =
+				TcpClient.create()
+				         .remoteAddress(server::address)
+				         .wiretap(true)
+				         .secure(spec -> spec.sslContext(clientTcpSslContextSpec)
+				                             .serverNames(new SNIHostName(serverName)))
+				         .connectNow();
+		try {
+			SslHandler sslHandler = conn.channel().pipeline().get(SslHandler.class);
+			assertThat(sslHandler).isNotNull();
+			return ((X509Certificate) sslHandler.engine().getSession().getPeerCertificates()[0])
+					.getSubjectX500Principal()
+					.getName();
+		}
+		finally {
+			conn.disposeNow();
+		}
+	}
+
 	@Test
 	void testTcpServerCancelled() throws InterruptedException {
 		DisposableServer server = null;
@@ -89,7 +89,11 @@ class ReactorNettyLoggingHandlerTest {
 	}
 
 	private void sendMessage(Object input, String expectedResult) {
-		final EmbeddedChannel channel = new EmbeddedChannel(defaultCharsetReactorNettyLoggingHandler);
+		sendMessage(defaultCharsetReactorNettyLoggingHandler, input, expectedResult);
+	}
+
+	private void sendMessage(LoggingHandler handler, Object input, String expectedResult) {
+		final EmbeddedChannel channel = new EmbeddedChannel(handler);
 		channel.writeInbound(input);
 
 		Mockito.verify(mockedAppender, Mockito.times(4)).doAppend(loggingEventArgumentCaptor.capture());
@@ -98,6 +102,74 @@ class ReactorNettyLoggingHandlerTest {
 		assertThat(relevantLog.getMessage()).isEqualTo(expectedResult);
 	}
 
+	@Test
+	void shouldTruncateByteBuf() {
+		final ByteBuf byteBuf = Unpooled.copiedBuffer("TEST", Charset.defaultCharset());
+
+		sendMessage(
+				new ReactorNettyLoggingHandler(
+						ReactorNettyLoggingHandlerTest.class.getName(),
+						LogLevel.DEBUG,
+						Charset.defaultCharset(),
+						WiretapSpec.builder().maxBytes(2).build()),
+				byteBuf,
+				"[embedded, L:embedded - R:embedded] READ: 4B (truncated to 2B) TE");
+	}
+
+	@Test
+	void shouldTruncateByteBufHolder() {
+		final ByteBufHolder byteBufHolder =
+				new DefaultByteBufHolder(Unpooled.copiedBuffer("TEST", Charset.defaultCharset()));
+
+		sendMessage(
+				new ReactorNettyLoggingHandler(
+						ReactorNettyLoggingHandlerTest.class.getName(),
+						LogLevel.DEBUG,
+						Charset.defaultCharset(),
+						WiretapSpec.builder().maxBytes(3).build()),
+				byteBufHolder,
+				"[embedded, L:embedded - R:embedded] READ: 4B (truncated to 3B) TES");
+	}
+
+	@Test
+	void shouldNotLogFilteredChannel() {
+		final EmbeddedChannel channel = new EmbeddedChannel(
+				new ReactorNettyLoggingHandler(
+						ReactorNettyLoggingHandlerTest.class.getName(),
+						LogLevel.DEBUG,
+						Charset.defaultCharset(),
+						WiretapSpec.builder().channelFilter(ch -> false).build()));
+		channel.writeInbound("TEST");
+
+		Mockito.verify(mockedAppender, Mockito.never()).doAppend(Mockito.any());
+		assertThat(channel.<String>readInbound()).isEqualTo("TEST");
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void shouldRateLimitEvents() {
+		final EmbeddedChannel channel = new EmbeddedChannel(
+				new ReactorNettyLoggingHandler(
+						ReactorNettyLoggingHandlerTest.class.getName(),
+						LogLevel.DEBUG,
+						Charset.defaultCharset(),
+						WiretapSpec.builder().maxEventsPerSecond(2).build()));
+		channel.writeInbound("TEST");
+
+		// REGISTERED and ACTIVE are logged, READ and READ COMPLETE are dropped
+		Mockito.verify(mockedAppender, Mockito.times(2)).doAppend(loggingEventArgumentCaptor.capture());
+		assertThat(channel.<String>readInbound()).isEqualTo("TEST");
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void wiretapSpecBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> WiretapSpec.builder().maxBytes(0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> WiretapSpec.builder().maxEventsPerSecond(0));
+	}
+
 	@Test
 	void shouldThrowUnsupportedOperationExceptionWhenByteBufFormatIsCalled() {
 		assertThatExceptionOfType(UnsupportedOperationException.class)
@@ -30,6 +30,26 @@ import java.util.Objects;
  */
 public final class Http2SettingsSpec {
 
+	/**
+	 * The policy used to share the connection write capacity between the active streams.
+	 *
+	 * @since 1.3.3
+	 */
+	public enum WriteScheduling {
+
+		/**
+		 * Splits the connection write capacity evenly between the active streams
+		 * regardless of their priority.
+		 */
+		UNIFORM,
+
+		/**
+		 * Splits the connection write capacity between the active streams proportionally
+		 * to their weight in the priority tree.
+		 */
+		WEIGHTED_FAIR_QUEUEING
+	}
+
 	public interface Builder {
 
 		/**
@@ -227,6 +247,22 @@ public final class Http2SettingsSpec {
 		 * @return {@code this}
 		 */
 		//Builder pushEnabled(boolean pushEnabled);
+
+		/**
+		 * Sets the policy used to share the connection write capacity between the active streams.
+		 * On each write, a stream is given at most {@code allocationQuantum} bytes before the next
+		 * stream gets its turn, so that a single large response does not starve the others.
+		 * A smaller quantum interleaves the streams more finely at the cost of more, smaller frames.
+		 * By default, Netty's weighted fair queueing with a {@code 1024} bytes quantum is used.
+		 *
+		 * @param writeScheduling the write scheduling policy
+		 * @param allocationQuantum the number of bytes a stream can write before yielding to the next stream
+		 * @return {@code this}
+		 * @since 1.3.3
+		 */
+		default Builder writeScheduling(WriteScheduling writeScheduling, int allocationQuantum) {
+			return this;
+		}
 	}
 
 	/**
@@ -374,6 +410,26 @@ public final class Http2SettingsSpec {
 		return pushEnabled;
 	}
 
+	/**
+	 * Returns the configured write scheduling policy or null.
+	 *
+	 * @return the configured write scheduling policy or null
+	 * @since 1.3.3
+	 */
+	public @Nullable WriteScheduling writeScheduling() {
+		return writeScheduling;
+	}
+
+	/**
+	 * Returns the configured write scheduling allocation quantum or null.
+	 *
+	 * @return the configured write scheduling allocation quantum or null
+	 * @since 1.3.3
+	 */
+	public @Nullable Integer writeSchedulingAllocationQuantum() {
+		return writeSchedulingAllocationQuantum;
+	}
+
 	@Override
 	public boolean equals(@Nullable Object o) {
 		if (this == o) {
@@ -396,7 +452,9 @@ public final class Http2SettingsSpec {
 				Objects.equals(maxStreams, that.maxStreams) &&
 				pingAckDropThreshold.equals(that.pingAckDropThreshold) &&
 				Objects.equals(pingAckTimeout, that.pingAckTimeout) &&
-				Objects.equals(pushEnabled, that.pushEnabled);
+				Objects.equals(pushEnabled, that.pushEnabled) &&
+				writeScheduling == that.writeScheduling &&
+				Objects.equals(writeSchedulingAllocationQuantum, that.writeSchedulingAllocationQuantum);
 	}
 
 	@Override
@@ -416,6 +474,8 @@ public final class Http2SettingsSpec {
 		result = 31 * result + pingAckDropThreshold;
 		result = 31 * result + (pingAckTimeout == null ? 0 : Objects.hashCode(pingAckTimeout));
 		result = 31 * result + (pushEnabled == null ? 0 : Boolean.hashCode(pushEnabled));
+		result = 31 * result + (writeScheduling == null ? 0 : writeScheduling.hashCode());
+		result = 31 * result + (writeSchedulingAllocationQuantum == null ? 0 : writeSchedulingAllocationQuantum);
 		return result;
 	}
 
@@ -433,6 +493,8 @@ public final class Http2SettingsSpec {
 	final Integer pingAckDropThreshold;
 	final @Nullable Duration pingAckTimeout;
 	final @Nullable Boolean pushEnabled;
+	final @Nullable WriteScheduling writeScheduling;
+	final @Nullable Integer writeSchedulingAllocationQuantum;
 
 	Http2SettingsSpec(Build build) {
 		Http2Settings settings = build.http2Settings;
@@ -456,6 +518,8 @@ public final class Http2SettingsSpec {
 		pingAckDropThreshold = build.pingAckDropThreshold;
 		pingAckTimeout = build.pingAckTimeout;
 		pushEnabled = settings.pushEnabled();
+		writeScheduling = build.writeScheduling;
+		writeSchedulingAllocationQuantum = build.writeSchedulingAllocationQuantum;
 	}
 
 	static final class Build implements Builder {
@@ -469,6 +533,8 @@ public final class Http2SettingsSpec {
 		@Nullable Long maxStreams;
 		Integer pingAckDropThreshold = Integer.valueOf(DEFAULT_PING_ACK_DROP_THRESHOLD);
 		@Nullable Duration pingAckTimeout;
+		@Nullable WriteScheduling writeScheduling;
+		@Nullable Integer writeSchedulingAllocationQuantum;
 		final Http2Settings http2Settings = Http2Settings.defaultSettings();
 
 		@Override
@@ -566,6 +632,17 @@ public final class Http2SettingsSpec {
 			return this;
 		}
 
+		@Override
+		public Builder writeScheduling(WriteScheduling writeScheduling, int allocationQuantum) {
+			Objects.requireNonNull(writeScheduling, "writeScheduling");
+			if (allocationQuantum < 1) {
+				throw new IllegalArgumentException("allocationQuantum must be positive");
+			}
+			this.writeScheduling = writeScheduling;
+			this.writeSchedulingAllocationQuantum = Integer.valueOf(allocationQuantum);
+			return this;
+		}
+
 		/*
 		@Override
 		public Builder pushEnabled(boolean pushEnabled) {
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.cookie.ClientCookieDecoder;
+import io.netty.handler.codec.http.cookie.Cookie;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.Cookies;
+import reactor.netty.http.HttpOperations;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An implementation of {@link HttpClientResponse} that represents a response served
+ * from the {@link HttpClient} response cache or shared by coalesced requests, without acquiring a connection.
+ *
+ * @since 1.3.3
+ */
+final class CachedHttpClientResponse implements HttpClientResponse {
+
+	final ContextView         contextView;
+	final ClientCookieDecoder cookieDecoder;
+	final HttpHeaders         requestHeaders;
+	final HttpHeaders         responseHeaders;
+	final HttpMethod          method;
+	final String              path;
+	final String              resourceUrl;
+	final HttpResponseStatus  status;
+	final String              uri;
+
+	CachedHttpClientResponse(ContextView contextView, HttpClientConfig c, String resourceUrl,
+			HttpResponseStatus status, HttpHeaders responseHeaders) {
+		this.contextView = contextView;
+		this.cookieDecoder = c.cookieDecoder;
+		this.requestHeaders = c.headers;
+		this.responseHeaders = responseHeaders;
+		this.method = c.method;
+		this.uri = c.uri == null ?
+				c.uriStr == null ? "/" : c.uriStr :
+				c.uri.toString();
+		this.path = HttpOperations.resolvePath(this.uri);
+		this.resourceUrl = resourceUrl;
+		this.status = status;
+	}
+
+	@Override
+	public Map<CharSequence, Set<Cookie>> cookies() {
+		return Cookies.newClientResponseHolder(responseHeaders, cookieDecoder)
+		              .getCachedCookies();
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public Context currentContext() {
+		return Context.of(contextView);
+	}
+
+	@Override
+	public ContextView currentContextView() {
+		return contextView;
+	}
+
+	@Override
+	public String fullPath() {
+		return path;
+	}
+
+	@Override
+	public String requestId() {
+		return "";
+	}
+
+	@Override
+	public boolean isKeepAlive() {
+		return !HttpHeaderValues.CLOSE.contentEqualsIgnoreCase(responseHeaders.get(HttpHeaderNames.CONNECTION));
+	}
+
+	@Override
+	public boolean isWebsocket() {
+		return false;
+	}
+
+	@Override
+	public HttpMethod method() {
+		return method;
+	}
+
+	@Override
+	public String[] redirectedFrom() {
+		return EMPTY;
+	}
+
+	@Override
+	public HttpHeaders requestHeaders() {
+		return requestHeaders;
+	}
+
+	@Override
+	public @Nullable String resourceUrl() {
+		return resourceUrl;
+	}
+
+	@Override
+	public HttpHeaders responseHeaders() {
+		return responseHeaders;
+	}
+
+	@Override
+	public HttpResponseStatus status() {
+		return status;
+	}
+
+	@Override
+	public Mono<HttpHeaders> trailerHeaders() {
+		return Mono.empty();
+	}
+
+	@Override
+	public String uri() {
+		return uri;
+	}
+
+	@Override
+	public HttpVersion version() {
+		return HttpVersion.HTTP_1_1;
+	}
+
+	static final String[] EMPTY = new String[0];
+}
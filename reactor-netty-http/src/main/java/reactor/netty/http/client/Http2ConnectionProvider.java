@@ -126,6 +126,7 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 			MonoSink<Connection> sink,
 			Context currentContext) {
 		boolean acceptGzip = false;
+		HttpClientCompressionSpec compression = null;
 		ChannelMetricsRecorder metricsRecorder = config.metricsRecorder() != null ? config.metricsRecorder().get() : null;
 		SocketAddress proxyAddress = ((ClientTransportConfig<?>) config).proxyProvider() != null ?
 				((ClientTransportConfig<?>) config).proxyProvider().getProxyAddress() : null;
@@ -134,11 +135,12 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 		if (config instanceof HttpClientConfig) {
 			HttpClientConfig httpClientConfig = (HttpClientConfig) config;
 			acceptGzip = httpClientConfig.acceptGzip;
+			compression = httpClientConfig.compression;
 			uriTagValue = httpClientConfig.uriTagValue;
 			http2SettingsSpec = httpClientConfig.http2Settings;
 		}
 		return new DisposableAcquire(connectionObserver, config.channelOperationsProvider(),
-				acceptGzip, http2SettingsSpec, metricsRecorder, pendingAcquireTimeout, pool, proxyAddress, remoteAddress,
+				acceptGzip, compression, http2SettingsSpec, metricsRecorder, pendingAcquireTimeout, pool, proxyAddress, remoteAddress,
 				sink, currentContext, uriTagValue);
 	}
 
@@ -161,6 +163,15 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 		return new PooledConnectionAllocator(id, name(), parent, config, poolFactory, remoteAddress, resolverGroup).pool;
 	}
 
+	@Override
+	protected int outstandingRequests(InstrumentedPool<Connection> pool) {
+		if (pool instanceof Http2Pool) {
+			Http2Pool http2Pool = (Http2Pool) pool;
+			return http2Pool.activeStreams() + http2Pool.pendingAcquireSize();
+		}
+		return super.outstandingRequests(pool);
+	}
+
 	@Override
 	protected ConnectionPoolMetrics delegateConnectionPoolMetrics(InstrumentedPool.PoolMetrics metrics) {
 		return new HttpDelegatingConnectionPoolMetrics((Http2Pool) metrics);
@@ -266,6 +277,7 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 		final ConnectionObserver obs;
 		final ChannelOperations.OnSetup opsFactory;
 		final boolean acceptGzip;
+		final @Nullable HttpClientCompressionSpec compression;
 		final @Nullable Http2SettingsSpec http2SettingsSpec;
 		final @Nullable ChannelMetricsRecorder metricsRecorder;
 		final long pendingAcquireTimeout;
@@ -290,6 +302,7 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 				ConnectionObserver obs,
 				ChannelOperations.OnSetup opsFactory,
 				boolean acceptGzip,
+				@Nullable HttpClientCompressionSpec compression,
 				@Nullable Http2SettingsSpec http2SettingsSpec,
 				@Nullable ChannelMetricsRecorder metricsRecorder,
 				long pendingAcquireTimeout,
@@ -304,6 +317,7 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 			this.obs = obs;
 			this.opsFactory = opsFactory;
 			this.acceptGzip = acceptGzip;
+			this.compression = compression;
 			this.http2SettingsSpec = http2SettingsSpec;
 			this.metricsRecorder = metricsRecorder;
 			this.pendingAcquireTimeout = pendingAcquireTimeout;
@@ -321,6 +335,7 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 			this.obs = parent.obs;
 			this.opsFactory = parent.opsFactory;
 			this.acceptGzip = parent.acceptGzip;
+			this.compression = parent.compression;
 			this.http2SettingsSpec = parent.http2SettingsSpec;
 			this.metricsRecorder = parent.metricsRecorder;
 			this.pendingAcquireTimeout = parent.pendingAcquireTimeout;
@@ -492,7 +507,7 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 					// Deliberately suppress "NullAway"
 					// remoteAddress null is handled in Http2ConnectionProvider.DisposableAcquire.onNext
 					HttpClientConfig.addStreamHandlers(ch, obs.then(new HttpClientConfig.StreamConnectionObserver(currentContext())),
-							opsFactory, acceptGzip, false, metricsRecorder, proxyAddress, remoteAddress, -1, uriTagValue);
+							opsFactory, acceptGzip, compression, false, metricsRecorder, proxyAddress, remoteAddress, -1, uriTagValue);
 
 					if (log.isDebugEnabled()) {
 						logStreamsState(ch, http2PooledRef.slot, "Stream opened");
@@ -670,6 +685,8 @@ final class Http2ConnectionProvider extends PooledConnectionProvider<Connection>
 
 		Publisher<Connection> connectChannel() {
 			return parent.acquire(config, new DelegatingConnectionObserver(), () -> remoteAddress, resolver)
+				         // The concurrency limit applies to the streams, not to the connections
+				         .contextWrite(ctx -> ctx.put(CONTEXT_BYPASS_CONCURRENCY_LIMIT, true))
 				         .map(conn -> conn);
 		}
 
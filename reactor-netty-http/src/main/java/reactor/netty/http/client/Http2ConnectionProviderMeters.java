@@ -67,6 +67,26 @@ enum Http2ConnectionProviderMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * Time spent in allocating a new connection for the connection pool.
+	 */
+	ALLOCATION_TIME {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.allocation.time";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return PendingStreamsTimeTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	},
+
 	/**
 	 * The number of the idle connections in the connection pool.
 	 */
@@ -107,6 +127,26 @@ enum Http2ConnectionProviderMeters implements MeterDocumentation {
 		}
 	},
 
+	/**
+	 * The highest number of requests observed waiting for opening HTTP/2 stream.
+	 */
+	PENDING_STREAMS_HIGH_WATER_MARK {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.pending.streams.high.water.mark";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return Http2ConnectionProviderMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
 	/**
 	 * Time spent in pending acquire a stream from the connection pool.
 	 */
@@ -121,6 +161,26 @@ enum Http2ConnectionProviderMeters implements MeterDocumentation {
 			return PendingStreamsTimeTags.values();
 		}
 
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	},
+
+	/**
+	 * Time spent in validating a connection in the connection pool before opening HTTP/2 stream.
+	 */
+	VALIDATION_TIME {
+		@Override
+		public String getName() {
+			return "reactor.netty.connection.provider.validation.time";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return PendingStreamsTimeTags.values();
+		}
+
 		@Override
 		public Meter.Type getType() {
 			return Meter.Type.TIMER;
@@ -160,6 +160,7 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 	final PoolConfig<Connection> poolConfig;
 	final @Nullable BiPredicate<Connection, PooledRefMetadata> evictionPredicate;
 	final long maxIdleTime;
+	final @Nullable MicrometerPoolMetricsRecorder micrometerRecorder;
 
 	long lastInteractionTimestamp;
 
@@ -181,6 +182,8 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 		this.poolConfig = poolConfig;
 		this.evictionPredicate = evictionPredicate;
 		this.maxIdleTime = maxIdleTime;
+		this.micrometerRecorder = poolConfig.metricsRecorder() instanceof MicrometerPoolMetricsRecorder ?
+				(MicrometerPoolMetricsRecorder) poolConfig.metricsRecorder() : null;
 
 		recordInteractionTimestamp();
 		scheduleEviction();
@@ -447,9 +450,11 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 								return;
 							}
 							Mono<Connection> allocator = poolConfig.allocator();
+							long allocationStart = clock.millis();
 							Mono<Connection> primary =
 									allocator.doOnEach(sig -> {
 									             if (sig.isOnNext()) {
+									                 poolConfig.metricsRecorder().recordAllocationSuccessAndLatency(clock.millis() - allocationStart);
 									                 Connection newInstance = sig.get();
 									                 assert newInstance != null;
 									                 Slot newSlot = createSlot(newInstance);
@@ -460,6 +465,7 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 									                 borrower.deliver(new Http2PooledRef(newSlot));
 									             }
 									             else if (sig.isOnError()) {
+									                 poolConfig.metricsRecorder().recordAllocationFailureAndLatency(clock.millis() - allocationStart);
 									                 Throwable error = sig.getThrowable();
 									                 assert error != null;
 									                 poolConfig.allocationStrategy().returnPermits(1);
@@ -552,8 +558,11 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 				continue;
 			}
 
+			long validationStart = micrometerRecorder != null ? System.nanoTime() : 0;
+
 			// check the connection is active
 			if (!slot.connection.channel().isActive()) {
+				recordValidationLatency(validationStart, false);
 				if (slot.concurrency() > 0) {
 					if (log.isDebugEnabled()) {
 						log.debug(format(slot.connection.channel(), "Channel is closed, {} active streams"),
@@ -572,6 +581,7 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 
 			// check the connection received GO_AWAY
 			if (slot.goAwayReceived()) {
+				recordValidationLatency(validationStart, false);
 				if (slot.concurrency() > 0) {
 					if (log.isDebugEnabled()) {
 						log.debug(format(slot.connection.channel(), "Channel received GO_AWAY, {} active streams"),
@@ -590,6 +600,7 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 
 			// check whether the eviction predicate for the connection evaluates to true
 			if (testEvictionPredicate(slot)) {
+				recordValidationLatency(validationStart, false);
 				if (slot.concurrency() > 0) {
 					if (log.isDebugEnabled()) {
 						log.debug(format(slot.connection.channel(), "Eviction predicate was true, {} active streams"),
@@ -607,6 +618,8 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 				continue;
 			}
 
+			recordValidationLatency(validationStart, true);
+
 			// check that the connection's max active streams has not been reached
 			if (!slot.canOpenStream()) {
 				offerSlot(resources, slot);
@@ -622,6 +635,12 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 		return null;
 	}
 
+	void recordValidationLatency(long validationStart, boolean valid) {
+		if (micrometerRecorder != null) {
+			micrometerRecorder.recordValidationLatency(System.nanoTime() - validationStart, valid);
+		}
+	}
+
 	boolean testEvictionPredicate(Slot slot) {
 		return evictionPredicate == null ?
 				poolConfig.evictionPredicate().test(slot.connection, slot) :
@@ -707,7 +726,11 @@ class Http2Pool implements InstrumentedPool<Connection>, InstrumentedPool.PoolMe
 		else {
 			borrowers.offerLast(borrower);
 		}
-		return PENDING_SIZE.incrementAndGet(this);
+		int size = PENDING_SIZE.incrementAndGet(this);
+		if (micrometerRecorder != null) {
+			micrometerRecorder.recordPendingAcquireSize(size);
+		}
+		return size;
 	}
 
 	@SuppressWarnings("FutureReturnValueIgnored")
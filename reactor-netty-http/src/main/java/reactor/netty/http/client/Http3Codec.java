@@ -18,7 +18,6 @@ package reactor.netty.http.client;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.codec.http3.Http3ClientConnectionHandler;
 import io.netty.handler.codec.http3.Http3FrameToHttpObjectCodec;
@@ -38,6 +37,7 @@ import static reactor.netty.ReactorNetty.format;
 import static reactor.netty.http.client.Http2ConnectionProvider.http2PooledRef;
 import static reactor.netty.http.client.Http2ConnectionProvider.logStreamsState;
 import static reactor.netty.http.client.Http3ConnectionProvider.OWNER;
+import static reactor.netty.http.client.HttpClientConfig.httpDecompressor;
 
 final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 
@@ -46,6 +46,7 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 	final ConnectionObserver obs;
 	final ChannelOperations.OnSetup opsFactory;
 	final boolean acceptGzip;
+	final @Nullable HttpClientCompressionSpec compression;
 	final @Nullable LoggingHandler loggingHandler;
 	final @Nullable ChannelMetricsRecorder metricsRecorder;
 	final SocketAddress remoteAddress;
@@ -56,6 +57,7 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 			ConnectionObserver obs,
 			ChannelOperations.OnSetup opsFactory,
 			boolean acceptGzip,
+			@Nullable HttpClientCompressionSpec compression,
 			@Nullable LoggingHandler loggingHandler,
 			@Nullable ChannelMetricsRecorder metricsRecorder,
 			SocketAddress remoteAddress,
@@ -64,6 +66,7 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 		this.obs = obs;
 		this.opsFactory = opsFactory;
 		this.acceptGzip = acceptGzip;
+		this.compression = compression;
 		this.loggingHandler = loggingHandler;
 		this.metricsRecorder = metricsRecorder;
 		this.remoteAddress = remoteAddress;
@@ -87,7 +90,12 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 		        .addLast(NettyPipeline.HttpTrafficHandler, HTTP_3_STREAM_BRIDGE_CLIENT_HANDLER);
 
 		if (acceptGzip) {
-			pipeline.addLast(NettyPipeline.HttpDecompressor, new HttpContentDecompressor(false, 0));
+			pipeline.addLast(NettyPipeline.HttpDecompressor, httpDecompressor(compression, metricsRecorder, remoteAddress));
+		}
+
+		if (compression != null && compression.requestCompression != null) {
+			pipeline.addLast(NettyPipeline.CompressionHandler, new HttpClientRequestCompressor(compression.requestCompression,
+					compression.requestCompressionLevel, compression.requestCompressionMinSize));
 		}
 
 		ChannelOperations.addReactiveBridge(ch, opsFactory, obs);
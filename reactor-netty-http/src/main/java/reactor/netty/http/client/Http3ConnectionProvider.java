@@ -129,14 +129,16 @@ final class Http3ConnectionProvider extends PooledConnectionProvider<Connection>
 			Context currentContext) {
 		ChannelMetricsRecorder metricsRecorder = config.metricsRecorder() != null ? config.metricsRecorder().get() : null;
 		boolean acceptGzip = false;
+		HttpClientCompressionSpec compression = null;
 		Function<String, String> uriTagValue = null;
 		boolean validate = true;
 		if (config instanceof HttpClientConfig) {
 			acceptGzip = ((HttpClientConfig) config).acceptGzip;
+			compression = ((HttpClientConfig) config).compression;
 			uriTagValue = ((HttpClientConfig) config).uriTagValue;
 			validate = ((HttpClientConfig) config).decoder.validateHeaders();
 		}
-		return new DisposableAcquire(acceptGzip, config.attributes(), currentContext, config.loggingHandler(),
+		return new DisposableAcquire(acceptGzip, compression, config.attributes(), currentContext, config.loggingHandler(),
 				metricsRecorder, pendingAcquireTimeout, pool, connectionObserver, config.channelOperationsProvider(),
 				config.options(), remoteAddress, sink, uriTagValue, validate);
 	}
@@ -243,6 +245,7 @@ final class Http3ConnectionProvider extends PooledConnectionProvider<Connection>
 	static final class DisposableAcquire
 			implements CoreSubscriber<PooledRef<Connection>>, ConnectionObserver, Disposable, GenericFutureListener<Future<QuicStreamChannel>> {
 		final boolean acceptGzip;
+		final @Nullable HttpClientCompressionSpec compression;
 		final Map<AttributeKey<?>, ?> attributes;
 		final Disposable.Composite cancellations;
 		final Context currentContext;
@@ -271,6 +274,7 @@ final class Http3ConnectionProvider extends PooledConnectionProvider<Connection>
 
 		DisposableAcquire(
 				boolean acceptGzip,
+				@Nullable HttpClientCompressionSpec compression,
 				Map<AttributeKey<?>, ?> attributes,
 				Context currentContext,
 				@Nullable LoggingHandler loggingHandler,
@@ -285,6 +289,7 @@ final class Http3ConnectionProvider extends PooledConnectionProvider<Connection>
 				@Nullable Function<String, String> uriTagValue,
 				boolean validate) {
 			this.acceptGzip = acceptGzip;
+			this.compression = compression;
 			this.attributes = attributes;
 			this.cancellations = Disposables.composite();
 			this.currentContext = currentContext;
@@ -304,6 +309,7 @@ final class Http3ConnectionProvider extends PooledConnectionProvider<Connection>
 
 		DisposableAcquire(DisposableAcquire parent) {
 			this.acceptGzip = parent.acceptGzip;
+			this.compression = parent.compression;
 			this.attributes = parent.attributes;
 			this.cancellations = parent.cancellations;
 			this.currentContext = parent.currentContext;
@@ -379,7 +385,7 @@ final class Http3ConnectionProvider extends PooledConnectionProvider<Connection>
 					// remoteAddress null is handled above
 					Http3.newRequestStreamBootstrap((QuicChannel) channel,
 							new Http3Codec(obs.then(new HttpClientConfig.StreamConnectionObserver(currentContext())),
-									opsFactory, acceptGzip, loggingHandler, metricsRecorder, remoteAddress, uriTagValue, validate));
+									opsFactory, acceptGzip, compression, loggingHandler, metricsRecorder, remoteAddress, uriTagValue, validate));
 			attributes(bootstrap, attributes);
 			channelOptions(bootstrap, options);
 			bootstrap.create().addListener(this);
@@ -538,6 +544,8 @@ final class Http3ConnectionProvider extends PooledConnectionProvider<Connection>
 		@SuppressWarnings({"unchecked", "FutureReturnValueIgnored"})
 		Publisher<Connection> connectChannel() {
 			return parent.acquire(config, new DelegatingConnectionObserver(), () -> remoteAddress, null)
+					// The concurrency limit applies to the streams, not to the connections
+					.contextWrite(ctx -> ctx.put(CONTEXT_BYPASS_CONCURRENCY_LIMIT, true))
 					.flatMap(conn ->
 						Mono.create(sink -> {
 							Channel channel = conn.channel();
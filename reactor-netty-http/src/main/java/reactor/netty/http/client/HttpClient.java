@@ -31,6 +31,7 @@ import java.util.function.Supplier;
 import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -499,6 +500,35 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return new HttpClientConnect(new HttpConnectionProvider(ConnectionProvider.newConnection()));
 	}
 
+	/**
+	 * Specifies whether the client remembers per origin the negotiated protocol and follows {@code HTTP/3}
+	 * alternative services advertised with {@code Alt-Svc} response header.
+	 * When enabled, origins that negotiated {@code HTTP/1.1} go straight to the {@code HTTP/1.1} pool and,
+	 * once an {@code h3} alternative is advertised, a QUIC connection is probed in the background while requests
+	 * continue over TCP. Subsequent requests use {@code HTTP/3} until the alternative expires or a QUIC connection
+	 * fails, in which case the request falls back to TCP and {@code HTTP/3} is not attempted for a while.
+	 * <p>Note: Applies to secure clients configured with {@link HttpProtocol#HTTP11} and {@link HttpProtocol#H2},
+	 * {@link #http3Settings(Consumer)} must be configured and the default {@code SslContext} must be used.
+	 *
+	 * @param enable if true, the negotiated protocol is remembered and {@code Alt-Svc} is followed,
+	 * otherwise disabled (default: false)
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.3
+	 */
+	public final HttpClient altSvc(boolean enable) {
+		if (enable && !isHttp3Available()) {
+			throw new UnsupportedOperationException(
+					"To enable HTTP/3 support, you must add the dependency `io.netty:netty-codec-native-quic`" +
+							" to the class path first");
+		}
+		if (enable == configuration().altSvc) {
+			return this;
+		}
+		HttpClient dup = duplicate();
+		dup.configuration().altSvc = enable;
+		return dup;
+	}
+
 	/**
 	 * Configure URI to use for this request/response.
 	 * <p>Note: Configured {@code baseUrl} only applies when used with {@link UriConfiguration#uri(String)}
@@ -516,6 +546,53 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return dup;
 	}
 
+	/**
+	 * Enables a private response cache as defined by <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+	 * The responses to {@code GET} requests without a body that are consumed with
+	 * {@link ResponseReceiver#responseSingle(BiFunction)} are stored in memory, according to the
+	 * {@code Cache-Control}, {@code Expires} and {@code Vary} response headers.
+	 * Fresh responses are served without acquiring a connection, stale responses are revalidated with
+	 * {@code If-None-Match} / {@code If-Modified-Since} and, when {@code stale-while-revalidate} is present,
+	 * served while being revalidated in the background.
+	 * <p>The cache is shared by all {@link HttpClient} instances derived from the returned one.
+	 * <p>Note: {@code Vary} is evaluated against the headers configured with {@link #headers(Consumer)}.
+	 * <p>Note: When {@link #hedge(Consumer)} is also configured, the requests sent on a cache miss are hedged,
+	 * the conditional requests that revalidate a stored response are not.
+	 *
+	 * @param cacheSpec the response cache options
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.3
+	 */
+	public final HttpClient cache(HttpClientCacheSpec cacheSpec) {
+		Objects.requireNonNull(cacheSpec, "cacheSpec");
+		HttpClient dup = duplicate();
+		dup.configuration().cache = new HttpClientCache(cacheSpec);
+		return dup;
+	}
+
+	/**
+	 * Specifies whether concurrent identical idempotent requests are coalesced.
+	 * When enabled, concurrent {@code GET} and {@code HEAD} requests without a body that are consumed with
+	 * {@link ResponseReceiver#responseSingle(BiFunction)} and have the same target URI and values for
+	 * the given key headers share one upstream exchange. The aggregated response body is delivered to all of them.
+	 * <p>Note: The key headers are read from the headers configured with {@link #headers(Consumer)}.
+	 * The {@code Authorization}, {@code Proxy-Authorization} and {@code Cookie} headers are always part of the key.
+	 * Requests with a {@link #doOnRequest(BiConsumer)} callback or an authenticator are never coalesced,
+	 * as they may change the request after the key is computed.
+	 *
+	 * @param enable if true, concurrent identical requests are coalesced, otherwise each request
+	 * performs its own exchange (default: false)
+	 * @param keyHeaders the names of the request headers that are part of the coalescing key
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.3
+	 */
+	public final HttpClient coalesceRequests(boolean enable, CharSequence... keyHeaders) {
+		Objects.requireNonNull(keyHeaders, "keyHeaders");
+		HttpClient dup = duplicate();
+		dup.configuration().coalescing = enable ? new HttpClientCoalescing(keyHeaders.clone()) : null;
+		return dup;
+	}
+
 	/**
 	 * Specifies whether compression (gzip, Brotli, and zstd) is enabled.
 	 *
@@ -557,11 +634,54 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 			}
 			config.acceptGzip = false;
 			config.acceptBrotli = false;
+			config.compression = null;
 			return dup;
 		}
 		return this;
 	}
 
+	/**
+	 * Enables the compression (gzip, Brotli, zstd and Snappy) and applies the given response decompression options.
+	 * The {@literal Accept-Encoding} request header is populated with the encodings that are enabled and available.
+	 * When {@link HttpClientCompressionSpec#maxDecompressedSize()} is exceeded, the response body fails
+	 * with a {@link io.netty.handler.codec.compression.DecompressionException}.
+	 * When {@link HttpClientCompressionSpec#requestCompression()} is configured, the request bodies are compressed too.
+	 *
+	 * <p>Note: Brotli and zstd compressions require additional dependencies.
+	 *
+	 * @param compressionSpec the response decompression options
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.3
+	 */
+	public final HttpClient compress(Consumer<HttpClientCompressionSpec.Builder> compressionSpec) {
+		Objects.requireNonNull(compressionSpec, "compressionSpec");
+		HttpClientCompressionSpec.Builder builder = HttpClientCompressionSpec.builder();
+		compressionSpec.accept(builder);
+		HttpClientCompressionSpec spec = builder.build();
+
+		HttpClient dup = duplicate();
+		HttpClientConfig config = dup.configuration();
+		HttpHeaders headers = configuration().headers.copy();
+		headers.remove(HttpHeaderNames.ACCEPT_ENCODING);
+		headers.add(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.GZIP);
+		config.acceptGzip = true;
+
+		config.acceptBrotli = Brotli.isAvailable();
+		if (config.acceptBrotli) {
+			headers.add(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.BR);
+		}
+		if (spec.zstd && Zstd.isAvailable()) {
+			headers.add(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.ZSTD);
+		}
+		if (spec.snappy) {
+			headers.add(HttpHeaderNames.ACCEPT_ENCODING, HttpHeaderValues.SNAPPY);
+		}
+
+		config.headers = headers;
+		config.compression = spec;
+		return dup;
+	}
+
 	/**
 	 * Apply cookies configuration.
 	 *
@@ -1089,6 +1209,30 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return request(HttpMethod.HEAD);
 	}
 
+	/**
+	 * Enables hedged requests. When a {@code GET} or {@code HEAD} request without a body that is consumed with
+	 * {@link ResponseReceiver#responseSingle(BiFunction)} has not responded within the hedge delay, a second attempt
+	 * is sent. The first response wins and the other attempt is cancelled, which returns its connection to the pool
+	 * or, when its response is still in flight, closes the connection or resets the HTTP/2 stream.
+	 * The extra load is limited by {@link HttpClientHedgingSpec#budgetPercent()}.
+	 * <p>The hedge budget and the observed latencies are shared by all {@link HttpClient} instances
+	 * derived from the returned one.
+	 * <p>Note: When {@link #cache(HttpClientCacheSpec)} is also configured, only the requests that are not served
+	 * from the cache are hedged, the conditional requests that revalidate a stored response are not.
+	 *
+	 * @param hedgingSpec configures {@link HttpClientHedgingSpec} before requesting
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.3
+	 */
+	public final HttpClient hedge(Consumer<HttpClientHedgingSpec.Builder> hedgingSpec) {
+		Objects.requireNonNull(hedgingSpec, "hedgingSpec");
+		HttpClientHedgingSpec.Builder builder = HttpClientHedgingSpec.builder();
+		hedgingSpec.accept(builder);
+		HttpClient dup = duplicate();
+		dup.configuration().hedging = new HttpClientHedging(builder.build());
+		return dup;
+	}
+
 	/**
 	 * Apply headers configuration.
 	 *
@@ -1461,8 +1605,9 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 
 	/**
 	 * Specifies the maximum duration allowed between each network-level read operation while reading a given response
-	 * (resolution: ms). In other words, {@link io.netty.handler.timeout.ReadTimeoutHandler} is added to the channel
-	 * pipeline after sending the request and is removed when the response is fully received.
+	 * (resolution: ms). In other words, a read timeout that behaves as {@link io.netty.handler.timeout.ReadTimeoutHandler}
+	 * is armed after sending the request and is stopped when the response is fully received. The read timeouts of
+	 * an event loop share one timing wheel, so a timeout may be detected up to one tick ({@code 10ms} by default) later.
 	 * If the {@code maxReadOperationInterval} is {@code null}, any previous setting will be removed and no
 	 * {@code maxReadOperationInterval} will be applied.
 	 * If the {@code maxReadOperationInterval} is less than {@code 1ms}, then {@code 1ms} will be the
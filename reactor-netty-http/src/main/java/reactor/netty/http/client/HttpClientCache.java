@@ -0,0 +1,630 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.AsciiString;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.ByteBufMono;
+import reactor.netty.channel.ChannelMetricsRecorder;
+import reactor.netty.http.HttpOperations;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import static reactor.netty.http.client.HttpClientConnect.URI_ADDRESS_MAPPER;
+
+/**
+ * A private response cache as defined by <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * The cache stores at most one response per target URI, the entries are evicted in least recently used order
+ * when the configured {@link HttpClientCacheSpec#maxSize()} is exceeded.
+ * When hedging is configured, the requests sent on a cache miss are hedged, the conditional requests
+ * that revalidate a stored response are not.
+ *
+ * @since 1.3.3
+ */
+final class HttpClientCache {
+
+	static final Logger log = Loggers.getLogger(HttpClientCache.class);
+
+	static final String HIT = "hit";
+	static final String MISS = "miss";
+	static final String REVALIDATED = "revalidated";
+	static final String STALE = "stale";
+
+	final HttpClientCacheSpec spec;
+	final LinkedHashMap<String, CacheEntry> entries;
+
+	long size;
+
+	HttpClientCache(HttpClientCacheSpec spec) {
+		this.spec = spec;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Returns whether the request configured with {@link HttpClientConfig} can be served from the cache.
+	 * Only {@code GET} requests without a body are eligible.
+	 *
+	 * @param config the request configuration
+	 * @return {@code true} if the request can be served from the cache
+	 */
+	static boolean isEligible(HttpClientConfig config) {
+		return HttpMethod.GET.equals(config.method) &&
+				config.body == null &&
+				config.deferredConf == null &&
+				config.websocketClientSpec == null;
+	}
+
+	<V> Mono<V> responseSingle(HttpClientFinalizer client,
+			BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		return Mono.defer(() -> {
+			HttpClientConfig config = client.configuration();
+			UriEndpoint endpoint = HttpClientConnect.HttpClientHandler.createUriEndpoint(config,
+					new UriEndpointFactory(config.remoteAddress(), config.isSecure(), URI_ADDRESS_MAPPER));
+			String key = endpoint.toExternalForm();
+
+			CacheControl requestCacheControl = CacheControl.parse(config.headers);
+			if (requestCacheControl.noStore) {
+				HttpClientHedging hedging = config.hedging;
+				if (hedging != null && HttpClientHedging.isEligible(config)) {
+					return hedging.responseSingle(client, receiver);
+				}
+				return client._connect()
+				             .flatMap(resp -> receiver.apply(resp, resp.receive().aggregate())
+				                                      .doFinally(s -> HttpClientFinalizer.discard(resp))
+				                                      .contextWrite(resp.currentContextView()));
+			}
+
+			boolean lookup = !requestCacheControl.noCache &&
+					!config.headers.containsValue(HttpHeaderNames.PRAGMA, HttpHeaderValues.NO_CACHE, true);
+			CacheEntry candidate = lookup ? get(key, config.headers) : null;
+			if (candidate == null) {
+				record(config, endpoint, MISS);
+				return fetch(client, key, receiver);
+			}
+
+			CacheEntry entry = candidate;
+
+			long now = System.currentTimeMillis();
+			long age = entry.currentAge(now);
+			if (!entry.cacheControl.noCache && age < entry.freshnessLifetime) {
+				record(config, endpoint, HIT);
+				return serve(client, key, entry, receiver, age);
+			}
+
+			if (spec.staleWhileRevalidate && !entry.cacheControl.noCache && !entry.cacheControl.mustRevalidate &&
+					age < entry.staleLifetime()) {
+				record(config, endpoint, STALE);
+				if (entry.revalidating.compareAndSet(false, true)) {
+					revalidate(client, key, entry)
+							.doFinally(s -> entry.revalidating.set(false))
+							.subscribe(null, t -> {
+								if (log.isDebugEnabled()) {
+									log.debug("Background revalidation of [" + key + "] failed", t);
+								}
+							});
+				}
+				return serve(client, key, entry, receiver, age);
+			}
+
+			if (entry.hasValidators()) {
+				return conditional(client, entry).flatMap(resp -> {
+					if (resp.status().code() == HttpResponseStatus.NOT_MODIFIED.code()) {
+						HttpClientFinalizer.discard(resp);
+						record(config, endpoint, REVALIDATED);
+						CacheEntry updated = revalidated(key, entry, resp);
+						return serve(client, key, updated, receiver, updated.currentAge(System.currentTimeMillis()));
+					}
+					record(config, endpoint, MISS);
+					return receive(resp, key, config, receiver);
+				});
+			}
+
+			record(config, endpoint, MISS);
+			return fetch(client, key, receiver);
+		});
+	}
+
+	<V> Mono<V> fetch(HttpClientFinalizer client, String key,
+			BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		HttpClientConfig config = client.configuration();
+		HttpClientHedging hedging = config.hedging;
+		if (hedging != null && HttpClientHedging.isEligible(config)) {
+			return fetch(hedging, client, key, receiver);
+		}
+		return client._connect().flatMap(resp -> receive(resp, key, config, receiver));
+	}
+
+	/**
+	 * Fetches the response with a hedged request, the first attempt that delivers a response wins
+	 * and its aggregated response is stored when it is storable.
+	 */
+	<V> Mono<V> fetch(HttpClientHedging hedging, HttpClientFinalizer client, String key,
+			BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		HttpClientConfig config = client.configuration();
+		return Mono.deferContextual(contextView -> {
+			long requestTime = System.currentTimeMillis();
+			return hedging.exchange(client).flatMap(result -> {
+				CachedHttpClientResponse response =
+						new CachedHttpClientResponse(contextView, config, result.resourceUrl, result.status, result.headers);
+				// A redirected response has a different resource URL and is not stored under the request key
+				if (key.equals(result.resourceUrl) && result.body.readableBytes() <= spec.maxEntrySize &&
+						isStorable(response, config.headers, CacheControl.parse(result.headers))) {
+					int length = result.body.readableBytes();
+					ByteBuf body = spec.offHeap ? Unpooled.directBuffer(length) : Unpooled.buffer(length);
+					body.writeBytes(result.body, result.body.readerIndex(), length);
+					put(key, new CacheEntry(result.status, result.headers.copy(), body,
+							CacheEntry.vary(result.headers, config.headers), requestTime, System.currentTimeMillis()));
+				}
+				return receiver.apply(response, ByteBufFlux.fromInbound(Mono.just(result.body.duplicate()), alloc(config)).aggregate())
+				               .doFinally(s -> result.body.release());
+			});
+		});
+	}
+
+	<V> Mono<V> receive(HttpClientOperations resp, String key, HttpClientConfig config,
+			BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		ByteBufMono body;
+		CacheControl responseCacheControl = CacheControl.parse(resp.responseHeaders());
+		if (isStorable(resp, config.headers, responseCacheControl)) {
+			BodyRecorder recorder = new BodyRecorder(this, key, resp, config.headers);
+			body = ByteBufFlux.fromInbound(resp.receive()
+			                                   .doOnNext(recorder)
+			                                   .doOnComplete(recorder::complete)
+			                                   .doFinally(s -> recorder.dispose()), alloc(config))
+			                  .aggregate();
+		}
+		else {
+			body = resp.receive().aggregate();
+		}
+		return receiver.apply(resp, body)
+		               .doFinally(s -> HttpClientFinalizer.discard(resp))
+		               .contextWrite(resp.currentContextView());
+	}
+
+	Mono<Void> revalidate(HttpClientFinalizer client, String key, CacheEntry entry) {
+		HttpClientConfig config = client.configuration();
+		return conditional(client, entry).flatMap(resp -> {
+			if (resp.status().code() == HttpResponseStatus.NOT_MODIFIED.code()) {
+				HttpClientFinalizer.discard(resp);
+				revalidated(key, entry, resp);
+				return Mono.<Void>empty();
+			}
+			return receive(resp, key, config, (r, body) -> body.then());
+		});
+	}
+
+	<V> Mono<V> serve(HttpClientFinalizer client, String key, CacheEntry entry,
+			BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver, long age) {
+		HttpClientConfig config = client.configuration();
+		return Mono.deferContextual(contextView -> {
+			ByteBuf body = retain(entry);
+			if (body == null) {
+				// The entry was evicted and released in the meantime
+				return fetch(client, key, receiver);
+			}
+			HttpHeaders headers = entry.headers.copy()
+			                                   .setInt(HttpHeaderNames.AGE, (int) Math.min(Integer.MAX_VALUE, age / 1000));
+			CachedHttpClientResponse response = new CachedHttpClientResponse(contextView, config, key, entry.status, headers);
+			return receiver.apply(response, ByteBufFlux.fromInbound(Mono.just(body.duplicate()), alloc(config)).aggregate())
+			               .doFinally(s -> body.release());
+		});
+	}
+
+	static Mono<HttpClientOperations> conditional(HttpClientFinalizer client, CacheEntry entry) {
+		HttpClientFinalizer dup = (HttpClientFinalizer) client.duplicate();
+		HttpHeaders headers = dup.configuration().headers.copy();
+		String etag = entry.headers.get(HttpHeaderNames.ETAG);
+		if (etag != null) {
+			headers.set(HttpHeaderNames.IF_NONE_MATCH, etag);
+		}
+		String lastModified = entry.headers.get(HttpHeaderNames.LAST_MODIFIED);
+		if (lastModified != null) {
+			headers.set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified);
+		}
+		dup.configuration().headers = headers;
+		return dup._connect();
+	}
+
+	@Nullable CacheEntry get(String key, HttpHeaders requestHeaders) {
+		CacheEntry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+		}
+		return entry != null && entry.matches(requestHeaders) ? entry : null;
+	}
+
+	synchronized @Nullable ByteBuf retain(CacheEntry entry) {
+		return entry.body.refCnt() > 0 ? entry.body.retain() : null;
+	}
+
+	void put(String key, CacheEntry entry) {
+		synchronized (this) {
+			CacheEntry previous = entries.put(key, entry);
+			size += entry.body.readableBytes();
+			if (previous != null) {
+				evict(previous);
+			}
+			Iterator<CacheEntry> it = entries.values().iterator();
+			while (size > spec.maxSize && it.hasNext()) {
+				CacheEntry eldest = it.next();
+				it.remove();
+				evict(eldest);
+			}
+		}
+	}
+
+	CacheEntry revalidated(String key, CacheEntry entry, HttpClientResponse notModified) {
+		HttpHeaders headers = entry.headers.copy();
+		for (String name : notModified.responseHeaders().names()) {
+			if (!HttpHeaderNames.CONTENT_LENGTH.contentEqualsIgnoreCase(name) &&
+					!HttpHeaderNames.CONTENT_ENCODING.contentEqualsIgnoreCase(name) &&
+					!HttpHeaderNames.TRANSFER_ENCODING.contentEqualsIgnoreCase(name)) {
+				headers.set(name, notModified.responseHeaders().getAll(name));
+			}
+		}
+		long responseTime = System.currentTimeMillis();
+		synchronized (this) {
+			if (entry.evicted || entries.get(key) != entry) {
+				return entry;
+			}
+			CacheEntry updated = new CacheEntry(entry.status, headers, entry.body, entry.vary, responseTime, responseTime);
+			// The body ownership is transferred to the updated entry
+			entries.put(key, updated);
+			entry.evicted = true;
+			return updated;
+		}
+	}
+
+	void evict(CacheEntry entry) {
+		// Guarded by this
+		entry.evicted = true;
+		size -= entry.body.readableBytes();
+		entry.body.release();
+	}
+
+	boolean isStorable(HttpClientResponse resp, HttpHeaders requestHeaders, CacheControl responseCacheControl) {
+		if (!isCacheableStatus(resp.status().code()) || responseCacheControl.noStore || resp.redirectedFrom().length > 0) {
+			return false;
+		}
+		HttpHeaders headers = resp.responseHeaders();
+		String vary = headers.get(HttpHeaderNames.VARY);
+		if (vary != null && vary.trim().equals("*")) {
+			return false;
+		}
+		if (requestHeaders.contains(HttpHeaderNames.AUTHORIZATION) && !responseCacheControl.isPublic) {
+			return false;
+		}
+		long contentLength = contentLength(headers);
+		if (contentLength > spec.maxEntrySize) {
+			return false;
+		}
+		return responseCacheControl.maxAge >= 0 ||
+				headers.contains(HttpHeaderNames.EXPIRES) ||
+				headers.contains(HttpHeaderNames.ETAG) ||
+				headers.contains(HttpHeaderNames.LAST_MODIFIED);
+	}
+
+	static long contentLength(HttpHeaders headers) {
+		String value = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+		if (value != null) {
+			try {
+				return Long.parseLong(value.trim());
+			}
+			catch (NumberFormatException e) {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	static boolean isCacheableStatus(int code) {
+		switch (code) {
+			case 200:
+			case 203:
+			case 204:
+			case 300:
+			case 301:
+			case 308:
+			case 404:
+			case 405:
+			case 410:
+			case 414:
+			case 501:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	static ByteBufAllocator alloc(HttpClientConfig config) {
+		ByteBufAllocator alloc = (ByteBufAllocator) config.options().get(ChannelOption.ALLOCATOR);
+		return alloc != null ? alloc : ByteBufAllocator.DEFAULT;
+	}
+
+	static void record(HttpClientConfig config, UriEndpoint endpoint, String result) {
+		Supplier<? extends ChannelMetricsRecorder> supplier = config.metricsRecorder();
+		if (supplier == null) {
+			return;
+		}
+		ChannelMetricsRecorder recorder = supplier.get();
+		if (recorder instanceof HttpClientMetricsRecorder) {
+			String path = HttpOperations.resolvePath(endpoint.getPathAndQuery());
+			Function<String, String> uriTagValue = config.uriTagValue;
+			((HttpClientMetricsRecorder) recorder).incrementCacheCount(endpoint.getRemoteAddress(),
+					uriTagValue == null ? path : uriTagValue.apply(path), config.method.name(), result);
+		}
+	}
+
+	static final class BodyRecorder implements Consumer<ByteBuf> {
+
+		final HttpClientCache cache;
+		final String key;
+		final HttpClientResponse response;
+		final HttpHeaders requestHeaders;
+		final long requestTime;
+
+		@Nullable ByteBuf buffer;
+		boolean discarded;
+
+		BodyRecorder(HttpClientCache cache, String key, HttpClientResponse response, HttpHeaders requestHeaders) {
+			this.cache = cache;
+			this.key = key;
+			this.response = response;
+			this.requestHeaders = requestHeaders;
+			// The request is already sent, the response headers are received
+			this.requestTime = System.currentTimeMillis();
+		}
+
+		@Override
+		public void accept(ByteBuf buf) {
+			if (discarded) {
+				return;
+			}
+			ByteBuf buffer = this.buffer;
+			if (buffer == null) {
+				buffer = cache.spec.offHeap ? Unpooled.directBuffer(buf.readableBytes()) : Unpooled.buffer(buf.readableBytes());
+				this.buffer = buffer;
+			}
+			if (buffer.readableBytes() + buf.readableBytes() > cache.spec.maxEntrySize) {
+				dispose();
+				return;
+			}
+			buffer.writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+		}
+
+		void complete() {
+			if (discarded) {
+				return;
+			}
+			discarded = true;
+			ByteBuf buffer = this.buffer;
+			this.buffer = null;
+			long responseTime = System.currentTimeMillis();
+			cache.put(key, new CacheEntry(response.status(), response.responseHeaders().copy(),
+					buffer != null ? buffer : Unpooled.EMPTY_BUFFER,
+					CacheEntry.vary(response.responseHeaders(), requestHeaders), requestTime, responseTime));
+		}
+
+		void dispose() {
+			discarded = true;
+			ByteBuf buffer = this.buffer;
+			if (buffer != null) {
+				this.buffer = null;
+				buffer.release();
+			}
+		}
+	}
+
+	static final class CacheEntry {
+
+		final HttpResponseStatus status;
+		final HttpHeaders headers;
+		final ByteBuf body;
+		final Map<String, @Nullable String> vary;
+		final CacheControl cacheControl;
+		final long correctedInitialAge;
+		final long responseTime;
+		final long freshnessLifetime;
+		final AtomicBoolean revalidating = new AtomicBoolean();
+
+		// Guarded by the cache
+		boolean evicted;
+
+		CacheEntry(HttpResponseStatus status, HttpHeaders headers, ByteBuf body, Map<String, @Nullable String> vary,
+				long requestTime, long responseTime) {
+			this.status = status;
+			this.headers = headers;
+			this.body = body;
+			this.vary = vary;
+			this.cacheControl = CacheControl.parse(headers);
+			this.responseTime = responseTime;
+
+			long date = date(headers, HttpHeaderNames.DATE, responseTime);
+			long ageValue = 0;
+			String age = headers.get(HttpHeaderNames.AGE);
+			if (age != null) {
+				try {
+					ageValue = Math.max(0, Long.parseLong(age.trim())) * 1000;
+				}
+				catch (NumberFormatException e) {
+					// ignore an invalid Age header
+				}
+			}
+			long apparentAge = Math.max(0, responseTime - date);
+			long correctedAgeValue = ageValue + (responseTime - requestTime);
+			this.correctedInitialAge = Math.max(apparentAge, correctedAgeValue);
+
+			if (cacheControl.maxAge >= 0) {
+				this.freshnessLifetime = cacheControl.maxAge;
+			}
+			else if (headers.contains(HttpHeaderNames.EXPIRES)) {
+				long expires = date(headers, HttpHeaderNames.EXPIRES, date);
+				this.freshnessLifetime = Math.max(0, expires - date);
+			}
+			else if (headers.contains(HttpHeaderNames.LAST_MODIFIED)) {
+				long lastModified = date(headers, HttpHeaderNames.LAST_MODIFIED, date);
+				this.freshnessLifetime = Math.max(0, (date - lastModified) / 10);
+			}
+			else {
+				this.freshnessLifetime = 0;
+			}
+		}
+
+		long staleLifetime() {
+			long staleLifetime = freshnessLifetime + cacheControl.staleWhileRevalidate;
+			return staleLifetime < 0 ? Long.MAX_VALUE : staleLifetime;
+		}
+
+		long currentAge(long now) {
+			return correctedInitialAge + Math.max(0, now - responseTime);
+		}
+
+		boolean hasValidators() {
+			return headers.contains(HttpHeaderNames.ETAG) || headers.contains(HttpHeaderNames.LAST_MODIFIED);
+		}
+
+		boolean matches(HttpHeaders requestHeaders) {
+			for (Map.Entry<String, @Nullable String> e : vary.entrySet()) {
+				if (!Objects.equals(e.getValue(), values(requestHeaders, e.getKey()))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static Map<String, @Nullable String> vary(HttpHeaders responseHeaders, HttpHeaders requestHeaders) {
+			Map<String, @Nullable String> result = new LinkedHashMap<>();
+			for (String value : responseHeaders.getAll(HttpHeaderNames.VARY)) {
+				for (String name : value.split(",")) {
+					String trimmed = name.trim().toLowerCase(Locale.ROOT);
+					if (!trimmed.isEmpty()) {
+						result.put(trimmed, values(requestHeaders, trimmed));
+					}
+				}
+			}
+			return result;
+		}
+
+		static @Nullable String values(HttpHeaders headers, String name) {
+			List<String> values = headers.getAll(name);
+			return values.isEmpty() ? null : String.join(",", values);
+		}
+
+		static long date(HttpHeaders headers, AsciiString name, long defaultValue) {
+			String value = headers.get(name);
+			if (value == null) {
+				return defaultValue;
+			}
+			Date date = DateFormatter.parseHttpDate(value);
+			// An invalid date represents a time in the past
+			return date != null ? date.getTime() : 0;
+		}
+	}
+
+	static final class CacheControl {
+
+		static final CacheControl EMPTY = new CacheControl();
+
+		boolean isPublic;
+		boolean mustRevalidate;
+		boolean noCache;
+		boolean noStore;
+		long maxAge = -1;
+		long staleWhileRevalidate;
+
+		static CacheControl parse(HttpHeaders headers) {
+			List<String> values = headers.getAll(HttpHeaderNames.CACHE_CONTROL);
+			if (values.isEmpty()) {
+				return EMPTY;
+			}
+			CacheControl cacheControl = new CacheControl();
+			for (String value : values) {
+				for (String directive : value.split(",")) {
+					int index = directive.indexOf('=');
+					String name = (index == -1 ? directive : directive.substring(0, index)).trim().toLowerCase(Locale.ROOT);
+					String argument = index == -1 ? null : directive.substring(index + 1).trim();
+					switch (name) {
+						case "max-age":
+							cacheControl.maxAge = seconds(argument, cacheControl.maxAge);
+							break;
+						case "must-revalidate":
+						case "proxy-revalidate":
+							cacheControl.mustRevalidate = true;
+							break;
+						case "no-cache":
+							cacheControl.noCache = true;
+							break;
+						case "no-store":
+							cacheControl.noStore = true;
+							break;
+						case "public":
+							cacheControl.isPublic = true;
+							break;
+						case "stale-while-revalidate":
+							cacheControl.staleWhileRevalidate = seconds(argument, 0);
+							break;
+						default:
+							break;
+					}
+				}
+			}
+			return cacheControl;
+		}
+
+		static long seconds(@Nullable String argument, long defaultValue) {
+			if (argument == null) {
+				return defaultValue;
+			}
+			if (argument.length() > 1 && argument.charAt(0) == '"' && argument.charAt(argument.length() - 1) == '"') {
+				argument = argument.substring(1, argument.length() - 1);
+			}
+			try {
+				return Math.multiplyExact(Math.max(0, Long.parseLong(argument)), 1000L);
+			}
+			catch (NumberFormatException e) {
+				return defaultValue;
+			}
+			catch (ArithmeticException e) {
+				return Long.MAX_VALUE;
+			}
+		}
+	}
+}
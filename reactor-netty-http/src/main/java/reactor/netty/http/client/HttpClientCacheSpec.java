@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A configuration builder for the {@link HttpClient} response cache.
+ * The cache is a private cache as defined by
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>, it stores the responses to {@code GET} requests
+ * in a size-bounded in-memory store and serves them as long as they are fresh.
+ *
+ * @since 1.3.3
+ */
+public final class HttpClientCacheSpec {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HttpClientCacheSpec}.
+		 *
+		 * @return a new {@link HttpClientCacheSpec}
+		 */
+		HttpClientCacheSpec build();
+
+		/**
+		 * Configures the maximum size in bytes of a single response body that can be stored.
+		 * Responses with bigger bodies are not stored.
+		 * Default to {@link #DEFAULT_MAX_ENTRY_SIZE}.
+		 *
+		 * @param maxEntrySize the maximum size in bytes of a single response body, must be positive
+		 * @return {@code this}
+		 */
+		Builder maxEntrySize(long maxEntrySize);
+
+		/**
+		 * Configures the maximum size in bytes of all stored response bodies.
+		 * When the limit is reached, the least recently used responses are evicted.
+		 * Default to {@link #DEFAULT_MAX_SIZE}.
+		 *
+		 * @param maxSize the maximum size in bytes of all stored response bodies, must be positive
+		 * @return {@code this}
+		 */
+		Builder maxSize(long maxSize);
+
+		/**
+		 * Configures whether the stored response bodies are kept in direct (off-heap) memory.
+		 * Default to {@code false}, the response bodies are kept on the heap.
+		 *
+		 * @param offHeap {@code true} to keep the stored response bodies in direct memory
+		 * @return {@code this}
+		 */
+		Builder offHeap(boolean offHeap);
+
+		/**
+		 * Configures whether the {@code stale-while-revalidate} response directive is honored.
+		 * When honored, a stale response is served immediately while it is revalidated in the background.
+		 * Default to {@code true}.
+		 *
+		 * @param staleWhileRevalidate {@code true} to honor the {@code stale-while-revalidate} response directive
+		 * @return {@code this}
+		 */
+		Builder staleWhileRevalidate(boolean staleWhileRevalidate);
+	}
+
+	/**
+	 * Default maximum size in bytes of a single response body - 1MB.
+	 */
+	public static final long DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+	/**
+	 * Default maximum size in bytes of all stored response bodies - 16MB.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Creates a builder for {@link HttpClientCacheSpec}.
+	 *
+	 * @return a new {@link HttpClientCacheSpec.Builder}
+	 */
+	public static Builder builder() {
+		return new Build();
+	}
+
+	/**
+	 * Returns the configured maximum size in bytes of a single response body.
+	 *
+	 * @return the configured maximum size in bytes of a single response body
+	 */
+	public long maxEntrySize() {
+		return maxEntrySize;
+	}
+
+	/**
+	 * Returns the configured maximum size in bytes of all stored response bodies.
+	 *
+	 * @return the configured maximum size in bytes of all stored response bodies
+	 */
+	public long maxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns whether the stored response bodies are kept in direct (off-heap) memory.
+	 *
+	 * @return {@code true} if the stored response bodies are kept in direct memory
+	 */
+	public boolean offHeap() {
+		return offHeap;
+	}
+
+	/**
+	 * Returns whether the {@code stale-while-revalidate} response directive is honored.
+	 *
+	 * @return {@code true} if the {@code stale-while-revalidate} response directive is honored
+	 */
+	public boolean staleWhileRevalidate() {
+		return staleWhileRevalidate;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof HttpClientCacheSpec)) {
+			return false;
+		}
+		HttpClientCacheSpec that = (HttpClientCacheSpec) o;
+		return maxEntrySize == that.maxEntrySize &&
+				maxSize == that.maxSize &&
+				offHeap == that.offHeap &&
+				staleWhileRevalidate == that.staleWhileRevalidate;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		result = 31 * result + Long.hashCode(maxEntrySize);
+		result = 31 * result + Long.hashCode(maxSize);
+		result = 31 * result + Boolean.hashCode(offHeap);
+		result = 31 * result + Boolean.hashCode(staleWhileRevalidate);
+		return result;
+	}
+
+	final long maxEntrySize;
+	final long maxSize;
+	final boolean offHeap;
+	final boolean staleWhileRevalidate;
+
+	HttpClientCacheSpec(Build build) {
+		this.maxEntrySize = build.maxEntrySize;
+		this.maxSize = build.maxSize;
+		this.offHeap = build.offHeap;
+		this.staleWhileRevalidate = build.staleWhileRevalidate;
+	}
+
+	static final class Build implements Builder {
+
+		long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+		long maxSize = DEFAULT_MAX_SIZE;
+		boolean offHeap;
+		boolean staleWhileRevalidate = true;
+
+		@Override
+		public HttpClientCacheSpec build() {
+			if (maxEntrySize > maxSize) {
+				throw new IllegalArgumentException("maxEntrySize must be less than or equal to maxSize");
+			}
+			return new HttpClientCacheSpec(this);
+		}
+
+		@Override
+		public Builder maxEntrySize(long maxEntrySize) {
+			if (maxEntrySize < 1) {
+				throw new IllegalArgumentException("maxEntrySize must be positive");
+			}
+			this.maxEntrySize = maxEntrySize;
+			return this;
+		}
+
+		@Override
+		public Builder maxSize(long maxSize) {
+			if (maxSize < 1) {
+				throw new IllegalArgumentException("maxSize must be positive");
+			}
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		@Override
+		public Builder offHeap(boolean offHeap) {
+			this.offHeap = offHeap;
+			return this;
+		}
+
+		@Override
+		public Builder staleWhileRevalidate(boolean staleWhileRevalidate) {
+			this.staleWhileRevalidate = staleWhileRevalidate;
+			return this;
+		}
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.ByteBufMono;
+
+import static reactor.netty.http.client.HttpClientConnect.URI_ADDRESS_MAPPER;
+
+/**
+ * Coalesces concurrent identical idempotent requests so that they share one upstream exchange.
+ * Requests are identical when they have the same method, target URI and values for the configured key headers.
+ * The credential headers ({@code Authorization}, {@code Proxy-Authorization} and {@code Cookie}) are always part of the key,
+ * so that requests made on behalf of different users never share a response.
+ * The aggregated response body is fanned out to all subscribers, each of them receives its own reference.
+ *
+ * @since 1.3.3
+ */
+final class HttpClientCoalescing {
+
+	/**
+	 * Headers that are always part of the key, whatever the configured key headers.
+	 */
+	static final CharSequence[] CREDENTIAL_HEADERS =
+			{HttpHeaderNames.AUTHORIZATION, HttpHeaderNames.PROXY_AUTHORIZATION, HttpHeaderNames.COOKIE};
+
+	final CharSequence[] keyHeaders;
+	final ConcurrentMap<Key, Flight> inFlight = new ConcurrentHashMap<>();
+
+	HttpClientCoalescing(CharSequence[] keyHeaders) {
+		this.keyHeaders = new CharSequence[CREDENTIAL_HEADERS.length + keyHeaders.length];
+		System.arraycopy(CREDENTIAL_HEADERS, 0, this.keyHeaders, 0, CREDENTIAL_HEADERS.length);
+		System.arraycopy(keyHeaders, 0, this.keyHeaders, CREDENTIAL_HEADERS.length, keyHeaders.length);
+	}
+
+	/**
+	 * Returns whether the request configured with {@link HttpClientConfig} can be coalesced.
+	 * Only {@code GET} and {@code HEAD} requests without a body are eligible.
+	 * Requests that can be modified after the key is computed, i.e. with a {@code doOnRequest} callback
+	 * or an authenticator, are not eligible.
+	 *
+	 * @param config the request configuration
+	 * @return {@code true} if the request can be coalesced
+	 */
+	static boolean isEligible(HttpClientConfig config) {
+		return (HttpMethod.GET.equals(config.method) || HttpMethod.HEAD.equals(config.method)) &&
+				config.body == null &&
+				config.deferredConf == null &&
+				config.websocketClientSpec == null &&
+				config.doOnRequest == null &&
+				config.authenticator == null;
+	}
+
+	<V> Mono<V> responseSingle(HttpClientFinalizer client,
+			BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		return Mono.defer(() -> {
+			HttpClientConfig config = client.configuration();
+			UriEndpoint endpoint = HttpClientConnect.HttpClientHandler.createUriEndpoint(config,
+					new UriEndpointFactory(config.remoteAddress(), config.isSecure(), URI_ADDRESS_MAPPER));
+			Key key = new Key(config.method.name(), endpoint.toExternalForm(), values(config.headers));
+
+			Flight flight = inFlight.compute(key, (k, current) -> current != null && current.join() ? current : new Flight(this, k, client));
+
+			Participant participant = new Participant(flight);
+			return Mono.deferContextual(contextView ->
+			                   flight.result.flatMap(result -> {
+			                       ByteBuf body = participant.acquire(result.body);
+			                       CachedHttpClientResponse response =
+			                               new CachedHttpClientResponse(contextView, config, result.resourceUrl, result.status, result.headers.copy());
+			                       return receiver.apply(response, ByteBufFlux.fromInbound(Mono.just(body.duplicate()), alloc(config)).aggregate())
+			                                      .doFinally(s -> body.release());
+			                   }))
+			           .doFinally(s -> participant.leave());
+		});
+	}
+
+	List<@Nullable String> values(HttpHeaders headers) {
+		@Nullable String[] values = new String[keyHeaders.length];
+		for (int i = 0; i < keyHeaders.length; i++) {
+			List<String> all = headers.getAll(keyHeaders[i]);
+			values[i] = all.isEmpty() ? null : String.join(",", all);
+		}
+		return Arrays.asList(values);
+	}
+
+	static Mono<Result> exchange(HttpClientFinalizer client) {
+		HttpClientConfig config = client.configuration();
+		HttpClientCache cache = config.cache;
+		if (cache != null && HttpClientCache.isEligible(config)) {
+			return cache.responseSingle(client, HttpClientCoalescing::result);
+		}
+		HttpClientHedging hedging = config.hedging;
+		if (hedging != null && HttpClientHedging.isEligible(config)) {
+			return hedging.exchange(client);
+		}
+		return connect(client);
+	}
+
+	static Mono<Result> connect(HttpClientFinalizer client) {
+		return client._connect()
+		             .flatMap(resp -> result(resp, resp.receive().aggregate())
+		                     .doFinally(s -> HttpClientFinalizer.discard(resp))
+		                     .contextWrite(resp.currentContextView()));
+	}
+
+	static Mono<Result> result(HttpClientResponse response, ByteBufMono body) {
+		String resourceUrl = response.resourceUrl();
+		return body.map(ByteBuf::retain)
+		           .defaultIfEmpty(Unpooled.EMPTY_BUFFER)
+		           .map(buf -> new Result(response.status(), response.responseHeaders().copy(),
+		                   resourceUrl != null ? resourceUrl : "", buf));
+	}
+
+	static ByteBufAllocator alloc(HttpClientConfig config) {
+		ByteBufAllocator alloc = (ByteBufAllocator) config.options().get(ChannelOption.ALLOCATOR);
+		return alloc != null ? alloc : ByteBufAllocator.DEFAULT;
+	}
+
+	/**
+	 * One upstream exchange shared by all requests with the same {@link Key}.
+	 * The response body is owned by the exchange until it is removed from the in-flight requests
+	 * and all participants have acquired their own reference.
+	 */
+	static final class Flight {
+
+		final Mono<Result> result;
+
+		// Guarded by this
+		int participants = 1;
+		boolean closed;
+		@Nullable ByteBuf body;
+
+		Flight(HttpClientCoalescing coalescing, Key key, HttpClientFinalizer client) {
+			this.result = exchange(client)
+					.doOnNext(r -> complete(r.body))
+					.doFinally(s -> {
+						coalescing.inFlight.remove(key, this);
+						close();
+					})
+					.cache();
+		}
+
+		synchronized boolean join() {
+			if (closed) {
+				return false;
+			}
+			participants++;
+			return true;
+		}
+
+		synchronized void complete(ByteBuf body) {
+			this.body = body;
+		}
+
+		synchronized void close() {
+			closed = true;
+			maybeRelease();
+		}
+
+		synchronized ByteBuf acquire(ByteBuf body) {
+			body.retain();
+			participants--;
+			maybeRelease();
+			return body;
+		}
+
+		synchronized void leave() {
+			participants--;
+			maybeRelease();
+		}
+
+		void maybeRelease() {
+			// Guarded by this
+			ByteBuf body = this.body;
+			if (closed && participants == 0 && body != null) {
+				this.body = null;
+				body.release();
+			}
+		}
+	}
+
+	static final class Participant {
+
+		final Flight flight;
+
+		// Guarded by the flight
+		boolean done;
+
+		Participant(Flight flight) {
+			this.flight = flight;
+		}
+
+		ByteBuf acquire(ByteBuf body) {
+			synchronized (flight) {
+				done = true;
+				return flight.acquire(body);
+			}
+		}
+
+		void leave() {
+			synchronized (flight) {
+				if (!done) {
+					done = true;
+					flight.leave();
+				}
+			}
+		}
+	}
+
+	static final class Result {
+
+		final HttpResponseStatus status;
+		final HttpHeaders headers;
+		final String resourceUrl;
+		final ByteBuf body;
+
+		Result(HttpResponseStatus status, HttpHeaders headers, String resourceUrl, ByteBuf body) {
+			this.status = status;
+			this.headers = headers;
+			this.resourceUrl = resourceUrl;
+			this.body = body;
+		}
+	}
+
+	static final class Key {
+
+		final String method;
+		final String uri;
+		final List<@Nullable String> headers;
+
+		Key(String method, String uri, List<@Nullable String> headers) {
+			this.method = method;
+			this.uri = uri;
+			this.headers = headers;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key that = (Key) o;
+			return method.equals(that.method) &&
+					uri.equals(that.uri) &&
+					headers.equals(that.headers);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = method.hashCode();
+			result = 31 * result + uri.hashCode();
+			result = 31 * result + headers.hashCode();
+			return result;
+		}
+	}
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A configuration builder for {@link HttpClient} compression.
+ * Enabling the compression advertises the supported encodings with {@code Accept-Encoding}
+ * and decompresses the responses accordingly. Optionally, the request bodies can be compressed.
+ *
+ * @since 1.3.3
+ */
+public final class HttpClientCompressionSpec {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HttpClientCompressionSpec}.
+		 *
+		 * @return a new {@link HttpClientCompressionSpec}
+		 */
+		HttpClientCompressionSpec build();
+
+		/**
+		 * Configures the maximum size in bytes of a decompressed response body.
+		 * When the limit is exceeded, the response fails with a
+		 * {@link io.netty.handler.codec.compression.DecompressionException} and the connection is closed.
+		 * Default to {@link #DEFAULT_MAX_DECOMPRESSED_SIZE}, i.e. no limit.
+		 *
+		 * @param maxDecompressedSize the maximum size in bytes of a decompressed response body,
+		 * {@code 0} means no limit
+		 * @return {@code this}
+		 */
+		Builder maxDecompressedSize(long maxDecompressedSize);
+
+		/**
+		 * Configures the content encoding used to compress the request bodies.
+		 * One of {@code gzip}, {@code deflate} or {@code zstd}.
+		 * {@code zstd} requires {@code com.github.luben:zstd-jni}.
+		 * Default to {@code null}, i.e. the request bodies are not compressed.
+		 *
+		 * @param encoding the content encoding used to compress the request bodies, {@code null} disables
+		 * the request compression
+		 * @return {@code this}
+		 */
+		Builder requestCompression(@Nullable String encoding);
+
+		/**
+		 * Configures the compression level used for the request bodies.
+		 * The valid range is {@code 0-9} for {@code gzip} and {@code deflate} and {@code 0-22} for {@code zstd}.
+		 * Default to {@link #DEFAULT_REQUEST_COMPRESSION_LEVEL}, i.e. the default level of the encoder.
+		 *
+		 * @param level the compression level used for the request bodies
+		 * @return {@code this}
+		 */
+		Builder requestCompressionLevel(int level);
+
+		/**
+		 * Configures the minimum size in bytes of a request body to be compressed.
+		 * Request bodies with unknown size are always compressed.
+		 * Default to {@link #DEFAULT_REQUEST_COMPRESSION_MIN_SIZE}.
+		 *
+		 * @param minSize the minimum size in bytes of a request body to be compressed
+		 * @return {@code this}
+		 */
+		Builder requestCompressionMinSize(int minSize);
+
+		/**
+		 * Configures whether {@code snappy} is advertised with {@code Accept-Encoding}.
+		 * Default to {@code false}.
+		 *
+		 * @param snappy whether {@code snappy} is advertised with {@code Accept-Encoding}
+		 * @return {@code this}
+		 */
+		Builder snappy(boolean snappy);
+
+		/**
+		 * Configures whether {@code zstd} is advertised with {@code Accept-Encoding}.
+		 * {@code zstd} is advertised only when {@code com.github.luben:zstd-jni} is available.
+		 * Default to {@code true}.
+		 *
+		 * @param zstd whether {@code zstd} is advertised with {@code Accept-Encoding}
+		 * @return {@code this}
+		 */
+		Builder zstd(boolean zstd);
+	}
+
+	/**
+	 * Default maximum size of a decompressed response body - no limit.
+	 */
+	public static final long DEFAULT_MAX_DECOMPRESSED_SIZE = 0;
+
+	/**
+	 * Default compression level for the request bodies - the default level of the encoder.
+	 */
+	public static final int DEFAULT_REQUEST_COMPRESSION_LEVEL = -1;
+
+	/**
+	 * Default minimum size of a request body to be compressed - all non-empty request bodies.
+	 */
+	public static final int DEFAULT_REQUEST_COMPRESSION_MIN_SIZE = 0;
+
+	/**
+	 * Creates a builder for {@link HttpClientCompressionSpec}.
+	 *
+	 * @return a new {@link HttpClientCompressionSpec.Builder}
+	 */
+	public static Builder builder() {
+		return new Build();
+	}
+
+	/**
+	 * Returns the configured maximum size in bytes of a decompressed response body, {@code 0} means no limit.
+	 *
+	 * @return the configured maximum size in bytes of a decompressed response body
+	 */
+	public long maxDecompressedSize() {
+		return maxDecompressedSize;
+	}
+
+	/**
+	 * Returns the configured content encoding used to compress the request bodies or null.
+	 *
+	 * @return the configured content encoding used to compress the request bodies or null
+	 */
+	public @Nullable String requestCompression() {
+		return requestCompression;
+	}
+
+	/**
+	 * Returns the configured compression level used for the request bodies.
+	 *
+	 * @return the configured compression level used for the request bodies
+	 */
+	public int requestCompressionLevel() {
+		return requestCompressionLevel;
+	}
+
+	/**
+	 * Returns the configured minimum size in bytes of a request body to be compressed.
+	 *
+	 * @return the configured minimum size in bytes of a request body to be compressed
+	 */
+	public int requestCompressionMinSize() {
+		return requestCompressionMinSize;
+	}
+
+	/**
+	 * Returns whether {@code snappy} is advertised with {@code Accept-Encoding}.
+	 *
+	 * @return whether {@code snappy} is advertised with {@code Accept-Encoding}
+	 */
+	public boolean snappy() {
+		return snappy;
+	}
+
+	/**
+	 * Returns whether {@code zstd} is advertised with {@code Accept-Encoding}.
+	 *
+	 * @return whether {@code zstd} is advertised with {@code Accept-Encoding}
+	 */
+	public boolean zstd() {
+		return zstd;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof HttpClientCompressionSpec)) {
+			return false;
+		}
+		HttpClientCompressionSpec that = (HttpClientCompressionSpec) o;
+		return maxDecompressedSize == that.maxDecompressedSize &&
+				Objects.equals(requestCompression, that.requestCompression) &&
+				requestCompressionLevel == that.requestCompressionLevel &&
+				requestCompressionMinSize == that.requestCompressionMinSize &&
+				snappy == that.snappy &&
+				zstd == that.zstd;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		result = 31 * result + Long.hashCode(maxDecompressedSize);
+		result = 31 * result + Objects.hashCode(requestCompression);
+		result = 31 * result + requestCompressionLevel;
+		result = 31 * result + requestCompressionMinSize;
+		result = 31 * result + Boolean.hashCode(snappy);
+		result = 31 * result + Boolean.hashCode(zstd);
+		return result;
+	}
+
+	final long maxDecompressedSize;
+	final @Nullable String requestCompression;
+	final int requestCompressionLevel;
+	final int requestCompressionMinSize;
+	final boolean snappy;
+	final boolean zstd;
+
+	HttpClientCompressionSpec(Build build) {
+		this.maxDecompressedSize = build.maxDecompressedSize;
+		this.requestCompression = build.requestCompression;
+		this.requestCompressionLevel = build.requestCompressionLevel;
+		this.requestCompressionMinSize = build.requestCompressionMinSize;
+		this.snappy = build.snappy;
+		this.zstd = build.zstd;
+	}
+
+	static final class Build implements Builder {
+
+		long maxDecompressedSize = DEFAULT_MAX_DECOMPRESSED_SIZE;
+		@Nullable String requestCompression;
+		int requestCompressionLevel = DEFAULT_REQUEST_COMPRESSION_LEVEL;
+		int requestCompressionMinSize = DEFAULT_REQUEST_COMPRESSION_MIN_SIZE;
+		boolean snappy;
+		boolean zstd = true;
+
+		@Override
+		public HttpClientCompressionSpec build() {
+			if (requestCompression != null) {
+				int maxLevel;
+				if (HttpHeaderValues.GZIP.contentEqualsIgnoreCase(requestCompression) ||
+						HttpHeaderValues.DEFLATE.contentEqualsIgnoreCase(requestCompression)) {
+					maxLevel = 9;
+				}
+				else if (HttpHeaderValues.ZSTD.contentEqualsIgnoreCase(requestCompression)) {
+					if (!Zstd.isAvailable()) {
+						throw new IllegalArgumentException("zstd request compression requires com.github.luben:zstd-jni");
+					}
+					maxLevel = 22;
+				}
+				else {
+					throw new IllegalArgumentException("requestCompression must be one of gzip, deflate or zstd");
+				}
+				if (requestCompressionLevel != DEFAULT_REQUEST_COMPRESSION_LEVEL &&
+						(requestCompressionLevel < 0 || requestCompressionLevel > maxLevel)) {
+					throw new IllegalArgumentException("requestCompressionLevel must be between 0 and " + maxLevel +
+							" for " + requestCompression);
+				}
+			}
+			return new HttpClientCompressionSpec(this);
+		}
+
+		@Override
+		public Builder maxDecompressedSize(long maxDecompressedSize) {
+			if (maxDecompressedSize < 0) {
+				throw new IllegalArgumentException("maxDecompressedSize must be positive or zero");
+			}
+			this.maxDecompressedSize = maxDecompressedSize;
+			return this;
+		}
+
+		@Override
+		public Builder requestCompression(@Nullable String encoding) {
+			this.requestCompression = encoding != null ? encoding.toLowerCase(Locale.ROOT) : null;
+			return this;
+		}
+
+		@Override
+		public Builder requestCompressionLevel(int level) {
+			this.requestCompressionLevel = level;
+			return this;
+		}
+
+		@Override
+		public Builder requestCompressionMinSize(int minSize) {
+			if (minSize < 0) {
+				throw new IllegalArgumentException("requestCompressionMinSize must be positive or zero");
+			}
+			this.requestCompressionMinSize = minSize;
+			return this;
+		}
+
+		@Override
+		public Builder snappy(boolean snappy) {
+			this.snappy = snappy;
+			return this;
+		}
+
+		@Override
+		public Builder zstd(boolean zstd) {
+			this.zstd = zstd;
+			return this;
+		}
+	}
+}
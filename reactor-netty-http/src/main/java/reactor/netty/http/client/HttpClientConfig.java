@@ -21,7 +21,6 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -44,7 +43,6 @@ import io.netty.channel.unix.DomainSocketChannel;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpClientUpgradeHandler;
-import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpDecoderConfig;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
@@ -65,7 +63,6 @@ import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.ReferenceCountUtil;
 import org.jspecify.annotations.Nullable;
@@ -83,6 +80,8 @@ import reactor.netty.http.Http2SettingsSpec;
 import reactor.netty.http.Http3SettingsSpec;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.HttpResources;
+import reactor.netty.http.internal.Http2WriteScheduling;
+import reactor.netty.http.internal.TimeoutWheel;
 import reactor.netty.http.logging.HttpMessageLogFactory;
 import reactor.netty.http.logging.ReactorNettyHttpMessageLogFactory;
 import reactor.netty.resources.ConnectionProvider;
@@ -121,11 +120,32 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		return baseUrl;
 	}
 
+	/**
+	 * Return the configured response compression options or null.
+	 *
+	 * @return the configured response compression options or null
+	 * @since 1.3.3
+	 */
+	public @Nullable HttpClientCompressionSpec compressionSpec() {
+		return compression;
+	}
+
+	/**
+	 * Return the configured response cache options or null.
+	 *
+	 * @return the configured response cache options or null
+	 * @since 1.3.3
+	 */
+	public @Nullable HttpClientCacheSpec cacheSpec() {
+		return cache != null ? cache.spec : null;
+	}
+
 	@Override
 	public int channelHash() {
 		int result = super.channelHash();
 		result = 31 * result + Boolean.hashCode(acceptBrotli);
 		result = 31 * result + Boolean.hashCode(acceptGzip);
+		result = 31 * result + Objects.hashCode(compression);
 		result = 31 * result + Objects.hashCode(decoder);
 		result = 31 * result + _protocols;
 		result = 31 * result + Objects.hashCode(sslProvider);
@@ -192,6 +212,16 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		return headers.copy();
 	}
 
+	/**
+	 * Return the configured hedged requests options or null.
+	 *
+	 * @return the configured hedged requests options or null
+	 * @since 1.3.3
+	 */
+	public @Nullable HttpClientHedgingSpec hedgingSpec() {
+		return hedging != null ? hedging.spec : null;
+	}
+
 	/**
 	 * Return the HTTP/2 configuration.
 	 *
@@ -337,8 +367,13 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 
 	boolean acceptBrotli;
 	boolean acceptGzip;
+	boolean altSvc;
 	@Nullable String baseUrl;
 	@Nullable BiFunction<? super HttpClientRequest, ? super NettyOutbound, ? extends Publisher<Void>> body;
+	@Nullable HttpClientCache cache;
+	@Nullable HttpClientCompressionSpec compression;
+	@Nullable HttpClientCoalescing coalescing;
+	@Nullable HttpClientHedging hedging;
 	@Nullable Function<? super Mono<? extends Connection>, ? extends Mono<? extends Connection>> connector;
 	ClientCookieDecoder cookieDecoder;
 	ClientCookieEncoder cookieEncoder;
@@ -392,8 +427,13 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		super(parent);
 		this.acceptBrotli = parent.acceptBrotli;
 		this.acceptGzip = parent.acceptGzip;
+		this.altSvc = parent.altSvc;
 		this.baseUrl = parent.baseUrl;
 		this.body = parent.body;
+		this.cache = parent.cache;
+		this.compression = parent.compression;
+		this.coalescing = parent.coalescing;
+		this.hedging = parent.hedging;
 		this.connector = parent.connector;
 		this.cookieDecoder = parent.cookieDecoder;
 		this.cookieEncoder = parent.cookieEncoder;
@@ -596,6 +636,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 			ConnectionObserver obs,
 			ChannelOperations.OnSetup opsFactory,
 			boolean acceptGzip,
+			@Nullable HttpClientCompressionSpec compression,
 			boolean copyState,
 			@Nullable ChannelMetricsRecorder metricsRecorder,
 			@Nullable SocketAddress proxyAddress,
@@ -609,22 +650,16 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 
 		ChannelPipeline pipeline = ch.pipeline();
 
-		if (responseTimeoutMillis > -1 && ch.pipeline().get(NettyPipeline.ResponseTimeoutHandler) == null) {
-			// This handler has to be always as early as possible in order to handle correctly the time for receiving the read/readComplete events.
-			// We don't want other handlers to delay read/readComplete events delivery.
-			ch.pipeline().addLast(NettyPipeline.ResponseTimeoutHandler,
-					new ReadTimeoutHandler(responseTimeoutMillis, TimeUnit.MILLISECONDS));
-			Connection conn = Connection.from(ch);
-			if (conn.isPersistent()) {
-				conn.onTerminate().subscribe(null, null, () -> conn.removeHandler(NettyPipeline.ResponseTimeoutHandler));
-			}
-		}
-
 		pipeline.addLast(NettyPipeline.H2ToHttp11Codec, HTTP2_STREAM_FRAME_TO_HTTP_OBJECT)
 				.addLast(NettyPipeline.HttpTrafficHandler, HTTP_2_STREAM_BRIDGE_CLIENT_HANDLER);
 
 		if (acceptGzip) {
-			pipeline.addLast(NettyPipeline.HttpDecompressor, new HttpContentDecompressor(false, 0));
+			pipeline.addLast(NettyPipeline.HttpDecompressor, httpDecompressor(compression, metricsRecorder, remoteAddress));
+		}
+
+		if (compression != null && compression.requestCompression != null) {
+			pipeline.addLast(NettyPipeline.CompressionHandler, new HttpClientRequestCompressor(compression.requestCompression,
+					compression.requestCompressionLevel, compression.requestCompressionMinSize));
 		}
 
 		ChannelOperations.addReactiveBridge(ch, opsFactory, obs);
@@ -672,15 +707,18 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				opsFactory.create(Connection.from(ch), obs, null);
 		if (ops != null) {
 			ops.bind();
+			if (responseTimeoutMillis > -1 && ops instanceof HttpClientOperations) {
+				((HttpClientOperations) ops).startResponseTimeout(responseTimeoutMillis);
+			}
 		}
 	}
 
 	static void configureHttp2Pipeline(ChannelPipeline p, HttpResponseDecoderSpec decoder,
 			Http2Settings http2Settings, @Nullable Http2SettingsSpec http2SettingsSpec, ConnectionObserver observer) {
 		Http2FrameCodecBuilder http2FrameCodecBuilder =
-				Http2FrameCodecBuilder.forClient()
-				                      .validateHeaders(decoder.validateHeaders())
-				                      .initialSettings(http2Settings);
+				Http2WriteScheduling.frameCodecBuilder(false, http2SettingsSpec)
+				                    .validateHeaders(decoder.validateHeaders())
+				                    .initialSettings(http2Settings);
 
 		if (p.get(NettyPipeline.LoggingHandler) != null) {
 			http2FrameCodecBuilder.frameLogger(new Http2FrameLogger(LogLevel.DEBUG,
@@ -705,6 +743,14 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		 .addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpTrafficHandler, new HttpTrafficHandler(observer));
 	}
 
+	static ChannelHandler httpDecompressor(@Nullable HttpClientCompressionSpec compression,
+			@Nullable ChannelMetricsRecorder metricsRecorder, SocketAddress remoteAddress) {
+		return new HttpClientDecompressor(
+				compression != null ? compression.maxDecompressedSize : HttpClientCompressionSpec.DEFAULT_MAX_DECOMPRESSED_SIZE,
+				metricsRecorder instanceof HttpClientMetricsRecorder ? (HttpClientMetricsRecorder) metricsRecorder : null,
+				remoteAddress);
+	}
+
 	static void configureHttp3Pipeline(ChannelPipeline p, boolean removeMetricsRecorder, boolean removeProxyProvider) {
 		p.remove(NettyPipeline.ReactiveBridge);
 
@@ -724,6 +770,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	static void configureHttp11OrH2CleartextPipeline(
 			ChannelPipeline p,
 			boolean acceptGzip,
+			@Nullable HttpClientCompressionSpec compression,
 			HttpResponseDecoderSpec decoder,
 			Http2Settings http2Settings,
 			@Nullable Http2SettingsSpec http2SettingsSpec,
@@ -745,7 +792,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				new HttpClientCodec(decoderConfig, decoder.failOnMissingResponse, decoder.parseHttpAfterConnectRequest);
 
 		Http2FrameCodecBuilder http2FrameCodecBuilder =
-				Http2FrameCodecBuilder.forClient()
+				Http2WriteScheduling.frameCodecBuilder(false, http2SettingsSpec)
 						.validateHeaders(decoder.validateHeaders())
 						.initialSettings(http2Settings);
 
@@ -769,7 +816,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		Http2FrameCodec http2FrameCodec = http2FrameCodecBuilder.build();
 
 		Http2ClientUpgradeCodec upgradeCodec = new Http2ClientUpgradeCodec(http2FrameCodec,
-				new H2CleartextCodec(http2FrameCodec, opsFactory, acceptGzip, metricsRecorder, proxyAddress, remoteAddress, uriTagValue));
+				new H2CleartextCodec(http2FrameCodec, opsFactory, acceptGzip, compression, metricsRecorder, proxyAddress, remoteAddress, uriTagValue));
 
 		HttpClientUpgradeHandler upgradeHandler =
 				new ReactorNettyHttpClientUpgradeHandler(httpClientCodec, upgradeCodec, decoder.h2cMaxContentLength());
@@ -779,7 +826,12 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		 .addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpTrafficHandler, new HttpTrafficHandler(observer));
 
 		if (acceptGzip) {
-			p.addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpDecompressor, new HttpContentDecompressor(false, 0));
+			p.addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpDecompressor, httpDecompressor(compression, metricsRecorder, remoteAddress));
+		}
+
+		if (compression != null && compression.requestCompression != null) {
+			p.addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.CompressionHandler, new HttpClientRequestCompressor(
+					compression.requestCompression, compression.requestCompressionLevel, compression.requestCompressionMinSize));
 		}
 
 		if (metricsRecorder != null) {
@@ -803,6 +855,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	@SuppressWarnings("deprecation")
 	static void configureHttp11Pipeline(ChannelPipeline p,
 			boolean acceptGzip,
+			@Nullable HttpClientCompressionSpec compression,
 			HttpResponseDecoderSpec decoder,
 			@Nullable ChannelMetricsRecorder metricsRecorder,
 			@Nullable SocketAddress proxyAddress,
@@ -821,7 +874,12 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				new HttpClientCodec(decoderConfig, decoder.failOnMissingResponse, decoder.parseHttpAfterConnectRequest));
 
 		if (acceptGzip) {
-			p.addAfter(NettyPipeline.HttpCodec, NettyPipeline.HttpDecompressor, new HttpContentDecompressor(false, 0));
+			p.addAfter(NettyPipeline.HttpCodec, NettyPipeline.HttpDecompressor, httpDecompressor(compression, metricsRecorder, remoteAddress));
+		}
+
+		if (compression != null && compression.requestCompression != null) {
+			p.addAfter(NettyPipeline.HttpCodec, NettyPipeline.CompressionHandler, new HttpClientRequestCompressor(
+					compression.requestCompression, compression.requestCompressionLevel, compression.requestCompressionMinSize));
 		}
 
 		if (metricsRecorder != null) {
@@ -881,6 +939,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	static final class H2CleartextCodec extends ChannelHandlerAdapter {
 
 		final boolean acceptGzip;
+		final @Nullable HttpClientCompressionSpec compression;
 		final Http2FrameCodec http2FrameCodec;
 		final @Nullable ChannelMetricsRecorder metricsRecorder;
 		final ChannelOperations.OnSetup opsFactory;
@@ -892,11 +951,13 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				Http2FrameCodec http2FrameCodec,
 				ChannelOperations.OnSetup opsFactory,
 				boolean acceptGzip,
+				@Nullable HttpClientCompressionSpec compression,
 				@Nullable ChannelMetricsRecorder metricsRecorder,
 				@Nullable SocketAddress proxyAddress,
 				SocketAddress remoteAddress,
 				@Nullable Function<String, String> uriTagValue) {
 			this.acceptGzip = acceptGzip;
+			this.compression = compression;
 			this.http2FrameCodec = http2FrameCodec;
 			this.metricsRecorder = metricsRecorder;
 			this.opsFactory = opsFactory;
@@ -908,8 +969,9 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		@Override
 		public void handlerAdded(ChannelHandlerContext ctx) {
 			ChannelPipeline pipeline = ctx.pipeline();
-			ReadTimeoutHandler responseTimeoutHandler =
-					(ReadTimeoutHandler) pipeline.get(NettyPipeline.ResponseTimeoutHandler);
+			ChannelOperations<?, ?> ops = ChannelOperations.get(ctx.channel());
+			HttpClientOperations parentOps = ops instanceof HttpClientOperations ? (HttpClientOperations) ops : null;
+			TimeoutWheel.ReadTimeout responseTimeout = parentOps != null ? parentOps.responseTimeoutHandle : null;
 			Http2MultiplexHandler http2MultiplexHandler;
 			ConnectionObserver channelOwner = ctx.channel().attr(OWNER).get();
 			Http2ConnectionProvider.DisposableAcquire owner = null;
@@ -920,15 +982,16 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				obs = owner.obs;
 				http2PooledRef = http2PooledRef(owner.pooledRef);
 			}
-			if (responseTimeoutHandler != null) {
-				pipeline.remove(NettyPipeline.ResponseTimeoutHandler);
+			if (parentOps != null && responseTimeout != null) {
+				// The response is received on the upgrade stream, the response timeout continues there
+				parentOps.stopResponseTimeout();
 				http2MultiplexHandler = new Http2MultiplexHandler(H2InboundStreamHandler.INSTANCE,
-						new H2Codec(owner, obs, opsFactory, acceptGzip, metricsRecorder, proxyAddress,
-								remoteAddress, responseTimeoutHandler.getReaderIdleTimeInMillis(), uriTagValue));
+						new H2Codec(owner, obs, opsFactory, acceptGzip, compression, metricsRecorder, proxyAddress,
+								remoteAddress, responseTimeout.timeoutMillis(), uriTagValue));
 			}
 			else {
 				http2MultiplexHandler = new Http2MultiplexHandler(H2InboundStreamHandler.INSTANCE,
-						new H2Codec(owner, obs, opsFactory, acceptGzip, metricsRecorder, proxyAddress, remoteAddress, uriTagValue));
+						new H2Codec(owner, obs, opsFactory, acceptGzip, compression, metricsRecorder, proxyAddress, remoteAddress, uriTagValue));
 			}
 			pipeline.addAfter(ctx.name(), NettyPipeline.HttpCodec, http2FrameCodec)
 			        .addAfter(NettyPipeline.HttpCodec, NettyPipeline.H2MultiplexHandler, http2MultiplexHandler);
@@ -947,6 +1010,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	static final class H2Codec extends ChannelInitializer<Channel> {
 
 		final boolean acceptGzip;
+		final @Nullable HttpClientCompressionSpec compression;
 		final @Nullable ChannelMetricsRecorder metricsRecorder;
 		final @Nullable ConnectionObserver observer;
 		final ChannelOperations.OnSetup opsFactory;
@@ -961,12 +1025,13 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				@Nullable ConnectionObserver observer,
 				ChannelOperations.OnSetup opsFactory,
 				boolean acceptGzip,
+				@Nullable HttpClientCompressionSpec compression,
 				@Nullable ChannelMetricsRecorder metricsRecorder,
 				@Nullable SocketAddress proxyAddress,
 				SocketAddress remoteAddress,
 				@Nullable Function<String, String> uriTagValue) {
 			// Handle outbound and upgrade streams
-			this(owner, observer, opsFactory, acceptGzip, metricsRecorder, proxyAddress, remoteAddress, -1, uriTagValue);
+			this(owner, observer, opsFactory, acceptGzip, compression, metricsRecorder, proxyAddress, remoteAddress, -1, uriTagValue);
 		}
 
 		H2Codec(
@@ -974,6 +1039,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				@Nullable ConnectionObserver observer,
 				ChannelOperations.OnSetup opsFactory,
 				boolean acceptGzip,
+				@Nullable HttpClientCompressionSpec compression,
 				@Nullable ChannelMetricsRecorder metricsRecorder,
 				@Nullable SocketAddress proxyAddress,
 				SocketAddress remoteAddress,
@@ -981,6 +1047,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 				@Nullable Function<String, String> uriTagValue) {
 			// Handle outbound and upgrade streams
 			this.acceptGzip = acceptGzip;
+			this.compression = compression;
 			this.metricsRecorder = metricsRecorder;
 			this.observer = observer;
 			this.opsFactory = opsFactory;
@@ -999,7 +1066,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 					setChannelContext(ch, owner.currentContext());
 				}
 				addStreamHandlers(ch, observer.then(new StreamConnectionObserver(owner.currentContext())), opsFactory,
-						acceptGzip, true, metricsRecorder, proxyAddress, remoteAddress, responseTimeoutMillis, uriTagValue);
+						acceptGzip, compression, true, metricsRecorder, proxyAddress, remoteAddress, responseTimeoutMillis, uriTagValue);
 				if (log.isDebugEnabled()) {
 					logStreamsState(ch, http2PooledRef(owner.pooledRef).slot, "Stream opened");
 				}
@@ -1027,6 +1094,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	static final class H2OrHttp11Codec extends ChannelInboundHandlerAdapter {
 		final boolean                                    acceptGzip;
 		final HttpResponseDecoderSpec                    decoder;
+		final @Nullable HttpClientCompressionSpec        compression;
 		final Http2Settings                              http2Settings;
 		final @Nullable Http2SettingsSpec                http2SettingsSpec;
 		final @Nullable ChannelMetricsRecorder           metricsRecorder;
@@ -1037,6 +1105,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 
 		H2OrHttp11Codec(HttpClientChannelInitializer initializer, ConnectionObserver observer, SocketAddress remoteAddress) {
 			this.acceptGzip = initializer.acceptGzip;
+			this.compression = initializer.compression;
 			this.decoder = initializer.decoder;
 			this.http2Settings = initializer.http2Settings;
 			this.http2SettingsSpec = initializer.http2SettingsSpec;
@@ -1061,7 +1130,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 					configureHttp2Pipeline(ctx.channel().pipeline(), decoder, http2Settings, http2SettingsSpec, observer);
 				}
 				else if (ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
-					configureHttp11Pipeline(ctx.channel().pipeline(), acceptGzip, decoder, metricsRecorder, proxyAddress, remoteAddress, uriTagValue);
+					configureHttp11Pipeline(ctx.channel().pipeline(), acceptGzip, compression, decoder, metricsRecorder, proxyAddress, remoteAddress, uriTagValue);
 				}
 				else {
 					throw new IllegalStateException("unknown protocol: " + protocol);
@@ -1081,6 +1150,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 
 		final boolean                                    acceptGzip;
 		final HttpResponseDecoderSpec                    decoder;
+		final @Nullable HttpClientCompressionSpec        compression;
 		final Http2Settings                              http2Settings;
 		final @Nullable Http2SettingsSpec                http2SettingsSpec;
 		final @Nullable ChannelMetricsRecorder           metricsRecorder;
@@ -1092,6 +1162,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 
 		HttpClientChannelInitializer(HttpClientConfig config) {
 			this.acceptGzip = config.acceptGzip;
+			this.compression = config.compression;
 			this.decoder = config.decoder;
 			this.http2Settings = config.http2Settings();
 			this.http2SettingsSpec = config.http2SettingsSpec();
@@ -1116,7 +1187,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 					               new H2OrHttp11Codec(this, observer, requireNonNull(remoteAddress)));
 				}
 				else if ((protocols & h11) == h11) {
-					configureHttp11Pipeline(channel.pipeline(), acceptGzip, decoder, metricsRecorder, proxyAddress, requireNonNull(remoteAddress), uriTagValue);
+					configureHttp11Pipeline(channel.pipeline(), acceptGzip, compression, decoder, metricsRecorder, proxyAddress, requireNonNull(remoteAddress), uriTagValue);
 				}
 				else if ((protocols & h2) == h2) {
 					configureHttp2Pipeline(channel.pipeline(), decoder, http2Settings, http2SettingsSpec, observer);
@@ -1127,11 +1198,11 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 			}
 			else {
 				if ((protocols & h11orH2C) == h11orH2C) {
-					configureHttp11OrH2CleartextPipeline(channel.pipeline(), acceptGzip, decoder, http2Settings,
+					configureHttp11OrH2CleartextPipeline(channel.pipeline(), acceptGzip, compression, decoder, http2Settings,
 							http2SettingsSpec, metricsRecorder, observer, opsFactory, proxyAddress, requireNonNull(remoteAddress), uriTagValue);
 				}
 				else if ((protocols & h11) == h11) {
-					configureHttp11Pipeline(channel.pipeline(), acceptGzip, decoder, metricsRecorder, proxyAddress, requireNonNull(remoteAddress), uriTagValue);
+					configureHttp11Pipeline(channel.pipeline(), acceptGzip, compression, decoder, metricsRecorder, proxyAddress, requireNonNull(remoteAddress), uriTagValue);
 				}
 				else if ((protocols & h2c) == h2c) {
 					configureHttp2Pipeline(channel.pipeline(), decoder, http2Settings, http2SettingsSpec, observer);
@@ -289,7 +289,8 @@ class HttpClientConnect extends HttpClient {
 						new HttpObserver(sink, handler)
 						        .then(_config.defaultConnectionObserver())
 						        .then(_config.connectionObserver())
-						        .then(new HttpIOHandlerObserver(sink, handler));
+						        .then(new HttpIOHandlerObserver(sink, handler,
+						                _config.altSvc ? _config.httpConnectionProvider().protocolMemory : null));
 
 				AddressResolverGroup<?> resolver = _config.resolverInternal();
 
@@ -442,11 +443,13 @@ class HttpClientConnect extends HttpClient {
 		final MonoSink<Connection> sink;
 		final Context currentContext;
 		final HttpClientHandler handler;
+		final @Nullable HttpProtocolMemory protocolMemory;
 
-		HttpIOHandlerObserver(MonoSink<Connection> sink, HttpClientHandler handler) {
+		HttpIOHandlerObserver(MonoSink<Connection> sink, HttpClientHandler handler, @Nullable HttpProtocolMemory protocolMemory) {
 			this.sink = sink;
 			this.currentContext = Context.of(sink.contextView());
 			this.handler = handler;
+			this.protocolMemory = protocolMemory;
 		}
 
 		@Override
@@ -457,6 +460,9 @@ class HttpClientConnect extends HttpClient {
 		@Override
 		public void onStateChange(Connection connection, State newState) {
 			if (newState == HttpClientState.RESPONSE_RECEIVED) {
+				if (protocolMemory != null && connection instanceof HttpClientOperations) {
+					altSvc(protocolMemory, (HttpClientOperations) connection);
+				}
 				sink.success(connection);
 				return;
 			}
@@ -470,6 +476,20 @@ class HttpClientConnect extends HttpClient {
 				    .subscribe(connection.disposeSubscriber());
 			}
 		}
+
+		void altSvc(HttpProtocolMemory protocolMemory, HttpClientOperations ops) {
+			HttpClientOperations.ResponseState responseState = ops.responseState;
+			String value = responseState != null ? responseState.headers.get(ALT_SVC) : null;
+			if (value == null) {
+				return;
+			}
+			String origin = HttpProtocolMemory.origin(handler.get());
+			if (origin != null) {
+				protocolMemory.altSvc(origin, value, System.nanoTime());
+			}
+		}
+
+		static final AsciiString ALT_SVC = AsciiString.cached("alt-svc");
 	}
 
 	static final class HttpClientHandler extends SocketAddress
@@ -516,8 +536,6 @@ class HttpClientConnect extends HttpClient {
 			this.responseTimeout = configuration.responseTimeout;
 			this.defaultHeaders = configuration.headers;
 
-			String baseUrl = configuration.baseUrl;
-
 			this.uriEndpointFactory =
 					new UriEndpointFactory(configuration.remoteAddress(), configuration.isSecure(), URI_ADDRESS_MAPPER);
 
@@ -525,11 +543,20 @@ class HttpClientConnect extends HttpClient {
 			this.shouldRetry = !configuration.retryDisabled;
 			this.handler = configuration.body;
 
+			this.fromURI = this.toURI = createUriEndpoint(configuration, uriEndpointFactory);
+			this.resourceUrl = toURI.toExternalForm();
+			this.authenticationPredicate = configuration.authenticationPredicate;
+			this.authenticator = configuration.authenticator;
+			this.maxAuthenticationRetries = configuration.maxAuthenticationRetries;
+		}
+
+		static UriEndpoint createUriEndpoint(HttpClientConfig configuration, UriEndpointFactory uriEndpointFactory) {
 			if (configuration.uri == null) {
 				String uri = configuration.uriStr;
 
 				uri = uri == null ? "/" : uri;
 
+				String baseUrl = configuration.baseUrl;
 				if (baseUrl != null && uri.startsWith("/")) {
 					if (baseUrl.endsWith("/")) {
 						baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
@@ -537,15 +564,11 @@ class HttpClientConnect extends HttpClient {
 					uri = baseUrl + uri;
 				}
 
-				this.fromURI = this.toURI = uriEndpointFactory.createUriEndpoint(uri, configuration.websocketClientSpec != null);
+				return uriEndpointFactory.createUriEndpoint(uri, configuration.websocketClientSpec != null);
 			}
 			else {
-				this.fromURI = this.toURI = uriEndpointFactory.createUriEndpoint(configuration.uri, configuration.websocketClientSpec != null);
+				return uriEndpointFactory.createUriEndpoint(configuration.uri, configuration.websocketClientSpec != null);
 			}
-			this.resourceUrl = toURI.toExternalForm();
-			this.authenticationPredicate = configuration.authenticationPredicate;
-			this.authenticator = configuration.authenticator;
-			this.maxAuthenticationRetries = configuration.maxAuthenticationRetries;
 		}
 
 		@Override
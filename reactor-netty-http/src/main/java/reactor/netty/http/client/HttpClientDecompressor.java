@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.util.ReferenceCountUtil;
+import org.jspecify.annotations.Nullable;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.net.SocketAddress;
+import java.util.Locale;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * {@link HttpContentDecompressor} that limits the size of the decompressed response body and reports
+ * the compressed and the decompressed sizes per content encoding.
+ * The content decoders allocate their buffers with the allocator of the connection.
+ *
+ * @since 1.3.3
+ */
+final class HttpClientDecompressor extends HttpContentDecompressor {
+
+	static final Logger log = Loggers.getLogger(HttpClientDecompressor.class);
+
+	final long maxDecompressedSize;
+	final @Nullable HttpClientMetricsRecorder recorder;
+	final SocketAddress remoteAddress;
+
+	@SuppressWarnings("deprecation")
+	HttpClientDecompressor(long maxDecompressedSize, @Nullable HttpClientMetricsRecorder recorder, SocketAddress remoteAddress) {
+		super(false, 0);
+		this.maxDecompressedSize = maxDecompressedSize;
+		this.recorder = recorder;
+		this.remoteAddress = remoteAddress;
+	}
+
+	@Override
+	protected @Nullable EmbeddedChannel newContentDecoder(String contentEncoding) throws Exception {
+		EmbeddedChannel decoder = super.newContentDecoder(contentEncoding);
+		if (decoder != null && (maxDecompressedSize > 0 || recorder != null)) {
+			DecompressedSizeHandler handler = new DecompressedSizeHandler(contentEncoding.toLowerCase(Locale.ROOT));
+			decoder.pipeline()
+			       .addFirst(handler.compressedSizeHandler)
+			       .addLast(handler);
+		}
+		return decoder;
+	}
+
+	final class DecompressedSizeHandler extends ChannelInboundHandlerAdapter {
+
+		final String encoding;
+		final ChannelInboundHandlerAdapter compressedSizeHandler = new ChannelInboundHandlerAdapter() {
+
+			@Override
+			public void channelRead(ChannelHandlerContext ctx, Object msg) {
+				if (msg instanceof ByteBuf) {
+					compressedBytes += ((ByteBuf) msg).readableBytes();
+				}
+				ctx.fireChannelRead(msg);
+			}
+		};
+
+		long compressedBytes;
+		long decompressedBytes;
+		boolean exceeded;
+
+		DecompressedSizeHandler(String encoding) {
+			this.encoding = encoding;
+		}
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			if (msg instanceof ByteBuf) {
+				if (exceeded) {
+					ReferenceCountUtil.release(msg);
+					return;
+				}
+				decompressedBytes += ((ByteBuf) msg).readableBytes();
+				if (maxDecompressedSize > 0 && decompressedBytes > maxDecompressedSize) {
+					exceeded = true;
+					ReferenceCountUtil.release(msg);
+					if (log.isDebugEnabled()) {
+						log.debug(format(ctx.channel(),
+								"Decompressed response body exceeds {} bytes, encoding {}"), maxDecompressedSize, encoding);
+					}
+					ctx.fireExceptionCaught(new DecompressionException(
+							"Decompressed response body exceeds " + maxDecompressedSize + " bytes"));
+					return;
+				}
+			}
+			ctx.fireChannelRead(msg);
+		}
+
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) {
+			if (recorder != null) {
+				recorder.recordDecompressedDataReceived(remoteAddress, encoding, compressedBytes, decompressedBytes);
+			}
+			ctx.fireChannelInactive();
+		}
+	}
+}
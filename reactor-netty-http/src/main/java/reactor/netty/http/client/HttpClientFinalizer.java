@@ -118,6 +118,19 @@ final class HttpClientFinalizer extends HttpClientConnect implements HttpClient.
 
 	@Override
 	public <V> Mono<V> responseSingle(BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		HttpClientConfig config = configuration();
+		HttpClientCoalescing coalescing = config.coalescing;
+		if (coalescing != null && HttpClientCoalescing.isEligible(config)) {
+			return coalescing.responseSingle(this, receiver);
+		}
+		HttpClientCache cache = config.cache;
+		if (cache != null && HttpClientCache.isEligible(config)) {
+			return cache.responseSingle(this, receiver);
+		}
+		HttpClientHedging hedging = config.hedging;
+		if (hedging != null && HttpClientHedging.isEligible(config)) {
+			return hedging.responseSingle(this, receiver);
+		}
 		return _connect().flatMap(resp -> receiver.apply(resp, resp.receive().aggregate())
 		                                          .doFinally(s -> discard(resp))
 		                                          .contextWrite(resp.currentContextView()));
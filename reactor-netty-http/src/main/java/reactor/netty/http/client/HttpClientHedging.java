@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.ByteBufMono;
+import reactor.netty.channel.ChannelMetricsRecorder;
+import reactor.netty.http.HttpOperations;
+
+import static reactor.netty.http.client.HttpClientConnect.URI_ADDRESS_MAPPER;
+
+/**
+ * Sends a second attempt of an idempotent request when the first attempt has not responded within the hedge delay.
+ * The first attempt that delivers a response wins, the other attempt is cancelled, which returns its connection
+ * to the pool or, when the response is still in flight, closes the connection or resets the HTTP/2 stream.
+ * The request fails with the error of the first attempt only when neither attempt delivers a response.
+ * Hedged requests are limited by a budget, each request deposits {@link HttpClientHedgingSpec#budgetPercent()}
+ * percent of a token and each hedged request withdraws one token.
+ *
+ * @since 1.3.3
+ */
+final class HttpClientHedging {
+
+	static final String LOST = "lost";
+	static final String REJECTED = "rejected";
+	static final String WON = "won";
+
+	/**
+	 * One token in milli tokens.
+	 */
+	static final long TOKEN = 1000;
+
+	/**
+	 * The budget does not accumulate more than this number of tokens during quiet periods.
+	 */
+	static final long MAX_TOKENS = 10 * TOKEN;
+
+	/**
+	 * The number of the most recent latencies used for computing the percentile.
+	 */
+	static final int WINDOW = 128;
+
+	/**
+	 * The percentile is computed again after this number of new latencies.
+	 */
+	static final int RECOMPUTE_INTERVAL = 16;
+
+	final HttpClientHedgingSpec spec;
+	final long deposit;
+	final AtomicLong tokens = new AtomicLong();
+
+	// Guarded by latencies
+	final long[] latencies = new long[WINDOW];
+	int count;
+
+	volatile long percentileNanos = -1;
+
+	HttpClientHedging(HttpClientHedgingSpec spec) {
+		this.spec = spec;
+		this.deposit = Math.max(1, (long) (spec.budgetPercent * TOKEN / 100));
+	}
+
+	/**
+	 * Returns whether the request configured with {@link HttpClientConfig} can be hedged.
+	 * Only {@code GET} and {@code HEAD} requests without a body are eligible.
+	 *
+	 * @param config the request configuration
+	 * @return {@code true} if the request can be hedged
+	 */
+	static boolean isEligible(HttpClientConfig config) {
+		return (HttpMethod.GET.equals(config.method) || HttpMethod.HEAD.equals(config.method)) &&
+				config.body == null &&
+				config.deferredConf == null &&
+				config.websocketClientSpec == null;
+	}
+
+	<V> Mono<V> responseSingle(HttpClientFinalizer client,
+			BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
+		HttpClientConfig config = client.configuration();
+		return Mono.deferContextual(contextView ->
+				exchange(client).flatMap(result -> {
+					CachedHttpClientResponse response =
+							new CachedHttpClientResponse(contextView, config, result.resourceUrl, result.status, result.headers);
+					return receiver.apply(response, ByteBufFlux.fromInbound(Mono.just(result.body.duplicate()),
+					                                                        HttpClientCoalescing.alloc(config)).aggregate())
+					               .doFinally(s -> result.body.release());
+				}));
+	}
+
+	Mono<HttpClientCoalescing.Result> exchange(HttpClientFinalizer client) {
+		return Mono.defer(() -> {
+			deposit();
+			AtomicBoolean won = new AtomicBoolean();
+			AtomicBoolean hedged = new AtomicBoolean();
+			Mono<HttpClientCoalescing.Result> primary = attempt(client, won, false, hedged);
+			Mono<HttpClientCoalescing.Result> hedge =
+					Mono.delay(delay())
+					    .flatMap(l -> {
+					        if (!tryAcquire()) {
+					            record(client.configuration(), REJECTED);
+					            return Mono.empty();
+					        }
+					        hedged.set(true);
+					        // A failed hedged request must not fail the request
+					        return attempt(client, won, true, hedged).onErrorResume(t -> Mono.empty());
+					    });
+			// An early failure of the first attempt must not fail the request while the hedged attempt may succeed,
+			// the error is delivered only when both attempts have terminated without a response
+			return Flux.mergeDelayError(1, primary, hedge)
+			           .next();
+		});
+	}
+
+	Mono<HttpClientCoalescing.Result> attempt(HttpClientFinalizer client, AtomicBoolean won, boolean isHedge,
+			AtomicBoolean hedged) {
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			return HttpClientCoalescing.connect(client)
+			                           .filter(result -> {
+			                               if (won.compareAndSet(false, true)) {
+			                                   record(System.nanoTime() - start);
+			                                   if (hedged.get()) {
+			                                       record(client.configuration(), isHedge ? WON : LOST);
+			                                   }
+			                                   return true;
+			                               }
+			                               // The other attempt already won
+			                               result.body.release();
+			                               return false;
+			                           });
+		});
+	}
+
+	Duration delay() {
+		long percentileNanos = this.percentileNanos;
+		return percentileNanos > 0 ? Duration.ofNanos(percentileNanos) : spec.delay;
+	}
+
+	void deposit() {
+		long current;
+		do {
+			current = tokens.get();
+			if (current >= MAX_TOKENS) {
+				return;
+			}
+		}
+		while (!tokens.compareAndSet(current, Math.min(MAX_TOKENS, current + deposit)));
+	}
+
+	boolean tryAcquire() {
+		long current;
+		do {
+			current = tokens.get();
+			if (current < TOKEN) {
+				return false;
+			}
+		}
+		while (!tokens.compareAndSet(current, current - TOKEN));
+		return true;
+	}
+
+	void record(long latencyNanos) {
+		if (spec.percentile <= 0) {
+			return;
+		}
+		long[] snapshot = null;
+		synchronized (latencies) {
+			latencies[count % WINDOW] = latencyNanos;
+			count++;
+			if (count >= WINDOW && count % RECOMPUTE_INTERVAL == 0) {
+				snapshot = latencies.clone();
+			}
+			if (count >= 2 * WINDOW) {
+				// Keep the counter bounded while preserving the position in the window
+				count -= WINDOW;
+			}
+		}
+		if (snapshot != null) {
+			Arrays.sort(snapshot);
+			percentileNanos = snapshot[(int) Math.min(WINDOW - 1, Math.ceil(spec.percentile * WINDOW) - 1)];
+		}
+	}
+
+	static void record(HttpClientConfig config, String outcome) {
+		Supplier<? extends ChannelMetricsRecorder> supplier = config.metricsRecorder();
+		if (supplier == null) {
+			return;
+		}
+		ChannelMetricsRecorder recorder = supplier.get();
+		if (recorder instanceof HttpClientMetricsRecorder) {
+			UriEndpoint endpoint = HttpClientConnect.HttpClientHandler.createUriEndpoint(config,
+					new UriEndpointFactory(config.remoteAddress(), config.isSecure(), URI_ADDRESS_MAPPER));
+			String path = HttpOperations.resolvePath(endpoint.getPathAndQuery());
+			Function<String, String> uriTagValue = config.uriTagValue;
+			((HttpClientMetricsRecorder) recorder).incrementHedgedRequestsCount(endpoint.getRemoteAddress(),
+					uriTagValue == null ? path : uriTagValue.apply(path), config.method.name(), outcome);
+		}
+	}
+}
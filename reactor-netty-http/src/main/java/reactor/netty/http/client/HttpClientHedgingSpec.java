@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A configuration builder for {@link HttpClient} hedged requests.
+ * A hedged request is a second attempt of an idempotent request that is sent when the first attempt
+ * has not responded within the hedge delay. The first response wins and the other attempt is cancelled.
+ *
+ * @since 1.3.3
+ */
+public final class HttpClientHedgingSpec {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HttpClientHedgingSpec}.
+		 *
+		 * @return a new {@link HttpClientHedgingSpec}
+		 */
+		HttpClientHedgingSpec build();
+
+		/**
+		 * Configures the maximum extra load in percent of the requests that hedged requests are allowed to add.
+		 * Default to {@link #DEFAULT_BUDGET_PERCENT}.
+		 *
+		 * @param budgetPercent the maximum extra load in percent, must be in the range {@code (0, 100]}
+		 * @return {@code this}
+		 */
+		Builder budgetPercent(double budgetPercent);
+
+		/**
+		 * Configures the time to wait for a response before sending the hedged request.
+		 * When {@link #percentile(double)} is configured, this delay is used until enough latencies are observed.
+		 * Default to {@link #DEFAULT_DELAY}.
+		 *
+		 * @param delay the time to wait for a response before sending the hedged request, must be positive
+		 * @return {@code this}
+		 */
+		Builder delay(Duration delay);
+
+		/**
+		 * Configures the hedge delay to follow the given percentile of the observed response latencies,
+		 * e.g. {@code 0.95} sends the hedged request when the first attempt is slower than 95% of the recent requests.
+		 * Default to none, {@link #delay(Duration)} is always used.
+		 *
+		 * @param percentile the percentile of the observed response latencies, must be in the range {@code (0, 1)}
+		 * @return {@code this}
+		 */
+		Builder percentile(double percentile);
+	}
+
+	/**
+	 * Default maximum extra load in percent - 10%.
+	 */
+	public static final double DEFAULT_BUDGET_PERCENT = 10;
+
+	/**
+	 * Default hedge delay - 100ms.
+	 */
+	public static final Duration DEFAULT_DELAY = Duration.ofMillis(100);
+
+	/**
+	 * Creates a builder for {@link HttpClientHedgingSpec}.
+	 *
+	 * @return a new {@link HttpClientHedgingSpec.Builder}
+	 */
+	public static Builder builder() {
+		return new Build();
+	}
+
+	/**
+	 * Returns the configured maximum extra load in percent.
+	 *
+	 * @return the configured maximum extra load in percent
+	 */
+	public double budgetPercent() {
+		return budgetPercent;
+	}
+
+	/**
+	 * Returns the configured hedge delay.
+	 *
+	 * @return the configured hedge delay
+	 */
+	public Duration delay() {
+		return delay;
+	}
+
+	/**
+	 * Returns the configured percentile of the observed response latencies or {@code 0} when not configured.
+	 *
+	 * @return the configured percentile of the observed response latencies or {@code 0} when not configured
+	 */
+	public double percentile() {
+		return percentile;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof HttpClientHedgingSpec)) {
+			return false;
+		}
+		HttpClientHedgingSpec that = (HttpClientHedgingSpec) o;
+		return Double.compare(budgetPercent, that.budgetPercent) == 0 &&
+				delay.equals(that.delay) &&
+				Double.compare(percentile, that.percentile) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		result = 31 * result + Double.hashCode(budgetPercent);
+		result = 31 * result + Objects.hashCode(delay);
+		result = 31 * result + Double.hashCode(percentile);
+		return result;
+	}
+
+	final double budgetPercent;
+	final Duration delay;
+	final double percentile;
+
+	HttpClientHedgingSpec(Build build) {
+		this.budgetPercent = build.budgetPercent;
+		this.delay = build.delay;
+		this.percentile = build.percentile;
+	}
+
+	static final class Build implements Builder {
+
+		double budgetPercent = DEFAULT_BUDGET_PERCENT;
+		Duration delay = DEFAULT_DELAY;
+		double percentile;
+
+		@Override
+		public HttpClientHedgingSpec build() {
+			return new HttpClientHedgingSpec(this);
+		}
+
+		@Override
+		public Builder budgetPercent(double budgetPercent) {
+			if (!(budgetPercent > 0 && budgetPercent <= 100)) {
+				throw new IllegalArgumentException("budgetPercent must be in the range (0, 100]");
+			}
+			this.budgetPercent = budgetPercent;
+			return this;
+		}
+
+		@Override
+		public Builder delay(Duration delay) {
+			Objects.requireNonNull(delay, "delay");
+			if (delay.isNegative() || delay.isZero()) {
+				throw new IllegalArgumentException("delay must be positive");
+			}
+			this.delay = delay;
+			return this;
+		}
+
+		@Override
+		public Builder percentile(double percentile) {
+			if (!(percentile > 0 && percentile < 1)) {
+				throw new IllegalArgumentException("percentile must be in the range (0, 1)");
+			}
+			this.percentile = percentile;
+			return this;
+		}
+	}
+}
@@ -27,6 +27,96 @@ import io.micrometer.core.instrument.docs.MeterDocumentation;
  */
 enum HttpClientMeters implements MeterDocumentation {
 
+	/**
+	 * The number of the response cache lookups on the client.
+	 */
+	HTTP_CLIENT_CACHE_LOOKUPS {
+		@Override
+		public String getName() {
+			return "reactor.netty.http.client.cache.lookups";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return CacheLookupsTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the hedged requests on the client.
+	 */
+	HTTP_CLIENT_HEDGED_REQUESTS {
+		@Override
+		public String getName() {
+			return "reactor.netty.http.client.hedged.requests";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return HedgedRequestsTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Amount of the compressed data received by the client, before the decompression, in bytes.
+	 */
+	HTTP_CLIENT_COMPRESSED_DATA_RECEIVED {
+		@Override
+		public String getBaseUnit() {
+			return "bytes";
+		}
+
+		@Override
+		public String getName() {
+			return "reactor.netty.http.client.compressed.data.received";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return DecompressionTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.DISTRIBUTION_SUMMARY;
+		}
+	},
+
+	/**
+	 * Amount of the compressed data received by the client, after the decompression, in bytes.
+	 */
+	HTTP_CLIENT_DECOMPRESSED_DATA_RECEIVED {
+		@Override
+		public String getBaseUnit() {
+			return "bytes";
+		}
+
+		@Override
+		public String getName() {
+			return "reactor.netty.http.client.decompressed.data.received";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return DecompressionTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.DISTRIBUTION_SUMMARY;
+		}
+	},
+
 	/**
 	 * Time spent in consuming incoming data on the client.
 	 */
@@ -67,6 +157,115 @@ enum HttpClientMeters implements MeterDocumentation {
 		}
 	};
 
+	enum CacheLookupsTags implements KeyName {
+
+		/**
+		 * METHOD.
+		 */
+		METHOD {
+			@Override
+			public String asString() {
+				return "method";
+			}
+		},
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		},
+
+		/**
+		 * The result of the lookup: {@code hit}, {@code miss}, {@code stale} or {@code revalidated}.
+		 */
+		RESULT {
+			@Override
+			public String asString() {
+				return "result";
+			}
+		},
+
+		/**
+		 * URI.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		}
+	}
+
+	enum HedgedRequestsTags implements KeyName {
+
+		/**
+		 * METHOD.
+		 */
+		METHOD {
+			@Override
+			public String asString() {
+				return "method";
+			}
+		},
+
+		/**
+		 * The outcome of the hedged request: {@code won}, {@code lost} or {@code rejected}.
+		 */
+		OUTCOME {
+			@Override
+			public String asString() {
+				return "outcome";
+			}
+		},
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		},
+
+		/**
+		 * URI.
+		 */
+		URI {
+			@Override
+			public String asString() {
+				return "uri";
+			}
+		}
+	}
+
+	enum DecompressionTags implements KeyName {
+
+		/**
+		 * The content encoding e.g. {@code gzip}, {@code br}, {@code zstd}, {@code snappy}.
+		 */
+		ENCODING {
+			@Override
+			public String asString() {
+				return "encoding";
+			}
+		},
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		}
+	}
+
 	enum DataReceivedTimeTags implements KeyName {
 
 		/**
@@ -140,4 +140,42 @@ public interface HttpClientMetricsRecorder extends HttpMetricsRecorder {
 	default void incrementErrorsCount(SocketAddress remoteAddress, SocketAddress proxyAddress, String uri) {
 		incrementErrorsCount(remoteAddress, uri);
 	}
+
+	/**
+	 * Increments the number of the response cache lookups.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param uri the requested URI
+	 * @param method the HTTP method
+	 * @param result the result of the lookup: {@code hit}, {@code miss}, {@code stale} or {@code revalidated}
+	 * @since 1.3.3
+	 */
+	default void incrementCacheCount(SocketAddress remoteAddress, String uri, String method, String result) {
+	}
+
+	/**
+	 * Increments the number of the hedged requests.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param uri the requested URI
+	 * @param method the HTTP method
+	 * @param outcome the outcome of the hedged request: {@code won} when it responded first, {@code lost} when
+	 * the first attempt responded first and {@code rejected} when it was not sent because the budget was exhausted
+	 * @since 1.3.3
+	 */
+	default void incrementHedgedRequestsCount(SocketAddress remoteAddress, String uri, String method, String outcome) {
+	}
+
+	/**
+	 * Records the size of a compressed response body before and after the decompression.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param encoding the content encoding e.g. {@code gzip}, {@code br}, {@code zstd}, {@code snappy}
+	 * @param compressedBytes the size of the response body as received, in bytes
+	 * @param decompressedBytes the size of the response body after the decompression, in bytes
+	 * @since 1.3.3
+	 */
+	default void recordDecompressedDataReceived(SocketAddress remoteAddress, String encoding, long compressedBytes,
+			long decompressedBytes) {
+	}
 }
@@ -42,13 +42,11 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.unix.DomainSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
-import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpConstants;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -68,7 +66,6 @@ import io.netty.handler.codec.http.multipart.HttpDataFactory;
 import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.stream.ChunkedWriteHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.ReferenceCountUtil;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
@@ -90,6 +87,7 @@ import reactor.netty.channel.AbortedException;
 import reactor.netty.channel.ChannelOperations;
 import reactor.netty.http.Cookies;
 import reactor.netty.http.HttpOperations;
+import reactor.netty.http.internal.TimeoutWheel;
 import reactor.netty.http.logging.HttpMessageArgProviderFactory;
 import reactor.netty.http.logging.HttpMessageLogFactory;
 import reactor.util.Logger;
@@ -124,6 +122,7 @@ class HttpClientOperations extends HttpOperations<NettyInbound, NettyOutbound>
 	@Nullable String             resourceUrl;
 	@Nullable String             path;
 	@Nullable Duration           responseTimeout;
+	TimeoutWheel.@Nullable ReadTimeout responseTimeoutHandle;
 
 	volatile @Nullable ResponseState responseState;
 
@@ -759,36 +758,8 @@ class HttpClientOperations extends HttpOperations<NettyInbound, NettyOutbound>
 			channel().writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
 		}
 		listener().onStateChange(this, HttpClientState.REQUEST_SENT);
-		ChannelPipeline pipeline = channel().pipeline();
-		if (responseTimeout != null && pipeline.get(NettyPipeline.ResponseTimeoutHandler) == null) {
-			// This handler has to be always as early as possible in order to handle correctly the time for receiving the read/readComplete events.
-			// We don't want other handlers to delay read/readComplete events delivery.
-			String baseName = null;
-			if (pipeline.get(NettyPipeline.HttpCodec) != null) {
-				baseName = NettyPipeline.HttpCodec;
-			}
-			else if (pipeline.get(NettyPipeline.H2ToHttp11Codec) != null) {
-					baseName = NettyPipeline.H2ToHttp11Codec;
-			}
-			else if (pipeline.get(NettyPipeline.H3ToHttp11Codec) != null) {
-				baseName = NettyPipeline.H3ToHttp11Codec;
-			}
-			else {
-				ChannelHandler httpClientCodec = pipeline.get(HttpClientCodec.class);
-				if (httpClientCodec != null) {
-					baseName = pipeline.context(httpClientCodec).name();
-				}
-			}
-			pipeline.addBefore(baseName, NettyPipeline.ResponseTimeoutHandler,
-					new ReadTimeoutHandler(responseTimeout.toMillis(), TimeUnit.MILLISECONDS));
-			if (log.isDebugEnabled()) {
-				log.debug(format(channel(), "Added encoder [{}] at the beginning of the user pipeline, full pipeline: {}"),
-						NettyPipeline.ResponseTimeoutHandler,
-						pipeline.names());
-			}
-			if (isPersistent()) {
-				onTerminate().subscribe(null, null, () -> removeHandler(NettyPipeline.ResponseTimeoutHandler));
-			}
+		if (responseTimeout != null) {
+			startResponseTimeout(responseTimeout.toMillis());
 		}
 		channel().read();
 		if (channel().parent() != null) {
@@ -796,6 +767,26 @@ class HttpClientOperations extends HttpOperations<NettyInbound, NettyOutbound>
 		}
 	}
 
+	void startResponseTimeout(long responseTimeoutMillis) {
+		if (responseTimeoutHandle == null) {
+			// The response timeout is armed on the timing wheel of the event loop and is reset on every read,
+			// no handler is added to the channel pipeline
+			TimeoutWheel.ReadTimeout handle =
+					new TimeoutWheel.ReadTimeout(channel(), responseTimeoutMillis, TimeUnit.MILLISECONDS);
+			responseTimeoutHandle = handle;
+			handle.start();
+			onTerminate().subscribe(null, null, this::stopResponseTimeout);
+		}
+	}
+
+	void stopResponseTimeout() {
+		TimeoutWheel.ReadTimeout handle = responseTimeoutHandle;
+		if (handle != null) {
+			responseTimeoutHandle = null;
+			handle.stop();
+		}
+	}
+
 	@Override
 	protected void onOutboundError(Throwable err) {
 		if (isPersistent() && responseState == null) {
@@ -816,6 +807,10 @@ class HttpClientOperations extends HttpOperations<NettyInbound, NettyOutbound>
 
 	@Override
 	protected void onInboundNext(ChannelHandlerContext ctx, Object msg) {
+		TimeoutWheel.ReadTimeout responseTimeoutHandle = this.responseTimeoutHandle;
+		if (responseTimeoutHandle != null) {
+			responseTimeoutHandle.touch();
+		}
 		if (msg instanceof HttpResponse) {
 			HttpResponse response = (HttpResponse) msg;
 			if (response.decoderResult().isFailure()) {
@@ -75,8 +75,9 @@ public interface HttpClientRequest extends HttpClientInfos {
 
 	/**
 	 * Specifies the maximum duration allowed between each network-level read operation while reading a given response
-	 * (resolution: ms). In other words, {@link io.netty.handler.timeout.ReadTimeoutHandler} is added to the channel
-	 * pipeline after sending the request and is removed when the response is fully received.
+	 * (resolution: ms). In other words, a read timeout that behaves as {@link io.netty.handler.timeout.ReadTimeoutHandler}
+	 * is armed after sending the request and is stopped when the response is fully received. The read timeouts of
+	 * an event loop share one timing wheel, so a timeout may be detected up to one tick ({@code 10ms} by default) later.
 	 * If the {@code maxReadOperationInterval} is {@code null}, any previous setting will be removed and no
 	 * {@code maxReadOperationInterval} will be applied.
 	 * If the {@code maxReadOperationInterval} is less than {@code 1ms}, then {@code 1ms} will be the
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+import static reactor.netty.http.client.HttpClientCompressionSpec.DEFAULT_REQUEST_COMPRESSION_LEVEL;
+
+/**
+ * Compresses the request bodies with the configured content encoding.
+ * Requests with a body that is known in advance are compressed as a whole and keep {@code Content-Length},
+ * streamed request bodies are compressed chunk by chunk and sent with {@code Transfer-Encoding: chunked}
+ * (the header is dropped for HTTP/2 and HTTP/3).
+ *
+ * @since 1.3.3
+ */
+final class HttpClientRequestCompressor extends MessageToMessageEncoder<Object> {
+
+	final String encoding;
+	final int level;
+	final int minSize;
+
+	@Nullable EmbeddedChannel encoder;
+
+	HttpClientRequestCompressor(String encoding, int level, int minSize) {
+		this.encoding = encoding;
+		this.level = level;
+		this.minSize = minSize;
+	}
+
+	@Override
+	public boolean acceptOutboundMessage(Object msg) {
+		return msg instanceof HttpObject || msg instanceof ByteBuf;
+	}
+
+	@Override
+	protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) {
+		if (msg instanceof HttpRequest) {
+			cleanup();
+			if (msg instanceof FullHttpRequest) {
+				FullHttpRequest request = (FullHttpRequest) msg;
+				if (shouldCompress(request, request.content().readableBytes())) {
+					out.add(compress(ctx, request));
+				}
+				else {
+					out.add(request.retain());
+				}
+				return;
+			}
+
+			HttpRequest request = (HttpRequest) msg;
+			if (shouldCompress(request, HttpUtil.getContentLength(request, -1L))) {
+				encoder = newEncoder(ctx.channel());
+				request.headers().set(HttpHeaderNames.CONTENT_ENCODING, encoding);
+				HttpUtil.setTransferEncodingChunked(request, true);
+			}
+			out.add(ReferenceCountUtil.retain(msg));
+			return;
+		}
+
+		EmbeddedChannel encoder = this.encoder;
+		if (encoder == null) {
+			out.add(ReferenceCountUtil.retain(msg));
+			return;
+		}
+
+		ByteBuf content = msg instanceof ByteBuf ? (ByteBuf) msg : ((HttpContent) msg).content();
+		if (content.isReadable()) {
+			encoder.writeOutbound(content.retain());
+			readEncoded(encoder, out);
+		}
+
+		if (msg instanceof LastHttpContent) {
+			this.encoder = null;
+			if (encoder.finish()) {
+				readEncoded(encoder, out);
+			}
+			HttpHeaders trailingHeaders = ((LastHttpContent) msg).trailingHeaders();
+			out.add(trailingHeaders.isEmpty() ?
+					LastHttpContent.EMPTY_LAST_CONTENT :
+					new DefaultLastHttpContent(Unpooled.EMPTY_BUFFER, trailingHeaders));
+		}
+		else if (out.isEmpty()) {
+			// MessageToMessageEncoder needs at least one output message
+			out.add(new DefaultHttpContent(Unpooled.EMPTY_BUFFER));
+		}
+	}
+
+	@Override
+	public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+		cleanup();
+		super.handlerRemoved(ctx);
+	}
+
+	FullHttpRequest compress(ChannelHandlerContext ctx, FullHttpRequest request) {
+		EmbeddedChannel encoder = newEncoder(ctx.channel());
+		CompositeByteBuf compressed = ctx.alloc().compositeBuffer();
+		try {
+			encoder.writeOutbound(request.content().retain());
+			encoder.finish();
+			for (;;) {
+				ByteBuf buf = encoder.readOutbound();
+				if (buf == null) {
+					break;
+				}
+				compressed.addComponent(true, buf);
+			}
+		}
+		catch (RuntimeException e) {
+			compressed.release();
+			encoder.finishAndReleaseAll();
+			throw e;
+		}
+
+		FullHttpRequest result = request.replace(compressed);
+		result.headers()
+		      .remove(HttpHeaderNames.TRANSFER_ENCODING)
+		      .set(HttpHeaderNames.CONTENT_ENCODING, encoding)
+		      .setInt(HttpHeaderNames.CONTENT_LENGTH, compressed.readableBytes());
+		return result;
+	}
+
+	EmbeddedChannel newEncoder(Channel channel) {
+		ChannelHandler handler;
+		if (HttpHeaderValues.ZSTD.contentEquals(encoding)) {
+			handler = level == DEFAULT_REQUEST_COMPRESSION_LEVEL ? new ZstdEncoder() : new ZstdEncoder(level);
+		}
+		else {
+			ZlibWrapper wrapper = HttpHeaderValues.GZIP.contentEquals(encoding) ? ZlibWrapper.GZIP : ZlibWrapper.ZLIB;
+			handler = level == DEFAULT_REQUEST_COMPRESSION_LEVEL ?
+					ZlibCodecFactory.newZlibEncoder(wrapper) :
+					ZlibCodecFactory.newZlibEncoder(wrapper, level);
+		}
+		// Use the configuration of the connection so that the encoder allocates with its allocator
+		return new EmbeddedChannel(channel.id(), channel.metadata().hasDisconnect(), channel.config(), handler);
+	}
+
+	boolean shouldCompress(HttpRequest request, long contentLength) {
+		if (request.headers().contains(HttpHeaderNames.CONTENT_ENCODING)) {
+			return false;
+		}
+		if (contentLength >= 0) {
+			return contentLength > 0 && contentLength >= minSize;
+		}
+		return HttpUtil.isTransferEncodingChunked(request);
+	}
+
+	void cleanup() {
+		EmbeddedChannel encoder = this.encoder;
+		if (encoder != null) {
+			this.encoder = null;
+			encoder.finishAndReleaseAll();
+		}
+	}
+
+	static void readEncoded(EmbeddedChannel encoder, List<Object> out) {
+		for (;;) {
+			ByteBuf buf = encoder.readOutbound();
+			if (buf == null) {
+				break;
+			}
+			if (!buf.isReadable()) {
+				buf.release();
+				continue;
+			}
+			out.add(new DefaultHttpContent(buf));
+		}
+	}
+}
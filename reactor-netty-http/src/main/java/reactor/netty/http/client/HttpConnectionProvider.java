@@ -15,16 +15,27 @@
  */
 package reactor.netty.http.client;
 
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.resolver.AddressResolverGroup;
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.HttpResources;
+import reactor.netty.http.internal.Http3;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.SslProvider;
 import reactor.netty.transport.TransportConfig;
+import reactor.util.Logger;
+import reactor.util.Loggers;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -44,24 +55,19 @@ final class HttpConnectionProvider implements ConnectionProvider {
 			ConnectionObserver connectionObserver,
 			@Nullable Supplier<? extends SocketAddress> remoteAddress,
 			@Nullable AddressResolverGroup<?> resolverGroup) {
-		boolean isHttp3 = ((HttpClientConfig) config)._protocols == HttpClientConfig.h3;
-		if (((HttpClientConfig) config)._protocols == HttpClientConfig.h11) {
+		HttpClientConfig _config = (HttpClientConfig) config;
+		if (_config._protocols == HttpClientConfig.h11) {
 			return http1ConnectionProvider().acquire(config, connectionObserver, remoteAddress, resolverGroup);
 		}
-		else if (http1ConnectionProvider == null) {
-			if (isHttp3) {
-				return HttpResources.get().getOrCreateHttp3ConnectionProvider(HTTP3_CONNECTION_PROVIDER_FACTORY)
-						.acquire(config, connectionObserver, remoteAddress, resolverGroup);
-			}
-			else {
-				return HttpResources.get().getOrCreateHttp2ConnectionProvider(HTTP2_CONNECTION_PROVIDER_FACTORY)
-						.acquire(config, connectionObserver, remoteAddress, resolverGroup);
-			}
+		else if (_config._protocols == HttpClientConfig.h3) {
+			return http3ConnectionProvider().acquire(config, connectionObserver, remoteAddress, resolverGroup);
+		}
+		else if (!_config.altSvc || _config.sslProvider == null || !_config.checkProtocol(HttpClientConfig.h11orH2) ||
+				remoteAddress == null) {
+			return http2ConnectionProvider().acquire(config, connectionObserver, remoteAddress, resolverGroup);
 		}
 		else {
-			return isHttp3 ?
-					getOrCreateHttp3().acquire(config, connectionObserver, remoteAddress, resolverGroup) :
-					getOrCreateHttp2().acquire(config, connectionObserver, remoteAddress, resolverGroup);
+			return acquireWithProtocolMemory(_config, connectionObserver, remoteAddress, resolverGroup);
 		}
 	}
 
@@ -86,6 +92,8 @@ final class HttpConnectionProvider implements ConnectionProvider {
 
 	final AtomicReference<@Nullable ConnectionProvider> http3ConnectionProvider = new AtomicReference<>();
 
+	final HttpProtocolMemory protocolMemory = new HttpProtocolMemory();
+
 	HttpConnectionProvider() {
 		this(null);
 	}
@@ -124,10 +132,137 @@ final class HttpConnectionProvider implements ConnectionProvider {
 		return provider;
 	}
 
+	Mono<? extends Connection> acquireWithProtocolMemory(
+			HttpClientConfig config,
+			ConnectionObserver connectionObserver,
+			Supplier<? extends SocketAddress> remoteAddress,
+			@Nullable AddressResolverGroup<?> resolverGroup) {
+		SocketAddress address = remoteAddress.get();
+		String origin = HttpProtocolMemory.origin(address);
+		if (origin == null) {
+			return http2ConnectionProvider().acquire(config, connectionObserver, remoteAddress, resolverGroup);
+		}
+
+		long now = System.nanoTime();
+		Mono<? extends Connection> tcp;
+		if (protocolMemory.isHttp11(origin, now)) {
+			// The origin negotiated HTTP/1.1 recently, skip the HTTP/2 pool and the ALPN round
+			HttpClientConfig http11Config = new HttpClientConfig(config);
+			http11Config.protocols(HttpProtocol.HTTP11);
+			tcp = http1ConnectionProvider().acquire(http11Config, connectionObserver, remoteAddress, resolverGroup)
+			                               .doOnError(t -> protocolMemory.forgetHttp11(origin));
+		}
+		else {
+			tcp = http2ConnectionProvider().acquire(config, connectionObserver, remoteAddress, resolverGroup)
+			                               .doOnNext(connection -> {
+			                                   if (isHttp11(connection)) {
+			                                       protocolMemory.http11(origin, System.nanoTime());
+			                                   }
+			                               });
+		}
+
+		HttpClientConfig http3Config = http3Config(config);
+		if (http3Config == null) {
+			return tcp;
+		}
+
+		int http3Port = protocolMemory.http3Port(origin, now);
+		if (http3Port != -1) {
+			Supplier<SocketAddress> alternative = alternative((InetSocketAddress) address, http3Port);
+			return http3ConnectionProvider().acquire(http3Config, connectionObserver, alternative, resolverGroup)
+			                                .onErrorResume(t -> {
+			                                    if (log.isDebugEnabled()) {
+			                                        log.debug("HTTP/3 alternative service for [{}] failed, falling back to TCP", origin, t);
+			                                    }
+			                                    protocolMemory.http3Failed(origin, System.nanoTime());
+			                                    return tcp;
+			                                });
+		}
+
+		int probePort = protocolMemory.startHttp3Probe(origin, now);
+		if (probePort != -1) {
+			// The request goes over TCP, the HTTP/3 alternative is probed in the background
+			// and used by the next requests once the QUIC connection succeeds
+			Supplier<SocketAddress> alternative = alternative((InetSocketAddress) address, probePort);
+			http3ConnectionProvider().acquire(http3Config, ConnectionObserver.emptyListener(), alternative, resolverGroup)
+			                         .timeout(HTTP3_PROBE_TIMEOUT)
+			                         .subscribe(
+			                                 connection -> {
+			                                     protocolMemory.http3Ready(origin);
+			                                     connection.dispose();
+			                                 },
+			                                 t -> {
+			                                     if (log.isDebugEnabled()) {
+			                                         log.debug("HTTP/3 alternative service probe for [{}] failed", origin, t);
+			                                     }
+			                                     protocolMemory.http3Failed(origin, System.nanoTime());
+			                                 });
+		}
+		return tcp;
+	}
+
+	ConnectionProvider http2ConnectionProvider() {
+		return http1ConnectionProvider == null ?
+				HttpResources.get().getOrCreateHttp2ConnectionProvider(HTTP2_CONNECTION_PROVIDER_FACTORY) :
+				getOrCreateHttp2();
+	}
+
+	ConnectionProvider http3ConnectionProvider() {
+		return http1ConnectionProvider == null ?
+				HttpResources.get().getOrCreateHttp3ConnectionProvider(HTTP3_CONNECTION_PROVIDER_FACTORY) :
+				getOrCreateHttp3();
+	}
+
 	ConnectionProvider http1ConnectionProvider() {
 		return http1ConnectionProvider != null ? http1ConnectionProvider : HttpResources.get();
 	}
 
+	static Supplier<SocketAddress> alternative(InetSocketAddress address, int port) {
+		InetSocketAddress alternative = address.isUnresolved() ?
+				InetSocketAddress.createUnresolved(address.getHostString(), port) :
+				new InetSocketAddress(address.getAddress(), port);
+		return () -> alternative;
+	}
+
+	/**
+	 * Returns the configuration for the {@code HTTP/3} alternative service or null when
+	 * {@code HTTP/3} cannot be used with this configuration.
+	 *
+	 * @param config the {@code HTTP/1.1} and {@code HTTP/2} configuration
+	 * @return the configuration for the {@code HTTP/3} alternative service or null
+	 */
+	static @Nullable HttpClientConfig http3Config(HttpClientConfig config) {
+		if (!Http3.isHttp3Available() || config.http3Settings == null || config.proxyProvider() != null ||
+				!HttpClientSecure.hasDefaultSslProvider(config)) {
+			return null;
+		}
+		HttpClientConfig http3Config = new HttpClientConfig(config);
+		http3Config.protocols(HttpProtocol.HTTP3);
+		SslProvider sslProvider = HttpClientSecure.defaultSslProvider(http3Config);
+		if (sslProvider == null) {
+			return null;
+		}
+		http3Config.sslProvider = sslProvider;
+		if (http3Config.bindAddress() == null) {
+			http3Config.bindAddress(() -> new InetSocketAddress(0));
+		}
+		return http3Config;
+	}
+
+	static boolean isHttp11(Connection connection) {
+		Channel channel = connection.channel();
+		if (channel instanceof Http2StreamChannel) {
+			return false;
+		}
+		SslHandler sslHandler = channel.pipeline().get(SslHandler.class);
+		String protocol = sslHandler != null ? sslHandler.applicationProtocol() : null;
+		return protocol == null || ApplicationProtocolNames.HTTP_1_1.equals(protocol);
+	}
+
+	static final Logger log = Loggers.getLogger(HttpConnectionProvider.class);
+
+	static final Duration HTTP3_PROBE_TIMEOUT = Duration.ofSeconds(3);
+
 	static final Function<ConnectionProvider, ConnectionProvider> HTTP2_CONNECTION_PROVIDER_FACTORY =
 			Http2ConnectionProvider::new;
 
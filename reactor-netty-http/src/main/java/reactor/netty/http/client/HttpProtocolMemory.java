@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Remembers per origin the protocol negotiated with the server and the {@code HTTP/3} alternative service
+ * advertised with {@code Alt-Svc} response header (<a href="https://www.rfc-editor.org/rfc/rfc7838">RFC 7838</a>).
+ * The number of remembered origins is bounded, the least recently used origins are forgotten first.
+ *
+ * @since 1.3.3
+ */
+final class HttpProtocolMemory {
+
+	/**
+	 * The maximum number of remembered origins.
+	 */
+	static final int MAX_ORIGINS = 1024;
+
+	/**
+	 * How long an origin that negotiated {@code HTTP/1.1} goes straight to the {@code HTTP/1.1} pool.
+	 * Once expired, the next connection negotiates again so that an upgraded server is discovered.
+	 */
+	static final long HTTP11_TTL = Duration.ofMinutes(10).toNanos();
+
+	/**
+	 * How long {@code HTTP/3} is not attempted for an origin after a failed attempt, e.g. when UDP is blocked.
+	 */
+	static final long HTTP3_BROKEN_BACKOFF = Duration.ofMinutes(5).toNanos();
+
+	/**
+	 * The default freshness of an {@code Alt-Svc} alternative, when {@code ma} parameter is not present.
+	 */
+	static final long DEFAULT_MAX_AGE = Duration.ofHours(24).toNanos();
+
+	final LinkedHashMap<String, Entry> origins = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ORIGINS;
+		}
+	};
+
+	/**
+	 * Returns the origin key for the given remote address or null when the address is not an
+	 * {@link InetSocketAddress}.
+	 *
+	 * @param remoteAddress the remote address
+	 * @return the origin key or null
+	 */
+	static @Nullable String origin(@Nullable SocketAddress remoteAddress) {
+		if (!(remoteAddress instanceof InetSocketAddress)) {
+			return null;
+		}
+		InetSocketAddress address = (InetSocketAddress) remoteAddress;
+		return address.getHostString().toLowerCase(Locale.ROOT) + ':' + address.getPort();
+	}
+
+	synchronized boolean isHttp11(String origin, long now) {
+		Entry entry = origins.get(origin);
+		return entry != null && entry.http11 && entry.http11Until - now > 0;
+	}
+
+	synchronized void http11(String origin, long now) {
+		Entry entry = entry(origin);
+		entry.http11 = true;
+		entry.http11Until = now + HTTP11_TTL;
+	}
+
+	synchronized void forgetHttp11(String origin) {
+		Entry entry = origins.get(origin);
+		if (entry != null) {
+			entry.http11 = false;
+		}
+	}
+
+	/**
+	 * Returns the port of the {@code HTTP/3} alternative when it was probed successfully and is still fresh,
+	 * otherwise {@code -1}.
+	 *
+	 * @param origin the origin
+	 * @param now the current time in nanoseconds
+	 * @return the port of the {@code HTTP/3} alternative or {@code -1}
+	 */
+	synchronized int http3Port(String origin, long now) {
+		Entry entry = origins.get(origin);
+		if (entry == null || entry.http3Port == -1 || !entry.http3Ready) {
+			return -1;
+		}
+		if (entry.http3Until - now <= 0) {
+			entry.clearHttp3();
+			return -1;
+		}
+		return entry.http3Port;
+	}
+
+	/**
+	 * Returns the port of the {@code HTTP/3} alternative that has to be probed, otherwise {@code -1}.
+	 * The caller that receives a port owns the probe and must complete it with
+	 * {@link #http3Ready(String)} or {@link #http3Failed(String, long)}.
+	 *
+	 * @param origin the origin
+	 * @param now the current time in nanoseconds
+	 * @return the port of the {@code HTTP/3} alternative that has to be probed or {@code -1}
+	 */
+	synchronized int startHttp3Probe(String origin, long now) {
+		Entry entry = origins.get(origin);
+		if (entry == null || entry.http3Port == -1 || entry.http3Ready || entry.http3Probing ||
+				(entry.http3Broken && entry.http3BrokenUntil - now > 0) || entry.http3Until - now <= 0) {
+			return -1;
+		}
+		entry.http3Probing = true;
+		return entry.http3Port;
+	}
+
+	synchronized void http3Ready(String origin) {
+		Entry entry = origins.get(origin);
+		if (entry != null) {
+			entry.http3Probing = false;
+			entry.http3Ready = entry.http3Port != -1;
+		}
+	}
+
+	synchronized void http3Failed(String origin, long now) {
+		Entry entry = origins.get(origin);
+		if (entry != null) {
+			entry.http3Probing = false;
+			entry.http3Ready = false;
+			entry.http3Broken = true;
+			entry.http3BrokenUntil = now + HTTP3_BROKEN_BACKOFF;
+		}
+	}
+
+	/**
+	 * Applies an {@code Alt-Svc} response header received from the origin.
+	 * Only {@code h3} alternatives on the same host are considered.
+	 *
+	 * @param origin the origin
+	 * @param altSvc the {@code Alt-Svc} response header value
+	 * @param now the current time in nanoseconds
+	 */
+	void altSvc(String origin, String altSvc, long now) {
+		String value = altSvc.trim();
+		if ("clear".equals(value)) {
+			synchronized (this) {
+				Entry entry = origins.get(origin);
+				if (entry != null) {
+					entry.clearHttp3();
+				}
+			}
+			return;
+		}
+		for (String alternative : value.split(",")) {
+			String[] parts = alternative.split(";");
+			int index = parts[0].indexOf('=');
+			if (index == -1 || !"h3".equals(parts[0].substring(0, index).trim())) {
+				continue;
+			}
+			String authority = unquote(parts[0].substring(index + 1).trim());
+			int colon = authority.lastIndexOf(':');
+			if (colon == -1 || (colon > 0 && !origin.startsWith(authority.substring(0, colon).toLowerCase(Locale.ROOT) + ':'))) {
+				// Alternatives on a different host are not followed
+				continue;
+			}
+			int port;
+			try {
+				port = Integer.parseInt(authority.substring(colon + 1));
+			}
+			catch (NumberFormatException e) {
+				continue;
+			}
+			if (port < 1 || port > 65535) {
+				continue;
+			}
+			long maxAge = DEFAULT_MAX_AGE;
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if (parameter.startsWith("ma=")) {
+					try {
+						maxAge = Duration.ofSeconds(Long.parseLong(unquote(parameter.substring(3)))).toNanos();
+					}
+					catch (NumberFormatException | ArithmeticException e) {
+						// keep the default max age
+					}
+				}
+			}
+			synchronized (this) {
+				Entry entry = entry(origin);
+				if (entry.http3Port != port) {
+					entry.http3Ready = false;
+				}
+				entry.http3Port = port;
+				entry.http3Until = now + maxAge;
+			}
+			return;
+		}
+	}
+
+	Entry entry(String origin) {
+		// Guarded by this
+		return origins.computeIfAbsent(origin, k -> new Entry());
+	}
+
+	static String unquote(String value) {
+		return value.length() > 1 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"' ?
+				value.substring(1, value.length() - 1) : value;
+	}
+
+	static final class Entry {
+		boolean http11;
+		long http11Until;
+		int http3Port = -1;
+		long http3Until;
+		boolean http3Broken;
+		long http3BrokenUntil;
+		boolean http3Probing;
+		boolean http3Ready;
+
+		void clearHttp3() {
+			http3Port = -1;
+			http3Ready = false;
+		}
+	}
+}
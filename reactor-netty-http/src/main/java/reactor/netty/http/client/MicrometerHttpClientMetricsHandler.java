@@ -20,17 +20,23 @@ import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.transport.RequestReplySenderContext;
 import io.netty.channel.Channel;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import org.jspecify.annotations.Nullable;
+import reactor.netty.channel.ChannelOperations;
+import reactor.netty.http.observability.HttpObservationSampling;
 import reactor.netty.observability.ReactorNettyHandlerContext;
+import reactor.util.context.Context;
 import reactor.util.context.ContextView;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
@@ -71,6 +77,8 @@ final class MicrometerHttpClientMetricsHandler extends AbstractHttpClientMetrics
 	// This is a lazy initialization
 	Observation responseTimeObservation;
 	@Nullable ContextView parentContextView;
+	// The request is not sampled, no Observation is created for it
+	boolean unsampled;
 
 	MicrometerHttpClientMetricsHandler(MicrometerHttpClientMetricsRecorder recorder,
 			SocketAddress remoteAddress,
@@ -87,6 +95,7 @@ final class MicrometerHttpClientMetricsHandler extends AbstractHttpClientMetrics
 		this.responseTimeHandlerContext = copy.responseTimeHandlerContext;
 		this.responseTimeObservation = copy.responseTimeObservation;
 		this.parentContextView = copy.parentContextView;
+		this.unsampled = copy.unsampled;
 	}
 
 	@Override
@@ -96,6 +105,11 @@ final class MicrometerHttpClientMetricsHandler extends AbstractHttpClientMetrics
 
 	@Override
 	protected void recordRead(Channel channel, SocketAddress address) {
+		if (unsampled) {
+			super.recordRead(channel, address);
+			return;
+		}
+
 		if (proxyAddress == null) {
 			recorder().recordDataReceivedTime(address, requireNonNull(path), requireNonNull(method), requireNonNull(status),
 					Duration.ofNanos(System.nanoTime() - dataReceivedTime));
@@ -128,6 +142,7 @@ final class MicrometerHttpClientMetricsHandler extends AbstractHttpClientMetrics
 		responseTimeHandlerContext = null;
 		responseTimeObservation = null;
 		parentContextView = null;
+		unsampled = false;
 	}
 
 	// reading the response
@@ -135,8 +150,10 @@ final class MicrometerHttpClientMetricsHandler extends AbstractHttpClientMetrics
 	protected void startRead(HttpResponse msg) {
 		super.startRead(msg);
 
-		responseTimeHandlerContext.setResponse(msg);
-		responseTimeHandlerContext.status = requireNonNull(status);
+		if (!unsampled) {
+			responseTimeHandlerContext.setResponse(msg);
+			responseTimeHandlerContext.status = requireNonNull(status);
+		}
 	}
 
 	// writing the request
@@ -144,6 +161,19 @@ final class MicrometerHttpClientMetricsHandler extends AbstractHttpClientMetrics
 	protected void startWrite(HttpRequest msg, Channel channel, SocketAddress address) {
 		super.startWrite(msg, channel, address);
 
+		Predicate<? super HttpClientRequest> sampler = HttpObservationSampling.clientSampler();
+		if (sampler != null) {
+			ChannelOperations<?, ?> channelOps = ChannelOperations.get(channel);
+			if (channelOps instanceof HttpClientOperations && !sampler.test((HttpClientOperations) channelOps)) {
+				unsampled = true;
+				BiConsumer<? super ContextView, ? super HttpHeaders> propagation = HttpObservationSampling.clientPropagation();
+				if (propagation != null) {
+					propagation.accept(contextView != null ? contextView : Context.empty(), msg.headers());
+				}
+				return;
+			}
+		}
+
 		responseTimeHandlerContext = new ResponseTimeHandlerContext(recorder, msg, requireNonNull(path), address, proxyAddress);
 		responseTimeObservation = Observation.createNotStarted(recorder.name() + RESPONSE_TIME, responseTimeHandlerContext, OBSERVATION_REGISTRY);
 		parentContextView = updateChannelContext(channel, responseTimeObservation);
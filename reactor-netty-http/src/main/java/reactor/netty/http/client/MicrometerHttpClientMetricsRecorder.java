@@ -30,11 +30,15 @@ import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import static reactor.netty.Metrics.CACHE_LOOKUPS;
+import static reactor.netty.Metrics.COMPRESSED_DATA_RECEIVED;
 import static reactor.netty.Metrics.DATA_RECEIVED;
 import static reactor.netty.Metrics.DATA_RECEIVED_TIME;
 import static reactor.netty.Metrics.DATA_SENT;
 import static reactor.netty.Metrics.DATA_SENT_TIME;
+import static reactor.netty.Metrics.DECOMPRESSED_DATA_RECEIVED;
 import static reactor.netty.Metrics.ERRORS;
+import static reactor.netty.Metrics.HEDGED_REQUESTS;
 import static reactor.netty.Metrics.HTTP_CLIENT_PREFIX;
 import static reactor.netty.Metrics.METHOD;
 import static reactor.netty.Metrics.NA;
@@ -62,6 +66,14 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 
 	private final ConcurrentMap<MeterKey, Counter> errorsCache = new ConcurrentHashMap<>();
 
+	private final ConcurrentMap<MeterKey, Counter> cacheLookupsCache = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<MeterKey, Counter> hedgedRequestsCache = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<MeterKey, DistributionSummary> compressedDataReceivedCache = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<MeterKey, DistributionSummary> decompressedDataReceivedCache = new ConcurrentHashMap<>();
+
 	private MicrometerHttpClientMetricsRecorder() {
 		super(HTTP_CLIENT_PREFIX, "http", false);
 	}
@@ -214,4 +226,61 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 			errors.increment();
 		}
 	}
+
+	@Override
+	public void incrementCacheCount(SocketAddress remoteAddress, String uri, String method, String result) {
+		String address = formatSocketAddress(remoteAddress);
+		MeterKey meterKey = new MeterKey(uri, address, null, method, result);
+		Counter cacheLookups = MapUtils.computeIfAbsent(cacheLookupsCache, meterKey,
+				key -> filter(Counter.builder(name() + CACHE_LOOKUPS)
+				                     .tags(HttpClientMeters.CacheLookupsTags.REMOTE_ADDRESS.asString(), address,
+				                           HttpClientMeters.CacheLookupsTags.URI.asString(), uri,
+				                           HttpClientMeters.CacheLookupsTags.METHOD.asString(), method,
+				                           HttpClientMeters.CacheLookupsTags.RESULT.asString(), result)
+				                     .register(REGISTRY)));
+		if (cacheLookups != null) {
+			cacheLookups.increment();
+		}
+	}
+
+	@Override
+	public void incrementHedgedRequestsCount(SocketAddress remoteAddress, String uri, String method, String outcome) {
+		String address = formatSocketAddress(remoteAddress);
+		MeterKey meterKey = new MeterKey(uri, address, null, method, outcome);
+		Counter hedgedRequests = MapUtils.computeIfAbsent(hedgedRequestsCache, meterKey,
+				key -> filter(Counter.builder(name() + HEDGED_REQUESTS)
+				                     .tags(HttpClientMeters.HedgedRequestsTags.REMOTE_ADDRESS.asString(), address,
+				                           HttpClientMeters.HedgedRequestsTags.URI.asString(), uri,
+				                           HttpClientMeters.HedgedRequestsTags.METHOD.asString(), method,
+				                           HttpClientMeters.HedgedRequestsTags.OUTCOME.asString(), outcome)
+				                     .register(REGISTRY)));
+		if (hedgedRequests != null) {
+			hedgedRequests.increment();
+		}
+	}
+
+	@Override
+	public void recordDecompressedDataReceived(SocketAddress remoteAddress, String encoding, long compressedBytes,
+			long decompressedBytes) {
+		String address = formatSocketAddress(remoteAddress);
+		MeterKey meterKey = new MeterKey(null, address, null, null, encoding);
+		DistributionSummary compressed = MapUtils.computeIfAbsent(compressedDataReceivedCache, meterKey,
+				key -> filter(DistributionSummary.builder(name() + COMPRESSED_DATA_RECEIVED)
+				                                 .baseUnit(HttpClientMeters.HTTP_CLIENT_COMPRESSED_DATA_RECEIVED.getBaseUnit())
+				                                 .tags(HttpClientMeters.DecompressionTags.REMOTE_ADDRESS.asString(), address,
+				                                       HttpClientMeters.DecompressionTags.ENCODING.asString(), encoding)
+				                                 .register(REGISTRY)));
+		if (compressed != null) {
+			compressed.record(compressedBytes);
+		}
+		DistributionSummary decompressed = MapUtils.computeIfAbsent(decompressedDataReceivedCache, meterKey,
+				key -> filter(DistributionSummary.builder(name() + DECOMPRESSED_DATA_RECEIVED)
+				                                 .baseUnit(HttpClientMeters.HTTP_CLIENT_DECOMPRESSED_DATA_RECEIVED.getBaseUnit())
+				                                 .tags(HttpClientMeters.DecompressionTags.REMOTE_ADDRESS.asString(), address,
+				                                       HttpClientMeters.DecompressionTags.ENCODING.asString(), encoding)
+				                                 .register(REGISTRY)));
+		if (decompressed != null) {
+			decompressed.record(decompressedBytes);
+		}
+	}
 }
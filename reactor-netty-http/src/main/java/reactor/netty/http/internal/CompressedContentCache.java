@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import io.netty.buffer.ByteBuf;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.http.server.compression.CompressedResponseCache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A size-bounded LRU store of compressed response bodies.
+ * The keys identify the response representation and the content encoding, the values are read-only buffers
+ * that are released when evicted.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @since 1.3.3
+ */
+public final class CompressedContentCache implements CompressedResponseCache {
+
+	final long maxSize;
+	final int maxEntrySize;
+	final boolean contentHash;
+	final LinkedHashMap<String, ByteBuf> entries;
+
+	long size;
+
+	public CompressedContentCache(long maxSize, int maxEntrySize, boolean contentHash) {
+		this.maxSize = maxSize;
+		this.maxEntrySize = maxEntrySize;
+		this.contentHash = contentHash;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	@Override
+	public boolean contentHash() {
+		return contentHash;
+	}
+
+	@Override
+	public int maxEntrySize() {
+		return maxEntrySize;
+	}
+
+	@Override
+	public long maxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public synchronized long size() {
+		return size;
+	}
+
+	/**
+	 * Returns a retained duplicate of the stored compressed body or {@code null}.
+	 *
+	 * @param key the representation and the content encoding
+	 * @return a retained duplicate of the stored compressed body or {@code null}
+	 */
+	public synchronized @Nullable ByteBuf get(String key) {
+		ByteBuf content = entries.get(key);
+		return content != null ? content.retainedDuplicate() : null;
+	}
+
+	/**
+	 * Stores the compressed body, the ownership of the buffer is transferred to the cache.
+	 *
+	 * @param key the representation and the content encoding
+	 * @param content the compressed body
+	 */
+	public synchronized void put(String key, ByteBuf content) {
+		if (content.readableBytes() > maxSize) {
+			content.release();
+			return;
+		}
+		ByteBuf previous = entries.put(key, content);
+		size += content.readableBytes();
+		if (previous != null) {
+			size -= previous.readableBytes();
+			previous.release();
+		}
+		Iterator<ByteBuf> it = entries.values().iterator();
+		while (size > maxSize && it.hasNext()) {
+			ByteBuf eldest = it.next();
+			it.remove();
+			size -= eldest.readableBytes();
+			eldest.release();
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks, per event loop, the share of the time spent compressing responses and the number of pending tasks,
+ * and classifies the load of the event loop as {@link #IDLE}, {@link #NORMAL}, {@link #BUSY} or {@link #OVERLOADED}.
+ * The load is re-evaluated at most once per {@link #WINDOW_MILLIS}. A higher load is applied immediately,
+ * a lower load is applied one step at a time and only when the signals drop below half of the thresholds.
+ * <p>The time spent compressing drops when the compression is reduced, so a lower load is applied only after
+ * the current load has been held for a dwell time, which starts at {@link #MIN_DWELL_WINDOWS} windows.
+ * When a lower load has to be left again within {@link #FLAP_WINDOWS} windows, i.e. it was the reduced
+ * compression that relieved the event loop, the dwell time doubles up to {@link #MAX_DWELL_WINDOWS} windows,
+ * so that under a sustained load the compression settings stay stable and are only probed from time to time.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @since 1.3.3
+ */
+public final class CompressionLoad {
+
+	/**
+	 * The event loop spends almost no time compressing, the responses can be compressed with a higher level.
+	 */
+	public static final int IDLE = 0;
+
+	/**
+	 * The responses are compressed with the configured level.
+	 */
+	public static final int NORMAL = 1;
+
+	/**
+	 * The responses are compressed with a lower level, the small responses are not compressed.
+	 */
+	public static final int BUSY = 2;
+
+	/**
+	 * The responses are not compressed.
+	 */
+	public static final int OVERLOADED = 3;
+
+	/**
+	 * The length of the window in milliseconds over which the load is measured.
+	 */
+	public static final long WINDOW_MILLIS = 100;
+
+	/**
+	 * The minimum number of windows a higher load is held before a lower load is applied.
+	 */
+	public static final int MIN_DWELL_WINDOWS = 10;
+
+	/**
+	 * The maximum number of windows a higher load is held before a lower load is applied.
+	 */
+	public static final int MAX_DWELL_WINDOWS = 600;
+
+	/**
+	 * A lower load that is left within this number of windows doubles the dwell time.
+	 */
+	public static final int FLAP_WINDOWS = 2;
+
+	/**
+	 * The ratio of the busy utilization below which the event loop is idle.
+	 */
+	static final double IDLE_RATIO = 0.2;
+
+	static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS);
+
+	final double busyUtilization;
+	final double overloadedUtilization;
+	final int maxPendingTasks;
+	final int busyMinResponseSize;
+	final int idleCompressionLevel;
+	final int busyCompressionLevel;
+	final int zstdIdleCompressionLevel;
+	final int zstdBusyCompressionLevel;
+	final FastThreadLocal<State> states = new FastThreadLocal<State>() {
+		@Override
+		protected State initialValue() {
+			return new State(System.nanoTime());
+		}
+	};
+
+	public CompressionLoad(double busyUtilization, double overloadedUtilization, int maxPendingTasks, int busyMinResponseSize,
+			int idleCompressionLevel, int busyCompressionLevel, int zstdIdleCompressionLevel, int zstdBusyCompressionLevel) {
+		this.busyUtilization = busyUtilization;
+		this.overloadedUtilization = overloadedUtilization;
+		this.maxPendingTasks = maxPendingTasks;
+		this.busyMinResponseSize = busyMinResponseSize;
+		this.idleCompressionLevel = idleCompressionLevel;
+		this.busyCompressionLevel = busyCompressionLevel;
+		this.zstdIdleCompressionLevel = zstdIdleCompressionLevel;
+		this.zstdBusyCompressionLevel = zstdBusyCompressionLevel;
+	}
+
+	/**
+	 * Returns the minimum size in bytes of a response that is compressed when the event loop is {@link #BUSY}.
+	 *
+	 * @return the minimum size in bytes of a response that is compressed when the event loop is busy
+	 */
+	public int busyMinResponseSize() {
+		return busyMinResponseSize;
+	}
+
+	/**
+	 * Returns the gzip and deflate compression level for the given load.
+	 *
+	 * @param load {@link #IDLE} or {@link #BUSY}
+	 * @return the gzip and deflate compression level for the given load
+	 */
+	public int compressionLevel(int load) {
+		return load == IDLE ? idleCompressionLevel : busyCompressionLevel;
+	}
+
+	/**
+	 * Returns the zstd compression level for the given load.
+	 *
+	 * @param load {@link #IDLE} or {@link #BUSY}
+	 * @return the zstd compression level for the given load
+	 */
+	public int zstdCompressionLevel(int load) {
+		return load == IDLE ? zstdIdleCompressionLevel : zstdBusyCompressionLevel;
+	}
+
+	/**
+	 * Returns the load of the current event loop, must be invoked on the event loop.
+	 *
+	 * @param executor the current event loop
+	 * @return the load of the current event loop
+	 */
+	public int load(EventExecutor executor) {
+		return load(executor, System.nanoTime());
+	}
+
+	int load(EventExecutor executor, long now) {
+		State state = states.get();
+		long elapsed = now - state.windowStart;
+		if (elapsed >= WINDOW_NANOS) {
+			double utilization = (double) state.compressionNanos / elapsed;
+			int pendingTasks = executor instanceof SingleThreadEventExecutor ?
+					((SingleThreadEventExecutor) executor).pendingTasks() : 0;
+			int higher = classify(utilization, pendingTasks, 1.0);
+			if (higher > state.load) {
+				if (state.steppedDown && now - state.steppedDownAt <= FLAP_WINDOWS * WINDOW_NANOS) {
+					// The lower load did not hold, it was the reduced compression that relieved the event loop
+					state.dwellWindows = Math.min(MAX_DWELL_WINDOWS, state.dwellWindows * 2);
+				}
+				state.load = higher;
+				state.heldSince = now;
+				state.steppedDown = false;
+			}
+			else {
+				if (state.steppedDown && now - state.steppedDownAt > FLAP_WINDOWS * WINDOW_NANOS) {
+					// The lower load holds
+					state.dwellWindows = MIN_DWELL_WINDOWS;
+					state.steppedDown = false;
+				}
+				if (classify(utilization, pendingTasks, 0.5) < state.load &&
+						now - state.heldSince >= state.dwellWindows * WINDOW_NANOS) {
+					state.load--;
+					state.heldSince = now;
+					state.steppedDown = true;
+					state.steppedDownAt = now;
+				}
+			}
+			state.compressionNanos = 0;
+			state.windowStart = now;
+		}
+		return state.load;
+	}
+
+	/**
+	 * Records the time spent compressing on the current event loop, must be invoked on the event loop.
+	 *
+	 * @param nanos the time in nanoseconds spent compressing
+	 */
+	public void record(long nanos) {
+		states.get().compressionNanos += nanos;
+	}
+
+	int classify(double utilization, int pendingTasks, double factor) {
+		if (pendingTasks >= maxPendingTasks * factor || utilization >= overloadedUtilization * factor) {
+			return OVERLOADED;
+		}
+		if (utilization >= busyUtilization * factor) {
+			return BUSY;
+		}
+		if (utilization >= busyUtilization * IDLE_RATIO * factor) {
+			return NORMAL;
+		}
+		return IDLE;
+	}
+
+	static final class State {
+		long compressionNanos;
+		int dwellWindows = MIN_DWELL_WINDOWS;
+		long heldSince;
+		int load = NORMAL;
+		boolean steppedDown;
+		long steppedDownAt;
+		long windowStart;
+
+		State(long windowStart) {
+			this.heldSince = windowStart;
+			this.windowStart = windowStart;
+		}
+	}
+}
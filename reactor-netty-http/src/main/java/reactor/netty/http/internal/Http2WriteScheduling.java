@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2RemoteFlowController;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.StreamByteDistributor;
+import io.netty.handler.codec.http2.UniformStreamByteDistributor;
+import io.netty.handler.codec.http2.WeightedFairQueueByteDistributor;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.http.Http2SettingsSpec;
+
+/**
+ * Utility class around the HTTP/2 outbound write scheduling.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @since 1.3.3
+ */
+public final class Http2WriteScheduling {
+
+	/**
+	 * Creates a {@link Http2FrameCodecBuilder} for the server or the client side.
+	 * When a write scheduling policy is configured, the builder is given a connection whose remote flow controller
+	 * distributes the connection write capacity according to this policy.
+	 *
+	 * @param server {@code true} for the server side, {@code false} for the client side
+	 * @param http2SettingsSpec the HTTP/2 settings or null
+	 * @return a new {@link Http2FrameCodecBuilder}
+	 */
+	public static Http2FrameCodecBuilder frameCodecBuilder(boolean server, @Nullable Http2SettingsSpec http2SettingsSpec) {
+		Http2SettingsSpec.WriteScheduling writeScheduling = http2SettingsSpec != null ? http2SettingsSpec.writeScheduling() : null;
+		Integer allocationQuantum = http2SettingsSpec != null ? http2SettingsSpec.writeSchedulingAllocationQuantum() : null;
+		if (writeScheduling == null || allocationQuantum == null) {
+			return server ? Http2FrameCodecBuilder.forServer() : Http2FrameCodecBuilder.forClient();
+		}
+
+		Http2Connection connection = new DefaultHttp2Connection(server);
+		StreamByteDistributor distributor;
+		if (writeScheduling == Http2SettingsSpec.WriteScheduling.UNIFORM) {
+			UniformStreamByteDistributor uniform = new UniformStreamByteDistributor(connection);
+			uniform.minAllocationChunk(allocationQuantum);
+			distributor = uniform;
+		}
+		else {
+			WeightedFairQueueByteDistributor weighted = new WeightedFairQueueByteDistributor(connection);
+			weighted.allocationQuantum(allocationQuantum);
+			distributor = weighted;
+		}
+		// The flow controller must be in place before the codec is built,
+		// the codec registers its writability listener on it
+		connection.remote().flowController(new DefaultHttp2RemoteFlowController(connection, distributor));
+		return new ConnectionFrameCodecBuilder(connection);
+	}
+
+	/**
+	 * Updates the weight of the stream in the priority tree of the remote flow controller.
+	 * The weight has effect only with {@link Http2SettingsSpec.WriteScheduling#WEIGHTED_FAIR_QUEUEING}.
+	 * Must be invoked on the event loop of the connection.
+	 *
+	 * @param connection the HTTP/2 connection
+	 * @param streamId the stream id
+	 * @param weight the weight, between {@code 1} and {@code 256}
+	 */
+	public static void updateWeight(Http2Connection connection, int streamId, int weight) {
+		if (connection.stream(streamId) == null) {
+			return;
+		}
+		connection.remote().flowController().updateDependencyTree(streamId, Http2CodecUtil.CONNECTION_STREAM_ID,
+				(short) weight, false);
+	}
+
+	static final class ConnectionFrameCodecBuilder extends Http2FrameCodecBuilder {
+
+		ConnectionFrameCodecBuilder(Http2Connection connection) {
+			// Same default as Http2FrameCodecBuilder.forServer()/forClient()
+			gracefulShutdownTimeoutMillis(0);
+			connection(connection);
+		}
+	}
+
+	private Http2WriteScheduling() {}
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import io.netty.channel.Channel;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.Future;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.ReactorNetty;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timing wheel per event loop for the HTTP timeouts.
+ * Arming and cancelling a timeout are {@code O(1)} operations on the event loop, the wheel itself is driven
+ * by a single scheduled task per event loop that exists only while there are armed timeouts.
+ * The timeouts fire with a resolution of {@link #TICK_MILLIS}.
+ * <p>While there are armed timeouts, the wheel of an event loop wakes it up every {@link #TICK_MILLIS}, even when no
+ * timeout expires, i.e. with the default of {@code 10ms} up to 100 short tasks per second per event loop. The tick
+ * can be changed with {@link ReactorNetty#HTTP_TIMEOUT_WHEEL_TICK}: a longer tick wakes the event loops less often
+ * at the price of a coarser resolution.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @since 1.3.3
+ */
+public final class TimeoutWheel {
+
+	/**
+	 * The resolution of the timeouts in milliseconds, configured with {@link ReactorNetty#HTTP_TIMEOUT_WHEEL_TICK},
+	 * fallback to {@code 10}.
+	 */
+	public static final long TICK_MILLIS = Math.max(Long.getLong(ReactorNetty.HTTP_TIMEOUT_WHEEL_TICK, 10), 1);
+
+	/**
+	 * An armed timeout.
+	 */
+	public interface Timeout {
+
+		/**
+		 * Cancels the timeout, the task will not be invoked.
+		 */
+		void cancel();
+	}
+
+	/**
+	 * Arms a timeout that invokes the given task on the given executor after the given delay.
+	 * When invoked outside the event loop of the given executor, the task is scheduled directly on the executor.
+	 *
+	 * @param executor the executor of the channel
+	 * @param task the task to invoke when the timeout expires
+	 * @param delay the delay
+	 * @param unit the unit of the delay
+	 * @return the armed timeout
+	 */
+	public static Timeout schedule(EventExecutor executor, Runnable task, long delay, TimeUnit unit) {
+		if (executor.inEventLoop()) {
+			TimeoutWheel wheel = WHEELS.get();
+			if (wheel == null || (wheel.executor != executor && wheel.size == 0 && !wheel.scheduled)) {
+				wheel = new TimeoutWheel(executor);
+				WHEELS.set(wheel);
+			}
+			if (wheel.executor == executor) {
+				return wheel.add(task, unit.toNanos(delay));
+			}
+		}
+		return new ScheduledTimeout(executor.schedule(task, delay, unit));
+	}
+
+	/**
+	 * A read timeout, the equivalent of {@link io.netty.handler.timeout.ReadTimeoutHandler} without adding a handler
+	 * to the pipeline. {@link #touch()} is invoked on every read and only records the time of the read, when the wheel
+	 * timeout expires before the channel has been idle for the whole timeout, it is armed again for the remaining time.
+	 * When the channel has been idle for the whole timeout, {@link ReadTimeoutException} is propagated
+	 * through the pipeline and the channel is closed.
+	 */
+	public static final class ReadTimeout implements Runnable {
+
+		final Channel channel;
+		final long timeoutNanos;
+
+		long lastRead;
+		volatile boolean stopped;
+		volatile @Nullable Timeout timeout;
+
+		/**
+		 * Creates a read timeout for the given channel, it has to be started with {@link #start()}.
+		 *
+		 * @param channel the channel
+		 * @param timeout the maximum time between two reads
+		 * @param unit the unit of the timeout
+		 */
+		public ReadTimeout(Channel channel, long timeout, TimeUnit unit) {
+			this.channel = channel;
+			this.timeoutNanos = Math.max(unit.toNanos(timeout), TimeUnit.MILLISECONDS.toNanos(1));
+		}
+
+		/**
+		 * Starts the read timeout.
+		 */
+		public void start() {
+			lastRead = System.nanoTime();
+			timeout = schedule(channel.eventLoop(), this, timeoutNanos, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Resets the read timeout, to be invoked on the event loop on every read.
+		 */
+		public void touch() {
+			lastRead = System.nanoTime();
+		}
+
+		/**
+		 * Stops the read timeout.
+		 */
+		public void stop() {
+			stopped = true;
+			Timeout timeout = this.timeout;
+			if (timeout != null) {
+				this.timeout = null;
+				timeout.cancel();
+			}
+		}
+
+		/**
+		 * Returns the timeout in milliseconds.
+		 *
+		 * @return the timeout in milliseconds
+		 */
+		public long timeoutMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(timeoutNanos);
+		}
+
+		@Override
+		@SuppressWarnings("FutureReturnValueIgnored")
+		public void run() {
+			if (stopped || !channel.isActive()) {
+				return;
+			}
+			long remaining = timeoutNanos - (System.nanoTime() - lastRead);
+			if (remaining > 0) {
+				timeout = schedule(channel.eventLoop(), this, remaining, TimeUnit.NANOSECONDS);
+				return;
+			}
+			timeout = null;
+			channel.pipeline().fireExceptionCaught(ReadTimeoutException.INSTANCE);
+			//"FutureReturnValueIgnored" this is deliberate
+			channel.close();
+		}
+	}
+
+	static final Logger log = Loggers.getLogger(TimeoutWheel.class);
+
+	static final FastThreadLocal<@Nullable TimeoutWheel> WHEELS = new FastThreadLocal<>();
+
+	static final int WHEEL_SIZE = 512;
+
+	static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+
+	final EventExecutor executor;
+	final @Nullable Entry[] buckets = new Entry[WHEEL_SIZE];
+	final long startTime;
+	final Runnable tickTask = this::expireTimeouts;
+
+	/**
+	 * The next tick to process, counted from {@link #startTime}.
+	 */
+	long tick;
+	int size;
+	boolean scheduled;
+
+	TimeoutWheel(EventExecutor executor) {
+		this.executor = executor;
+		this.startTime = System.nanoTime();
+	}
+
+	Entry add(Runnable task, long delayNanos) {
+		long now = System.nanoTime();
+		if (!scheduled) {
+			tick = (now - startTime) / TICK_NANOS + 1;
+		}
+		long deadline = now + Math.max(delayNanos, 0);
+		long targetTick = Math.max((deadline - startTime + TICK_NANOS - 1) / TICK_NANOS, tick);
+		Entry entry = new Entry(this, task, targetTick);
+		int index = (int) (targetTick & (WHEEL_SIZE - 1));
+		Entry head = buckets[index];
+		if (head != null) {
+			head.prev = entry;
+			entry.next = head;
+		}
+		buckets[index] = entry;
+		size++;
+		if (!scheduled) {
+			scheduleTick(now);
+		}
+		return entry;
+	}
+
+	void remove(Entry entry) {
+		int index = (int) (entry.targetTick & (WHEEL_SIZE - 1));
+		if (entry.prev != null) {
+			entry.prev.next = entry.next;
+		}
+		else {
+			buckets[index] = entry.next;
+		}
+		if (entry.next != null) {
+			entry.next.prev = entry.prev;
+		}
+		entry.prev = null;
+		entry.next = null;
+		entry.wheel = null;
+		size--;
+	}
+
+	void expireTimeouts() {
+		scheduled = false;
+		long currentTick = (System.nanoTime() - startTime) / TICK_NANOS;
+		List<Entry> expired = null;
+		int ticks = (int) Math.min(currentTick - tick + 1, WHEEL_SIZE);
+		for (int i = 0; i < ticks; i++) {
+			Entry entry = buckets[(int) ((tick + i) & (WHEEL_SIZE - 1))];
+			while (entry != null) {
+				Entry next = entry.next;
+				if (entry.targetTick <= currentTick) {
+					remove(entry);
+					if (expired == null) {
+						expired = new ArrayList<>();
+					}
+					expired.add(entry);
+				}
+				entry = next;
+			}
+		}
+		tick = Math.max(tick, currentTick + 1);
+
+		if (expired != null) {
+			for (Entry entry : expired) {
+				try {
+					entry.task.run();
+				}
+				catch (Throwable t) {
+					log.warn("An exception was thrown by a timeout task", t);
+				}
+			}
+		}
+
+		if (size > 0 && !scheduled) {
+			scheduleTick(System.nanoTime());
+		}
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	void scheduleTick(long now) {
+		scheduled = true;
+		long delay = startTime + tick * TICK_NANOS - now;
+		//"FutureReturnValueIgnored" this is deliberate
+		executor.schedule(tickTask, Math.max(delay, 0), TimeUnit.NANOSECONDS);
+	}
+
+	static final class Entry implements Timeout {
+
+		final Runnable task;
+		final long targetTick;
+
+		@Nullable TimeoutWheel wheel;
+		@Nullable Entry prev;
+		@Nullable Entry next;
+
+		Entry(TimeoutWheel wheel, Runnable task, long targetTick) {
+			this.wheel = wheel;
+			this.task = task;
+			this.targetTick = targetTick;
+		}
+
+		@Override
+		public void cancel() {
+			TimeoutWheel wheel = this.wheel;
+			if (wheel != null) {
+				if (wheel.executor.inEventLoop()) {
+					wheel.remove(this);
+				}
+				else {
+					wheel.executor.execute(this::cancel);
+				}
+			}
+		}
+	}
+
+	static final class ScheduledTimeout implements Timeout {
+
+		final Future<?> future;
+
+		ScheduledTimeout(Future<?> future) {
+			this.future = future;
+		}
+
+		@Override
+		public void cancel() {
+			future.cancel(false);
+		}
+	}
+}
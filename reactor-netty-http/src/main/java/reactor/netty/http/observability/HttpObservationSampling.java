@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.observability;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Head-based sampling for the Reactor Netty built-in {@link reactor.netty.http.client.HttpClient} and
+ * {@link reactor.netty.http.server.HttpServer} observations.
+ * <p>
+ * The sampler is evaluated before any {@code Observation} objects are created. When a request is not sampled,
+ * no {@code Observation}, no {@code Observation.Context} and no context propagation scope are created for it,
+ * and the response time is recorded directly through the metrics recorder as if observations were not available.
+ * <p>
+ * Like {@link reactor.netty.Metrics#observationRegistry(io.micrometer.observation.ObservationRegistry)},
+ * the configuration is global and applies to all clients and servers that have the built-in metrics enabled.
+ * <p>
+ * Example:
+ * <pre class="code">
+ * HttpObservationSampling.serverSampler(HttpObservationSampling.rate(0.1));
+ * HttpObservationSampling.clientSampler(req -&gt; !req.uri().startsWith("/health"));
+ * </pre>
+ *
+ * @since 1.3.3
+ */
+public final class HttpObservationSampling {
+
+	static @Nullable Predicate<? super HttpClientRequest> clientSampler;
+	static @Nullable BiConsumer<? super ContextView, ? super HttpHeaders> clientPropagation;
+	static @Nullable Predicate<? super HttpServerRequest> serverSampler;
+
+	/**
+	 * Returns the sampler that decides whether an {@link reactor.netty.http.client.HttpClient} request is observed.
+	 *
+	 * @return the client sampler or {@code null} when all requests are observed
+	 */
+	public static @Nullable Predicate<? super HttpClientRequest> clientSampler() {
+		return clientSampler;
+	}
+
+	/**
+	 * Set the sampler that decides whether an {@link reactor.netty.http.client.HttpClient} request is observed.
+	 * The sampler receives the request, before it is sent, and returns {@code true} if the request should be observed.
+	 * Pass {@code null} in order to observe all requests (the default).
+	 *
+	 * @param sampler the client sampler
+	 * @return the previously configured sampler
+	 */
+	public static @Nullable Predicate<? super HttpClientRequest> clientSampler(@Nullable Predicate<? super HttpClientRequest> sampler) {
+		Predicate<? super HttpClientRequest> previous = clientSampler;
+		clientSampler = sampler;
+		return previous;
+	}
+
+	/**
+	 * Returns the propagation-only function that is invoked for the {@link reactor.netty.http.client.HttpClient}
+	 * requests that are not sampled.
+	 *
+	 * @return the propagation-only function or {@code null} when not configured
+	 */
+	public static @Nullable BiConsumer<? super ContextView, ? super HttpHeaders> clientPropagation() {
+		return clientPropagation;
+	}
+
+	/**
+	 * Set the propagation-only function that is invoked for the {@link reactor.netty.http.client.HttpClient}
+	 * requests that are not sampled. The function receives the {@link ContextView} of the request and the request
+	 * headers, so that the trace headers can be forwarded without building a span for the request.
+	 * See {@link ReactorNettyTracePropagation#propagationOnly(io.micrometer.tracing.Tracer, io.micrometer.tracing.propagation.Propagator)}.
+	 * Pass {@code null} in order to disable the propagation for the requests that are not sampled (the default).
+	 *
+	 * @param propagation the propagation-only function
+	 * @return the previously configured propagation-only function
+	 */
+	public static @Nullable BiConsumer<? super ContextView, ? super HttpHeaders> clientPropagation(
+			@Nullable BiConsumer<? super ContextView, ? super HttpHeaders> propagation) {
+		BiConsumer<? super ContextView, ? super HttpHeaders> previous = clientPropagation;
+		clientPropagation = propagation;
+		return previous;
+	}
+
+	/**
+	 * Returns the sampler that decides whether an {@link reactor.netty.http.server.HttpServer} request is observed.
+	 *
+	 * @return the server sampler or {@code null} when all requests are observed
+	 */
+	public static @Nullable Predicate<? super HttpServerRequest> serverSampler() {
+		return serverSampler;
+	}
+
+	/**
+	 * Set the sampler that decides whether an {@link reactor.netty.http.server.HttpServer} request is observed.
+	 * The sampler receives the request, once its headers are received, and returns {@code true}
+	 * if the request should be observed.
+	 * Pass {@code null} in order to observe all requests (the default).
+	 *
+	 * @param sampler the server sampler
+	 * @return the previously configured sampler
+	 */
+	public static @Nullable Predicate<? super HttpServerRequest> serverSampler(@Nullable Predicate<? super HttpServerRequest> sampler) {
+		Predicate<? super HttpServerRequest> previous = serverSampler;
+		serverSampler = sampler;
+		return previous;
+	}
+
+	/**
+	 * Creates a sampler that selects requests randomly with the given probability.
+	 *
+	 * @param probability the probability that a request is sampled, between {@code 0.0} and {@code 1.0}
+	 * @param <T> the request type
+	 * @return a sampler that selects requests randomly with the given probability
+	 */
+	public static <T> Predicate<T> rate(double probability) {
+		if (probability < 0.0d || probability > 1.0d) {
+			throw new IllegalArgumentException("probability must be between 0.0 and 1.0, provided: " + probability);
+		}
+		if (probability == 0.0d) {
+			return t -> false;
+		}
+		if (probability == 1.0d) {
+			return t -> true;
+		}
+		return t -> ThreadLocalRandom.current().nextDouble() < probability;
+	}
+
+	private HttpObservationSampling() {
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import io.micrometer.tracing.propagation.Propagator;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.jspecify.annotations.Nullable;
+import reactor.util.context.ContextView;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import static reactor.netty.Metrics.OBSERVATION_KEY;
+
+/**
+ * Propagation-only support for the {@link reactor.netty.http.client.HttpClient} requests that are not sampled.
+ * See {@link HttpObservationSampling#clientPropagation(BiConsumer)}.
+ *
+ * @since 1.3.3
+ */
+public final class ReactorNettyTracePropagation {
+
+	/**
+	 * Creates a function that injects the trace context of the parent span into the request headers.
+	 * The parent span is obtained from the {@link Observation} available in the request {@link ContextView},
+	 * or from the {@link Tracer#currentSpan()} when there is no such {@link Observation}.
+	 * No span is created for the request itself.
+	 *
+	 * @param tracer the tracer
+	 * @param propagator the tracing propagator
+	 * @return a function that forwards the trace headers without building a span
+	 */
+	public static BiConsumer<ContextView, HttpHeaders> propagationOnly(Tracer tracer, Propagator propagator) {
+		Objects.requireNonNull(tracer, "tracer");
+		Objects.requireNonNull(propagator, "propagator");
+		return (contextView, headers) -> {
+			Span span = parentSpan(contextView);
+			if (span == null) {
+				span = tracer.currentSpan();
+			}
+			if (span != null) {
+				propagator.inject(span.context(), headers, HttpHeaders::set);
+			}
+		};
+	}
+
+	static @Nullable Span parentSpan(ContextView contextView) {
+		Observation observation = contextView.getOrDefault(OBSERVATION_KEY, null);
+		if (observation == null || observation.isNoop()) {
+			return null;
+		}
+		TracingObservationHandler.TracingContext tracingContext =
+				observation.getContextView().get(TracingObservationHandler.TracingContext.class);
+		return tracingContext != null ? tracingContext.getSpan() : null;
+	}
+
+	private ReactorNettyTracePropagation() {
+	}
+}
@@ -0,0 +1,549 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.multipart.Attribute;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.DiskFileUpload;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.HttpData;
+import io.netty.handler.codec.http.multipart.HttpDataFactory;
+import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.OpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link HttpDataFactory} that writes the {@link FileUpload}s stored on disk with {@link AsynchronousFileChannel},
+ * and delegates the {@link Attribute}s and the in-memory {@link FileUpload}s to another {@link HttpDataFactory}.
+ * The files are created, opened, written and deleted on the configured executor, never on the event loop.
+ * The number of bytes waiting to be written is bounded per request, see {@link #whenWritable()}.
+ *
+ * @since 1.3.3
+ */
+final class AsyncFileHttpDataFactory implements HttpDataFactory {
+
+	static final Logger log = Loggers.getLogger(AsyncFileHttpDataFactory.class);
+
+	static final String FILE_PREFIX = "FUp_";
+
+	static final String FILE_POSTFIX = ".tmp";
+
+	static final Set<? extends OpenOption> OPEN_OPTIONS =
+			Collections.unmodifiableSet(EnumSet.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING));
+
+	final HttpDataFactory delegate;
+	final boolean asyncFileWrites;
+	final @Nullable Path baseDirectory;
+	final @Nullable BiFunction<String, String, @Nullable Path> fileUploadPath;
+	final long maxInMemorySize;
+	final long maxPendingBytes;
+	final ExecutorService executor;
+	final EventLoop eventLoop;
+	final List<AsyncFileUpload> fileUploads = new ArrayList<>();
+
+	long maxSize = DefaultHttpDataFactory.MAXSIZE;
+	long pendingBytes;
+	Sinks.@Nullable Empty<Void> writable;
+
+	AsyncFileHttpDataFactory(
+			HttpDataFactory delegate,
+			boolean asyncFileWrites,
+			@Nullable Path baseDirectory,
+			@Nullable BiFunction<String, String, @Nullable Path> fileUploadPath,
+			long maxInMemorySize,
+			long maxPendingBytes,
+			ExecutorService executor,
+			EventLoop eventLoop) {
+		this.delegate = delegate;
+		this.asyncFileWrites = asyncFileWrites;
+		this.baseDirectory = baseDirectory;
+		this.fileUploadPath = fileUploadPath;
+		this.maxInMemorySize = maxInMemorySize;
+		this.maxPendingBytes = maxPendingBytes;
+		this.executor = executor;
+		this.eventLoop = eventLoop;
+	}
+
+	/**
+	 * Returns a {@link Mono} that completes, on the event loop, when the number of bytes waiting to be written
+	 * is below the configured limit.
+	 *
+	 * @return a {@link Mono} that completes when the number of bytes waiting to be written is below the limit
+	 */
+	Mono<Void> whenWritable() {
+		synchronized (this) {
+			if (pendingBytes <= maxPendingBytes) {
+				return Mono.empty();
+			}
+			Sinks.Empty<Void> writable = this.writable;
+			if (writable == null) {
+				writable = Sinks.empty();
+				this.writable = writable;
+			}
+			return writable.asMono();
+		}
+	}
+
+	void addPendingBytes(long bytes) {
+		synchronized (this) {
+			pendingBytes += bytes;
+		}
+	}
+
+	void removePendingBytes(long bytes) {
+		Sinks.Empty<Void> writable = null;
+		synchronized (this) {
+			pendingBytes -= bytes;
+			if (this.writable != null && pendingBytes <= maxPendingBytes) {
+				writable = this.writable;
+				this.writable = null;
+			}
+		}
+		if (writable != null) {
+			Sinks.Empty<Void> sink = writable;
+			eventLoop.execute(sink::tryEmitEmpty);
+		}
+	}
+
+	@Override
+	public void setMaxLimit(long max) {
+		this.maxSize = max;
+		delegate.setMaxLimit(max);
+	}
+
+	@Override
+	public Attribute createAttribute(HttpRequest request, String name) {
+		return delegate.createAttribute(request, name);
+	}
+
+	@Override
+	public Attribute createAttribute(HttpRequest request, String name, long definedSize) {
+		return delegate.createAttribute(request, name, definedSize);
+	}
+
+	@Override
+	public Attribute createAttribute(HttpRequest request, String name, String value) {
+		return delegate.createAttribute(request, name, value);
+	}
+
+	@Override
+	public FileUpload createFileUpload(HttpRequest request, String name, String filename, String contentType,
+			String contentTransferEncoding, Charset charset, long size) {
+		Path path = fileUploadPath != null ? fileUploadPath.apply(name, filename) : null;
+		// Keep the upload in memory when its size is known and small enough,
+		// otherwise write it in a temporary file, created when the first content is received
+		if (path == null &&
+				(!asyncFileWrites || baseDirectory == null || (maxInMemorySize > 0 && size > 0 && size <= maxInMemorySize))) {
+			return delegate.createFileUpload(request, name, filename, contentType, contentTransferEncoding, charset, size);
+		}
+		AsyncFileUpload fileUpload =
+				new AsyncFileUpload(this, path, name, filename, contentType, contentTransferEncoding, charset, size);
+		fileUpload.setMaxSize(maxSize);
+		synchronized (fileUploads) {
+			fileUploads.add(fileUpload);
+		}
+		return fileUpload;
+	}
+
+	@Override
+	public void removeHttpDataFromClean(HttpRequest request, InterfaceHttpData data) {
+		if (data instanceof AsyncFileUpload) {
+			synchronized (fileUploads) {
+				fileUploads.remove(data);
+			}
+		}
+		else {
+			delegate.removeHttpDataFromClean(request, data);
+		}
+	}
+
+	@Override
+	public void cleanRequestHttpData(HttpRequest request) {
+		delegate.cleanRequestHttpData(request);
+		cleanFileUploads();
+	}
+
+	@Override
+	public void cleanAllHttpData() {
+		delegate.cleanAllHttpData();
+		cleanFileUploads();
+	}
+
+	@Override
+	@Deprecated
+	public void cleanRequestHttpDatas(HttpRequest request) {
+		cleanRequestHttpData(request);
+	}
+
+	@Override
+	@Deprecated
+	public void cleanAllHttpDatas() {
+		cleanAllHttpData();
+	}
+
+	void cleanFileUploads() {
+		List<AsyncFileUpload> toClean;
+		synchronized (fileUploads) {
+			toClean = new ArrayList<>(fileUploads);
+			fileUploads.clear();
+		}
+		for (AsyncFileUpload fileUpload : toClean) {
+			fileUpload.release();
+		}
+	}
+
+	/**
+	 * Returns a {@link Mono} emitting the given {@link HttpData} once its content is written on disk.
+	 *
+	 * @param data the {@link HttpData}
+	 * @return a {@link Mono} emitting the given {@link HttpData} once its content is written on disk
+	 */
+	static Mono<HttpData> whenWritten(HttpData data) {
+		return data instanceof AsyncFileUpload ? ((AsyncFileUpload) data).written.asMono().thenReturn(data) : Mono.just(data);
+	}
+
+	/**
+	 * A {@link FileUpload} that writes its content with {@link AsynchronousFileChannel}, one buffer at a time.
+	 * The file is created and opened on the executor when the first content is received, the content received
+	 * in the meantime is queued. The {@link FileUpload} is marked as completed as soon as the last buffer is received,
+	 * so that the decoder can continue, while {@link #written} completes when the last buffer is on disk.
+	 */
+	static final class AsyncFileUpload extends DiskFileUpload implements CompletionHandler<Integer, ByteBuf> {
+
+		final AsyncFileHttpDataFactory factory;
+		final boolean temporary;
+		final ArrayDeque<ByteBuf> queue = new ArrayDeque<>();
+		final Sinks.Empty<Void> written = Sinks.empty();
+
+		// The temporary file is known only once created
+		@Nullable Path path;
+		@Nullable AsynchronousFileChannel fileChannel;
+		long position;
+		long queuedBytes;
+		boolean openScheduled;
+		boolean writing;
+		boolean lastReceived;
+		boolean deleted;
+		@Nullable Throwable error;
+
+		AsyncFileUpload(AsyncFileHttpDataFactory factory, @Nullable Path path, String name, String filename,
+				String contentType, String contentTransferEncoding, Charset charset, long size) {
+			super(name, filename, contentType, contentTransferEncoding, charset, size);
+			this.factory = factory;
+			this.path = path;
+			this.temporary = path == null;
+		}
+
+		@Override
+		public void addContent(ByteBuf buffer, boolean last) throws IOException {
+			int readable = buffer.readableBytes();
+			boolean open = false;
+			try {
+				checkSize(size + readable);
+				if (definedSize > 0 && definedSize < size + readable) {
+					throw new IOException("Out of size: " + (size + readable) + " > " + definedSize);
+				}
+				synchronized (this) {
+					if (error != null) {
+						throw new IOException("Failed to write " + description(), error);
+					}
+					if (deleted) {
+						throw new IOException("File upload " + description() + " is already deleted");
+					}
+					if (fileChannel == null && !openScheduled) {
+						openScheduled = true;
+						open = true;
+					}
+					if (readable > 0) {
+						queue.add(buffer);
+						queuedBytes += readable;
+					}
+					else {
+						buffer.release();
+					}
+					lastReceived = last;
+				}
+			}
+			catch (IOException e) {
+				buffer.release();
+				throw e;
+			}
+			size += readable;
+			if (readable > 0) {
+				factory.addPendingBytes(readable);
+			}
+			if (last) {
+				// The decoder moves to the next part only when this one is completed,
+				// the content might still be written, see whenWritten
+				setCompleted();
+			}
+			if (open) {
+				open();
+			}
+			else {
+				writeNext();
+			}
+		}
+
+		/**
+		 * Creates the temporary file when needed and opens the file on the executor,
+		 * then writes the content received in the meantime.
+		 */
+		void open() {
+			try {
+				factory.executor.execute(() -> {
+					Path path = this.path;
+					AsynchronousFileChannel fileChannel;
+					try {
+						if (path == null) {
+							path = Files.createTempFile(Objects.requireNonNull(factory.baseDirectory, "baseDirectory"),
+									FILE_PREFIX, FILE_POSTFIX);
+						}
+						fileChannel = AsynchronousFileChannel.open(path, OPEN_OPTIONS, factory.executor);
+					}
+					catch (Throwable t) {
+						if (path != null && temporary) {
+							deleteFile(path);
+						}
+						fail(t);
+						return;
+					}
+					boolean deleted;
+					synchronized (this) {
+						this.path = path;
+						deleted = this.deleted;
+						if (!deleted) {
+							this.fileChannel = fileChannel;
+						}
+					}
+					if (deleted) {
+						// The file upload was released while the file was being opened
+						close(fileChannel);
+						if (temporary) {
+							deleteFile(path);
+						}
+						return;
+					}
+					writeNext();
+				});
+			}
+			catch (Throwable t) {
+				fail(t);
+			}
+		}
+
+		void writeNext() {
+			ByteBuf buffer;
+			AsynchronousFileChannel fileChannel;
+			long position;
+			synchronized (this) {
+				if (writing || deleted || error != null || this.fileChannel == null) {
+					return;
+				}
+				buffer = queue.peek();
+				if (buffer == null) {
+					if (lastReceived) {
+						onWritten();
+					}
+					return;
+				}
+				writing = true;
+				fileChannel = this.fileChannel;
+				position = this.position;
+			}
+			fileChannel.write(buffer.nioBuffer(), position, buffer, this);
+		}
+
+		@Override
+		public void completed(Integer result, ByteBuf buffer) {
+			int bytes = result;
+			synchronized (this) {
+				writing = false;
+				if (deleted) {
+					// The buffer was kept for this write, see delete
+					buffer.release();
+					return;
+				}
+				position += bytes;
+				queuedBytes -= bytes;
+				buffer.skipBytes(bytes);
+				if (!buffer.isReadable()) {
+					queue.poll();
+					buffer.release();
+				}
+			}
+			factory.removePendingBytes(bytes);
+			writeNext();
+		}
+
+		@Override
+		public void failed(Throwable exc, ByteBuf buffer) {
+			synchronized (this) {
+				writing = false;
+				if (deleted) {
+					buffer.release();
+					return;
+				}
+			}
+			fail(exc);
+		}
+
+		void fail(Throwable exc) {
+			long bytes;
+			synchronized (this) {
+				if (deleted) {
+					return;
+				}
+				error = exc;
+				bytes = releaseQueue(false);
+				closeFileChannel();
+			}
+			factory.removePendingBytes(bytes);
+			factory.eventLoop.execute(() -> written.tryEmitError(exc));
+		}
+
+		void onWritten() {
+			try {
+				Path path;
+				synchronized (this) {
+					closeFileChannel();
+					path = this.path;
+				}
+				if (path == null) {
+					throw new IOException("File upload " + description() + " is not opened");
+				}
+				// Exposes the written file through getFile()/get()/renameTo(),
+				// this also prevents DiskFileUpload from deleting a file that it did not create
+				super.setContent(path.toFile());
+				factory.eventLoop.execute(written::tryEmitEmpty);
+			}
+			catch (IOException e) {
+				synchronized (this) {
+					error = e;
+				}
+				factory.eventLoop.execute(() -> written.tryEmitError(e));
+			}
+		}
+
+		@Override
+		public void delete() {
+			long bytes;
+			Path path;
+			synchronized (this) {
+				if (deleted) {
+					return;
+				}
+				deleted = true;
+				// When a write is in progress, its buffer is released on completion
+				bytes = releaseQueue(writing);
+				closeFileChannel();
+				// When the file is being opened, the temporary file is deleted once opened
+				path = this.path;
+			}
+			factory.removePendingBytes(bytes);
+			super.delete();
+			if (temporary && path != null) {
+				deleteFile(path);
+			}
+			written.tryEmitError(new IOException("File upload " + description() + " is deleted before it is written"));
+		}
+
+		String description() {
+			Path path = this.path;
+			return path != null ? path.toString() : getFilename();
+		}
+
+		/**
+		 * Deletes the temporary file on the executor.
+		 */
+		void deleteFile(Path path) {
+			Runnable task = () -> {
+				try {
+					Files.deleteIfExists(path);
+				}
+				catch (IOException e) {
+					if (log.isDebugEnabled()) {
+						log.debug("Failed to delete the temporary file {}", path, e);
+					}
+				}
+			};
+			try {
+				factory.executor.execute(task);
+			}
+			catch (RejectedExecutionException e) {
+				task.run();
+			}
+		}
+
+		long releaseQueue(boolean keepFirst) {
+			ByteBuf first = keepFirst ? queue.poll() : null;
+			ByteBuf buffer;
+			while ((buffer = queue.poll()) != null) {
+				buffer.release();
+			}
+			long bytes = queuedBytes;
+			queuedBytes = 0;
+			if (first != null) {
+				queue.add(first);
+			}
+			return bytes;
+		}
+
+		void closeFileChannel() {
+			AsynchronousFileChannel fileChannel = this.fileChannel;
+			if (fileChannel != null) {
+				this.fileChannel = null;
+				close(fileChannel);
+			}
+		}
+
+		void close(AsynchronousFileChannel fileChannel) {
+			try {
+				fileChannel.close();
+			}
+			catch (IOException e) {
+				if (log.isDebugEnabled()) {
+					log.debug("Failed to close the file channel for {}", path, e);
+				}
+			}
+		}
+	}
+}
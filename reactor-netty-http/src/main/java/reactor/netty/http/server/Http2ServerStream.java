@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.function.Consumer;
+
+import io.netty.handler.codec.http2.Http2Headers;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+
+/**
+ * An HTTP/2 stream handled at the frame level, see {@link HttpServer#handleHttp2Streams(java.util.function.Function)}.
+ * The request and the response headers are exposed as {@link Http2Headers}, without a translation to HTTP/1.x objects.
+ * <p>
+ * {@link #receive()} emits the content of the {@code DATA} frames, {@link #receiveObject()} emits the
+ * {@link io.netty.handler.codec.http2.Http2DataFrame}s. The {@link io.netty.buffer.ByteBuf}s passed to
+ * {@link #send(org.reactivestreams.Publisher)} are written as {@code DATA} frames, preceded by the {@code HEADERS} frame
+ * with the {@link #responseHeaders()}. The {@link io.netty.handler.codec.http2.Http2StreamFrame}s passed to
+ * {@link #sendObject(Object)} are written as they are. When the handler completes, the stream is ended
+ * with the trailer headers, if any, or with an empty {@code DATA} frame.
+ *
+ * @since 1.3.3
+ */
+public interface Http2ServerStream extends NettyInbound, NettyOutbound {
+
+	/**
+	 * Returns {@code true} if the response headers have been sent.
+	 *
+	 * @return {@code true} if the response headers have been sent
+	 */
+	boolean hasSentHeaders();
+
+	/**
+	 * Returns the request headers, including the pseudo headers.
+	 *
+	 * @return the request headers
+	 */
+	Http2Headers requestHeaders();
+
+	/**
+	 * Returns the request trailer headers or null. The trailer headers are available
+	 * once the request has been fully received.
+	 *
+	 * @return the request trailer headers or null
+	 */
+	@Nullable Http2Headers requestTrailers();
+
+	/**
+	 * Returns the response headers, {@code :status} is {@code 200} by default.
+	 * The response headers can be modified until they are sent.
+	 *
+	 * @return the response headers
+	 */
+	Http2Headers responseHeaders();
+
+	/**
+	 * Sends the response headers without ending the stream, if they have not been sent yet.
+	 *
+	 * @return a {@link Mono} completing when the response headers are written
+	 */
+	Mono<Void> sendHeaders();
+
+	/**
+	 * Returns the id of the stream.
+	 *
+	 * @return the id of the stream
+	 */
+	int streamId();
+
+	/**
+	 * Adds a callback that is invoked when the handler completes, in order to provide the trailer headers
+	 * that end the stream.
+	 *
+	 * @param trailerHeaders the callback providing the trailer headers
+	 * @return this {@link Http2ServerStream}
+	 */
+	Http2ServerStream trailerHeaders(Consumer<? super Http2Headers> trailerHeaders);
+
+	@Override
+	Http2ServerStream withConnection(Consumer<? super Connection> withConnection);
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.function.Function;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2StreamFrame;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.util.ReferenceCountUtil;
+import org.reactivestreams.Publisher;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.channel.ChannelOperations;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Creates {@link Http2StreamServerOperations} on the first {@code HEADERS} frame of the stream and
+ * converts the outgoing {@link ByteBuf}s into {@code DATA} frames, preceded by the response {@code HEADERS} frame.
+ * Unlike {@link Http2StreamBridgeServerHandler}, there is no {@link io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec}
+ * in the stream pipeline.
+ *
+ * @since 1.3.3
+ */
+final class Http2StreamFrameServerHandler extends ChannelDuplexHandler {
+
+	final Function<? super Http2ServerStream, ? extends Publisher<Void>> handler;
+	final ConnectionObserver listener;
+
+	boolean streamOpened;
+
+	Http2StreamFrameServerHandler(Function<? super Http2ServerStream, ? extends Publisher<Void>> handler,
+			ConnectionObserver listener) {
+		this.handler = handler;
+		this.listener = listener;
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext ctx) {
+		if (Http2StreamServerOperations.log.isDebugEnabled()) {
+			Http2StreamServerOperations.log.debug(format(ctx.channel(), "New HTTP/2 stream"));
+		}
+		ctx.read();
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) {
+		if (msg instanceof FullHttpRequest) {
+			// HTTP/2 clear text upgrade, the upgrade request is received on the stream 1 as an HTTP/1.x object
+			FullHttpRequest request = (FullHttpRequest) msg;
+			Http2Headers headers = HttpConversionUtil.toHttp2Headers(request, true);
+			boolean hasContent = request.content().isReadable();
+			channelRead(ctx, new DefaultHttp2HeadersFrame(headers, !hasContent));
+			if (hasContent) {
+				channelRead(ctx, new DefaultHttp2DataFrame(request.content(), true));
+			}
+			else {
+				request.release();
+			}
+			return;
+		}
+		if (!streamOpened && msg instanceof Http2HeadersFrame) {
+			streamOpened = true;
+			Http2StreamServerOperations ops = new Http2StreamServerOperations(Connection.from(ctx.channel()),
+					listener, ((Http2HeadersFrame) msg).headers(), handler);
+			ops.bind();
+			listener.onStateChange(ops, ConnectionObserver.State.CONFIGURED);
+		}
+		ctx.fireChannelRead(msg);
+	}
+
+	@Override
+	@SuppressWarnings("FutureReturnValueIgnored")
+	public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+		ChannelOperations<?, ?> channelOps = ChannelOperations.get(ctx.channel());
+		if (!(channelOps instanceof Http2StreamServerOperations)) {
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(msg, promise);
+			return;
+		}
+
+		Http2StreamServerOperations ops = (Http2StreamServerOperations) channelOps;
+		if (msg instanceof Http2HeadersFrame) {
+			Http2HeadersFrame frame = (Http2HeadersFrame) msg;
+			if (ops.headersSent && frame.headers() == ops.responseHeaders) {
+				// Http2ServerStream#sendHeaders after the response headers have been sent
+				promise.setSuccess();
+				return;
+			}
+			ops.headersSent = true;
+			ops.endStreamSent |= frame.isEndStream();
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(msg, promise);
+		}
+		else if (msg instanceof Http2DataFrame) {
+			writeHeaders(ctx, ops);
+			ops.endStreamSent |= ((Http2DataFrame) msg).isEndStream();
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(msg, promise);
+		}
+		else if (msg instanceof Http2StreamFrame) {
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(msg, promise);
+		}
+		else if (msg instanceof ByteBuf || msg instanceof ByteBufHolder) {
+			ByteBuf content = msg instanceof ByteBuf ? (ByteBuf) msg : ((ByteBufHolder) msg).content();
+			if (ops.endStreamSent) {
+				if (Http2StreamServerOperations.log.isDebugEnabled()) {
+					Http2StreamServerOperations.log.debug(
+							format(ctx.channel(), "Dropped HTTP/2 content, since the stream has been ended already: {}"), msg);
+				}
+				ReferenceCountUtil.release(msg);
+				promise.setSuccess();
+				return;
+			}
+			writeHeaders(ctx, ops);
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(new DefaultHttp2DataFrame(content, false), promise);
+		}
+		else {
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(msg, promise);
+		}
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static void writeHeaders(ChannelHandlerContext ctx, Http2StreamServerOperations ops) {
+		if (!ops.headersSent) {
+			ops.headersSent = true;
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.write(new DefaultHttp2HeadersFrame(ops.responseHeaders));
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.DefaultHttp2ResetFrame;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.util.ReferenceCountUtil;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.FutureMono;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+import reactor.netty.channel.ChannelOperations;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import static java.util.Objects.requireNonNull;
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Conversion between the HTTP/2 stream frames and {@link Http2ServerStream}, without HTTP/1.x objects.
+ * The state of the response is updated only from the event loop by {@link Http2StreamFrameServerHandler}.
+ *
+ * @since 1.3.3
+ */
+final class Http2StreamServerOperations extends ChannelOperations<NettyInbound, NettyOutbound>
+		implements Http2ServerStream {
+
+	static final Logger log = Loggers.getLogger(Http2StreamServerOperations.class);
+
+	final Function<? super Http2ServerStream, ? extends Publisher<Void>> handler;
+	final Http2Headers requestHeaders;
+	final Http2Headers responseHeaders;
+
+	volatile boolean headersSent;
+	boolean endStreamSent;
+	boolean handlerApplied;
+	volatile @Nullable Http2Headers requestTrailers;
+	@Nullable Consumer<? super Http2Headers> trailerHeadersConsumer;
+
+	Http2StreamServerOperations(Connection connection, ConnectionObserver listener, Http2Headers requestHeaders,
+			Function<? super Http2ServerStream, ? extends Publisher<Void>> handler) {
+		super(connection, listener);
+		this.handler = handler;
+		this.requestHeaders = requestHeaders;
+		this.responseHeaders = new DefaultHttp2Headers().status(HttpResponseStatus.OK.codeAsText());
+	}
+
+	@Override
+	public boolean hasSentHeaders() {
+		return headersSent;
+	}
+
+	@Override
+	public Http2Headers requestHeaders() {
+		return requestHeaders;
+	}
+
+	@Override
+	public @Nullable Http2Headers requestTrailers() {
+		return requestTrailers;
+	}
+
+	@Override
+	public Http2Headers responseHeaders() {
+		return responseHeaders;
+	}
+
+	@Override
+	public Mono<Void> sendHeaders() {
+		// Dropped by Http2StreamFrameServerHandler when the response headers have already been sent
+		return FutureMono.deferFuture(() -> channel().writeAndFlush(new DefaultHttp2HeadersFrame(responseHeaders)));
+	}
+
+	@Override
+	public int streamId() {
+		return ((Http2StreamChannel) channel()).stream().id();
+	}
+
+	@Override
+	public Http2ServerStream trailerHeaders(Consumer<? super Http2Headers> trailerHeaders) {
+		this.trailerHeadersConsumer = requireNonNull(trailerHeaders, "trailerHeaders");
+		return this;
+	}
+
+	@Override
+	public Http2StreamServerOperations withConnection(Consumer<? super Connection> withConnection) {
+		requireNonNull(withConnection, "withConnection");
+		withConnection.accept(this);
+		return this;
+	}
+
+	@Override
+	protected void onInboundNext(ChannelHandlerContext ctx, Object msg) {
+		if (msg instanceof Http2HeadersFrame) {
+			Http2HeadersFrame frame = (Http2HeadersFrame) msg;
+			if (!handlerApplied) {
+				handlerApplied = true;
+				applyHandler();
+			}
+			else {
+				requestTrailers = frame.headers();
+			}
+			if (frame.isEndStream()) {
+				onInboundComplete();
+			}
+		}
+		else if (msg instanceof Http2DataFrame) {
+			Http2DataFrame frame = (Http2DataFrame) msg;
+			boolean endStream = frame.isEndStream();
+			if (frame.content().isReadable()) {
+				super.onInboundNext(ctx, frame);
+			}
+			else {
+				frame.release();
+			}
+			if (endStream) {
+				onInboundComplete();
+			}
+		}
+		else {
+			if (log.isDebugEnabled()) {
+				log.debug(format(channel(), "Dropped HTTP/2 frame: {}"), msg);
+			}
+			ReferenceCountUtil.release(msg);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("FutureReturnValueIgnored")
+	protected void onOutboundError(Throwable err) {
+		if (!channel().isActive() || endStreamSent) {
+			super.onOutboundError(err);
+			return;
+		}
+		log.error(format(channel(), "Error processing the HTTP/2 stream. Resetting the stream"), err);
+		//"FutureReturnValueIgnored" this is deliberate
+		channel().writeAndFlush(new DefaultHttp2ResetFrame(Http2Error.INTERNAL_ERROR))
+		         .addListener((ChannelFutureListener) f -> terminateInternal());
+	}
+
+	@Override
+	protected void onOutboundComplete() {
+		EventLoop eventLoop = channel().eventLoop();
+		if (eventLoop.inEventLoop()) {
+			endStream();
+		}
+		else {
+			// The state of the response is owned by the event loop, end the stream after the pending writes
+			eventLoop.execute(this::endStream);
+		}
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	void applyHandler() {
+		try {
+			if (log.isDebugEnabled()) {
+				log.debug(format(channel(), "Handler is being applied: {}"), handler);
+			}
+			Mono.fromDirect(handler.apply(this))
+			    .subscribe(disposeSubscriber());
+		}
+		catch (Throwable t) {
+			log.error(format(channel(), ""), t);
+			//"FutureReturnValueIgnored" this is deliberate
+			channel().writeAndFlush(new DefaultHttp2ResetFrame(Http2Error.INTERNAL_ERROR));
+		}
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	void endStream() {
+		if (endStreamSent) {
+			terminateInternal();
+			return;
+		}
+
+		Http2Headers trailers = null;
+		if (trailerHeadersConsumer != null) {
+			trailers = new DefaultHttp2Headers();
+			trailerHeadersConsumer.accept(trailers);
+			if (trailers.isEmpty()) {
+				trailers = null;
+			}
+		}
+
+		ChannelFuture f;
+		if (!headersSent) {
+			if (trailers == null) {
+				f = channel().writeAndFlush(new DefaultHttp2HeadersFrame(responseHeaders, true));
+			}
+			else {
+				//"FutureReturnValueIgnored" this is deliberate
+				channel().write(new DefaultHttp2HeadersFrame(responseHeaders));
+				f = channel().writeAndFlush(new DefaultHttp2HeadersFrame(trailers, true));
+			}
+		}
+		else {
+			f = channel().writeAndFlush(trailers != null ? new DefaultHttp2HeadersFrame(trailers, true) : new DefaultHttp2DataFrame(true));
+		}
+		//"FutureReturnValueIgnored" this is deliberate
+		f.addListener((ChannelFutureListener) future -> terminateInternal());
+	}
+
+	void terminateInternal() {
+		discard();
+		terminate();
+	}
+}
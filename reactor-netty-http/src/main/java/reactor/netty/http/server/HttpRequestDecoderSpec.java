@@ -27,6 +27,7 @@ import reactor.netty.http.HttpDecoderSpec;
  *     <tr><td>{@link #DEFAULT_ALLOW_DUPLICATE_CONTENT_LENGTHS}</td><td>false</td></tr>
  *     <tr><td>{@link #DEFAULT_H2C_MAX_CONTENT_LENGTH}</td><td>0</td></tr>
  *     <tr><td>{@link #DEFAULT_INITIAL_BUFFER_SIZE}</td><td>128</td></tr>
+ *     <tr><td>{@link #DEFAULT_LAZY_HEADERS}</td><td>false</td></tr>
  *     <tr><td>{@link #DEFAULT_MAX_CHUNK_SIZE}</td><td>8192</td></tr>
  *     <tr><td>{@link #DEFAULT_MAX_HEADER_SIZE}</td><td>8192</td></tr>
  *     <tr><td>{@link #DEFAULT_MAX_INITIAL_LINE_LENGTH}</td><td>4096</td></tr>
@@ -46,6 +47,15 @@ public final class HttpRequestDecoderSpec extends HttpDecoderSpec<HttpRequestDec
 	 */
 	public static final int DEFAULT_H2C_MAX_CONTENT_LENGTH = 0;
 
+	/**
+	 * By default, the decoded HTTP/1.1 request headers are stored in {@link io.netty.handler.codec.http.DefaultHttpHeaders}.
+	 *
+	 * @since 1.3.3
+	 */
+	public static final boolean DEFAULT_LAZY_HEADERS = false;
+
+	boolean lazyHeaders = DEFAULT_LAZY_HEADERS;
+
 	HttpRequestDecoderSpec() {
 		this.h2cMaxContentLength = DEFAULT_H2C_MAX_CONTENT_LENGTH;
 	}
@@ -55,6 +65,57 @@ public final class HttpRequestDecoderSpec extends HttpDecoderSpec<HttpRequestDec
 		return this;
 	}
 
+	/**
+	 * Configure whether to store the decoded HTTP/1.1 request headers in a lightweight structure, which keeps
+	 * the names and the values in the order they were received and looks them up with a linear scan.
+	 * The hash table of {@link io.netty.handler.codec.http.DefaultHttpHeaders} is built only when the request headers
+	 * are modified or an operation such as {@link io.netty.handler.codec.http.HttpHeaders#names()} is invoked.
+	 * This is beneficial when the handlers read only a few of the request headers.
+	 * The headers are still validated according to {@link #validateHeaders(boolean)} and limited by
+	 * {@link #maxHeaderSize(int)}. Defaults to {@link #DEFAULT_LAZY_HEADERS}.
+	 * <p><strong>Note:</strong> This configuration is applicable only for HTTP/1.1.
+	 *
+	 * @param lazyHeaders true to store the request headers in a lightweight structure, otherwise false
+	 * @return this option builder for further configuration
+	 * @since 1.3.3
+	 */
+	public HttpRequestDecoderSpec lazyHeaders(boolean lazyHeaders) {
+		this.lazyHeaders = lazyHeaders;
+		return this;
+	}
+
+	/**
+	 * Return the configuration whether to store the decoded HTTP/1.1 request headers in a lightweight structure.
+	 *
+	 * @return the configuration whether to store the decoded HTTP/1.1 request headers in a lightweight structure
+	 * @since 1.3.3
+	 */
+	public boolean lazyHeaders() {
+		return lazyHeaders;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		if (!super.equals(o)) {
+			return false;
+		}
+		HttpRequestDecoderSpec that = (HttpRequestDecoderSpec) o;
+		return lazyHeaders == that.lazyHeaders;
+	}
+
+	@Override
+	public int hashCode() {
+		int result = super.hashCode();
+		result = 31 * result + Boolean.hashCode(lazyHeaders);
+		return result;
+	}
+
 	/**
 	 * Build a {@link HttpRequestDecoderSpec}.
 	 */
@@ -68,6 +129,7 @@ public final class HttpRequestDecoderSpec extends HttpDecoderSpec<HttpRequestDec
 		decoder.allowDuplicateContentLengths = allowDuplicateContentLengths;
 		decoder.h2cMaxContentLength = h2cMaxContentLength;
 		decoder.allowPartialChunks = allowPartialChunks;
+		decoder.lazyHeaders = lazyHeaders;
 		return decoder;
 	}
 }
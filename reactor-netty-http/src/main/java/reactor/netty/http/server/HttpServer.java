@@ -273,6 +273,48 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return dup;
 	}
 
+	/**
+	 * Enable the admission control. Before the handler is applied, a new request is rejected when
+	 * the queueing delay or the number of in-flight requests of its event loop, or the bytes pending
+	 * to be written on its connection, exceed the configured limits.
+	 * A rejected HTTP/1.1 or HTTP/3 request is answered with {@code 503 Service Unavailable} and {@code Retry-After},
+	 * a rejected HTTP/2 stream is reset with {@code REFUSED_STREAM}.
+	 * The requests matching {@link HttpServerAdmissionControlSpec.Builder#priority(java.util.function.Predicate)}
+	 * are always admitted.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 * {@code
+	 * HttpServer.create()
+	 *           .port(8080)
+	 *           .admissionControl(spec -> spec.maxQueueingDelay(Duration.ofMillis(50))
+	 *                                         .maxInFlightRequests(1000)
+	 *                                         .priority(req -> req.uri().startsWith("/health")))
+	 *           .route(r -> r.get("/hello",
+	 *                   (req, res) -> res.sendString(Mono.just("Hello World!"))))
+	 *           .bindNow()
+	 *           .onDispose()
+	 *           .block();
+	 * }
+	 * </pre>
+	 *
+	 * @param admissionControl configures {@link HttpServerAdmissionControlSpec} before requesting
+	 * @return a new {@link HttpServer}
+	 * @since 1.3.3
+	 */
+	public final HttpServer admissionControl(Consumer<HttpServerAdmissionControlSpec.Builder> admissionControl) {
+		Objects.requireNonNull(admissionControl, "admissionControl");
+		HttpServerAdmissionControlSpec.Builder builder = HttpServerAdmissionControlSpec.builder();
+		admissionControl.accept(builder);
+		HttpServerAdmissionControlSpec spec = builder.build();
+		if (spec.equals(configuration().admissionControl)) {
+			return this;
+		}
+		HttpServer dup = duplicate();
+		dup.configuration().admissionControl = spec;
+		return dup;
+	}
+
 	@Override
 	public final HttpServer bindAddress(Supplier<? extends SocketAddress> bindAddressSupplier) {
 		return super.bindAddress(bindAddressSupplier);
@@ -353,6 +395,10 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	 * <li>{@link reactor.netty.http.server.compression.ZstdOption} - available when the
 	 * {@code com.github.luben:zstd-jni} dependency is present, configurable</li>
 	 * </ul>
+	 * A {@link reactor.netty.http.server.compression.CacheOption} enables a cache of the compressed response bodies,
+	 * so that identical responses are compressed only once.
+	 * An {@link reactor.netty.http.server.compression.AdaptiveOption} selects the compression level per response
+	 * depending on the load of the event loop.
 	 *
 	 * <p><b>Brotli and Zstd Availability:</b></p>
 	 * <ul>
@@ -561,6 +607,39 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return childObserve(new HttpServerHandle(handler));
 	}
 
+	/**
+	 * Handle the HTTP/2 streams at the frame level. The request and the response headers are exposed as
+	 * {@link io.netty.handler.codec.http2.Http2Headers} and the content as {@code DATA} frames, without the translation
+	 * to and from HTTP/1.x objects, which pays off for traffic with many small streams such as gRPC.
+	 * When configured, all HTTP/2 streams are passed to this handler, the {@link #handle(BiFunction)} and
+	 * {@link #route(Consumer)} handlers still serve the HTTP/1.1 and HTTP/3 requests.
+	 * The access log, the metrics and the compression are not applied to the streams handled at the frame level.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 * {@code
+	 * HttpServer.create()
+	 *           .protocol(HttpProtocol.H2C)
+	 *           .handleHttp2Streams(stream -> {
+	 *               stream.responseHeaders().set("content-type", "application/grpc");
+	 *               stream.trailerHeaders(t -> t.set("grpc-status", "0"));
+	 *               return stream.send(stream.receive().retain());
+	 *           })
+	 *           .bindNow();
+	 * }
+	 * </pre>
+	 *
+	 * @param handler the handler invoked for each HTTP/2 stream
+	 * @return a new {@link HttpServer}
+	 * @since 1.3.3
+	 */
+	public final HttpServer handleHttp2Streams(Function<? super Http2ServerStream, ? extends Publisher<Void>> handler) {
+		Objects.requireNonNull(handler, "handler");
+		HttpServer dup = duplicate();
+		dup.configuration().http2StreamHandler = handler;
+		return dup;
+	}
+
 	@Override
 	public final HttpServer host(String host) {
 		return super.host(host);
@@ -1053,9 +1132,10 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 
 	/**
 	 * Specifies the maximum duration allowed between each network-level read operation while reading a given request
-	 * content (resolution: ms). In other words, {@link io.netty.handler.timeout.ReadTimeoutHandler} is added to the
-	 * channel pipeline after all the request headers are received, and removed from the channel pipeline after the
-	 * content is fully received.
+	 * content (resolution: ms). In other words, a read timeout that behaves as
+	 * {@link io.netty.handler.timeout.ReadTimeoutHandler} is armed after all the request headers are received, and
+	 * stopped after the content is fully received. The read timeouts of an event loop share one timing wheel, so a
+	 * timeout may be detected up to one tick ({@code 10ms} by default) later.
 	 * If the {@code readTimeout} is {@code null}, any previous setting will be removed and no
 	 * {@code readTimeout} will be applied.
 	 * If the {@code readTimeout} is less than {@code 1ms}, then {@code 1ms} will be the
@@ -1082,6 +1162,8 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	 * {@code requestTimeout} will be applied.
 	 * If the {@code requestTimeout} is less than {@code 1ms}, then {@code 1ms} will be the
 	 * {@code requestTimeout}.
+	 * The request timeouts of the connections served by an event loop share a timing wheel,
+	 * so a request timeout may be detected up to {@code 10ms} later.
 	 *
 	 * @param requestTimeout the maximum duration for reading a given request content (resolution: ms)
 	 * @return a new {@link HttpServer}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http2.DefaultHttp2ResetFrame;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.util.concurrent.FastThreadLocal;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Admits or rejects the new requests before the handler is applied, based on the queueing delay
+ * and the number of in-flight requests of the event loop, and on the bytes pending to be written on the connection.
+ * The state is kept per event loop and is accessed only from the event loop.
+ *
+ * @since 1.3.3
+ */
+final class HttpServerAdmissionControl {
+
+	static final Logger log = Loggers.getLogger(HttpServerAdmissionControl.class);
+
+	/**
+	 * The minimum interval between two probes measuring the queueing delay of an event loop.
+	 */
+	static final long PROBE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	final int maxInFlightRequests;
+	final long maxPendingWriteBytes;
+	final long maxQueueingDelay;
+	final @Nullable Predicate<HttpServerRequest> priority;
+	final String retryAfter;
+	final FastThreadLocal<State> states = new FastThreadLocal<State>() {
+		@Override
+		protected State initialValue() {
+			return new State(System.nanoTime());
+		}
+	};
+
+	HttpServerAdmissionControl(HttpServerAdmissionControlSpec spec) {
+		this.maxInFlightRequests = spec.maxInFlightRequests;
+		this.maxPendingWriteBytes = spec.maxPendingWriteBytes;
+		this.maxQueueingDelay = spec.maxQueueingDelay.toNanos();
+		this.priority = spec.priority;
+		long retryAfterMillis = spec.retryAfter.toMillis();
+		this.retryAfter = Long.toString((retryAfterMillis + 999) / 1000);
+	}
+
+	ConnectionObserver observe(ConnectionObserver observer) {
+		return new AdmissionObserver(this, observer);
+	}
+
+	/**
+	 * Admits the request and tracks it as in-flight until the operations terminate,
+	 * or returns the reason of the rejection.
+	 * Must be invoked on the event loop of the request.
+	 *
+	 * @param ops the request
+	 * @return {@code null} if the request is admitted, otherwise the reason of the rejection
+	 */
+	@Nullable String admit(HttpServerOperations ops) {
+		EventLoop eventLoop = ops.channel().eventLoop();
+		State state = states.get();
+		if (priority == null || !priority.test(ops)) {
+			String reason = reject(ops.channel(), eventLoop, state, System.nanoTime());
+			if (reason != null) {
+				return reason;
+			}
+		}
+		state.inFlight++;
+		ops.onTerminate()
+		   .subscribe(null, t -> state.release(eventLoop), () -> state.release(eventLoop));
+		return null;
+	}
+
+	@Nullable String reject(Channel channel, EventLoop eventLoop, State state, long now) {
+		if (maxInFlightRequests > 0 && state.inFlight >= maxInFlightRequests) {
+			return "in-flight requests " + state.inFlight;
+		}
+		if (maxQueueingDelay > 0) {
+			long queueingDelay = state.queueingDelay(eventLoop, now);
+			if (queueingDelay > maxQueueingDelay) {
+				return "queueing delay " + TimeUnit.NANOSECONDS.toMillis(queueingDelay) + "ms";
+			}
+		}
+		if (maxPendingWriteBytes > 0) {
+			long pendingWriteBytes = pendingWriteBytes(channel);
+			if (pendingWriteBytes > maxPendingWriteBytes) {
+				return "pending write bytes " + pendingWriteBytes;
+			}
+		}
+		return null;
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	void sendRejection(HttpServerOperations ops) {
+		Channel channel = ops.channel();
+		if (channel instanceof Http2StreamChannel) {
+			//"FutureReturnValueIgnored" this is deliberate
+			channel.writeAndFlush(new DefaultHttp2ResetFrame(Http2Error.REFUSED_STREAM));
+		}
+		else {
+			ops.status(HttpResponseStatus.SERVICE_UNAVAILABLE)
+			   .header(HttpHeaderNames.RETRY_AFTER, retryAfter)
+			   .send()
+			   .subscribe(ops.disposeSubscriber());
+		}
+	}
+
+	static long pendingWriteBytes(Channel channel) {
+		// The bytes of an HTTP/2 stream are pending on the connection
+		Channel parent = channel instanceof Http2StreamChannel ? channel.parent() : null;
+		Channel connection = parent != null ? parent : channel;
+		ChannelOutboundBuffer buffer = connection.unsafe().outboundBuffer();
+		return buffer != null ? buffer.totalPendingWriteBytes() : 0;
+	}
+
+	static final class AdmissionObserver implements ConnectionObserver {
+
+		final HttpServerAdmissionControl admissionControl;
+		final ConnectionObserver delegate;
+
+		AdmissionObserver(HttpServerAdmissionControl admissionControl, ConnectionObserver delegate) {
+			this.admissionControl = admissionControl;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Context currentContext() {
+			return delegate.currentContext();
+		}
+
+		@Override
+		public void onStateChange(Connection connection, State newState) {
+			if (newState == HttpServerState.REQUEST_RECEIVED && connection instanceof HttpServerOperations) {
+				HttpServerOperations ops = (HttpServerOperations) connection;
+				String reason = admissionControl.admit(ops);
+				if (reason != null) {
+					if (log.isDebugEnabled()) {
+						log.debug(format(connection.channel(), "Request rejected by the admission control, {}"), reason);
+					}
+					admissionControl.sendRejection(ops);
+					return;
+				}
+			}
+			delegate.onStateChange(connection, newState);
+		}
+
+		@Override
+		public void onUncaughtException(Connection connection, Throwable error) {
+			delegate.onUncaughtException(connection, error);
+		}
+	}
+
+	static final class State implements Runnable {
+
+		int inFlight;
+		long lastProbe;
+		boolean probePending;
+		long probeSubmitted;
+		long queueingDelay;
+
+		State(long now) {
+			this.lastProbe = now - PROBE_INTERVAL_NANOS;
+		}
+
+		/**
+		 * Returns the last measured queueing delay, or the time the pending probe has been waiting if it is longer.
+		 * Submits a new probe when the last one is older than {@link #PROBE_INTERVAL_NANOS}.
+		 */
+		long queueingDelay(EventLoop eventLoop, long now) {
+			if (probePending) {
+				return Math.max(queueingDelay, now - probeSubmitted);
+			}
+			if (now - lastProbe >= PROBE_INTERVAL_NANOS) {
+				probePending = true;
+				probeSubmitted = now;
+				eventLoop.execute(this);
+			}
+			return queueingDelay;
+		}
+
+		void release(EventLoop eventLoop) {
+			if (eventLoop.inEventLoop()) {
+				inFlight--;
+			}
+			else {
+				eventLoop.execute(() -> inFlight--);
+			}
+		}
+
+		@Override
+		public void run() {
+			long now = System.nanoTime();
+			queueingDelay = now - probeSubmitted;
+			lastProbe = now;
+			probePending = false;
+		}
+	}
+}
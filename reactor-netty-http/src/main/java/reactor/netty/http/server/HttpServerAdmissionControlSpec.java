@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A configuration builder for the admission control of {@link HttpServer}.
+ * Before the handler is applied, a new request is rejected when its event loop is overloaded:
+ * the queueing delay of the event loop or the number of in-flight requests on the event loop
+ * exceed the configured limits, or the connection has too many bytes pending to be written.
+ * A rejected HTTP/1.1 or HTTP/3 request is answered with {@code 503 Service Unavailable} and {@code Retry-After},
+ * a rejected HTTP/2 stream is reset with {@code REFUSED_STREAM}.
+ *
+ * @since 1.3.3
+ */
+public final class HttpServerAdmissionControlSpec {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HttpServerAdmissionControlSpec}.
+		 *
+		 * @return a new {@link HttpServerAdmissionControlSpec}
+		 */
+		HttpServerAdmissionControlSpec build();
+
+		/**
+		 * Configures the maximum number of in-flight requests per event loop.
+		 * {@code 0} means no limit.
+		 * Default to {@link #DEFAULT_MAX_IN_FLIGHT_REQUESTS}.
+		 *
+		 * @param maxInFlightRequests the maximum number of in-flight requests per event loop, must be positive or zero
+		 * @return {@code this}
+		 */
+		Builder maxInFlightRequests(int maxInFlightRequests);
+
+		/**
+		 * Configures the maximum number of bytes pending to be written on the connection.
+		 * {@code 0} means no limit.
+		 * Default to {@link #DEFAULT_MAX_PENDING_WRITE_BYTES}.
+		 *
+		 * @param maxPendingWriteBytes the maximum number of bytes pending to be written on the connection,
+		 * must be positive or zero
+		 * @return {@code this}
+		 */
+		Builder maxPendingWriteBytes(long maxPendingWriteBytes);
+
+		/**
+		 * Configures the maximum time a task waits in the queue of the event loop before it runs.
+		 * The delay is measured by a probe task that is submitted to the event loop.
+		 * {@link Duration#ZERO} means no limit.
+		 * Default to {@link #DEFAULT_MAX_QUEUEING_DELAY}.
+		 *
+		 * @param maxQueueingDelay the maximum queueing delay of the event loop, must be positive or zero
+		 * @return {@code this}
+		 */
+		Builder maxQueueingDelay(Duration maxQueueingDelay);
+
+		/**
+		 * Configures the predicate that selects the priority requests, e.g. health checks.
+		 * The priority requests are always admitted.
+		 * <p>
+		 * Note: the passed {@link HttpServerRequest} should be considered read-only,
+		 * the predicate SHOULD NOT consume the request.
+		 * </p>
+		 *
+		 * @param priority the predicate that selects the priority requests
+		 * @return {@code this}
+		 */
+		Builder priority(Predicate<HttpServerRequest> priority);
+
+		/**
+		 * Configures the value of the {@code Retry-After} header sent with {@code 503 Service Unavailable}.
+		 * The value is rounded up to seconds.
+		 * Default to {@link #DEFAULT_RETRY_AFTER}.
+		 *
+		 * @param retryAfter the delay after which the client may retry, must be positive or zero
+		 * @return {@code this}
+		 */
+		Builder retryAfter(Duration retryAfter);
+	}
+
+	/**
+	 * Default maximum number of in-flight requests per event loop - no limit.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0;
+
+	/**
+	 * Default maximum number of bytes pending to be written on the connection - 1MB.
+	 */
+	public static final long DEFAULT_MAX_PENDING_WRITE_BYTES = 1024 * 1024;
+
+	/**
+	 * Default maximum queueing delay of the event loop - 100ms.
+	 */
+	public static final Duration DEFAULT_MAX_QUEUEING_DELAY = Duration.ofMillis(100);
+
+	/**
+	 * Default value of the {@code Retry-After} header - 1s.
+	 */
+	public static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+	/**
+	 * Creates a builder for {@link HttpServerAdmissionControlSpec}.
+	 *
+	 * @return a new {@link HttpServerAdmissionControlSpec.Builder}
+	 */
+	public static Builder builder() {
+		return new Build();
+	}
+
+	/**
+	 * Returns the configured maximum number of in-flight requests per event loop.
+	 *
+	 * @return the configured maximum number of in-flight requests per event loop
+	 */
+	public int maxInFlightRequests() {
+		return maxInFlightRequests;
+	}
+
+	/**
+	 * Returns the configured maximum number of bytes pending to be written on the connection.
+	 *
+	 * @return the configured maximum number of bytes pending to be written on the connection
+	 */
+	public long maxPendingWriteBytes() {
+		return maxPendingWriteBytes;
+	}
+
+	/**
+	 * Returns the configured maximum queueing delay of the event loop.
+	 *
+	 * @return the configured maximum queueing delay of the event loop
+	 */
+	public Duration maxQueueingDelay() {
+		return maxQueueingDelay;
+	}
+
+	/**
+	 * Returns the configured predicate that selects the priority requests or null.
+	 *
+	 * @return the configured predicate that selects the priority requests or null
+	 */
+	public @Nullable Predicate<HttpServerRequest> priority() {
+		return priority;
+	}
+
+	/**
+	 * Returns the configured value of the {@code Retry-After} header.
+	 *
+	 * @return the configured value of the {@code Retry-After} header
+	 */
+	public Duration retryAfter() {
+		return retryAfter;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof HttpServerAdmissionControlSpec)) {
+			return false;
+		}
+		HttpServerAdmissionControlSpec that = (HttpServerAdmissionControlSpec) o;
+		return maxInFlightRequests == that.maxInFlightRequests &&
+				maxPendingWriteBytes == that.maxPendingWriteBytes &&
+				maxQueueingDelay.equals(that.maxQueueingDelay) &&
+				Objects.equals(priority, that.priority) &&
+				retryAfter.equals(that.retryAfter);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		result = 31 * result + maxInFlightRequests;
+		result = 31 * result + Long.hashCode(maxPendingWriteBytes);
+		result = 31 * result + maxQueueingDelay.hashCode();
+		result = 31 * result + Objects.hashCode(priority);
+		result = 31 * result + retryAfter.hashCode();
+		return result;
+	}
+
+	final int maxInFlightRequests;
+	final long maxPendingWriteBytes;
+	final Duration maxQueueingDelay;
+	final @Nullable Predicate<HttpServerRequest> priority;
+	final Duration retryAfter;
+
+	HttpServerAdmissionControlSpec(Build build) {
+		this.maxInFlightRequests = build.maxInFlightRequests;
+		this.maxPendingWriteBytes = build.maxPendingWriteBytes;
+		this.maxQueueingDelay = build.maxQueueingDelay;
+		this.priority = build.priority;
+		this.retryAfter = build.retryAfter;
+	}
+
+	static final class Build implements Builder {
+
+		int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+		long maxPendingWriteBytes = DEFAULT_MAX_PENDING_WRITE_BYTES;
+		Duration maxQueueingDelay = DEFAULT_MAX_QUEUEING_DELAY;
+		@Nullable Predicate<HttpServerRequest> priority;
+		Duration retryAfter = DEFAULT_RETRY_AFTER;
+
+		@Override
+		public HttpServerAdmissionControlSpec build() {
+			return new HttpServerAdmissionControlSpec(this);
+		}
+
+		@Override
+		public Builder maxInFlightRequests(int maxInFlightRequests) {
+			if (maxInFlightRequests < 0) {
+				throw new IllegalArgumentException("maxInFlightRequests must be positive or zero");
+			}
+			this.maxInFlightRequests = maxInFlightRequests;
+			return this;
+		}
+
+		@Override
+		public Builder maxPendingWriteBytes(long maxPendingWriteBytes) {
+			if (maxPendingWriteBytes < 0) {
+				throw new IllegalArgumentException("maxPendingWriteBytes must be positive or zero");
+			}
+			this.maxPendingWriteBytes = maxPendingWriteBytes;
+			return this;
+		}
+
+		@Override
+		public Builder maxQueueingDelay(Duration maxQueueingDelay) {
+			Objects.requireNonNull(maxQueueingDelay, "maxQueueingDelay");
+			if (maxQueueingDelay.isNegative()) {
+				throw new IllegalArgumentException("maxQueueingDelay must be positive or zero");
+			}
+			this.maxQueueingDelay = maxQueueingDelay;
+			return this;
+		}
+
+		@Override
+		public Builder priority(Predicate<HttpServerRequest> priority) {
+			this.priority = Objects.requireNonNull(priority, "priority");
+			return this;
+		}
+
+		@Override
+		public Builder retryAfter(Duration retryAfter) {
+			Objects.requireNonNull(retryAfter, "retryAfter");
+			if (retryAfter.isNegative()) {
+				throw new IllegalArgumentException("retryAfter must be positive or zero");
+			}
+			this.retryAfter = retryAfter;
+			return this;
+		}
+	}
+}
@@ -54,9 +54,9 @@ import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.AbstractSniHandler;
 import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AsciiString;
 import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 import reactor.netty.ChannelPipelineConfigurer;
 import reactor.netty.Connection;
@@ -73,6 +73,8 @@ import reactor.netty.http.HttpConnectionLiveness;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.HttpResources;
 import reactor.netty.http.IdleTimeoutHandler;
+import reactor.netty.http.internal.Http2WriteScheduling;
+import reactor.netty.http.internal.TimeoutWheel;
 import reactor.netty.http.logging.HttpMessageLogFactory;
 import reactor.netty.http.logging.ReactorNettyHttpMessageLogFactory;
 import reactor.netty.http.server.compression.HttpCompressionOptionsSpec;
@@ -94,7 +96,6 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -116,6 +117,16 @@ import static reactor.netty.http.server.HttpServerFormDecoderProvider.DEFAULT_FO
  */
 public final class HttpServerConfig extends ServerTransportConfig<HttpServerConfig> {
 
+	/**
+	 * Return the configured admission control or null.
+	 *
+	 * @return the configured admission control or null
+	 * @since 1.3.3
+	 */
+	public @Nullable HttpServerAdmissionControlSpec admissionControl() {
+		return admissionControl;
+	}
+
 	/**
 	 * Return the configured compression predicate or null.
 	 *
@@ -175,6 +186,16 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		return http2Settings;
 	}
 
+	/**
+	 * Return the configured HTTP/2 stream handler or null.
+	 *
+	 * @return the configured HTTP/2 stream handler or null
+	 * @since 1.3.3
+	 */
+	public @Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>> http2StreamHandler() {
+		return http2StreamHandler;
+	}
+
 	/**
 	 * Return the HTTP/3 configuration.
 	 *
@@ -313,6 +334,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	boolean                                                           accessLogEnabled;
 	@Nullable Function<AccessLogArgProvider, @Nullable AccessLog>     accessLog;
+	@Nullable HttpServerAdmissionControlSpec                          admissionControl;
 	@Nullable HttpCompressionOptionsSpec                              compressionOptions;
 	@Nullable BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
 	ServerCookieDecoder                                               cookieDecoder;
@@ -323,6 +345,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	HttpServerFormDecoderProvider                                     formDecoderProvider;
 	@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler;
 	@Nullable Http2SettingsSpec                                       http2Settings;
+	@Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>>
+	                                                                  http2StreamHandler;
 	@Nullable Http3SettingsSpec                                       http3Settings;
 	HttpMessageLogFactory                                             httpMessageLogFactory;
 	@Nullable Duration                                                idleTimeout;
@@ -359,6 +383,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		super(parent);
 		this.accessLogEnabled = parent.accessLogEnabled;
 		this.accessLog = parent.accessLog;
+		this.admissionControl = parent.admissionControl;
 		this.compressionOptions = parent.compressionOptions;
 		this.compressPredicate = parent.compressPredicate;
 		this.cookieDecoder = parent.cookieDecoder;
@@ -369,6 +394,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		this.formDecoderProvider = parent.formDecoderProvider;
 		this.forwardedHeaderHandler = parent.forwardedHeaderHandler;
 		this.http2Settings = parent.http2Settings;
+		this.http2StreamHandler = parent.http2StreamHandler;
 		this.http3Settings = parent.http3Settings;
 		this.httpMessageLogFactory = parent.httpMessageLogFactory;
 		this.idleTimeout = parent.idleTimeout;
@@ -503,6 +529,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			@Nullable Function<ErrorLogArgProvider, @Nullable ErrorLog> errorLog,
 			HttpServerFormDecoderProvider formDecoderProvider,
 			@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler,
+			@Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>> http2StreamHandler,
 			HttpMessageLogFactory httpMessageLogFactory,
 			ConnectionObserver listener,
 			@Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>> mapHandle,
@@ -514,6 +541,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			@Nullable Duration requestTimeout,
 			@Nullable Function<String, String> uriTagValue) {
 		ChannelPipeline pipeline = ch.pipeline();
+		if (http2StreamHandler != null) {
+			// The stream frames are exposed as they are, the HTTP/1.x based handlers are not applicable
+			pipeline.addLast(NettyPipeline.HttpTrafficHandler, new Http2StreamFrameServerHandler(http2StreamHandler, listener));
+			ChannelOperations.addReactiveBridge(ch, opsFactory, listener);
+			return;
+		}
 		if (accessLogEnabled) {
 			pipeline.addLast(NettyPipeline.AccessLogHandler, AccessLogHandlerFactory.H2.create(accessLog));
 		}
@@ -662,6 +695,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			HttpServerFormDecoderProvider formDecoderProvider,
 			@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler,
 			@Nullable Http2SettingsSpec http2SettingsSpec,
+			@Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>> http2StreamHandler,
 			HttpMessageLogFactory httpMessageLogFactory,
 			@Nullable Duration idleTimeout,
 			ConnectionObserver listener,
@@ -677,9 +711,9 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		p.remove(NettyPipeline.ReactiveBridge);
 
 		Http2FrameCodecBuilder http2FrameCodecBuilder =
-				Http2FrameCodecBuilder.forServer()
-				                      .validateHeaders(validate)
-				                      .initialSettings(http2Settings(http2SettingsSpec));
+				Http2WriteScheduling.frameCodecBuilder(true, http2SettingsSpec)
+				                    .validateHeaders(validate)
+				                    .initialSettings(http2Settings(http2SettingsSpec));
 
 		Long maxStreams = http2SettingsSpec != null ? http2SettingsSpec.maxStreams() : null;
 		if (enableGracefulShutdown || maxStreams != null) {
@@ -717,8 +751,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		 .addLast(NettyPipeline.H2MultiplexHandler,
 		          new Http2MultiplexHandler(new H2Codec(accessLogEnabled, accessLog, compressionOptions, compressPredicate,
 		                  http2SettingsSpec != null ? http2SettingsSpec.connectProtocolEnabled() : null,
-		                  cookieDecoder, cookieEncoder, errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener,
-		                  mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue)));
+		                  cookieDecoder, cookieEncoder, errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, http2StreamHandler,
+		                  httpMessageLogFactory, listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue)));
 
 		IdleTimeoutHandler.addIdleTimeoutHandler(p, idleTimeout,
 				http2SettingsSpec != null && http2SettingsSpec.pingAckTimeout() != null ?
@@ -750,6 +784,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			HttpServerFormDecoderProvider formDecoderProvider,
 			@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler,
 			@Nullable Http2SettingsSpec http2SettingsSpec,
+			@Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>> http2StreamHandler,
 			HttpMessageLogFactory httpMessageLogFactory,
 			@Nullable Duration idleTimeout,
 			ConnectionObserver listener,
@@ -770,12 +805,16 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		             .setInitialBufferSize(decoder.initialBufferSize())
 		             .setAllowDuplicateContentLengths(decoder.allowDuplicateContentLengths())
 		             .setAllowPartialChunks(decoder.allowPartialChunks());
+		if (decoder.lazyHeaders()) {
+			decoderConfig.setHeadersFactory(LazyHttpHeaders.factory(decoder.validateHeaders()));
+		}
 		HttpServerCodec httpServerCodec =
 				new HttpServerCodec(decoderConfig);
 
 		Http11OrH2CleartextCodec upgrader = new Http11OrH2CleartextCodec(accessLogEnabled, accessLog, compressionOptions,
 				compressPredicate, cookieDecoder, cookieEncoder, p.get(NettyPipeline.LoggingHandler) != null, enableGracefulShutdown,
-				errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, idleTimeout, http2SettingsSpec, httpMessageLogFactory, listener, mapHandle,
+				errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, idleTimeout, http2SettingsSpec, http2StreamHandler,
+				httpMessageLogFactory, listener, mapHandle,
 				methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue, decoder.validateHeaders());
 
 		ChannelHandler http2ServerHandler = new H2CleartextCodec(upgrader, http2SettingsSpec != null ? http2SettingsSpec.maxStreams() : null, idleTimeout, http2SettingsSpec);
@@ -864,6 +903,9 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		             .setInitialBufferSize(decoder.initialBufferSize())
 		             .setAllowDuplicateContentLengths(decoder.allowDuplicateContentLengths())
 		             .setAllowPartialChunks(decoder.allowPartialChunks());
+		if (decoder.lazyHeaders()) {
+			decoderConfig.setHeadersFactory(LazyHttpHeaders.factory(decoder.validateHeaders()));
+		}
 		p.addBefore(NettyPipeline.ReactiveBridge,
 		            NettyPipeline.HttpCodec,
 		            new HttpServerCodec(decoderConfig))
@@ -1084,6 +1126,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final @Nullable Function<ErrorLogArgProvider, @Nullable ErrorLog>       errorLog;
 		final HttpServerFormDecoderProvider                                     formDecoderProvider;
 		final @Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler;
+		final @Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>>
+		                                                                        http2StreamHandler;
 		final HttpMessageLogFactory                                             httpMessageLogFactory;
 		final ConnectionObserver                                                listener;
 		final @Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>>
@@ -1108,6 +1152,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				@Nullable Function<ErrorLogArgProvider, @Nullable ErrorLog> errorLog,
 				HttpServerFormDecoderProvider formDecoderProvider,
 				@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler,
+				@Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>> http2StreamHandler,
 				HttpMessageLogFactory httpMessageLogFactory,
 				ConnectionObserver listener,
 				@Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>> mapHandle,
@@ -1129,6 +1174,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.errorLog = errorLog;
 			this.formDecoderProvider = formDecoderProvider;
 			this.forwardedHeaderHandler = forwardedHeaderHandler;
+			this.http2StreamHandler = http2StreamHandler;
 			this.httpMessageLogFactory = httpMessageLogFactory;
 			this.listener = listener;
 			this.mapHandle = mapHandle;
@@ -1145,8 +1191,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		protected void initChannel(Channel ch) {
 			ch.pipeline().remove(this);
 			addStreamHandlers(ch, accessLogEnabled, accessLog, compressionOptions, compressPredicate, connectProtocolEnabled, cookieDecoder, cookieEncoder,
-					errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener, mapHandle,
-					methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
+					errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, http2StreamHandler, httpMessageLogFactory, listener,
+					mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
 		}
 	}
 
@@ -1165,6 +1211,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final HttpServerFormDecoderProvider                                     formDecoderProvider;
 		final @Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler;
 		final Http2FrameCodec                                                   http2FrameCodec;
+		final @Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>>
+		                                                                        http2StreamHandler;
 		final HttpMessageLogFactory                                             httpMessageLogFactory;
 		final ConnectionObserver                                                listener;
 		final @Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>>
@@ -1195,6 +1243,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler,
 				@Nullable Duration idleTimeout,
 				@Nullable Http2SettingsSpec http2SettingsSpec,
+				@Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>> http2StreamHandler,
 				HttpMessageLogFactory httpMessageLogFactory,
 				ConnectionObserver listener,
 				@Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>> mapHandle,
@@ -1218,9 +1267,9 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.formDecoderProvider = formDecoderProvider;
 			this.forwardedHeaderHandler = forwardedHeaderHandler;
 			Http2FrameCodecBuilder http2FrameCodecBuilder =
-					Http2FrameCodecBuilder.forServer()
-					                      .validateHeaders(validate)
-					                      .initialSettings(http2Settings(http2SettingsSpec));
+					Http2WriteScheduling.frameCodecBuilder(true, http2SettingsSpec)
+					                    .validateHeaders(validate)
+					                    .initialSettings(http2Settings(http2SettingsSpec));
 
 			this.maxStreams = http2SettingsSpec != null ? http2SettingsSpec.maxStreams() : null;
 			if (enableGracefulShutdown || maxStreams != null) {
@@ -1250,6 +1299,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				}
 			}
 			this.http2FrameCodec = http2FrameCodecBuilder.build();
+			this.http2StreamHandler = http2StreamHandler;
 			this.httpMessageLogFactory = httpMessageLogFactory;
 			this.listener = listener;
 			this.mapHandle = mapHandle;
@@ -1271,8 +1321,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		protected void initChannel(Channel ch) {
 			ch.pipeline().remove(this);
 			addStreamHandlers(ch, accessLogEnabled, accessLog, compressionOptions, compressPredicate, connectProtocolEnabled, cookieDecoder,
-					cookieEncoder, errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory,
-					listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
+					cookieEncoder, errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, http2StreamHandler,
+					httpMessageLogFactory, listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
 		}
 
 		@Override
@@ -1324,6 +1374,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final HttpServerFormDecoderProvider                                     formDecoderProvider;
 		final @Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler;
 		final @Nullable Http2SettingsSpec                                       http2SettingsSpec;
+		final @Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>>
+		                                                                        http2StreamHandler;
 		final HttpMessageLogFactory                                             httpMessageLogFactory;
 		final @Nullable Duration                                                idleTimeout;
 		final ConnectionObserver                                                listener;
@@ -1358,6 +1410,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.formDecoderProvider = initializer.formDecoderProvider;
 			this.forwardedHeaderHandler = initializer.forwardedHeaderHandler;
 			this.http2SettingsSpec = initializer.http2SettingsSpec;
+			this.http2StreamHandler = initializer.http2StreamHandler;
 			this.httpMessageLogFactory = initializer.httpMessageLogFactory;
 			this.idleTimeout = initializer.idleTimeout;
 			this.listener = listener;
@@ -1384,7 +1437,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
 				configureH2Pipeline(p, accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder, cookieEncoder,
 						enableGracefulShutdown, errorLogEnabled, errorLog, formDecoderProvider, forwardedHeaderHandler, http2SettingsSpec,
-						httpMessageLogFactory, idleTimeout, listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory,
+						http2StreamHandler, httpMessageLogFactory, idleTimeout, listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory,
 						readTimeout, requestTimeout, uriTagValue, decoder.validateHeaders());
 				return;
 			}
@@ -1410,6 +1463,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 		final boolean                                                           accessLogEnabled;
 		final @Nullable Function<AccessLogArgProvider, @Nullable AccessLog>     accessLog;
+		final @Nullable HttpServerAdmissionControl                              admissionControl;
 		final @Nullable HttpCompressionOptionsSpec                              compressionOptions;
 		final @Nullable BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
 		final ServerCookieDecoder                                               cookieDecoder;
@@ -1421,6 +1475,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final HttpServerFormDecoderProvider                                     formDecoderProvider;
 		final @Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler;
 		final @Nullable Http2SettingsSpec                                       http2SettingsSpec;
+		final @Nullable Function<? super Http2ServerStream, ? extends Publisher<Void>>
+		                                                                        http2StreamHandler;
 		final HttpMessageLogFactory                                             httpMessageLogFactory;
 		final @Nullable Duration                                                idleTimeout;
 		final @Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>>
@@ -1441,6 +1497,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		HttpServerChannelInitializer(HttpServerConfig config) {
 			this.accessLogEnabled = config.accessLogEnabled;
 			this.accessLog = config.accessLog;
+			this.admissionControl = config.admissionControl != null ? new HttpServerAdmissionControl(config.admissionControl) : null;
 			this.compressionOptions = config.compressionOptions;
 			this.compressPredicate = config.compressPredicate;
 			this.cookieDecoder = config.cookieDecoder;
@@ -1452,6 +1509,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.formDecoderProvider = config.formDecoderProvider;
 			this.forwardedHeaderHandler = config.forwardedHeaderHandler;
 			this.http2SettingsSpec = config.http2Settings;
+			this.http2StreamHandler = config.http2StreamHandler;
 			this.httpMessageLogFactory = config.httpMessageLogFactory;
 			this.idleTimeout = config.idleTimeout;
 			this.mapHandle = config.mapHandle;
@@ -1473,6 +1531,10 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		public void onChannelInit(ConnectionObserver observer, Channel channel, @Nullable SocketAddress remoteAddress) {
 			boolean needRead = false;
 
+			if (admissionControl != null) {
+				observer = admissionControl.observe(observer);
+			}
+
 			if (sslProvider != null) {
 				ChannelPipeline pipeline = channel.pipeline();
 				if ((protocols & h3) != h3) {
@@ -1543,6 +1605,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 								formDecoderProvider,
 								forwardedHeaderHandler,
 								http2SettingsSpec,
+								http2StreamHandler,
 								httpMessageLogFactory,
 								idleTimeout,
 								observer,
@@ -1600,6 +1663,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							formDecoderProvider,
 							forwardedHeaderHandler,
 							http2SettingsSpec,
+							http2StreamHandler,
 							httpMessageLogFactory,
 							idleTimeout,
 							observer,
@@ -1655,6 +1719,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							formDecoderProvider,
 							forwardedHeaderHandler,
 							http2SettingsSpec,
+							http2StreamHandler,
 							httpMessageLogFactory,
 							idleTimeout,
 							observer,
@@ -1719,7 +1784,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final @Nullable Duration requestTimeout;
 
 		boolean requestAvailable;
-		@Nullable Future<?> requestTimeoutFuture;
+		TimeoutWheel.@Nullable ReadTimeout readTimeoutHandle;
+		TimeoutWheel.@Nullable Timeout requestTimeoutHandle;
 
 		ReactorNettyHttpServerUpgradeHandler(
 				SourceCodec sourceCodec,
@@ -1736,22 +1802,25 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
 			// The upgrade succeeded, the handler is about to be removed from the pipeline, stop all timeouts
 			requestAvailable = true;
-			stopTimeouts(ctx);
+			stopTimeouts();
 			super.handlerRemoved(ctx);
 		}
 
 		@Override
 		protected void decode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+			if (readTimeoutHandle != null) {
+				readTimeoutHandle.touch();
+			}
 			if (msg instanceof HttpRequest) {
 				HttpRequest req = (HttpRequest) msg;
 				if (req.headers().contains(HttpHeaderNames.UPGRADE)) {
 					if (readTimeout != null) {
-						ctx.channel().pipeline().addFirst(NettyPipeline.ReadTimeoutHandler,
-								new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+						readTimeoutHandle = new TimeoutWheel.ReadTimeout(ctx.channel(), readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+						readTimeoutHandle.start();
 					}
 					if (requestTimeout != null) {
-						requestTimeoutFuture =
-								ctx.executor().schedule(new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
+						requestTimeoutHandle =
+								TimeoutWheel.schedule(ctx.executor(), new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
 					}
 				}
 			}
@@ -1761,20 +1830,18 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			if (!out.isEmpty()) {
 				// The upgrade did not succeed, the full request was created, stop all timeouts
 				requestAvailable = true;
-				stopTimeouts(ctx);
+				stopTimeouts();
 			}
 		}
 
-		void stopTimeouts(ChannelHandlerContext ctx) {
-			if (readTimeout != null) {
-				ChannelHandler handler = ctx.channel().pipeline().get(NettyPipeline.ReadTimeoutHandler);
-				if (handler != null) {
-					ctx.channel().pipeline().remove(handler);
-				}
+		void stopTimeouts() {
+			if (readTimeoutHandle != null) {
+				readTimeoutHandle.stop();
+				readTimeoutHandle = null;
 			}
-			if (requestTimeoutFuture != null) {
-				requestTimeoutFuture.cancel(false);
-				requestTimeoutFuture = null;
+			if (requestTimeoutHandle != null) {
+				requestTimeoutHandle.cancel();
+				requestTimeoutHandle = null;
 			}
 		}
 
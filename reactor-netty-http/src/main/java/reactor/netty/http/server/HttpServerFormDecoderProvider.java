@@ -15,6 +15,7 @@
  */
 package reactor.netty.http.server;
 
+import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.multipart.Attribute;
 import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
@@ -25,6 +26,7 @@ import io.netty.handler.codec.http.multipart.HttpPostMultipartRequestDecoder;
 import io.netty.handler.codec.http.multipart.HttpPostStandardRequestDecoder;
 import io.netty.handler.codec.http.multipart.InterfaceHttpData;
 import io.netty.handler.codec.http.multipart.InterfaceHttpPostRequestDecoder;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
@@ -37,6 +39,11 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 /**
  * A configuration builder to fine tune the HTTP form decoder.
@@ -48,6 +55,25 @@ public final class HttpServerFormDecoderProvider {
 
 	public interface Builder {
 
+		/**
+		 * When set to {@code true}, the {@link FileUpload}s stored on disk are created, opened and written on
+		 * {@link #fileWriteExecutor(ExecutorService)} with {@link java.nio.channels.AsynchronousFileChannel}
+		 * as the content arrives, the decoding runs on the event loop and the event loop is never blocked on disk operations. At most {@link #maxPendingFileWriteBytes(long)} bytes are waiting
+		 * to be written, the request body is not read further until the pending writes go below this limit.
+		 * A {@link FileUpload} is emitted once all its content is written.
+		 * Default to {@code false}.
+		 * <p><strong>Note:</strong> When enabled, the {@link FileUpload}s with unknown size or with size greater than
+		 * {@link #maxInMemorySize(long)} are stored on disk, the {@link Attribute}s are always stored in memory,
+		 * and {@link #scheduler(Scheduler)} is not used.
+		 *
+		 * @param enable {@code true} to write the {@link FileUpload}s asynchronously
+		 * @return {@code this}
+		 * @since 1.3.3
+		 */
+		default Builder asyncFileWrites(boolean enable) {
+			return this;
+		}
+
 		/**
 		 * Sets the directory where to store disk {@link Attribute}/{@link FileUpload}.
 		 * Default to generated temp directory.
@@ -65,6 +91,37 @@ public final class HttpServerFormDecoderProvider {
 		 */
 		Builder charset(Charset charset);
 
+		/**
+		 * Sets the function selecting, for a {@link FileUpload}, the file where its content is written directly,
+		 * without an intermediate temporary file. The function receives the name of the part and the file name
+		 * sent by the client, and returns the target file or {@code null} to store the {@link FileUpload} as usual.
+		 * The content is written asynchronously as with {@link #asyncFileWrites(boolean)},
+		 * the target file is not deleted when the {@link FileUpload} is released.
+		 * <p><strong>Note:</strong> The file name is sent by the client, it must be sanitized
+		 * before using it as part of the target file.
+		 *
+		 * @param fileUploadPath the function selecting the target file for a {@link FileUpload}
+		 * @return {@code this}
+		 * @since 1.3.3
+		 */
+		default Builder fileUploadPath(BiFunction<String, String, @Nullable Path> fileUploadPath) {
+			return this;
+		}
+
+		/**
+		 * Sets the executor on which the files are created, opened and written when {@link #asyncFileWrites(boolean)}
+		 * is enabled or {@link #fileUploadPath(BiFunction)} is configured. The number of its threads bounds
+		 * the number of concurrent disk operations. The executor is not shut down by Reactor Netty.
+		 * Default to a shared executor with as many threads as available processors.
+		 *
+		 * @param fileWriteExecutor the executor on which the files are created, opened and written
+		 * @return {@code this}
+		 * @since 1.3.3
+		 */
+		default Builder fileWriteExecutor(ExecutorService fileWriteExecutor) {
+			return this;
+		}
+
 		/**
 		 * Sets the maximum in-memory size per {@link Attribute}/{@link FileUpload} i.e. the data is written
 		 * on disk if the size is greater than {@code maxInMemorySize}, else it is in memory.
@@ -80,6 +137,19 @@ public final class HttpServerFormDecoderProvider {
 		 */
 		Builder maxInMemorySize(long maxInMemorySize);
 
+		/**
+		 * Sets the maximum number of bytes per request that are waiting to be written on disk
+		 * when {@link #asyncFileWrites(boolean)} is enabled or {@link #fileUploadPath(BiFunction)} is configured.
+		 * Default to {@code 256KB}.
+		 *
+		 * @param maxPendingFileWriteBytes the maximum number of bytes waiting to be written on disk
+		 * @return {@code this}
+		 * @since 1.3.3
+		 */
+		default Builder maxPendingFileWriteBytes(long maxPendingFileWriteBytes) {
+			return this;
+		}
+
 		/**
 		 * Set the maximum size per {@link Attribute}/{@link FileUpload}. When the limit is reached, an exception is raised.
 		 * Default to {@link DefaultHttpDataFactory#MAXSIZE} - unlimited.
@@ -107,15 +177,21 @@ public final class HttpServerFormDecoderProvider {
 		 * might not be in a complete state i.e. {@link HttpData#isCompleted()} has to be checked.
 		 * <p>Also note that enabling this property effectively ignores
 		 * {@link #maxInMemorySize(long)},
-		 * {@link #baseDirectory(Path)}, and
+		 * {@link #baseDirectory(Path)},
+		 * {@link #asyncFileWrites(boolean)},
+		 * {@link #fileUploadPath(BiFunction)}, and
 		 * {@link #scheduler(Scheduler)}.
 		 */
 		Builder streaming(boolean enable);
 	}
 
+	final boolean asyncFileWrites;
 	final @Nullable Path baseDirectory;
 	final Charset charset;
+	final @Nullable BiFunction<String, String, @Nullable Path> fileUploadPath;
+	final ExecutorService fileWriteExecutor;
 	final long maxInMemorySize;
+	final long maxPendingFileWriteBytes;
 	final long maxSize;
 	final Scheduler scheduler;
 	final boolean streaming;
@@ -123,14 +199,29 @@ public final class HttpServerFormDecoderProvider {
 	private volatile Mono<Path> defaultTempDirectory = createDefaultTempDirectory();
 
 	HttpServerFormDecoderProvider(Build build) {
+		this.asyncFileWrites = !build.streaming && build.asyncFileWrites;
 		this.baseDirectory = build.baseDirectory;
 		this.charset = build.charset;
+		this.fileUploadPath = !build.streaming ? build.fileUploadPath : null;
+		this.fileWriteExecutor = build.fileWriteExecutor;
 		this.maxInMemorySize = !build.streaming ? build.maxInMemorySize : -1;
+		this.maxPendingFileWriteBytes = build.maxPendingFileWriteBytes;
 		this.maxSize = build.maxSize;
 		this.scheduler = build.scheduler;
 		this.streaming = build.streaming;
 	}
 
+	/**
+	 * Returns whether the {@link FileUpload}s stored on disk are written asynchronously.
+	 *
+	 * @return whether the {@link FileUpload}s stored on disk are written asynchronously
+	 * @see Builder#asyncFileWrites(boolean)
+	 * @since 1.3.3
+	 */
+	public boolean asyncFileWrites() {
+		return asyncFileWrites;
+	}
+
 	/**
 	 * Returns the configured directory where to store disk {@link Attribute}/{@link FileUpload}.
 	 *
@@ -151,6 +242,28 @@ public final class HttpServerFormDecoderProvider {
 		return charset;
 	}
 
+	/**
+	 * Returns the configured function selecting the target file for a {@link FileUpload}.
+	 *
+	 * @return the configured function selecting the target file for a {@link FileUpload}
+	 * @see Builder#fileUploadPath(BiFunction)
+	 * @since 1.3.3
+	 */
+	public @Nullable BiFunction<String, String, @Nullable Path> fileUploadPath() {
+		return fileUploadPath;
+	}
+
+	/**
+	 * Returns the configured executor on which the files are created, opened and written.
+	 *
+	 * @return the configured executor on which the files are created, opened and written
+	 * @see Builder#fileWriteExecutor(ExecutorService)
+	 * @since 1.3.3
+	 */
+	public ExecutorService fileWriteExecutor() {
+		return fileWriteExecutor;
+	}
+
 	/**
 	 * Returns the configured maximum size after which an {@link Attribute}/{@link FileUpload} starts being stored on disk rather than in memory.
 	 *
@@ -161,6 +274,17 @@ public final class HttpServerFormDecoderProvider {
 		return maxInMemorySize;
 	}
 
+	/**
+	 * Returns the configured maximum number of bytes per request that are waiting to be written on disk.
+	 *
+	 * @return the configured maximum number of bytes per request that are waiting to be written on disk
+	 * @see Builder#maxPendingFileWriteBytes(long)
+	 * @since 1.3.3
+	 */
+	public long maxPendingFileWriteBytes() {
+		return maxPendingFileWriteBytes;
+	}
+
 	/**
 	 * Returns the configured maximum allowed size of individual {@link Attribute}/{@link FileUpload}.
 	 *
@@ -200,20 +324,28 @@ public final class HttpServerFormDecoderProvider {
 			return false;
 		}
 		HttpServerFormDecoderProvider that = (HttpServerFormDecoderProvider) o;
-		return maxInMemorySize == that.maxInMemorySize &&
+		return asyncFileWrites == that.asyncFileWrites &&
+				maxInMemorySize == that.maxInMemorySize &&
+				maxPendingFileWriteBytes == that.maxPendingFileWriteBytes &&
 				maxSize == that.maxSize &&
 				streaming == that.streaming &&
 				Objects.equals(baseDirectory, that.baseDirectory) &&
 				charset.equals(that.charset) &&
+				Objects.equals(fileUploadPath, that.fileUploadPath) &&
+				fileWriteExecutor.equals(that.fileWriteExecutor) &&
 				scheduler.equals(that.scheduler);
 	}
 
 	@Override
 	public int hashCode() {
 		int result = 1;
+		result = 31 * result + Boolean.hashCode(asyncFileWrites);
 		result = 31 * result + Objects.hashCode(baseDirectory);
 		result = 31 * result + Objects.hashCode(charset);
+		result = 31 * result + Objects.hashCode(fileUploadPath);
+		result = 31 * result + Objects.hashCode(fileWriteExecutor);
 		result = 31 * result + Long.hashCode(maxInMemorySize);
+		result = 31 * result + Long.hashCode(maxPendingFileWriteBytes);
 		result = 31 * result + Long.hashCode(maxSize);
 		result = 31 * result + Objects.hashCode(scheduler);
 		result = 31 * result + Boolean.hashCode(streaming);
@@ -240,7 +372,18 @@ public final class HttpServerFormDecoderProvider {
 				.subscribeOn(scheduler);
 	}
 
-	Mono<ReactorNettyHttpPostRequestDecoder> newHttpPostRequestDecoder(HttpRequest request, boolean isMultipart) {
+	/**
+	 * Returns whether the {@link FileUpload}s can be written asynchronously on disk,
+	 * in which case they have to be awaited before being emitted.
+	 *
+	 * @return whether the {@link FileUpload}s can be written asynchronously on disk
+	 */
+	boolean hasAsyncFileUploads() {
+		return asyncFileWrites || fileUploadPath != null;
+	}
+
+	Mono<ReactorNettyHttpPostRequestDecoder> newHttpPostRequestDecoder(HttpRequest request, boolean isMultipart,
+			EventLoop eventLoop) {
 		if (maxInMemorySize > -1) {
 			Mono<Path> directoryMono;
 			if (baseDirectory == null) {
@@ -249,22 +392,35 @@ public final class HttpServerFormDecoderProvider {
 			else {
 				directoryMono = Mono.just(baseDirectory);
 			}
-			return directoryMono.map(directory -> createNewHttpPostRequestDecoder(request, isMultipart, directory));
+			return directoryMono.map(directory -> createNewHttpPostRequestDecoder(request, isMultipart, directory, eventLoop));
 		}
 		else {
-			return Mono.just(createNewHttpPostRequestDecoder(request, isMultipart, null));
+			return Mono.just(createNewHttpPostRequestDecoder(request, isMultipart, null, eventLoop));
 		}
 	}
 
 	ReactorNettyHttpPostRequestDecoder createNewHttpPostRequestDecoder(HttpRequest request, boolean isMultipart,
-			@Nullable Path baseDirectory) {
-		DefaultHttpDataFactory factory = maxInMemorySize > 0 ?
-				new DefaultHttpDataFactory(maxInMemorySize, charset) :
-				new DefaultHttpDataFactory(maxInMemorySize == 0, charset);
-		factory.setMaxLimit(maxSize);
-		if (baseDirectory != null) {
-			factory.setBaseDir(baseDirectory.toFile().getAbsolutePath());
+			@Nullable Path baseDirectory, EventLoop eventLoop) {
+		HttpDataFactory factory;
+		if (asyncFileWrites) {
+			// The attributes and the small file uploads are kept in memory so that nothing blocks the event loop
+			DefaultHttpDataFactory memoryFactory = new DefaultHttpDataFactory(false, charset);
+			factory = new AsyncFileHttpDataFactory(memoryFactory, true, baseDirectory, fileUploadPath,
+					maxInMemorySize, maxPendingFileWriteBytes, fileWriteExecutor, eventLoop);
+		}
+		else {
+			DefaultHttpDataFactory defaultFactory = maxInMemorySize > 0 ?
+					new DefaultHttpDataFactory(maxInMemorySize, charset) :
+					new DefaultHttpDataFactory(maxInMemorySize == 0, charset);
+			if (baseDirectory != null) {
+				defaultFactory.setBaseDir(baseDirectory.toFile().getAbsolutePath());
+			}
+			factory = fileUploadPath != null ?
+					new AsyncFileHttpDataFactory(defaultFactory, false, baseDirectory, fileUploadPath,
+							maxInMemorySize, maxPendingFileWriteBytes, fileWriteExecutor, eventLoop) :
+					defaultFactory;
 		}
+		factory.setMaxLimit(maxSize);
 		return isMultipart ?
 				new ReactorNettyHttpPostMultipartRequestDecoder(factory, request) :
 				new ReactorNettyHttpPostStandardRequestDecoder(factory, request);
@@ -279,6 +435,14 @@ public final class HttpServerFormDecoderProvider {
 		void cleanCurrentHttpData(boolean onlyCompleted);
 
 		List<HttpData> currentHttpData(boolean onlyCompleted);
+
+		/**
+		 * Returns a {@link Mono} that completes when more content can be offered to the decoder,
+		 * i.e. when the pending disk writes are below the configured limit.
+		 *
+		 * @return a {@link Mono} that completes when more content can be offered to the decoder
+		 */
+		Mono<Void> whenWritable();
 	}
 
 	static final class Build implements Builder {
@@ -286,16 +450,28 @@ public final class HttpServerFormDecoderProvider {
 		static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 		static final long DEFAULT_MAX_IN_MEMORY_SIZE = DefaultHttpDataFactory.MINSIZE;
 		static final long DEFAULT_MAX_SIZE = DefaultHttpDataFactory.MAXSIZE;
+		static final long DEFAULT_MAX_PENDING_FILE_WRITE_BYTES = 256 * 1024;
+		static final ExecutorService DEFAULT_FILE_WRITE_EXECUTOR = createDefaultFileWriteExecutor();
 		static final Scheduler DEFAULT_SCHEDULER = Schedulers.boundedElastic();
 		static final boolean DEFAULT_STREAMING = false;
 
+		boolean asyncFileWrites;
 		@Nullable Path baseDirectory;
 		Charset charset = DEFAULT_CHARSET;
+		@Nullable BiFunction<String, String, @Nullable Path> fileUploadPath;
+		ExecutorService fileWriteExecutor = DEFAULT_FILE_WRITE_EXECUTOR;
 		long maxInMemorySize = DEFAULT_MAX_IN_MEMORY_SIZE;
+		long maxPendingFileWriteBytes = DEFAULT_MAX_PENDING_FILE_WRITE_BYTES;
 		long maxSize = DEFAULT_MAX_SIZE;
 		Scheduler scheduler = DEFAULT_SCHEDULER;
 		boolean streaming = DEFAULT_STREAMING;
 
+		@Override
+		public Builder asyncFileWrites(boolean enable) {
+			this.asyncFileWrites = enable;
+			return this;
+		}
+
 		@Override
 		public Builder baseDirectory(Path baseDirectory) {
 			this.baseDirectory = Objects.requireNonNull(baseDirectory, "baseDirectory");
@@ -308,6 +484,18 @@ public final class HttpServerFormDecoderProvider {
 			return this;
 		}
 
+		@Override
+		public Builder fileUploadPath(BiFunction<String, String, @Nullable Path> fileUploadPath) {
+			this.fileUploadPath = Objects.requireNonNull(fileUploadPath, "fileUploadPath");
+			return this;
+		}
+
+		@Override
+		public Builder fileWriteExecutor(ExecutorService fileWriteExecutor) {
+			this.fileWriteExecutor = Objects.requireNonNull(fileWriteExecutor, "fileWriteExecutor");
+			return this;
+		}
+
 		@Override
 		public Builder maxInMemorySize(long maxInMemorySize) {
 			if (maxInMemorySize < -1) {
@@ -317,6 +505,15 @@ public final class HttpServerFormDecoderProvider {
 			return this;
 		}
 
+		@Override
+		public Builder maxPendingFileWriteBytes(long maxPendingFileWriteBytes) {
+			if (maxPendingFileWriteBytes < 1) {
+				throw new IllegalArgumentException("maxPendingFileWriteBytes must be positive");
+			}
+			this.maxPendingFileWriteBytes = maxPendingFileWriteBytes;
+			return this;
+		}
+
 		@Override
 		public Builder maxSize(long maxSize) {
 			if (maxSize < -1) {
@@ -341,6 +538,15 @@ public final class HttpServerFormDecoderProvider {
 		HttpServerFormDecoderProvider build() {
 			return new HttpServerFormDecoderProvider(this);
 		}
+
+		static ExecutorService createDefaultFileWriteExecutor() {
+			int threads = Runtime.getRuntime().availableProcessors();
+			// The threads are created on demand and stopped when idle
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), new DefaultThreadFactory("reactor-http-file-write", true));
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
 	}
 
 	static final class ReactorNettyHttpPostMultipartRequestDecoder extends HttpPostMultipartRequestDecoder
@@ -351,8 +557,11 @@ public final class HttpServerFormDecoderProvider {
 		 */
 		final List<HttpData> currentCompletedHttpData = new ArrayList<>();
 
+		final HttpDataFactory factory;
+
 		ReactorNettyHttpPostMultipartRequestDecoder(HttpDataFactory factory, HttpRequest request) {
 			super(factory, request);
+			this.factory = factory;
 		}
 
 		@Override
@@ -390,6 +599,12 @@ public final class HttpServerFormDecoderProvider {
 			return currentCompletedHttpData;
 		}
 
+		@Override
+		public Mono<Void> whenWritable() {
+			return factory instanceof AsyncFileHttpDataFactory ?
+					((AsyncFileHttpDataFactory) factory).whenWritable() : Mono.empty();
+		}
+
 		@Override
 		public void destroy() {
 			super.destroy();
@@ -408,8 +623,11 @@ public final class HttpServerFormDecoderProvider {
 		 */
 		final List<HttpData> currentCompletedHttpData = new ArrayList<>();
 
+		final HttpDataFactory factory;
+
 		ReactorNettyHttpPostStandardRequestDecoder(HttpDataFactory factory, HttpRequest request) {
 			super(factory, request);
+			this.factory = factory;
 		}
 
 		@Override
@@ -447,6 +665,12 @@ public final class HttpServerFormDecoderProvider {
 			return currentCompletedHttpData;
 		}
 
+		@Override
+		public Mono<Void> whenWritable() {
+			return factory instanceof AsyncFileHttpDataFactory ?
+					((AsyncFileHttpDataFactory) factory).whenWritable() : Mono.empty();
+		}
+
 		@Override
 		public void destroy() {
 			super.destroy();
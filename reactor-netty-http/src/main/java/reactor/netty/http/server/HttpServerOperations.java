@@ -28,7 +28,6 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
@@ -72,10 +71,13 @@ import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
 import io.netty.handler.codec.http.cookie.ServerCookieEncoder;
 import io.netty.handler.codec.http.multipart.HttpData;
 import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.netty.handler.codec.http.multipart.InterfaceHttpPostRequestDecoder;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
 import io.netty.handler.codec.http2.Http2Headers;
-import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.util.AsciiString;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.GenericFutureListener;
@@ -94,6 +96,8 @@ import reactor.netty.ReactorNetty;
 import reactor.netty.channel.AbortedException;
 import reactor.netty.channel.ChannelOperations;
 import reactor.netty.http.HttpOperations;
+import reactor.netty.http.internal.Http2WriteScheduling;
+import reactor.netty.http.internal.TimeoutWheel;
 import reactor.netty.http.logging.HttpMessageArgProviderFactory;
 import reactor.netty.http.logging.HttpMessageLogFactory;
 import reactor.netty.http.server.compression.HttpCompressionOptionsSpec;
@@ -145,7 +149,8 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	boolean isWebsocket;
 	@Nullable Function<? super String, Map<String, String>> paramsResolver;
 	@Nullable String path;
-	@Nullable Future<?> requestTimeoutFuture;
+	TimeoutWheel.@Nullable ReadTimeout readTimeoutHandle;
+	TimeoutWheel.@Nullable Timeout requestTimeoutHandle;
 	@Nullable Consumer<? super HttpHeaders> trailerHeadersConsumer;
 	@Nullable FullHttpResponse fullHttpResponse;
 
@@ -718,6 +723,29 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		});
 	}
 
+	@Override
+	public HttpServerResponse http2StreamWeight(int weight) {
+		if (weight < Http2CodecUtil.MIN_WEIGHT || weight > Http2CodecUtil.MAX_WEIGHT) {
+			throw new IllegalArgumentException("weight must be between " + Http2CodecUtil.MIN_WEIGHT + " and " +
+					Http2CodecUtil.MAX_WEIGHT);
+		}
+		Channel channel = channel();
+		Channel parent = channel.parent();
+		if (isHttp2 && channel instanceof Http2StreamChannel && parent != null) {
+			Http2FrameCodec http2FrameCodec = parent.pipeline().get(Http2FrameCodec.class);
+			if (http2FrameCodec != null) {
+				int streamId = ((Http2StreamChannel) channel).stream().id();
+				if (channel.eventLoop().inEventLoop()) {
+					Http2WriteScheduling.updateWeight(http2FrameCodec.connection(), streamId, weight);
+				}
+				else {
+					channel.eventLoop().execute(() -> Http2WriteScheduling.updateWeight(http2FrameCodec.connection(), streamId, weight));
+				}
+			}
+		}
+		return this;
+	}
+
 	@Override
 	public HttpServerResponse trailerHeaders(Consumer<? super HttpHeaders> trailerHeaders) {
 		this.trailerHeadersConsumer = Objects.requireNonNull(trailerHeaders, "trailerHeaders");
@@ -784,6 +812,9 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 
 	@Override
 	protected void onInboundNext(ChannelHandlerContext ctx, Object msg) {
+		if (readTimeoutHandle != null) {
+			readTimeoutHandle.touch();
+		}
 		Class<?> msgClass = msg.getClass();
 		if (msgClass == DefaultHttpRequest.class) {
 			handleDefaultHttpRequest(ctx);
@@ -898,22 +929,23 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 
 	void startReadTimeout(ChannelHandlerContext ctx) {
 		if (readTimeout != null) {
-			addHandlerFirst(NettyPipeline.ReadTimeoutHandler,
-					new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
+			readTimeoutHandle = new TimeoutWheel.ReadTimeout(ctx.channel(), readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+			readTimeoutHandle.start();
 		}
 		if (requestTimeout != null) {
-			requestTimeoutFuture =
-					ctx.executor().schedule(new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
+			requestTimeoutHandle =
+					TimeoutWheel.schedule(ctx.executor(), new RequestTimeoutTask(ctx), Math.max(requestTimeout.toMillis(), 1), TimeUnit.MILLISECONDS);
 		}
 	}
 
 	void stopReadTimeout() {
-		if (readTimeout != null) {
-			removeHandler(NettyPipeline.ReadTimeoutHandler);
+		if (readTimeoutHandle != null) {
+			readTimeoutHandle.stop();
+			readTimeoutHandle = null;
 		}
-		if (requestTimeoutFuture != null) {
-			requestTimeoutFuture.cancel(false);
-			requestTimeoutFuture = null;
+		if (requestTimeoutHandle != null) {
+			requestTimeoutHandle.cancel();
+			requestTimeoutHandle = null;
 		}
 	}
 
@@ -1228,34 +1260,52 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 					"Request is not POST or does not have Content-Type " +
 							"with value 'application/x-www-form-urlencoded' or 'multipart/form-data'"));
 		}
+		// When the file uploads are written asynchronously, the decoding does not block
+		// and the file uploads are emitted once written
+		boolean inMemory = config.maxInMemorySize == -1 && !config.hasAsyncFileUploads();
 		return Flux.defer(() ->
-				config.newHttpPostRequestDecoder(nettyRequest, isMultipart).flatMapMany(decoder ->
+				config.newHttpPostRequestDecoder(nettyRequest, isMultipart, channel().eventLoop()).flatMapMany(decoder ->
 						receiveObject() // receiveContent uses filter operator, this operator buffers, but we don't want it
 								.concatMap(object -> {
 									if (!(object instanceof HttpContent)) {
 										return Mono.empty();
 									}
 									HttpContent httpContent = (HttpContent) object;
-									if (config.maxInMemorySize > -1) {
-										httpContent.retain();
+									if (inMemory) {
+										return Flux.using(
+												() -> decoder.offer(httpContent),
+												d -> Flux.fromIterable(decoder.currentHttpData(!config.streaming)),
+												d -> decoder.cleanCurrentHttpData(!config.streaming));
 									}
-									return config.maxInMemorySize == -1 ?
-											Flux.using(
-													() -> decoder.offer(httpContent),
-													d -> Flux.fromIterable(decoder.currentHttpData(!config.streaming)),
-													d -> decoder.cleanCurrentHttpData(!config.streaming)) :
-											Flux.usingWhen(
-													Mono.fromCallable(() -> decoder.offer(httpContent))
-													    .subscribeOn(config.scheduler)
-													    .doFinally(sig -> httpContent.release()),
-													d -> Flux.fromIterable(decoder.currentHttpData(true)),
-													// FIXME Can we have cancellation for the resourceSupplier that will
-													// cause this one to not be invoked?
-													d -> Mono.fromRunnable(() -> decoder.cleanCurrentHttpData(true)));
+									httpContent.retain();
+									if (config.hasAsyncFileUploads()) {
+										return Flux.usingWhen(
+												offerHttpContent(config, decoder, httpContent),
+												// The next content is not requested until the pending disk writes
+												// are below the configured limit
+												d -> decoder.whenWritable()
+												            .thenMany(Flux.fromIterable(decoder.currentHttpData(true)))
+												            .concatMap(AsyncFileHttpDataFactory::whenWritten),
+												d -> Mono.fromRunnable(() -> decoder.cleanCurrentHttpData(true)));
+									}
+									return Flux.usingWhen(
+											offerHttpContent(config, decoder, httpContent),
+											d -> Flux.fromIterable(decoder.currentHttpData(true)),
+											// FIXME Can we have cancellation for the resourceSupplier that will
+											// cause this one to not be invoked?
+											d -> Mono.fromRunnable(() -> decoder.cleanCurrentHttpData(true)));
 								}, 0) // There is no need of prefetch, we already have the buffers in the Reactor Netty inbound queue
 								.doFinally(sig -> decoder.destroy())));
 	}
 
+	static Mono<InterfaceHttpPostRequestDecoder> offerHttpContent(HttpServerFormDecoderProvider config,
+			HttpServerFormDecoderProvider.ReactorNettyHttpPostRequestDecoder decoder, HttpContent httpContent) {
+		Mono<InterfaceHttpPostRequestDecoder> offer = Mono.fromCallable(() -> decoder.offer(httpContent));
+		// With asynchronous file writes, the decoding does not block and stays on the event loop
+		return (config.asyncFileWrites ? offer : offer.subscribeOn(config.scheduler))
+				.doFinally(sig -> httpContent.release());
+	}
+
 	@SuppressWarnings("ReferenceEquality")
 	final Mono<Void> withWebsocketSupport(String url,
 			WebsocketServerSpec websocketServerSpec,
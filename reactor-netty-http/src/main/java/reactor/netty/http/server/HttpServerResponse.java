@@ -103,6 +103,20 @@ public interface HttpServerResponse extends NettyOutbound, HttpServerInfos {
 	 */
 	HttpServerResponse headers(HttpHeaders headers);
 
+	/**
+	 * Sets the weight of the HTTP/2 stream carrying this response, between {@code 1} and {@code 256}.
+	 * When the connection write capacity is shared with weighted fair queueing, a stream with a higher weight
+	 * gets a proportionally larger share of it than its siblings.
+	 * Has no effect for HTTP/1.1 and with {@link reactor.netty.http.Http2SettingsSpec.WriteScheduling#UNIFORM}.
+	 *
+	 * @param weight the stream weight, between {@code 1} and {@code 256}
+	 * @return this {@link HttpServerResponse}
+	 * @since 1.3.3
+	 */
+	default HttpServerResponse http2StreamWeight(int weight) {
+		return this;
+	}
+
 	/**
 	 * Sets the request {@code keepAlive} if true otherwise remove the existing connection keep alive header.
 	 *
@@ -22,6 +22,7 @@ import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -296,6 +297,34 @@ public interface HttpServerRoutes extends
 	 */
 	HttpServerRoutes noComparator();
 
+	/**
+	 * Listens for HTTP GET and HEAD on the passed path to be used as a routing condition. The
+	 * content of the provided {@link Path directory} will be served.
+	 * <p>The metadata of the served files and the content of the small files are cached, the conditional
+	 * requests ({@code If-None-Match}, {@code If-Modified-Since}) and the range requests ({@code Range},
+	 * {@code If-Range}) are answered.</p>
+	 * <p>Additional regex matching is available, e.g. "/test/{param}". Params are resolved
+	 * using {@link HttpServerRequest#param(CharSequence)}</p>
+	 *
+	 * @param uri The GET path used by clients
+	 * @param directory the root prefix to serve from the file system, e.g.
+	 * "/Users/me/resources"
+	 * @param staticFilesSpec the static files configuration
+	 *
+	 * @return this {@link HttpServerRoutes}
+	 * @since 1.3.3
+	 */
+	default HttpServerRoutes staticFiles(String uri, Path directory,
+			Consumer<HttpServerStaticFilesSpec.Builder> staticFilesSpec) {
+		Objects.requireNonNull(directory, "directory");
+		Objects.requireNonNull(staticFilesSpec, "staticFilesSpec");
+		HttpServerStaticFilesSpec.Builder builder = HttpServerStaticFilesSpec.builder();
+		staticFilesSpec.accept(builder);
+		HttpServerStaticFiles handler = new HttpServerStaticFiles(uri, directory, builder.build());
+		return route(HttpPredicate.prefix(uri), handler)
+		        .route(HttpPredicate.prefix(uri, HttpMethod.HEAD), handler);
+	}
+
 	/**
 	 * Listens for websocket on the passed path to be used as a routing condition. Incoming
 	 * connections will query the internal registry to invoke the matching handler.
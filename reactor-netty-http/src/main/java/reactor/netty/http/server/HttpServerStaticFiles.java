@@ -0,0 +1,518 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * Serves the files of a directory, answers the conditional requests and the range requests.
+ * The metadata of the files is cached and revalidated with the last modified time and the size,
+ * the content of the small files is cached as read-only direct buffers in a size-bounded LRU store.
+ * A cache hit is served from the event loop, a cache miss or a revalidation reads the file system
+ * on {@link HttpServerStaticFilesSpec#scheduler()}.
+ * The other files are sent with {@link reactor.netty.NettyOutbound#sendFile(Path, long, long)} which uses
+ * a zero-copy file transfer when possible.
+ *
+ * @since 1.3.3
+ */
+final class HttpServerStaticFiles implements BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> {
+
+	static final Logger log = Loggers.getLogger(HttpServerStaticFiles.class);
+
+	/**
+	 * The maximum number of files which metadata is cached.
+	 */
+	static final int MAX_ENTRIES = 4096;
+
+	/**
+	 * The maximum number of ranges in a single request, requests with more ranges receive the full content.
+	 */
+	static final int MAX_RANGES = 16;
+
+	/**
+	 * The encodings of the precompressed files in the order of preference.
+	 */
+	static final String[] PRECOMPRESSED_ENCODINGS = {"br", "zstd", "gzip"};
+
+	/**
+	 * The file extensions of the precompressed files, in the same order as {@link #PRECOMPRESSED_ENCODINGS}.
+	 */
+	static final String[] PRECOMPRESSED_EXTENSIONS = {".br", ".zst", ".gz"};
+
+	static final Pattern ZERO_QUALITY = Pattern.compile("q\\s*=\\s*0(\\.0*)?");
+
+	static final String BYTES_UNIT = "bytes";
+	static final String RANGE_PREFIX = BYTES_UNIT + '=';
+
+	final String uri;
+	final Path directory;
+	final HttpServerStaticFilesSpec spec;
+	final long revalidateInterval;
+	final ConcurrentHashMap<Path, FileEntry> entries;
+
+	// Guarded by this, the lock is taken only by the loading threads, never by the event loop
+	long size;
+
+	HttpServerStaticFiles(String uri, Path directory, HttpServerStaticFilesSpec spec) {
+		this.uri = uri;
+		this.directory = directory.toAbsolutePath().normalize();
+		this.spec = spec;
+		this.revalidateInterval = spec.revalidateInterval.toNanos();
+		this.entries = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public Publisher<Void> apply(HttpServerRequest req, HttpServerResponse resp) {
+		String prefix = URI.create(req.uri())
+		                   .getPath()
+		                   .replaceFirst(uri, "");
+
+		if (!prefix.isEmpty() && prefix.charAt(0) == '/') {
+			prefix = prefix.substring(1);
+		}
+
+		Path p = directory.resolve(prefix).toAbsolutePath().normalize();
+		if (!p.startsWith(directory)) {
+			return resp.sendNotFound();
+		}
+
+		HttpHeaders requestHeaders = req.requestHeaders();
+		return resolve(p, false).flatMapMany(resolved -> {
+			if (!resolved.exists()) {
+				return resp.sendNotFound();
+			}
+			if (!spec.precompressed) {
+				return respond(req, resp, resolved);
+			}
+			resp.header(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+			String acceptEncoding = requestHeaders.get(HttpHeaderNames.ACCEPT_ENCODING);
+			if (acceptEncoding == null) {
+				return respond(req, resp, resolved);
+			}
+			return precompressed(resp, p, resolved, acceptEncoding, 0)
+			                    .flatMapMany(entry -> respond(req, resp, entry));
+		});
+	}
+
+	/**
+	 * Resolves the first precompressed variant accepted by the client, starting at the given index
+	 * of {@link #PRECOMPRESSED_ENCODINGS}, or the requested file when there is none.
+	 */
+	Mono<FileEntry> precompressed(HttpServerResponse resp, Path p, FileEntry resolved, String acceptEncoding, int index) {
+		int i = index;
+		while (i < PRECOMPRESSED_ENCODINGS.length && !accepts(acceptEncoding, PRECOMPRESSED_ENCODINGS[i])) {
+			i++;
+		}
+		if (i == PRECOMPRESSED_ENCODINGS.length) {
+			return Mono.just(resolved);
+		}
+		int next = i + 1;
+		String encoding = PRECOMPRESSED_ENCODINGS[i];
+		return resolve(p.resolveSibling(p.getFileName() + PRECOMPRESSED_EXTENSIONS[i]), true).flatMap(variant -> {
+			// A precompressed file older than the requested file is stale
+			if (variant.exists() && variant.lastModified >= resolved.lastModified) {
+				resp.header(HttpHeaderNames.CONTENT_ENCODING, encoding);
+				return Mono.just(variant);
+			}
+			return precompressed(resp, p, resolved, acceptEncoding, next);
+		});
+	}
+
+	Publisher<Void> respond(HttpServerRequest req, HttpServerResponse resp, FileEntry entry) {
+		HttpHeaders requestHeaders = req.requestHeaders();
+		resp.header(HttpHeaderNames.ETAG, entry.etag)
+		    .header(HttpHeaderNames.LAST_MODIFIED, entry.lastModifiedHeader)
+		    .header(HttpHeaderNames.ACCEPT_RANGES, BYTES_UNIT);
+
+		if (notModified(requestHeaders, entry)) {
+			return resp.status(HttpResponseStatus.NOT_MODIFIED)
+			           .send();
+		}
+
+		boolean head = HttpMethod.HEAD.equals(req.method());
+		List<long[]> ranges = ranges(requestHeaders, entry);
+		if (ranges == null) {
+			resp.header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(entry.size));
+			return head ? resp.send() : send(resp, entry, 0, entry.size);
+		}
+
+		if (ranges.isEmpty()) {
+			return resp.status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+			           .header(HttpHeaderNames.CONTENT_RANGE, BYTES_UNIT + " */" + entry.size)
+			           .header(HttpHeaderNames.CONTENT_LENGTH, HttpHeaderValues.ZERO)
+			           .send();
+		}
+
+		resp.status(HttpResponseStatus.PARTIAL_CONTENT);
+		if (ranges.size() == 1) {
+			long[] range = ranges.get(0);
+			resp.header(HttpHeaderNames.CONTENT_RANGE, contentRange(range, entry.size))
+			    .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(range[1]));
+			return head ? resp.send() : send(resp, entry, range[0], range[1]);
+		}
+
+		String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) +
+				Long.toHexString(ThreadLocalRandom.current().nextLong());
+		String closing = "\r\n--" + boundary + "--\r\n";
+		List<String> partHeaders = new ArrayList<>(ranges.size());
+		long contentLength = closing.length();
+		for (long[] range : ranges) {
+			String partHeader = "\r\n--" + boundary + "\r\n" +
+					HttpHeaderNames.CONTENT_RANGE + ": " + contentRange(range, entry.size) + "\r\n\r\n";
+			partHeaders.add(partHeader);
+			contentLength += partHeader.length() + range[1];
+		}
+		resp.header(HttpHeaderNames.CONTENT_TYPE, "multipart/byteranges; " + HttpHeaderValues.BOUNDARY + '=' + boundary)
+		    .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(contentLength));
+		if (head) {
+			return resp.send();
+		}
+
+		// The headers are sent first, then the parts are written one after another,
+		// each write completes before the next one is started
+		Mono<Void> body = resp.then();
+		for (int i = 0; i < ranges.size(); i++) {
+			String partHeader = partHeaders.get(i);
+			long[] range = ranges.get(i);
+			body = body.then(Mono.defer(() -> resp.sendString(Mono.just(partHeader), StandardCharsets.US_ASCII).then()))
+			           .then(Mono.defer(() -> send(resp, entry, range[0], range[1])));
+		}
+		return body.then(Mono.defer(() -> resp.sendString(Mono.just(closing), StandardCharsets.US_ASCII).then()));
+	}
+
+	Mono<Void> send(HttpServerResponse resp, FileEntry entry, long position, long count) {
+		if (count == 0) {
+			return resp.send();
+		}
+		ByteBuf content = retain(entry, position, count);
+		if (content != null) {
+			return resp.send(Mono.just(content)).then();
+		}
+		return resp.sendFile(entry.path, position, count).then();
+	}
+
+	/**
+	 * Returns the entry of the file, the entry of a missing file does not {@link FileEntry#exists() exist}.
+	 * A fresh cached entry is returned immediately, otherwise the file is loaded on
+	 * {@link HttpServerStaticFilesSpec#scheduler()} so that the event loop never blocks on the file system.
+	 */
+	Mono<FileEntry> resolve(Path p, boolean variant) {
+		FileEntry entry = entries.get(p);
+		long now = System.nanoTime();
+		if (entry != null && now - entry.validatedAt < revalidateInterval) {
+			entry.accessedAt = now;
+			return Mono.just(entry);
+		}
+		return Mono.fromCallable(() -> load(p, variant))
+		           .subscribeOn(spec.scheduler)
+		           .onErrorResume(IOException.class, e -> {
+		               if (log.isDebugEnabled()) {
+		                   log.debug("Path not resolved [{}]", p, e);
+		               }
+		               remove(p);
+		               return Mono.just(missing(p, System.nanoTime()));
+		           });
+	}
+
+	/**
+	 * Loads the entry of the file, this method blocks on the file system.
+	 * Only the absent precompressed variants of the existing files are remembered until the next revalidation,
+	 * the other missing files are not cached, so that requests for random missing paths cannot evict the entries
+	 * of the existing files.
+	 */
+	FileEntry load(Path p, boolean variant) throws IOException {
+		FileEntry entry = entries.get(p);
+		long now = System.nanoTime();
+		if (entry != null && now - entry.validatedAt < revalidateInterval) {
+			// Loaded concurrently by another request
+			return entry;
+		}
+
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(p, BasicFileAttributes.class);
+		}
+		catch (NoSuchFileException e) {
+			attributes = null;
+		}
+		if (attributes == null || !attributes.isRegularFile() || !Files.isReadable(p)) {
+			FileEntry missing = missing(p, now);
+			if (variant) {
+				put(p, missing);
+			}
+			else if (entry != null) {
+				remove(p);
+			}
+			return missing;
+		}
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		long fileSize = attributes.size();
+		if (entry != null && entry.lastModified == lastModified && entry.size == fileSize) {
+			entry.validatedAt = now;
+			entry.accessedAt = now;
+			return entry;
+		}
+
+		ByteBuf content = null;
+		if (fileSize <= spec.maxCachedFileSize && fileSize <= spec.maxCacheSize) {
+			byte[] bytes = Files.readAllBytes(p);
+			// The file is being modified, do not cache the content
+			if (bytes.length == fileSize) {
+				content = Unpooled.directBuffer(bytes.length)
+				                  .writeBytes(bytes)
+				                  .asReadOnly();
+			}
+		}
+		FileEntry updated = new FileEntry(p, lastModified, fileSize, content, now);
+		put(p, updated);
+		return updated;
+	}
+
+	@Nullable ByteBuf retain(FileEntry entry, long position, long count) {
+		ByteBuf content = entry.content;
+		if (content == null || entry.evicted) {
+			return null;
+		}
+		try {
+			return content.retainedSlice((int) position, (int) count);
+		}
+		catch (IllegalReferenceCountException e) {
+			// Evicted concurrently, the file is sent from the file system
+			return null;
+		}
+	}
+
+	synchronized void put(Path p, FileEntry entry) {
+		FileEntry previous = entries.put(p, entry);
+		if (entry.content != null) {
+			size += entry.content.readableBytes();
+		}
+		if (previous != null) {
+			evict(previous);
+		}
+		if (size <= spec.maxCacheSize && entries.size() <= MAX_ENTRIES) {
+			return;
+		}
+		// The least recently used entries are evicted, this runs only on the loading threads
+		List<FileEntry> eldest = new ArrayList<>(entries.values());
+		eldest.sort(Comparator.comparingLong(e -> e.accessedAt));
+		for (FileEntry candidate : eldest) {
+			if (size <= spec.maxCacheSize && entries.size() <= MAX_ENTRIES) {
+				break;
+			}
+			if (candidate != entry && entries.remove(candidate.path, candidate)) {
+				evict(candidate);
+			}
+		}
+	}
+
+	synchronized void remove(Path p) {
+		FileEntry entry = entries.remove(p);
+		if (entry != null) {
+			evict(entry);
+		}
+	}
+
+	void evict(FileEntry entry) {
+		entry.evicted = true;
+		ByteBuf content = entry.content;
+		if (content != null) {
+			size -= content.readableBytes();
+			content.release();
+		}
+	}
+
+	static FileEntry missing(Path p, long now) {
+		return new FileEntry(p, -1, -1, null, now);
+	}
+
+	static boolean accepts(String acceptEncoding, String encoding) {
+		for (String value : acceptEncoding.split(",")) {
+			int semicolon = value.indexOf(';');
+			String coding = (semicolon < 0 ? value : value.substring(0, semicolon)).trim();
+			if (coding.equalsIgnoreCase(encoding)) {
+				return semicolon < 0 || !ZERO_QUALITY.matcher(value.substring(semicolon + 1).trim()).matches();
+			}
+		}
+		return false;
+	}
+
+	static String contentRange(long[] range, long size) {
+		return BYTES_UNIT + ' ' + range[0] + '-' + (range[0] + range[1] - 1) + '/' + size;
+	}
+
+	static boolean notModified(HttpHeaders requestHeaders, FileEntry entry) {
+		String ifNoneMatch = requestHeaders.get(HttpHeaderNames.IF_NONE_MATCH);
+		if (ifNoneMatch != null) {
+			// If-Modified-Since is ignored when If-None-Match is present, the comparison is weak
+			for (String value : ifNoneMatch.split(",")) {
+				String tag = value.trim();
+				if (tag.startsWith("W/")) {
+					tag = tag.substring(2);
+				}
+				if ("*".equals(tag) || entry.etag.equals(tag)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		String ifModifiedSince = requestHeaders.get(HttpHeaderNames.IF_MODIFIED_SINCE);
+		if (ifModifiedSince != null) {
+			Date date = DateFormatter.parseHttpDate(ifModifiedSince);
+			return date != null && entry.lastModified / 1000 <= date.getTime() / 1000;
+		}
+		return false;
+	}
+
+	/**
+	 * Parses the {@code Range} request header.
+	 *
+	 * @return {@code null} when the full content must be sent, an empty list when none of the ranges
+	 * can be satisfied, otherwise the list of {@code [position, count]} pairs
+	 */
+	static @Nullable List<long[]> ranges(HttpHeaders requestHeaders, FileEntry entry) {
+		String range = requestHeaders.get(HttpHeaderNames.RANGE);
+		if (range == null || !range.startsWith(RANGE_PREFIX)) {
+			return null;
+		}
+
+		String ifRange = requestHeaders.get(HttpHeaderNames.IF_RANGE);
+		if (ifRange != null) {
+			if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+				// The comparison is strong, a weak entity tag never matches
+				if (!ifRange.equals(entry.etag)) {
+					return null;
+				}
+			}
+			else {
+				Date date = DateFormatter.parseHttpDate(ifRange);
+				if (date == null || date.getTime() / 1000 != entry.lastModified / 1000) {
+					return null;
+				}
+			}
+		}
+
+		String[] specs = range.substring(RANGE_PREFIX.length()).split(",");
+		if (specs.length > MAX_RANGES) {
+			return null;
+		}
+		long size = entry.size;
+		List<long[]> result = new ArrayList<>(specs.length);
+		try {
+			for (String s : specs) {
+				String spec = s.trim();
+				int dash = spec.indexOf('-');
+				if (dash < 0) {
+					return null;
+				}
+				long start;
+				long end;
+				if (dash == 0) {
+					long suffix = Long.parseLong(spec.substring(1));
+					if (suffix < 0) {
+						return null;
+					}
+					if (suffix == 0 || size == 0) {
+						continue;
+					}
+					start = Math.max(0, size - suffix);
+					end = size - 1;
+				}
+				else {
+					start = Long.parseLong(spec.substring(0, dash));
+					if (start < 0) {
+						return null;
+					}
+					if (dash == spec.length() - 1) {
+						end = size - 1;
+					}
+					else {
+						end = Long.parseLong(spec.substring(dash + 1));
+						if (end < start) {
+							return null;
+						}
+						end = Math.min(end, size - 1);
+					}
+					if (start >= size) {
+						continue;
+					}
+				}
+				result.add(new long[] {start, end - start + 1});
+			}
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+		return result;
+	}
+
+	static final class FileEntry {
+		final Path path;
+		final long lastModified;
+		final long size;
+		final String etag;
+		final String lastModifiedHeader;
+		final @Nullable ByteBuf content;
+
+		volatile long validatedAt;
+		volatile long accessedAt;
+		volatile boolean evicted;
+
+		FileEntry(Path path, long lastModified, long size, @Nullable ByteBuf content, long validatedAt) {
+			this.path = path;
+			this.lastModified = lastModified;
+			this.size = size;
+			this.etag = "\"" + Long.toHexString(lastModified) + '-' + Long.toHexString(size) + "\"";
+			this.lastModifiedHeader = DateFormatter.format(new Date(lastModified));
+			this.content = content;
+			this.validatedAt = validatedAt;
+			this.accessedAt = validatedAt;
+		}
+
+		boolean exists() {
+			return size >= 0;
+		}
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * A configuration builder for serving static files with
+ * {@link HttpServerRoutes#staticFiles(String, java.nio.file.Path, java.util.function.Consumer)}.
+ * The metadata of the served files is cached and revalidated with the last modified time and the size of the file,
+ * the content of the small files is cached in a size-bounded in-memory store.
+ *
+ * @since 1.3.3
+ */
+public final class HttpServerStaticFilesSpec {
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link HttpServerStaticFilesSpec}.
+		 *
+		 * @return a new {@link HttpServerStaticFilesSpec}
+		 */
+		HttpServerStaticFilesSpec build();
+
+		/**
+		 * Configures the maximum size in bytes of a single file which content can be cached.
+		 * Bigger files are always sent from the file system.
+		 * Default to {@link #DEFAULT_MAX_CACHED_FILE_SIZE}.
+		 *
+		 * @param maxCachedFileSize the maximum size in bytes of a single cached file, must be positive
+		 * @return {@code this}
+		 */
+		Builder maxCachedFileSize(int maxCachedFileSize);
+
+		/**
+		 * Configures the maximum size in bytes of all cached file contents.
+		 * When the limit is reached, the least recently used file contents are evicted.
+		 * {@code 0} disables the caching of file contents, only the file metadata is cached.
+		 * Default to {@link #DEFAULT_MAX_CACHE_SIZE}.
+		 *
+		 * @param maxCacheSize the maximum size in bytes of all cached file contents, must be positive or zero
+		 * @return {@code this}
+		 */
+		Builder maxCacheSize(long maxCacheSize);
+
+		/**
+		 * Configures whether precompressed files are served. When enabled and the client accepts the encoding,
+		 * the {@code .br}, {@code .zst} or {@code .gz} file next to the requested file is served
+		 * (in this order of preference) with the corresponding {@code Content-Encoding}.
+		 * A precompressed file older than the requested file is ignored.
+		 * Default to {@code false}.
+		 *
+		 * @param precompressed {@code true} to serve precompressed files
+		 * @return {@code this}
+		 */
+		Builder precompressed(boolean precompressed);
+
+		/**
+		 * Configures the interval after which the cached metadata of a file is revalidated
+		 * against the last modified time and the size of the file.
+		 * {@link Duration#ZERO} revalidates on every request.
+		 * Default to {@link #DEFAULT_REVALIDATE_INTERVAL}.
+		 *
+		 * @param revalidateInterval the revalidation interval, must be positive or zero
+		 * @return {@code this}
+		 */
+		Builder revalidateInterval(Duration revalidateInterval);
+
+		/**
+		 * Sets the scheduler to be used for offloading the file system operations on a cache miss or a revalidation,
+		 * i.e. reading the file attributes and loading the content of the small files.
+		 * A cache hit is served from the event loop.
+		 * Default to {@link Schedulers#boundedElastic()}.
+		 *
+		 * @param scheduler the scheduler to be used for offloading the file system operations
+		 * @return {@code this}
+		 */
+		Builder scheduler(Scheduler scheduler);
+	}
+
+	/**
+	 * Default maximum size in bytes of a single cached file - 64KB.
+	 */
+	public static final int DEFAULT_MAX_CACHED_FILE_SIZE = 64 * 1024;
+
+	/**
+	 * Default maximum size in bytes of all cached file contents - 16MB.
+	 */
+	public static final long DEFAULT_MAX_CACHE_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Default revalidation interval - 1s.
+	 */
+	public static final Duration DEFAULT_REVALIDATE_INTERVAL = Duration.ofSeconds(1);
+
+	/**
+	 * Creates a builder for {@link HttpServerStaticFilesSpec}.
+	 *
+	 * @return a new {@link HttpServerStaticFilesSpec.Builder}
+	 */
+	public static Builder builder() {
+		return new Build();
+	}
+
+	/**
+	 * Returns the configured maximum size in bytes of a single cached file.
+	 *
+	 * @return the configured maximum size in bytes of a single cached file
+	 */
+	public int maxCachedFileSize() {
+		return maxCachedFileSize;
+	}
+
+	/**
+	 * Returns the configured maximum size in bytes of all cached file contents.
+	 *
+	 * @return the configured maximum size in bytes of all cached file contents
+	 */
+	public long maxCacheSize() {
+		return maxCacheSize;
+	}
+
+	/**
+	 * Returns whether precompressed files are served.
+	 *
+	 * @return {@code true} if precompressed files are served
+	 */
+	public boolean precompressed() {
+		return precompressed;
+	}
+
+	/**
+	 * Returns the configured revalidation interval.
+	 *
+	 * @return the configured revalidation interval
+	 */
+	public Duration revalidateInterval() {
+		return revalidateInterval;
+	}
+
+	/**
+	 * Returns the configured scheduler to be used for offloading the file system operations.
+	 *
+	 * @return the configured scheduler to be used for offloading the file system operations
+	 */
+	public Scheduler scheduler() {
+		return scheduler;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof HttpServerStaticFilesSpec)) {
+			return false;
+		}
+		HttpServerStaticFilesSpec that = (HttpServerStaticFilesSpec) o;
+		return maxCachedFileSize == that.maxCachedFileSize &&
+				maxCacheSize == that.maxCacheSize &&
+				precompressed == that.precompressed &&
+				revalidateInterval.equals(that.revalidateInterval) &&
+				scheduler.equals(that.scheduler);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = 1;
+		result = 31 * result + maxCachedFileSize;
+		result = 31 * result + Long.hashCode(maxCacheSize);
+		result = 31 * result + Boolean.hashCode(precompressed);
+		result = 31 * result + revalidateInterval.hashCode();
+		result = 31 * result + scheduler.hashCode();
+		return result;
+	}
+
+	final int maxCachedFileSize;
+	final long maxCacheSize;
+	final boolean precompressed;
+	final Duration revalidateInterval;
+	final Scheduler scheduler;
+
+	HttpServerStaticFilesSpec(Build build) {
+		this.maxCachedFileSize = build.maxCachedFileSize;
+		this.maxCacheSize = build.maxCacheSize;
+		this.precompressed = build.precompressed;
+		this.revalidateInterval = build.revalidateInterval;
+		this.scheduler = build.scheduler;
+	}
+
+	static final class Build implements Builder {
+
+		int maxCachedFileSize = DEFAULT_MAX_CACHED_FILE_SIZE;
+		long maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+		boolean precompressed;
+		Duration revalidateInterval = DEFAULT_REVALIDATE_INTERVAL;
+		Scheduler scheduler = Schedulers.boundedElastic();
+
+		@Override
+		public HttpServerStaticFilesSpec build() {
+			return new HttpServerStaticFilesSpec(this);
+		}
+
+		@Override
+		public Builder maxCachedFileSize(int maxCachedFileSize) {
+			if (maxCachedFileSize < 1) {
+				throw new IllegalArgumentException("maxCachedFileSize must be positive");
+			}
+			this.maxCachedFileSize = maxCachedFileSize;
+			return this;
+		}
+
+		@Override
+		public Builder maxCacheSize(long maxCacheSize) {
+			if (maxCacheSize < 0) {
+				throw new IllegalArgumentException("maxCacheSize must be positive or zero");
+			}
+			this.maxCacheSize = maxCacheSize;
+			return this;
+		}
+
+		@Override
+		public Builder precompressed(boolean precompressed) {
+			this.precompressed = precompressed;
+			return this;
+		}
+
+		@Override
+		public Builder revalidateInterval(Duration revalidateInterval) {
+			Objects.requireNonNull(revalidateInterval, "revalidateInterval");
+			if (revalidateInterval.isNegative()) {
+				throw new IllegalArgumentException("revalidateInterval must be positive or zero");
+			}
+			this.revalidateInterval = revalidateInterval;
+			return this;
+		}
+
+		@Override
+		public Builder scheduler(Scheduler scheduler) {
+			this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+			return this;
+		}
+	}
+}
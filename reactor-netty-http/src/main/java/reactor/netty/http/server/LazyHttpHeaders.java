@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.DefaultHeaders;
+import io.netty.handler.codec.http.DefaultHttpHeadersFactory;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpHeadersFactory;
+import io.netty.util.AsciiString;
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static io.netty.handler.codec.http.DefaultHttpHeadersFactory.headersFactory;
+
+/**
+ * {@link HttpHeaders} for the decoded HTTP/1.1 request headers, which keeps the names and the values
+ * in the order they were received and resolves the lookups with a linear scan.
+ * The hash table of {@link io.netty.handler.codec.http.DefaultHttpHeaders} is built only when the headers are modified,
+ * or when an operation that is not supported by the scan is invoked, which is not the case for the most requests
+ * as they read only a few headers.
+ * <p>The names and the values are validated when added, exactly as {@link io.netty.handler.codec.http.DefaultHttpHeaders}
+ * does, so that an invalid request is still rejected by the decoder.
+ *
+ * @since 1.3.3
+ */
+final class LazyHttpHeaders extends HttpHeaders {
+
+	/**
+	 * Returns {@link HttpHeadersFactory} which creates {@link LazyHttpHeaders} for the decoded request.
+	 *
+	 * @param validate whether to validate the names and the values
+	 * @return {@link HttpHeadersFactory} which creates {@link LazyHttpHeaders}
+	 */
+	static HttpHeadersFactory factory(boolean validate) {
+		return validate ? VALIDATING_FACTORY : NON_VALIDATING_FACTORY;
+	}
+
+	static final int INITIAL_CAPACITY = 32;
+
+	final DefaultHttpHeadersFactory headersFactory;
+	final DefaultHeaders.NameValidator<CharSequence> nameValidator;
+	final DefaultHeaders.ValueValidator<CharSequence> valueValidator;
+
+	// names and values, one after another
+	CharSequence[] entries;
+	int size;
+
+	@Nullable HttpHeaders delegate;
+
+	LazyHttpHeaders(DefaultHttpHeadersFactory headersFactory) {
+		this.headersFactory = headersFactory;
+		this.nameValidator = headersFactory.getNameValidator();
+		this.valueValidator = headersFactory.getValueValidator();
+		this.entries = new CharSequence[INITIAL_CAPACITY];
+	}
+
+	@Override
+	public @Nullable String get(String name) {
+		if (delegate != null) {
+			return delegate.get(name);
+		}
+		for (int i = 0; i < size; i += 2) {
+			if (AsciiString.contentEqualsIgnoreCase(entries[i], name)) {
+				return entries[i + 1].toString();
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public @Nullable Integer getInt(CharSequence name) {
+		return materialize().getInt(name);
+	}
+
+	@Override
+	public int getInt(CharSequence name, int defaultValue) {
+		return materialize().getInt(name, defaultValue);
+	}
+
+	@Override
+	public @Nullable Short getShort(CharSequence name) {
+		return materialize().getShort(name);
+	}
+
+	@Override
+	public short getShort(CharSequence name, short defaultValue) {
+		return materialize().getShort(name, defaultValue);
+	}
+
+	@Override
+	public @Nullable Long getTimeMillis(CharSequence name) {
+		return materialize().getTimeMillis(name);
+	}
+
+	@Override
+	public long getTimeMillis(CharSequence name, long defaultValue) {
+		return materialize().getTimeMillis(name, defaultValue);
+	}
+
+	@Override
+	public List<String> getAll(String name) {
+		if (delegate != null) {
+			return delegate.getAll(name);
+		}
+		List<String> values = null;
+		for (int i = 0; i < size; i += 2) {
+			if (AsciiString.contentEqualsIgnoreCase(entries[i], name)) {
+				if (values == null) {
+					values = new ArrayList<>(2);
+				}
+				values.add(entries[i + 1].toString());
+			}
+		}
+		return values == null ? Collections.emptyList() : values;
+	}
+
+	@Override
+	public List<Map.Entry<String, String>> entries() {
+		if (delegate != null) {
+			return delegate.entries();
+		}
+		List<Map.Entry<String, String>> result = new ArrayList<>(size / 2);
+		for (int i = 0; i < size; i += 2) {
+			result.add(new AbstractMap.SimpleImmutableEntry<>(entries[i].toString(), entries[i + 1].toString()));
+		}
+		return result;
+	}
+
+	@Override
+	@Deprecated
+	public Iterator<Map.Entry<String, String>> iterator() {
+		if (delegate != null) {
+			return delegate.iterator();
+		}
+		return entries().iterator();
+	}
+
+	@Override
+	public Iterator<Map.Entry<CharSequence, CharSequence>> iteratorCharSequence() {
+		if (delegate != null) {
+			return delegate.iteratorCharSequence();
+		}
+		return new EntryIterator();
+	}
+
+	@Override
+	public boolean contains(String name) {
+		if (delegate != null) {
+			return delegate.contains(name);
+		}
+		for (int i = 0; i < size; i += 2) {
+			if (AsciiString.contentEqualsIgnoreCase(entries[i], name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate != null ? delegate.isEmpty() : size == 0;
+	}
+
+	@Override
+	public int size() {
+		return delegate != null ? delegate.size() : size / 2;
+	}
+
+	@Override
+	public Set<String> names() {
+		return materialize().names();
+	}
+
+	@Override
+	public HttpHeaders add(String name, Object value) {
+		if (delegate == null && value instanceof CharSequence) {
+			CharSequence charSequenceValue = (CharSequence) value;
+			nameValidator.validateName(name);
+			valueValidator.validate(charSequenceValue);
+			if (size == entries.length) {
+				entries = Arrays.copyOf(entries, size << 1);
+			}
+			entries[size++] = name;
+			entries[size++] = charSequenceValue;
+		}
+		else {
+			materialize().add(name, value);
+		}
+		return this;
+	}
+
+	@Override
+	public HttpHeaders add(String name, Iterable<?> values) {
+		materialize().add(name, values);
+		return this;
+	}
+
+	@Override
+	public HttpHeaders addInt(CharSequence name, int value) {
+		materialize().addInt(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpHeaders addShort(CharSequence name, short value) {
+		materialize().addShort(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpHeaders set(String name, Object value) {
+		materialize().set(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpHeaders set(String name, Iterable<?> values) {
+		materialize().set(name, values);
+		return this;
+	}
+
+	@Override
+	public HttpHeaders setInt(CharSequence name, int value) {
+		materialize().setInt(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpHeaders setShort(CharSequence name, short value) {
+		materialize().setShort(name, value);
+		return this;
+	}
+
+	@Override
+	public HttpHeaders remove(String name) {
+		if (delegate != null || contains(name)) {
+			materialize().remove(name);
+		}
+		return this;
+	}
+
+	@Override
+	public HttpHeaders clear() {
+		if (delegate != null) {
+			delegate.clear();
+		}
+		else {
+			entries = new CharSequence[INITIAL_CAPACITY];
+			size = 0;
+		}
+		return this;
+	}
+
+	HttpHeaders materialize() {
+		HttpHeaders delegate = this.delegate;
+		if (delegate == null) {
+			delegate = headersFactory.newHeaders();
+			for (int i = 0; i < size; i += 2) {
+				delegate.add(entries[i], entries[i + 1]);
+			}
+			this.delegate = delegate;
+			entries = EMPTY_ENTRIES;
+			size = 0;
+		}
+		return delegate;
+	}
+
+	final class EntryIterator implements Iterator<Map.Entry<CharSequence, CharSequence>> {
+
+		int index;
+
+		@Override
+		public boolean hasNext() {
+			return index < size;
+		}
+
+		@Override
+		public Map.Entry<CharSequence, CharSequence> next() {
+			if (index >= size) {
+				throw new NoSuchElementException();
+			}
+			Map.Entry<CharSequence, CharSequence> entry =
+					new AbstractMap.SimpleImmutableEntry<>(entries[index], entries[index + 1]);
+			index += 2;
+			return entry;
+		}
+	}
+
+	static final class Factory implements HttpHeadersFactory {
+
+		final DefaultHttpHeadersFactory headersFactory;
+
+		Factory(DefaultHttpHeadersFactory headersFactory) {
+			this.headersFactory = headersFactory;
+		}
+
+		@Override
+		public HttpHeaders newHeaders() {
+			return new LazyHttpHeaders(headersFactory);
+		}
+
+		@Override
+		public HttpHeaders newEmptyHeaders() {
+			return headersFactory.newEmptyHeaders();
+		}
+	}
+
+	static final CharSequence[] EMPTY_ENTRIES = new CharSequence[0];
+
+	static final HttpHeadersFactory NON_VALIDATING_FACTORY = new Factory(headersFactory().withValidation(false));
+
+	static final HttpHeadersFactory VALIDATING_FACTORY = new Factory(headersFactory());
+}
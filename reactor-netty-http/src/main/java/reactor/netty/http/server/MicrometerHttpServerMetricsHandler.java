@@ -23,6 +23,7 @@ import io.netty.channel.Channel;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
 import org.jspecify.annotations.Nullable;
+import reactor.netty.http.observability.HttpObservationSampling;
 import reactor.netty.observability.ReactorNettyHandlerContext;
 import reactor.util.context.ContextView;
 
@@ -30,6 +31,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
@@ -67,6 +69,8 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 	// This is a lazy initialization
 	Observation responseTimeObservation;
 	@Nullable ContextView parentContextView;
+	// The request is not sampled, no Observation is created for it
+	boolean unsampled;
 
 	MicrometerHttpServerMetricsHandler(
 			MicrometerHttpServerMetricsRecorder recorder,
@@ -85,6 +89,7 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 		this.responseTimeHandlerContext = copy.responseTimeHandlerContext;
 		this.responseTimeObservation = copy.responseTimeObservation;
 		this.parentContextView = copy.parentContextView;
+		this.unsampled = copy.unsampled;
 	}
 
 	@Override
@@ -99,6 +104,11 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 
 	@Override
 	protected void recordWrite(Channel channel) {
+		if (unsampled) {
+			super.recordWrite(channel);
+			return;
+		}
+
 		recordWrite(dataSent, dataSentTime, requireNonNull(method), requireNonNull(path), requireNonNull(remoteSocketAddress),
 				responseTimeObservation, requireNonNull(status));
 
@@ -107,6 +117,11 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 
 	@Override
 	protected void recordWrite(Channel channel, MetricsArgProvider metricsArgProvider) {
+		if (metricsArgProvider.get(Observation.class) == null) {
+			super.recordWrite(channel, metricsArgProvider);
+			return;
+		}
+
 		recordWrite(metricsArgProvider.dataSent, metricsArgProvider.dataSentTime, requireNonNull(metricsArgProvider.method),
 				requireNonNull(metricsArgProvider.path), requireNonNull(metricsArgProvider.remoteSocketAddress),
 				requireNonNull(metricsArgProvider.get(Observation.class)), requireNonNull(metricsArgProvider.status));
@@ -139,10 +154,7 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 	protected void startRead(HttpServerOperations ops) {
 		super.startRead(ops);
 
-		responseTimeHandlerContext = new ResponseTimeHandlerContext(recorder, requireNonNull(method), requireNonNull(path), ops);
-		responseTimeObservation = Observation.createNotStarted(this.responseTimeName, responseTimeHandlerContext, OBSERVATION_REGISTRY);
-		parentContextView = updateChannelContext(ops.channel(), responseTimeObservation);
-		responseTimeObservation.start();
+		startObservation(ops);
 	}
 
 	// response
@@ -150,14 +162,26 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 	protected void startWrite(HttpServerOperations ops) {
 		super.startWrite(ops);
 
-		if (responseTimeObservation == null) {
-			responseTimeHandlerContext = new ResponseTimeHandlerContext(recorder, requireNonNull(method), requireNonNull(path), ops);
-			responseTimeObservation = Observation.createNotStarted(this.responseTimeName, responseTimeHandlerContext, OBSERVATION_REGISTRY);
-			parentContextView = updateChannelContext(ops.channel(), responseTimeObservation);
-			responseTimeObservation.start();
+		if (responseTimeObservation == null && !unsampled) {
+			startObservation(ops);
+		}
+		if (!unsampled) {
+			responseTimeHandlerContext.setResponse(ops.nettyResponse);
+			responseTimeHandlerContext.status = requireNonNull(status);
 		}
-		responseTimeHandlerContext.setResponse(ops.nettyResponse);
-		responseTimeHandlerContext.status = requireNonNull(status);
+	}
+
+	void startObservation(HttpServerOperations ops) {
+		Predicate<? super HttpServerRequest> sampler = HttpObservationSampling.serverSampler();
+		if (sampler != null && !sampler.test(ops)) {
+			unsampled = true;
+			return;
+		}
+
+		responseTimeHandlerContext = new ResponseTimeHandlerContext(recorder, requireNonNull(method), requireNonNull(path), ops);
+		responseTimeObservation = Observation.createNotStarted(this.responseTimeName, responseTimeHandlerContext, OBSERVATION_REGISTRY);
+		parentContextView = updateChannelContext(ops.channel(), responseTimeObservation);
+		responseTimeObservation.start();
 	}
 
 	@Override
@@ -167,13 +191,15 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 	protected void reset(Channel channel) {
 		super.reset(channel);
 
-		if (isHttp11 && LAST_FLUSH_WHEN_NO_READ) {
+		// For an unsampled request, the channel context was not updated and must not be restored
+		if (isHttp11 && LAST_FLUSH_WHEN_NO_READ && responseTimeObservation != null) {
 			setChannelContext(channel, parentContextView);
 		}
 
 		responseTimeHandlerContext = null;
 		responseTimeObservation = null;
 		parentContextView = null;
+		unsampled = false;
 	}
 
 	/*
@@ -16,21 +16,45 @@
 package reactor.netty.http.server;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.ReferenceCountUtil;
 import org.jspecify.annotations.Nullable;
+import reactor.netty.http.internal.CompressedContentCache;
+import reactor.netty.http.internal.CompressionLoad;
+import reactor.netty.http.server.compression.CompressedResponseCache;
 import reactor.netty.http.server.compression.HttpCompressionOptionsSpec;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -41,26 +65,141 @@ import java.util.List;
  */
 final class SimpleCompressionHandler extends HttpContentCompressor {
 
+	final @Nullable CompressedContentCache cache;
+	final ArrayDeque<CacheRequest> cacheRequests;
+	final @Nullable CompressionLoad compressionLoad;
+	final @Nullable GzipOptions gzipOptions;
+	final @Nullable DeflateOptions deflateOptions;
+	final @Nullable ZstdOptions zstdOptions;
+
 	boolean decoded;
 	@Nullable HttpRequest request;
+	@Nullable ChannelHandlerContext ctx;
 
 	private SimpleCompressionHandler() {
 		super((CompressionOptions[]) null);
+		this.cache = null;
+		this.cacheRequests = new ArrayDeque<>(0);
+		this.compressionLoad = null;
+		this.gzipOptions = null;
+		this.deflateOptions = null;
+		this.zstdOptions = null;
 	}
 
-	private SimpleCompressionHandler(CompressionOptions... options) {
+	private SimpleCompressionHandler(@Nullable CompressedContentCache cache, @Nullable CompressionLoad compressionLoad,
+			CompressionOptions... options) {
 		super(options);
+		this.cache = cache;
+		this.cacheRequests = new ArrayDeque<>(cache != null ? 4 : 0);
+		this.compressionLoad = compressionLoad;
+		if (compressionLoad != null) {
+			GzipOptions gzip = StandardCompressionOptions.gzip();
+			DeflateOptions deflate = StandardCompressionOptions.deflate();
+			ZstdOptions zstd = StandardCompressionOptions.zstd();
+			for (CompressionOptions option : options) {
+				if (option instanceof GzipOptions) {
+					gzip = (GzipOptions) option;
+				}
+				else if (option instanceof DeflateOptions) {
+					deflate = (DeflateOptions) option;
+				}
+				else if (option instanceof ZstdOptions) {
+					zstd = (ZstdOptions) option;
+				}
+			}
+			this.gzipOptions = gzip;
+			this.deflateOptions = deflate;
+			this.zstdOptions = zstd;
+		}
+		else {
+			this.gzipOptions = null;
+			this.deflateOptions = null;
+			this.zstdOptions = null;
+		}
 	}
 
 	static SimpleCompressionHandler create(@Nullable HttpCompressionOptionsSpec compressionOptions) {
-		return compressionOptions == null ?
-				new SimpleCompressionHandler() :
-				new SimpleCompressionHandler(compressionOptions.adapt());
+		if (compressionOptions == null) {
+			return new SimpleCompressionHandler();
+		}
+		// The public view is backed by the internal cache
+		CompressedResponseCache cache = compressionOptions.cache();
+		return new SimpleCompressionHandler(cache instanceof CompressedContentCache ? (CompressedContentCache) cache : null,
+				compressionOptions.compressionLoad(), compressionOptions.adapt());
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+		this.ctx = ctx;
+		super.handlerAdded(ctx);
+	}
+
+	/**
+	 * When load-adaptive compression is configured, selects the compression level depending on the load of the
+	 * event loop, or skips the compression. Otherwise, the configured compression options are used.
+	 */
+	@Override
+	protected @Nullable Result beginEncode(HttpResponse httpResponse, String acceptEncoding) throws Exception {
+		return beginEncode(httpResponse, acceptEncoding, load());
+	}
+
+	@Nullable Result beginEncode(HttpResponse httpResponse, String acceptEncoding, int load) throws Exception {
+		CompressionLoad compressionLoad = this.compressionLoad;
+		ChannelHandlerContext ctx = this.ctx;
+		if (compressionLoad == null || ctx == null || load == CompressionLoad.NORMAL) {
+			return super.beginEncode(httpResponse, acceptEncoding);
+		}
+		if (load == CompressionLoad.OVERLOADED || httpResponse.headers().contains(HttpHeaderNames.CONTENT_ENCODING)) {
+			return null;
+		}
+
+		String targetContentEncoding = null;
+		if (load == CompressionLoad.BUSY) {
+			long contentLength = httpResponse instanceof FullHttpResponse ?
+					((FullHttpResponse) httpResponse).content().readableBytes() :
+					HttpUtil.getContentLength(httpResponse, -1L);
+			if (contentLength >= 0 && contentLength < compressionLoad.busyMinResponseSize()) {
+				return null;
+			}
+			// Prefer a cheaper encoding when the client accepts one
+			targetContentEncoding = determineEncoding(withoutBrotli(acceptEncoding));
+		}
+		if (targetContentEncoding == null) {
+			targetContentEncoding = determineEncoding(acceptEncoding);
+			if (targetContentEncoding == null) {
+				return null;
+			}
+		}
+
+		ChannelHandler encoder;
+		GzipOptions gzip = gzipOptions;
+		DeflateOptions deflate = deflateOptions;
+		ZstdOptions zstd = zstdOptions;
+		if ("gzip".equals(targetContentEncoding) && gzip != null) {
+			encoder = ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, compressionLoad.compressionLevel(load),
+					gzip.windowBits(), gzip.memLevel());
+		}
+		else if ("deflate".equals(targetContentEncoding) && deflate != null) {
+			encoder = ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, compressionLoad.compressionLevel(load),
+					deflate.windowBits(), deflate.memLevel());
+		}
+		else if ("zstd".equals(targetContentEncoding) && zstd != null) {
+			encoder = new ZstdEncoder(compressionLoad.zstdCompressionLevel(load), zstd.blockSize(), zstd.maxEncodeSize());
+		}
+		else {
+			// Brotli and Snappy are used with the configured options
+			return super.beginEncode(httpResponse, acceptEncoding);
+		}
+		return new Result(targetContentEncoding, new EmbeddedChannel(ctx.channel().id(),
+				ctx.channel().metadata().hasDisconnect(), ctx.channel().config(), encoder));
 	}
 
 	@Override
 	protected void decode(ChannelHandlerContext ctx, HttpRequest msg, List<Object> out) throws Exception {
 		decoded = true;
+		if (cache != null) {
+			cacheRequests.add(new CacheRequest(msg.method(), msg.uri(), msg.headers().get(HttpHeaderNames.ACCEPT_ENCODING)));
+		}
 		super.decode(ctx, msg, out);
 	}
 
@@ -70,7 +209,7 @@ final class SimpleCompressionHandler extends HttpContentCompressor {
 			throws Exception {
 
 		if (msg instanceof ByteBuf) {
-			super.write(ctx, new DefaultHttpContent((ByteBuf) msg), promise);
+			write0(ctx, new DefaultHttpContent((ByteBuf) msg), promise);
 		}
 		else {
 			if (!decoded && msg instanceof HttpResponse) {
@@ -82,8 +221,126 @@ final class SimpleCompressionHandler extends HttpContentCompressor {
 				decoded = false;
 				request = null;
 			}
+			if (cache != null && msg instanceof HttpResponse &&
+					((HttpResponse) msg).status().code() != HttpResponseStatus.CONTINUE.code()) {
+				// The requests are polled in the same order as the accept encodings in HttpContentEncoder
+				CacheRequest cacheRequest = cacheRequests.poll();
+				if (cacheRequest != null && msg instanceof FullHttpResponse) {
+					msg = fromCache(cache, cacheRequest, (FullHttpResponse) msg);
+				}
+			}
+			write0(ctx, msg, promise);
+		}
+	}
+
+	void write0(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+		CompressionLoad compressionLoad = this.compressionLoad;
+		if (compressionLoad == null) {
+			super.write(ctx, msg, promise);
+			return;
+		}
+		// The time spent in the encoder is the load signal for the load-adaptive compression
+		long start = System.nanoTime();
+		try {
 			super.write(ctx, msg, promise);
 		}
+		finally {
+			compressionLoad.record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Replaces the body of the response with the stored compressed body. When there is no stored compressed body,
+	 * the body is compressed with the encoder that {@link HttpContentCompressor} would use and then stored,
+	 * unless load-adaptive compression selected a cheaper encoding or a lower compression level.
+	 * The response with {@code Content-Encoding} is not compressed again by {@link HttpContentCompressor}.
+	 */
+	FullHttpResponse fromCache(CompressedContentCache cache, CacheRequest cacheRequest, FullHttpResponse msg) throws Exception {
+		HttpHeaders headers = msg.headers();
+		String acceptEncoding = cacheRequest.acceptEncoding;
+		if (acceptEncoding == null || !HttpMethod.GET.equals(cacheRequest.method) ||
+				msg.status().code() != HttpResponseStatus.OK.code() || headers.contains(HttpHeaderNames.CONTENT_ENCODING) ||
+				!msg.content().isReadable() || msg.content().readableBytes() > cache.maxEntrySize() || !storable(headers)) {
+			return msg;
+		}
+
+		String etag = headers.get(HttpHeaderNames.ETAG);
+		String key;
+		if (etag != null) {
+			key = cacheRequest.uri + ' ' + etag;
+		}
+		else if (cache.contentHash()) {
+			key = sha256(msg.content());
+		}
+		else {
+			return msg;
+		}
+
+		String encoding = determineEncoding(acceptEncoding);
+		if (encoding == null) {
+			return msg;
+		}
+
+		ByteBuf compressed = cache.get(key + ' ' + encoding);
+		if (compressed == null) {
+			int load = load();
+			Result result = beginEncode(msg, acceptEncoding, load);
+			if (result == null) {
+				return msg;
+			}
+			// When the event loop is busy, the encoding and the compression level may differ from the preferred ones,
+			// such a body is sent but not stored
+			encoding = result.targetContentEncoding();
+			ByteBuf content = encode(result.contentEncoder(), msg.content());
+			if (load <= CompressionLoad.NORMAL) {
+				compressed = content.retainedDuplicate();
+				cache.put(key + ' ' + encoding, content);
+			}
+			else {
+				compressed = content;
+			}
+		}
+
+		FullHttpResponse response = msg.replace(compressed);
+		msg.release();
+		response.headers()
+		        .set(HttpHeaderNames.CONTENT_ENCODING, encoding)
+		        .setInt(HttpHeaderNames.CONTENT_LENGTH, compressed.readableBytes());
+		return response;
+	}
+
+	/**
+	 * Returns whether the response may be stored: not when {@code Cache-Control} forbids it with {@code no-store}
+	 * or {@code private}, and not when the representation varies on request headers other than
+	 * {@code Accept-Encoding}, which are not part of the key.
+	 */
+	static boolean storable(HttpHeaders headers) {
+		String cacheControl = headers.get(HttpHeaderNames.CACHE_CONTROL);
+		if (cacheControl != null) {
+			for (String directive : cacheControl.split(",")) {
+				int equals = directive.indexOf('=');
+				String name = (equals < 0 ? directive : directive.substring(0, equals)).trim();
+				if (HttpHeaderValues.NO_STORE.contentEqualsIgnoreCase(name) ||
+						HttpHeaderValues.PRIVATE.contentEqualsIgnoreCase(name)) {
+					return false;
+				}
+			}
+		}
+		for (String vary : headers.getAll(HttpHeaderNames.VARY)) {
+			for (String name : vary.split(",")) {
+				String trimmed = name.trim();
+				if (!trimmed.isEmpty() && !HttpHeaderNames.ACCEPT_ENCODING.contentEqualsIgnoreCase(trimmed)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	int load() {
+		CompressionLoad compressionLoad = this.compressionLoad;
+		ChannelHandlerContext ctx = this.ctx;
+		return compressionLoad == null || ctx == null ? CompressionLoad.NORMAL : compressionLoad.load(ctx.executor());
 	}
 
 	void decode(ChannelHandlerContext ctx, HttpRequest msg) {
@@ -110,4 +367,62 @@ final class SimpleCompressionHandler extends HttpContentCompressor {
 			out.clear();
 		}
 	}
+
+	static ByteBuf encode(EmbeddedChannel encoder, ByteBuf content) {
+		ByteBuf compressed = Unpooled.directBuffer(content.readableBytes());
+		try {
+			encoder.writeOutbound(content.retainedDuplicate());
+			encoder.finish();
+			for (;;) {
+				ByteBuf buf = encoder.readOutbound();
+				if (buf == null) {
+					break;
+				}
+				compressed.writeBytes(buf);
+				buf.release();
+			}
+		}
+		catch (Throwable t) {
+			compressed.release();
+			throw t;
+		}
+		finally {
+			encoder.finishAndReleaseAll();
+		}
+		return compressed.asReadOnly();
+	}
+
+	static String withoutBrotli(String acceptEncoding) {
+		StringBuilder result = new StringBuilder(acceptEncoding.length());
+		for (String value : acceptEncoding.split(",")) {
+			String coding = value.trim();
+			int semicolon = coding.indexOf(';');
+			String name = semicolon < 0 ? coding : coding.substring(0, semicolon).trim();
+			if (!"br".equalsIgnoreCase(name)) {
+				if (result.length() > 0) {
+					result.append(',');
+				}
+				result.append(coding);
+			}
+		}
+		return result.toString();
+	}
+
+	static String sha256(ByteBuf content) throws NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update(content.nioBuffer());
+		return ByteBufUtil.hexDump(digest.digest());
+	}
+
+	static final class CacheRequest {
+		final HttpMethod method;
+		final String uri;
+		final @Nullable String acceptEncoding;
+
+		CacheRequest(HttpMethod method, String uri, @Nullable String acceptEncoding) {
+			this.method = method;
+			this.uri = uri;
+			this.acceptEncoding = acceptEncoding;
+		}
+	}
 }
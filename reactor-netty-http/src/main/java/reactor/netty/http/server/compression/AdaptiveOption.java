@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server.compression;
+
+import io.netty.util.internal.ObjectUtil;
+import reactor.netty.http.internal.CompressionLoad;
+
+/**
+ * Load-adaptive compression option configuration.
+ * When configured, the compression level is selected per response depending on the load of the event loop,
+ * which is measured as the share of the time spent compressing and the number of pending tasks:
+ * <ul>
+ * <li>idle - gzip, deflate and zstd compress with the idle compression level</li>
+ * <li>normal - the configured compression options are used</li>
+ * <li>busy - gzip, deflate and zstd compress with the busy compression level, brotli is avoided when the client
+ * accepts another encoding, the responses smaller than the busy minimum response size are not compressed</li>
+ * <li>overloaded - the responses are not compressed</li>
+ * </ul>
+ * A higher load is applied immediately, a lower load only when the signals drop below half of the thresholds.
+ *
+ * @since 1.3.3
+ */
+public final class AdaptiveOption implements HttpCompressionOption {
+
+	private final double busyUtilization;
+	private final double overloadedUtilization;
+	private final int maxPendingTasks;
+	private final int busyMinResponseSize;
+	private final int idleCompressionLevel;
+	private final int busyCompressionLevel;
+	private final int zstdIdleCompressionLevel;
+	private final int zstdBusyCompressionLevel;
+
+	private AdaptiveOption(Build build) {
+		this.busyUtilization = build.busyUtilization;
+		this.overloadedUtilization = build.overloadedUtilization;
+		this.maxPendingTasks = build.maxPendingTasks;
+		this.busyMinResponseSize = build.busyMinResponseSize;
+		this.idleCompressionLevel = build.idleCompressionLevel;
+		this.busyCompressionLevel = build.busyCompressionLevel;
+		this.zstdIdleCompressionLevel = build.zstdIdleCompressionLevel;
+		this.zstdBusyCompressionLevel = build.zstdBusyCompressionLevel;
+	}
+
+	CompressionLoad adapt() {
+		return new CompressionLoad(busyUtilization, overloadedUtilization, maxPendingTasks, busyMinResponseSize,
+				idleCompressionLevel, busyCompressionLevel, zstdIdleCompressionLevel, zstdBusyCompressionLevel);
+	}
+
+	/**
+	 * Creates a builder for {@link AdaptiveOption}.
+	 *
+	 * @return a new {@link AdaptiveOption.Builder}
+	 */
+	public static Builder builder() {
+		return new AdaptiveOption.Build();
+	}
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link AdaptiveOption}.
+		 *
+		 * @return a new {@link AdaptiveOption}
+		 */
+		AdaptiveOption build();
+
+		/**
+		 * Sets the gzip and deflate compression level when the event loop is busy. (default: 1)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder busyCompressionLevel(int busyCompressionLevel);
+
+		/**
+		 * Sets the minimum size in bytes of a response that is compressed when the event loop is busy.
+		 * The responses with unknown size are always compressed. (default: 1024)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder busyMinResponseSize(int busyMinResponseSize);
+
+		/**
+		 * Sets the share of the event loop time spent compressing above which the event loop is busy.
+		 * Below a fifth of this share, the event loop is idle. (default: 0.25)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder busyUtilization(double busyUtilization);
+
+		/**
+		 * Sets the gzip and deflate compression level when the event loop is idle. (default: 9)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder idleCompressionLevel(int idleCompressionLevel);
+
+		/**
+		 * Sets the number of pending tasks on the event loop above which the event loop is overloaded. (default: 1024)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder maxPendingTasks(int maxPendingTasks);
+
+		/**
+		 * Sets the share of the event loop time spent compressing above which the event loop is overloaded.
+		 * (default: 0.5)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder overloadedUtilization(double overloadedUtilization);
+
+		/**
+		 * Sets the zstd compression level when the event loop is busy. (default: 1)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder zstdBusyCompressionLevel(int zstdBusyCompressionLevel);
+
+		/**
+		 * Sets the zstd compression level when the event loop is idle. (default: 9)
+		 *
+		 * @return a new {@link AdaptiveOption.Builder}
+		 */
+		Builder zstdIdleCompressionLevel(int zstdIdleCompressionLevel);
+	}
+
+	private static final class Build implements Builder {
+
+		private int busyCompressionLevel = 1;
+		private int busyMinResponseSize = 1024;
+		private double busyUtilization = 0.25;
+		private int idleCompressionLevel = 9;
+		private int maxPendingTasks = 1024;
+		private double overloadedUtilization = 0.5;
+		private int zstdBusyCompressionLevel = 1;
+		private int zstdIdleCompressionLevel = 9;
+
+		@Override
+		public AdaptiveOption build() {
+			if (busyUtilization >= overloadedUtilization) {
+				throw new IllegalArgumentException("busyUtilization must be less than overloadedUtilization");
+			}
+			return new AdaptiveOption(this);
+		}
+
+		@Override
+		public Builder busyCompressionLevel(int busyCompressionLevel) {
+			ObjectUtil.checkInRange(busyCompressionLevel, 0, 9, "busyCompressionLevel");
+			this.busyCompressionLevel = busyCompressionLevel;
+			return this;
+		}
+
+		@Override
+		public Builder busyMinResponseSize(int busyMinResponseSize) {
+			ObjectUtil.checkPositiveOrZero(busyMinResponseSize, "busyMinResponseSize");
+			this.busyMinResponseSize = busyMinResponseSize;
+			return this;
+		}
+
+		@Override
+		public Builder busyUtilization(double busyUtilization) {
+			if (busyUtilization <= 0 || busyUtilization > 1) {
+				throw new IllegalArgumentException("busyUtilization: " + busyUtilization + " (expected: 0 < busyUtilization <= 1)");
+			}
+			this.busyUtilization = busyUtilization;
+			return this;
+		}
+
+		@Override
+		public Builder idleCompressionLevel(int idleCompressionLevel) {
+			ObjectUtil.checkInRange(idleCompressionLevel, 0, 9, "idleCompressionLevel");
+			this.idleCompressionLevel = idleCompressionLevel;
+			return this;
+		}
+
+		@Override
+		public Builder maxPendingTasks(int maxPendingTasks) {
+			ObjectUtil.checkPositive(maxPendingTasks, "maxPendingTasks");
+			this.maxPendingTasks = maxPendingTasks;
+			return this;
+		}
+
+		@Override
+		public Builder overloadedUtilization(double overloadedUtilization) {
+			if (overloadedUtilization <= 0 || overloadedUtilization > 1) {
+				throw new IllegalArgumentException("overloadedUtilization: " + overloadedUtilization + " (expected: 0 < overloadedUtilization <= 1)");
+			}
+			this.overloadedUtilization = overloadedUtilization;
+			return this;
+		}
+
+		@Override
+		public Builder zstdBusyCompressionLevel(int zstdBusyCompressionLevel) {
+			ObjectUtil.checkInRange(zstdBusyCompressionLevel, -(1 << 17), 22, "zstdBusyCompressionLevel");
+			this.zstdBusyCompressionLevel = zstdBusyCompressionLevel;
+			return this;
+		}
+
+		@Override
+		public Builder zstdIdleCompressionLevel(int zstdIdleCompressionLevel) {
+			ObjectUtil.checkInRange(zstdIdleCompressionLevel, -(1 << 17), 22, "zstdIdleCompressionLevel");
+			this.zstdIdleCompressionLevel = zstdIdleCompressionLevel;
+			return this;
+		}
+	}
+}
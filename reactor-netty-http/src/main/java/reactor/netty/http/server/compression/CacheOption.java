@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server.compression;
+
+import io.netty.util.internal.ObjectUtil;
+import reactor.netty.http.internal.CompressedContentCache;
+
+/**
+ * Compressed response cache option configuration.
+ * When configured, the compressed bodies of the full {@code 200 OK} responses to {@code GET} requests are stored
+ * in a size-bounded in-memory store, keyed by the request URI and the {@code ETag} response header
+ * (or optionally by the hash of the content) and the content encoding.
+ * The store is consulted before the response is compressed, so that an identical response is compressed only once.
+ * The responses with {@code Cache-Control: no-store} or {@code Cache-Control: private}, and the responses that vary
+ * on request headers other than {@code Accept-Encoding}, are not stored.
+ *
+ * @since 1.3.3
+ */
+public final class CacheOption implements HttpCompressionOption {
+
+	/**
+	 * Default maximum size in bytes of all stored compressed bodies - 16MB.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * Default maximum size in bytes of a response body, before compression, that can be stored - 1MB.
+	 */
+	public static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
+
+	private final long maxSize;
+	private final int maxEntrySize;
+	private final boolean contentHash;
+
+	private CacheOption(Build build) {
+		this.maxSize = build.maxSize;
+		this.maxEntrySize = build.maxEntrySize;
+		this.contentHash = build.contentHash;
+	}
+
+	CompressedContentCache adapt() {
+		return new CompressedContentCache(maxSize, maxEntrySize, contentHash);
+	}
+
+	/**
+	 * Creates a builder for {@link CacheOption}.
+	 *
+	 * @return a new {@link CacheOption.Builder}
+	 */
+	public static Builder builder() {
+		return new CacheOption.Build();
+	}
+
+	public interface Builder {
+
+		/**
+		 * Build a new {@link CacheOption}.
+		 *
+		 * @return a new {@link CacheOption}
+		 */
+		CacheOption build();
+
+		/**
+		 * Sets whether the responses without {@code ETag} response header are stored by the SHA-256 hash of their content.
+		 * Default to {@code false}, only the responses with {@code ETag} response header are stored.
+		 *
+		 * @return a new {@link CacheOption.Builder}
+		 */
+		Builder contentHash(boolean contentHash);
+
+		/**
+		 * Sets the maximum size in bytes of a response body, before compression, that can be stored.
+		 * Default to {@link #DEFAULT_MAX_ENTRY_SIZE}.
+		 *
+		 * @return a new {@link CacheOption.Builder}
+		 */
+		Builder maxEntrySize(int maxEntrySize);
+
+		/**
+		 * Sets the maximum size in bytes of all stored compressed bodies.
+		 * When the limit is reached, the least recently used compressed bodies are evicted.
+		 * Default to {@link #DEFAULT_MAX_SIZE}.
+		 *
+		 * @return a new {@link CacheOption.Builder}
+		 */
+		Builder maxSize(long maxSize);
+	}
+
+	private static final class Build implements Builder {
+
+		private boolean contentHash;
+		private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+		private long maxSize = DEFAULT_MAX_SIZE;
+
+		@Override
+		public CacheOption build() {
+			return new CacheOption(this);
+		}
+
+		@Override
+		public Builder contentHash(boolean contentHash) {
+			this.contentHash = contentHash;
+			return this;
+		}
+
+		@Override
+		public Builder maxEntrySize(int maxEntrySize) {
+			ObjectUtil.checkPositive(maxEntrySize, "maxEntrySize");
+			this.maxEntrySize = maxEntrySize;
+			return this;
+		}
+
+		@Override
+		public Builder maxSize(long maxSize) {
+			ObjectUtil.checkPositive(maxSize, "maxSize");
+			this.maxSize = maxSize;
+			return this;
+		}
+	}
+}
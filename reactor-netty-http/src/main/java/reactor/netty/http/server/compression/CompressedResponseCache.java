@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server.compression;
+
+/**
+ * A read-only view of the compressed response cache configured with {@link CacheOption}.
+ * The cache is shared by all connections of the server.
+ *
+ * @since 1.3.3
+ */
+public interface CompressedResponseCache {
+
+	/**
+	 * Returns whether the responses without {@code ETag} response header are stored by the hash of their content.
+	 *
+	 * @return {@code true} if the responses without {@code ETag} response header are stored by the hash of their content
+	 */
+	boolean contentHash();
+
+	/**
+	 * Returns the maximum size in bytes of a response body, before compression, that can be stored.
+	 *
+	 * @return the maximum size in bytes of a response body that can be stored
+	 */
+	int maxEntrySize();
+
+	/**
+	 * Returns the maximum size in bytes of all stored compressed bodies.
+	 *
+	 * @return the maximum size in bytes of all stored compressed bodies
+	 */
+	long maxSize();
+
+	/**
+	 * Returns the size in bytes of all stored compressed bodies.
+	 *
+	 * @return the size in bytes of all stored compressed bodies
+	 */
+	long size();
+}
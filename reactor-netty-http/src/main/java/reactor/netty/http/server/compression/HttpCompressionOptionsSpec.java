@@ -19,6 +19,8 @@ import io.netty.handler.codec.compression.Brotli;
 import io.netty.handler.codec.compression.CompressionOptions;
 import io.netty.handler.codec.compression.Zstd;
 import org.jspecify.annotations.Nullable;
+import reactor.netty.http.internal.CompressedContentCache;
+import reactor.netty.http.internal.CompressionLoad;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,6 +35,8 @@ import java.util.List;
 public final class HttpCompressionOptionsSpec {
 
 	private @Nullable BrotliOption brotli;
+	private @Nullable CompressedContentCache cache;
+	private @Nullable CompressionLoad compressionLoad;
 	private DeflateOption deflate;
 	private GzipOption gzip;
 	private SnappyOption snappy;
@@ -73,6 +77,12 @@ public final class HttpCompressionOptionsSpec {
 		else if (Zstd.isAvailable() && option instanceof ZstdOption) {
 			this.zstd = (ZstdOption) option;
 		}
+		else if (option instanceof CacheOption) {
+			this.cache = ((CacheOption) option).adapt();
+		}
+		else if (option instanceof AdaptiveOption) {
+			this.compressionLoad = ((AdaptiveOption) option).adapt();
+		}
 	}
 
 	public CompressionOptions[] adapt() {
@@ -88,4 +98,25 @@ public final class HttpCompressionOptionsSpec {
 
 		return options.toArray(new CompressionOptions[0]);
 	}
+
+	/**
+	 * Returns a read-only view of the compressed response cache, shared by all connections,
+	 * or {@code null} when not configured.
+	 *
+	 * @return a read-only view of the compressed response cache or {@code null}
+	 * @since 1.3.3
+	 */
+	public @Nullable CompressedResponseCache cache() {
+		return cache;
+	}
+
+	/**
+	 * Returns the load-adaptive compression state, shared by all connections, or {@code null} when not configured.
+	 *
+	 * @return the load-adaptive compression state or {@code null}
+	 * @since 1.3.3
+	 */
+	public @Nullable CompressionLoad compressionLoad() {
+		return compressionLoad;
+	}
 }
@@ -20,9 +20,11 @@ import io.netty.handler.codec.http.cookie.Cookie;
 import org.jspecify.annotations.Nullable;
 import reactor.netty.ReactorNetty;
 import reactor.netty.http.server.ConnectionInformation;
+import reactor.netty.http.server.HttpServerInfos;
 import reactor.netty.internal.util.MapUtils;
 
 import java.net.SocketAddress;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -32,6 +34,9 @@ import java.util.function.Supplier;
 
 /**
  * A provider of the args required for access log.
+ * <p>
+ * Only the request start time is captured eagerly, the remaining fields (date-time, cookies)
+ * are materialized on first access, so that an {@link AccessLogFactory} pays only for what it reads.
  *
  * @author limaoning
  */
@@ -79,11 +84,20 @@ abstract class AbstractAccessLogArgProvider<SELF extends AbstractAccessLogArgPro
 	@Override
 	@Deprecated
 	public @Nullable String zonedDateTime() {
+		if (zonedDateTime == null) {
+			ZonedDateTime dateTime = accessDateTime();
+			if (dateTime != null) {
+				zonedDateTime = dateTime.format(DATE_TIME_FORMATTER);
+			}
+		}
 		return zonedDateTime;
 	}
 
 	@Override
 	public @Nullable ZonedDateTime accessDateTime() {
+		if (accessDateTime == null && startTime != 0) {
+			accessDateTime = ZonedDateTime.ofInstant(Instant.ofEpochMilli(startTime), ReactorNetty.ZONE_ID_SYSTEM);
+		}
 		return accessDateTime;
 	}
 
@@ -130,16 +144,18 @@ abstract class AbstractAccessLogArgProvider<SELF extends AbstractAccessLogArgPro
 
 	@Override
 	public @Nullable Map<CharSequence, Set<Cookie>> cookies() {
+		if (cookies == null && connectionInfo instanceof HttpServerInfos) {
+			cookies = ((HttpServerInfos) connectionInfo).cookies();
+		}
 		return cookies;
 	}
 
 	/**
-	 * Initialize some fields (e.g. ZonedDateTime startTime).
+	 * Initialize the request start time.
 	 * Should be called when a new request is received.
+	 * The {@link ZonedDateTime} is derived lazily from the start time when requested.
 	 */
 	void onRequest() {
-		this.accessDateTime = ZonedDateTime.now(ReactorNetty.ZONE_ID_SYSTEM);
-		this.zonedDateTime = accessDateTime.format(DATE_TIME_FORMATTER);
 		this.startTime = System.currentTimeMillis();
 	}
 
@@ -86,12 +86,10 @@ final class AccessLogArgProviderH1 extends AbstractAccessLogArgProvider<AccessLo
 	void onRequest() {
 		if (request != null) {
 			this.accessDateTime = request.timestamp();
-			this.zonedDateTime = accessDateTime.format(DATE_TIME_FORMATTER);
 			this.startTime = accessDateTime.toInstant().toEpochMilli();
 			super.method = request.method().name();
 			super.uri = request.uri();
 			super.protocol = request.protocol();
-			super.cookies = request.cookies();
 			super.connectionInfo = request;
 		}
 	}
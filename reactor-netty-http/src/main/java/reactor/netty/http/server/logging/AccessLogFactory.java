@@ -72,4 +72,20 @@ public interface AccessLogFactory extends Function<AccessLogArgProvider, @Nullab
 		return input -> predicate.test(input) ? formatFunction.apply(input) : null;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Helper method to create an access log factory that uses the default format, but renders it directly
+	 * into a single {@link String} instead of passing an arguments array to the logger.
+	 * The status, the content length and the duration are appended without boxing and when the
+	 * access log is disabled at INFO level, no {@link AccessLog} is created at all.
+	 * <p>
+	 * Can be combined with {@link #createFilter(Predicate, AccessLogFactory)}.
+	 *
+	 * @return an {@link AccessLogFactory} to be used in
+	 * {@link reactor.netty.http.server.HttpServer#accessLog(boolean, AccessLogFactory)}
+	 * @since 1.3.3
+	 */
+	static AccessLogFactory createCommonLogFormat() {
+		return CommonLogFormatAccessLog.FACTORY;
+	}
+
+}
@@ -53,7 +53,7 @@ class BaseAccessLogHandler extends ChannelDuplexHandler {
 	}
 
 	static <T extends AbstractAccessLogArgProvider<T>> void applyServerInfos(AbstractAccessLogArgProvider<T> accessLogArgs, HttpServerInfos serverInfos) {
-		accessLogArgs.cookies(serverInfos.cookies());
+		// The cookies are resolved lazily from the connection information when requested
 		accessLogArgs.connectionInformation(serverInfos);
 	}
 
@@ -352,6 +352,32 @@ class Http2SettingsSpecTests {
 				.isThrownBy(() -> builder.pingAckTimeout(null));
 	}
 
+	@Test
+	void writeScheduling() {
+		builder.writeScheduling(Http2SettingsSpec.WriteScheduling.UNIFORM, 4096);
+		Http2SettingsSpec spec = builder.build();
+		assertThat(spec.connectProtocolEnabled()).isNull();
+		assertThat(spec.headerTableSize()).isNull();
+		assertThat(spec.initialWindowSize()).isNull();
+		assertThat(spec.maxConcurrentStreams()).isNull();
+		assertThat(spec.maxFrameSize()).isNull();
+		assertThat(spec.maxHeaderListSize()).isEqualTo(Http2CodecUtil.DEFAULT_HEADER_LIST_SIZE);
+		assertThat(spec.maxStreams()).isNull();
+		assertThat(spec.pushEnabled()).isNull();
+		assertThat(spec.writeScheduling()).isEqualTo(Http2SettingsSpec.WriteScheduling.UNIFORM);
+		assertThat(spec.writeSchedulingAllocationQuantum()).isEqualTo(4096);
+	}
+
+	@Test
+	void writeSchedulingBadValues() {
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.writeScheduling(null, 1024));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.writeScheduling(Http2SettingsSpec.WriteScheduling.WEIGHTED_FAIR_QUEUEING, 0))
+				.withMessageContaining("allocationQuantum must be positive");
+	}
+
 	/*
 	@Test
 	public void pushEnabled() {
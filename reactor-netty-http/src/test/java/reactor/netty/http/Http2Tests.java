@@ -27,6 +27,7 @@ import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import reactor.core.Disposable;
@@ -46,6 +47,7 @@ import reactor.netty.tcp.SslProvider;
 import reactor.netty.tcp.SslProvider.ProtocolSslContextSpec;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
 
 import java.lang.reflect.Field;
 import java.nio.charset.Charset;
@@ -144,6 +146,71 @@ class Http2Tests extends BaseHttpTest {
 		        .block(Duration.ofSeconds(30));
 	}
 
+	@Test
+	void testHttp2StreamHandler() {
+		disposableServer =
+				createServer()
+				          .protocol(HttpProtocol.H2C)
+				          .handleHttp2Streams(stream -> {
+				              stream.responseHeaders().set("x-path", stream.requestHeaders().path());
+				              stream.trailerHeaders(t -> t.set("x-trailer", "done"));
+				              return stream.send(stream.receive().retain());
+				          })
+				          .bindNow();
+
+		Tuple3<String, String, String> response =
+				createClient(disposableServer.port())
+				          .protocol(HttpProtocol.H2C)
+				          .post()
+				          .uri("/echo")
+				          .send(ByteBufFlux.fromString(Mono.just("testHttp2StreamHandler")))
+				          .responseSingle((res, bytes) ->
+				              Mono.zip(bytes.asString(),
+				                       Mono.just(res.responseHeaders().get("x-path")),
+				                       res.trailerHeaders().map(h -> h.get("x-trailer"))))
+				          .block(Duration.ofSeconds(30));
+
+		assertThat(response).isNotNull();
+		assertThat(response.getT1()).isEqualTo("testHttp2StreamHandler");
+		assertThat(response.getT2()).isEqualTo("/echo");
+		assertThat(response.getT3()).isEqualTo("done");
+	}
+
+	@ParameterizedTest
+	@EnumSource(Http2SettingsSpec.WriteScheduling.class)
+	void testHttp2WriteScheduling(Http2SettingsSpec.WriteScheduling writeScheduling) {
+		disposableServer =
+				createServer()
+				          .protocol(HttpProtocol.H2C)
+				          .http2Settings(spec -> spec.writeScheduling(writeScheduling, 512))
+				          .route(routes ->
+				              routes.get("/{weight}", (request, response) -> {
+				                  String weight = request.param("weight");
+				                  return response.http2StreamWeight(Integer.parseInt(weight == null ? "16" : weight))
+				                                 .sendString(Flux.range(0, 100).map(i -> weight + ":" + i + ";"));
+				              }))
+				          .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				          .protocol(HttpProtocol.H2C)
+				          .http2Settings(spec -> spec.writeScheduling(writeScheduling, 512));
+
+		List<String> responses =
+				Flux.just("1", "256")
+				    .flatMap(weight ->
+				        client.get()
+				              .uri("/" + weight)
+				              .responseContent()
+				              .aggregate()
+				              .asString())
+				    .collectList()
+				    .block(Duration.ofSeconds(30));
+
+		assertThat(responses).isNotNull().hasSize(2);
+		assertThat(responses).allSatisfy(content -> assertThat(content.split(";")).hasSize(100));
+	}
+
 	@Test
 	void testIssue1071MaxContentLengthSpecified() {
 		doTestIssue1071(1024, "doTestIssue1071", 200);
@@ -16,6 +16,8 @@
 package reactor.netty.http;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -56,11 +58,14 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 import reactor.netty.BaseHttpTest;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.ByteBufMono;
 import reactor.netty.DisposableServer;
 import reactor.netty.SocketUtils;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.http.server.compression.CacheOption;
 import reactor.netty.http.server.compression.GzipOption;
 import reactor.netty.http.server.compression.ZstdOption;
 import reactor.test.StepVerifier;
@@ -427,6 +432,63 @@ class HttpCompressionClientServerTests extends BaseHttpTest {
 		assertThat(deflated).isEqualTo("reply");
 	}
 
+	@ParameterizedCompressionTest
+	void clientRequestCompression(HttpServer server, HttpClient client) {
+		disposableServer =
+				server.handle((in, out) ->
+				          out.sendString(in.receive()
+				                           .aggregate()
+				                           .asByteArray()
+				                           .map(bytes -> in.requestHeaders().get(HttpHeaderNames.CONTENT_ENCODING) + ":" + gunzip(bytes))))
+				      .bindNow(Duration.ofSeconds(10));
+
+		HttpClient compressingClient =
+				client.port(disposableServer.port())
+				      .compress(spec -> spec.requestCompression("gzip").requestCompressionMinSize(4));
+
+		compressingClient.post()
+		                 .uri("/test")
+		                 .send(ByteBufMono.fromString(Mono.just("request")))
+		                 .responseSingle((res, buf) -> buf.asString())
+		                 .as(StepVerifier::create)
+		                 .expectNext("gzip:request")
+		                 .expectComplete()
+		                 .verify(Duration.ofSeconds(10));
+
+		compressingClient.post()
+		                 .uri("/test")
+		                 .send(ByteBufFlux.fromString(Flux.just("re", "qu", "est")))
+		                 .responseSingle((res, buf) -> buf.asString())
+		                 .as(StepVerifier::create)
+		                 .expectNext("gzip:request")
+		                 .expectComplete()
+		                 .verify(Duration.ofSeconds(10));
+
+		compressingClient.post()
+		                 .uri("/test")
+		                 .send(ByteBufMono.fromString(Mono.just("req")))
+		                 .responseSingle((res, buf) -> buf.asString())
+		                 .as(StepVerifier::create)
+		                 .expectNext("null:req")
+		                 .expectComplete()
+		                 .verify(Duration.ofSeconds(10));
+	}
+
+	static String gunzip(byte[] bytes) {
+		try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buf = new byte[1024];
+			int read;
+			while ((read = gis.read(buf)) != -1) {
+				out.write(buf, 0, read);
+			}
+			return new String(out.toByteArray(), Charset.defaultCharset());
+		}
+		catch (IOException e) {
+			return new String(bytes, Charset.defaultCharset());
+		}
+	}
+
 	@ParameterizedCompressionTest
 	void compressionServerEnabledClientDisabledIsNone(HttpServer server, HttpClient client) {
 		String serverReply = "reply";
@@ -805,6 +867,41 @@ class HttpCompressionClientServerTests extends BaseHttpTest {
 		assertThat(deflated).isEqualTo("reply");
 	}
 
+	@ParameterizedCompressionTest
+	void serverCompressionCache(HttpServer server, HttpClient client) throws Exception {
+		AtomicReference<String> version = new AtomicReference<>("1");
+		disposableServer =
+				server.compress(true)
+				      .compressOptions(CacheOption.builder().build())
+				      .handle((in, out) -> out.header(HttpHeaderNames.ETAG, "\"" + version.get() + "\"")
+				                              .sendString(Mono.just("reply" + version.get())))
+				      .bindNow(Duration.ofSeconds(10));
+
+		HttpClient localClient =
+				client.port(disposableServer.port())
+				      .headers(h -> h.add("accept-encoding", "gzip"));
+
+		for (String expected : Arrays.asList("reply1", "reply1", "reply2", "reply2")) {
+			version.set(expected.substring(5));
+			Tuple2<byte[], HttpHeaders> resp =
+					localClient.get()
+					           .uri("/test")
+					           .responseSingle((res, buf) -> buf.asByteArray().zipWith(Mono.just(res.responseHeaders())))
+					           .block(Duration.ofSeconds(10));
+
+			assertThat(resp).isNotNull();
+			assertThat(resp.getT2().get("content-encoding")).isEqualTo("gzip");
+			assertThat(resp.getT2().getInt("content-length")).isEqualTo(resp.getT1().length);
+
+			GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(resp.getT1()));
+			byte[] deflatedBuf = new byte[1024];
+			int readable = gis.read(deflatedBuf);
+			gis.close();
+
+			assertThat(new String(deflatedBuf, 0, readable, Charset.defaultCharset())).isEqualTo(expected);
+		}
+	}
+
 	@ParameterizedCompressionTest
 	void serverCompressionEnabledWithZstdCompressionLevel(HttpServer server, HttpClient client) {
 		assertThat(Zstd.isAvailable()).isTrue();
@@ -37,6 +37,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2DataFrame;
@@ -47,7 +48,6 @@ import io.netty.handler.codec.http2.Http2SettingsFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.pkitesting.CertificateBuilder;
 import io.netty.pkitesting.X509Bundle;
 import io.netty.util.concurrent.DefaultPromise;
@@ -75,6 +75,7 @@ import reactor.netty.http.client.HttpClientConfig;
 import reactor.netty.http.client.HttpClientRequest;
 import reactor.netty.http.client.HttpClientResponse;
 import reactor.netty.http.client.PrematureCloseException;
+import reactor.netty.http.internal.TimeoutWheel;
 import reactor.netty.http.server.ConnectionInformation;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.http.server.HttpServerConfig;
@@ -89,6 +90,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.reflect.Field;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.nio.charset.Charset;
@@ -107,7 +109,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
 import static io.netty.buffer.Unpooled.EMPTY_BUFFER;
 import static io.netty.handler.codec.http.HttpMethod.GET;
@@ -499,18 +500,19 @@ class HttpProtocolsTests extends BaseHttpTest {
 		AtomicBoolean onResponse = new AtomicBoolean();
 		AtomicBoolean onDisconnected = new AtomicBoolean();
 		AtomicLong timeout = new AtomicLong();
-		Predicate<Connection> handlerAvailable =
-				conn -> conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler) != null;
+		AtomicReference<HttpClientResponse> ops = new AtomicReference<>();
 		HttpClient localClient =
-				client.doOnRequest((req, conn) -> onRequest.set(handlerAvailable.test(conn)))
-				      .doOnResponse((req, conn) -> {
-				          if (handlerAvailable.test(conn)) {
-				              ChannelHandler handler = conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler);
+				client.doOnRequest((req, conn) -> onRequest.set(readTimeout(req, "responseTimeoutHandle") != null))
+				      .doOnResponse((res, conn) -> {
+				          ops.set(res);
+				          TimeoutWheel.ReadTimeout handle = readTimeout(res, "responseTimeoutHandle");
+				          if (handle != null) {
 				              onResponse.set(true);
-				              timeout.set(((ReadTimeoutHandler) handler).getReaderIdleTimeInMillis());
+				              timeout.set(handle.timeoutMillis());
 				          }
 				      })
-				      .doOnDisconnected(conn -> onDisconnected.set(conn.channel().isActive() && handlerAvailable.test(conn)));
+				      .doOnDisconnected(conn -> onDisconnected.set(conn.channel().isActive() &&
+				              readTimeout(ops.get(), "responseTimeoutHandle") != null));
 
 		Mono<String> response =
 				localClient.get()
@@ -945,15 +947,15 @@ class HttpProtocolsTests extends BaseHttpTest {
 				          res.withConnection(conn -> {
 				                  if (!((serverProtocols.length == 2 && serverProtocols[1] == HttpProtocol.H2C) &&
 				                          (clientProtocols.length == 2 && clientProtocols[1] == HttpProtocol.H2C))) {
-				                      ChannelHandler handler = conn.channel().pipeline().get(NettyPipeline.ReadTimeoutHandler);
-				                      if (handler != null) {
+				                      TimeoutWheel.ReadTimeout handle = readTimeout(conn, "readTimeoutHandle");
+				                      if (handle != null) {
 				                          handlerAvailable.get().add(true);
-				                          timeout.get().add(((ReadTimeoutHandler) handler).getReaderIdleTimeInMillis());
+				                          timeout.get().add(handle.timeoutMillis());
 				                      }
 				                  }
 				                  conn.onTerminate().subscribe(null, null, () -> {
 				                      onTerminate.get().add(conn.channel().isActive() &&
-				                              conn.channel().pipeline().get(NettyPipeline.ReadTimeoutHandler) != null);
+				                              readTimeout(conn, "readTimeoutHandle") != null);
 				                      latch.countDown();
 				                  });
 				             })
@@ -1447,6 +1449,26 @@ class HttpProtocolsTests extends BaseHttpTest {
 		}
 	}
 
+	static TimeoutWheel.@Nullable ReadTimeout readTimeout(@Nullable Object obj, String name) {
+		if (obj == null) {
+			return null;
+		}
+		try {
+			for (Class<?> clazz = obj.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+				for (Field field : clazz.getDeclaredFields()) {
+					if (field.getName().equals(name)) {
+						field.setAccessible(true);
+						return (TimeoutWheel.ReadTimeout) field.get(obj);
+					}
+				}
+			}
+			throw new IllegalStateException("No field " + name + " in " + obj.getClass());
+		}
+		catch (IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	static final class IdleTimeoutTestChannelInboundHandler extends ChannelInboundHandlerAdapter {
 
 		final CountDownLatch latch = new CountDownLatch(1);
@@ -1508,10 +1530,11 @@ class HttpProtocolsTests extends BaseHttpTest {
 			ctx.fireChannelRead(msg);
 
 			if (msg instanceof HttpRequest) {
-				ChannelHandler handler = ctx.channel().pipeline().get(NettyPipeline.ReadTimeoutHandler);
-				if (handler != null) {
+				TimeoutWheel.ReadTimeout handle =
+						readTimeout(ctx.channel().pipeline().get(HttpServerUpgradeHandler.class), "readTimeoutHandle");
+				if (handle != null) {
 					handlerAvailable.get().add(true);
-					timeout.get().add(((ReadTimeoutHandler) handler).getReaderIdleTimeInMillis());
+					timeout.get().add(handle.timeoutMillis());
 				}
 			}
 		}
@@ -1519,7 +1542,7 @@ class HttpProtocolsTests extends BaseHttpTest {
 		@Override
 		public void channelInactive(ChannelHandlerContext ctx) {
 			onTerminate.get().add(ctx.channel().isActive() &&
-					ctx.channel().pipeline().get(NettyPipeline.ReadTimeoutHandler) != null);
+					readTimeout(ctx.channel().pipeline().get(HttpServerUpgradeHandler.class), "readTimeoutHandle") != null);
 			latch.countDown();
 
 			ctx.fireChannelInactive();
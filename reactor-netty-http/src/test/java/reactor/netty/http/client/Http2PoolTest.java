@@ -1357,6 +1357,14 @@ class Http2PoolTest {
 			assertThat(recorder.pendingErrorLatency)
 					.as("pending error latency")
 					.isGreaterThanOrEqualTo(1L);
+
+			assertThat(recorder.allocationSuccessCounter)
+					.as("allocation success")
+					.isEqualTo(1);
+
+			assertThat(recorder.allocationErrorCounter)
+					.as("allocation errors")
+					.isEqualTo(0);
 		}
 		finally {
 			channel.finishAndReleaseAll();
@@ -1396,6 +1404,8 @@ class Http2PoolTest {
 
 	static final class TestPoolMetricsRecorder implements PoolMetricsRecorder {
 
+		int allocationSuccessCounter;
+		int allocationErrorCounter;
 		int pendingSuccessCounter;
 		int pendingErrorCounter;
 		long pendingSuccessLatency;
@@ -1403,12 +1413,12 @@ class Http2PoolTest {
 
 		@Override
 		public void recordAllocationSuccessAndLatency(long latencyMs) {
-			//noop
+			this.allocationSuccessCounter++;
 		}
 
 		@Override
 		public void recordAllocationFailureAndLatency(long latencyMs) {
-			//noop
+			this.allocationErrorCounter++;
 		}
 
 		@Override
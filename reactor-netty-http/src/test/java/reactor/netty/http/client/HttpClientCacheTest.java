@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * This test class verifies {@link HttpClient} response cache.
+ */
+class HttpClientCacheTest extends BaseHttpTest {
+
+	@Test
+	void freshResponseIsServedFromCache() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				                                 .sendString(Mono.just("test-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).cache(HttpClientCacheSpec.builder().build());
+
+		assertThat(get(client)).isEqualTo("test-1");
+		assertThat(get(client)).isEqualTo("test-1");
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void noCacheResponseIsRevalidated() {
+		AtomicInteger counter = new AtomicInteger();
+		AtomicInteger notModified = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            counter.incrementAndGet();
+				            if ("\"v1\"".equals(req.requestHeaders().get(HttpHeaderNames.IF_NONE_MATCH))) {
+				                notModified.incrementAndGet();
+				                return res.status(HttpResponseStatus.NOT_MODIFIED).send();
+				            }
+				            return res.header(HttpHeaderNames.CACHE_CONTROL, "no-cache")
+				                      .header(HttpHeaderNames.ETAG, "\"v1\"")
+				                      .sendString(Mono.just("test"));
+				        })
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).cache(HttpClientCacheSpec.builder().build());
+
+		assertThat(get(client)).isEqualTo("test");
+		assertThat(get(client)).isEqualTo("test");
+		assertThat(counter.get()).isEqualTo(2);
+		assertThat(notModified.get()).isEqualTo(1);
+	}
+
+	@Test
+	void staleResponseIsServedWhileRevalidated() throws Exception {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=0, stale-while-revalidate=60")
+				                                 .sendString(Mono.just("test-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).cache(HttpClientCacheSpec.builder().build());
+
+		assertThat(get(client)).isEqualTo("test-1");
+		assertThat(get(client)).isEqualTo("test-1");
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+		String result;
+		do {
+			Thread.sleep(50);
+			result = get(client);
+		}
+		while (!"test-2".equals(result) && System.nanoTime() < deadline);
+		assertThat(result).isEqualTo("test-2");
+	}
+
+	@Test
+	void noStoreResponseIsNotStored() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.header(HttpHeaderNames.CACHE_CONTROL, "no-store, max-age=60")
+				                                 .sendString(Mono.just("test-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).cache(HttpClientCacheSpec.builder().build());
+
+		assertThat(get(client)).isEqualTo("test-1");
+		assertThat(get(client)).isEqualTo("test-2");
+	}
+
+	@Test
+	void cacheMissIsHedged() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            int i = counter.incrementAndGet();
+				            Duration delay = i == 1 ? Duration.ofSeconds(3) : Duration.ofMillis(10);
+				            return res.header(HttpHeaderNames.CACHE_CONTROL, "max-age=60")
+				                      .sendString(Mono.delay(delay).map(l -> "attempt-" + i));
+				        })
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .cache(HttpClientCacheSpec.builder().build())
+				        .hedge(spec -> spec.delay(Duration.ofMillis(100)).budgetPercent(100));
+
+		long start = System.nanoTime();
+		assertThat(get(client)).isEqualTo("attempt-2");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+
+		// The winning response is stored
+		assertThat(get(client)).isEqualTo("attempt-2");
+		assertThat(counter.get()).isEqualTo(2);
+	}
+
+	@Test
+	void cacheSpecValidation() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientCacheSpec.builder().maxSize(0));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientCacheSpec.builder().maxSize(10).maxEntrySize(20).build());
+	}
+
+	private static String get(HttpClient client) {
+		return client.get()
+		             .uri("/")
+		             .responseSingle((res, bytes) -> bytes.asString())
+		             .block(Duration.ofSeconds(5));
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This test class verifies {@link HttpClient} request coalescing.
+ */
+class HttpClientCoalescingTest extends BaseHttpTest {
+
+	@Test
+	void concurrentIdenticalRequestsShareOneExchange() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.delay(Duration.ofMillis(500))
+				                                                 .map(l -> "test-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).coalesceRequests(true);
+
+		List<String> responses =
+				Flux.range(0, 10)
+				    .flatMap(i -> client.get()
+				                        .uri("/")
+				                        .responseSingle((res, bytes) -> bytes.asString()))
+				    .collectList()
+				    .block(Duration.ofSeconds(5));
+
+		assertThat(responses).hasSize(10).containsOnly("test-1");
+		assertThat(counter.get()).isEqualTo(1);
+
+		String next = client.get()
+		                    .uri("/")
+		                    .responseSingle((res, bytes) -> bytes.asString())
+		                    .block(Duration.ofSeconds(5));
+		assertThat(next).isEqualTo("test-2");
+	}
+
+	@Test
+	void requestsWithDifferentKeyHeadersAreNotCoalesced() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.delay(Duration.ofMillis(500))
+				                                                 .map(l -> req.requestHeaders().get("X-Tenant") + "-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).coalesceRequests(true, "X-Tenant");
+
+		List<String> responses =
+				Flux.range(0, 4)
+				    .flatMap(i -> client.headers(h -> h.set("X-Tenant", "t" + (i % 2)))
+				                        .get()
+				                        .uri("/")
+				                        .responseSingle((res, bytes) -> bytes.asString()))
+				    .collectList()
+				    .block(Duration.ofSeconds(5));
+
+		assertThat(responses).hasSize(4);
+		assertThat(counter.get()).isEqualTo(2);
+	}
+
+	@Test
+	void requestsWithDifferentCredentialsAreNotCoalesced() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.delay(Duration.ofMillis(500))
+				                                                 .map(l -> req.requestHeaders().get(HttpHeaderNames.AUTHORIZATION) + "-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).coalesceRequests(true);
+		HttpClient alice = client.headers(h -> h.set(HttpHeaderNames.AUTHORIZATION, "Bearer alice"));
+		HttpClient bob = client.headers(h -> h.set(HttpHeaderNames.AUTHORIZATION, "Bearer bob"));
+
+		List<String> responses =
+				Flux.just(alice, bob)
+				    .flatMap(c -> c.get()
+				                   .uri("/")
+				                   .responseSingle((res, bytes) -> bytes.asString()))
+				    .collectList()
+				    .block(Duration.ofSeconds(5));
+
+		assertThat(responses).hasSize(2);
+		assertThat(responses).anyMatch(s -> s.startsWith("Bearer alice-"));
+		assertThat(responses).anyMatch(s -> s.startsWith("Bearer bob-"));
+		assertThat(counter.get()).isEqualTo(2);
+	}
+
+	@Test
+	void requestsWithDoOnRequestAreNotCoalesced() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.delay(Duration.ofMillis(500))
+				                                                 .map(l -> "test-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .coalesceRequests(true)
+				        .doOnRequest((req, conn) -> req.header(HttpHeaderNames.AUTHORIZATION, "Bearer token"));
+
+		List<String> responses =
+				Flux.range(0, 2)
+				    .flatMap(i -> client.get()
+				                        .uri("/")
+				                        .responseSingle((res, bytes) -> bytes.asString()))
+				    .collectList()
+				    .block(Duration.ofSeconds(5));
+
+		assertThat(responses).hasSize(2);
+		assertThat(counter.get()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * This test class verifies {@link HttpClientCompressionSpec}.
+ */
+class HttpClientCompressionSpecTest {
+
+	@Test
+	void defaults() {
+		HttpClientCompressionSpec spec = HttpClientCompressionSpec.builder().build();
+
+		assertThat(spec.maxDecompressedSize()).isEqualTo(HttpClientCompressionSpec.DEFAULT_MAX_DECOMPRESSED_SIZE);
+		assertThat(spec.requestCompression()).isNull();
+		assertThat(spec.requestCompressionLevel()).isEqualTo(HttpClientCompressionSpec.DEFAULT_REQUEST_COMPRESSION_LEVEL);
+		assertThat(spec.requestCompressionMinSize()).isEqualTo(HttpClientCompressionSpec.DEFAULT_REQUEST_COMPRESSION_MIN_SIZE);
+		assertThat(spec.snappy()).isFalse();
+		assertThat(spec.zstd()).isTrue();
+	}
+
+	@Test
+	void maxDecompressedSizeBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientCompressionSpec.builder().maxDecompressedSize(-1))
+				.withMessage("maxDecompressedSize must be positive or zero");
+	}
+
+	@Test
+	void requestCompression() {
+		HttpClientCompressionSpec spec =
+				HttpClientCompressionSpec.builder()
+				                         .requestCompression("GZIP")
+				                         .requestCompressionLevel(9)
+				                         .requestCompressionMinSize(1024)
+				                         .build();
+
+		assertThat(spec.requestCompression()).isEqualTo("gzip");
+		assertThat(spec.requestCompressionLevel()).isEqualTo(9);
+		assertThat(spec.requestCompressionMinSize()).isEqualTo(1024);
+	}
+
+	@Test
+	void requestCompressionBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientCompressionSpec.builder().requestCompression("compress").build())
+				.withMessage("requestCompression must be one of gzip, deflate or zstd");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientCompressionSpec.builder().requestCompression("deflate").requestCompressionLevel(10).build())
+				.withMessage("requestCompressionLevel must be between 0 and 9 for deflate");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientCompressionSpec.builder().requestCompressionMinSize(-1))
+				.withMessage("requestCompressionMinSize must be positive or zero");
+	}
+
+	@Test
+	void compressAdvertisesEnabledEncodings() {
+		HttpClientConfig config =
+				HttpClient.create()
+				          .compress(spec -> spec.snappy(true).zstd(false).maxDecompressedSize(1024))
+				          .configuration();
+
+		assertThat(config.isAcceptGzip()).isTrue();
+		assertThat(config.compressionSpec()).isNotNull();
+		assertThat(config.compressionSpec().maxDecompressedSize()).isEqualTo(1024);
+		assertThat(config.headers.getAll(HttpHeaderNames.ACCEPT_ENCODING))
+				.contains(HttpHeaderValues.GZIP.toString(), HttpHeaderValues.SNAPPY.toString())
+				.doesNotContain(HttpHeaderValues.ZSTD.toString());
+
+		HttpClientConfig disabled = HttpClient.create()
+		                                      .compress(spec -> spec.maxDecompressedSize(1024))
+		                                      .compress(false)
+		                                      .configuration();
+
+		assertThat(disabled.compressionSpec()).isNull();
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.luben.zstd.Zstd;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * This test class verifies {@link HttpClientDecompressor}.
+ */
+class HttpClientDecompressorTest extends BaseHttpTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {"gzip", "zstd"})
+	void decompressedSizeLimitAbortsResponse(String encoding) throws IOException {
+		// 64KB of zeros compress to a few hundred bytes
+		byte[] compressed = compress(encoding, new byte[64 * 1024]);
+		assertThat(compressed.length).isLessThan(1024);
+
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.header(HttpHeaderNames.CONTENT_ENCODING, encoding)
+				                                 .send(Mono.fromSupplier(() -> Unpooled.wrappedBuffer(compressed))))
+				        .bindNow();
+
+		TrackingAllocator allocator = new TrackingAllocator();
+		createClient(disposableServer.port())
+		        .option(ChannelOption.ALLOCATOR, allocator)
+		        .compress(spec -> spec.maxDecompressedSize(1024))
+		        .get()
+		        .uri("/")
+		        .responseContent()
+		        .aggregate()
+		        .asString()
+		        .as(StepVerifier::create)
+		        .expectErrorSatisfies(t -> assertThat(t).isInstanceOf(DecompressionException.class)
+		                                                .hasMessage("Decompressed response body exceeds 1024 bytes"))
+		        .verify(Duration.ofSeconds(5));
+
+		// Neither the compressed nor the decompressed buffers are leaked
+		await().atMost(Duration.ofSeconds(5))
+		       .untilAsserted(() -> assertThat(allocator.buffers).isNotEmpty().allMatch(buf -> buf.refCnt() == 0));
+	}
+
+	static byte[] compress(String encoding, byte[] content) throws IOException {
+		if ("zstd".equals(encoding)) {
+			return Zstd.compress(content);
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(content);
+		}
+		return out.toByteArray();
+	}
+
+	static final class TrackingAllocator extends UnpooledByteBufAllocator {
+
+		final Queue<ByteBuf> buffers = new ConcurrentLinkedQueue<>();
+
+		TrackingAllocator() {
+			super(true);
+		}
+
+		@Override
+		protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+			ByteBuf buf = super.newDirectBuffer(initialCapacity, maxCapacity);
+			buffers.add(buf);
+			return buf;
+		}
+
+		@Override
+		protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+			ByteBuf buf = super.newHeapBuffer(initialCapacity, maxCapacity);
+			buffers.add(buf);
+			return buf;
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.Connection;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * This test class verifies {@link HttpClient} hedged requests.
+ */
+class HttpClientHedgingTest extends BaseHttpTest {
+
+	@Test
+	void hedgedRequestWinsWhenFirstAttemptIsSlow() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            int i = counter.incrementAndGet();
+				            Duration delay = i == 1 ? Duration.ofSeconds(3) : Duration.ofMillis(10);
+				            return res.sendString(Mono.delay(delay).map(l -> "attempt-" + i));
+				        })
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .hedge(spec -> spec.delay(Duration.ofMillis(100)).budgetPercent(100));
+
+		long start = System.nanoTime();
+		String response = client.get()
+		                        .uri("/")
+		                        .responseSingle((res, bytes) -> bytes.asString())
+		                        .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("attempt-2");
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void hedgedRequestWinsWhenFirstAttemptFails() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            int i = counter.incrementAndGet();
+				            if (i == 1) {
+				                // The first attempt fails after the hedged request is sent and before it responds
+				                return Mono.delay(Duration.ofMillis(200))
+				                           .doOnNext(l -> res.withConnection(Connection::dispose))
+				                           .then();
+				            }
+				            return res.sendString(Mono.delay(Duration.ofMillis(400)).map(l -> "attempt-" + i));
+				        })
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .disableRetry(true)
+				        .hedge(spec -> spec.delay(Duration.ofMillis(100)).budgetPercent(100));
+
+		String response = client.get()
+		                        .uri("/")
+		                        .responseSingle((res, bytes) -> bytes.asString())
+		                        .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("attempt-2");
+		assertThat(counter.get()).isEqualTo(2);
+	}
+
+	@Test
+	void requestFailsWhenBothAttemptsFail() {
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> Mono.delay(Duration.ofMillis(200))
+				                                  .doOnNext(l -> res.withConnection(Connection::dispose))
+				                                  .then())
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .disableRetry(true)
+				        .hedge(spec -> spec.delay(Duration.ofMillis(100)).budgetPercent(100));
+
+		client.get()
+		      .uri("/")
+		      .responseSingle((res, bytes) -> bytes.asString())
+		      .as(StepVerifier::create)
+		      .expectError(PrematureCloseException.class)
+		      .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void hedgedRequestIsNotSentWhenBudgetIsExhausted() {
+		AtomicInteger counter = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.delay(Duration.ofMillis(300))
+				                                                 .map(l -> "attempt-" + counter.incrementAndGet())))
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .hedge(spec -> spec.delay(Duration.ofMillis(50)).budgetPercent(1));
+
+		String response = client.get()
+		                        .uri("/")
+		                        .responseSingle((res, bytes) -> bytes.asString())
+		                        .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("attempt-1");
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void hedgingSpecValidation() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientHedgingSpec.builder().budgetPercent(0));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientHedgingSpec.builder().percentile(1));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClientHedgingSpec.builder().delay(Duration.ZERO));
+	}
+}
@@ -64,7 +64,6 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerAdapter;
 import io.netty.channel.ChannelId;
 import io.netty.channel.EventLoopGroup;
@@ -93,7 +92,6 @@ import io.netty.handler.logging.LogLevel;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.pkitesting.CertificateBuilder;
 import io.netty.pkitesting.X509Bundle;
 import io.netty.resolver.AddressResolverGroup;
@@ -125,13 +123,13 @@ import reactor.netty.ConnectionObserver;
 import reactor.netty.DisposableServer;
 import reactor.netty.FutureMono;
 import reactor.netty.LogTracker;
-import reactor.netty.NettyPipeline;
 import reactor.netty.SocketUtils;
 import reactor.netty.channel.ChannelOperations;
 import reactor.netty.http.Http11SslContextSpec;
 import reactor.netty.http.Http2SslContextSpec;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.HttpResources;
+import reactor.netty.http.internal.TimeoutWheel;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.resources.ConnectionPoolMetrics;
 import reactor.netty.resources.ConnectionProvider;
@@ -2916,23 +2914,24 @@ class HttpClientTest extends BaseHttpTest {
 		AtomicBoolean onResponse = new AtomicBoolean();
 		AtomicBoolean onDisconnected = new AtomicBoolean();
 		AtomicLong timeout = new AtomicLong();
+		AtomicReference<HttpClientOperations> ops = new AtomicReference<>();
 		String response =
 				createHttpClientForContextWithAddress()
 				        .doOnRequest((req, conn) -> {
 				            if (onHttpRequestLevel) {
 				                req.responseTimeout(Duration.ofMillis(200));
 				            }
-				            onRequest.set(conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler) != null);
+				            onRequest.set(((HttpClientOperations) req).responseTimeoutHandle != null);
 				        })
-				        .doOnResponse((req, conn) -> {
-				            ChannelHandler handler = conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler);
-				            if (handler != null) {
+				        .doOnResponse((res, conn) -> {
+				            ops.set((HttpClientOperations) res);
+				            TimeoutWheel.ReadTimeout handle = ((HttpClientOperations) res).responseTimeoutHandle;
+				            if (handle != null) {
 				                onResponse.set(true);
-				                timeout.set(((ReadTimeoutHandler) handler).getReaderIdleTimeInMillis());
+				                timeout.set(handle.timeoutMillis());
 				            }
 				        })
-				        .doOnDisconnected(conn ->
-				            onDisconnected.set(conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler) != null))
+				        .doOnDisconnected(conn -> onDisconnected.set(responseTimeoutArmed(ops)))
 				        .responseTimeout(Duration.ofMillis(100))
 				        .post()
 				        .uri("/")
@@ -2948,6 +2947,11 @@ class HttpClientTest extends BaseHttpTest {
 		assertThat(timeout.get()).isEqualTo(expectedTimeout);
 	}
 
+	static boolean responseTimeoutArmed(AtomicReference<HttpClientOperations> ops) {
+		HttpClientOperations operations = ops.get();
+		return operations != null && operations.responseTimeoutHandle != null;
+	}
+
 	@Test
 	void testLoopAndResolver() {
 		LoopResources loop = LoopResources.create("testLoopAndResolver");
@@ -3382,14 +3386,16 @@ class HttpClientTest extends BaseHttpTest {
 		AtomicBoolean onRequest = new AtomicBoolean();
 		AtomicBoolean onResponse = new AtomicBoolean();
 		AtomicBoolean onDisconnected = new AtomicBoolean();
+		AtomicReference<HttpClientOperations> ops = new AtomicReference<>();
 		HttpClient client =
 				createHttpClientForContextWithAddress()
 				        .doOnRequest((req, conn) ->
-				            onRequest.set(conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler) != null))
-				        .doOnResponse((req, conn) ->
-				            onResponse.set(conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler) != null))
-				        .doOnDisconnected(conn ->
-				            onDisconnected.set(conn.channel().pipeline().get(NettyPipeline.ResponseTimeoutHandler) != null))
+				            onRequest.set(((HttpClientOperations) req).responseTimeoutHandle != null))
+				        .doOnResponse((res, conn) -> {
+				            ops.set((HttpClientOperations) res);
+				            onResponse.set(((HttpClientOperations) res).responseTimeoutHandle != null);
+				        })
+				        .doOnDisconnected(conn -> onDisconnected.set(responseTimeoutArmed(ops)))
 						.responseTimeout(Duration.ofMillis(100));
 
 		doTestIssue1697(client, true, onRequest, onResponse, onDisconnected);
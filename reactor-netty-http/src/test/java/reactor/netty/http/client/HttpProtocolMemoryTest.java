@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.net.InetSocketAddress;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This test class verifies {@link HttpProtocolMemory}.
+ */
+class HttpProtocolMemoryTest {
+
+	static final String ORIGIN = "example.com:443";
+
+	@Test
+	void originFromAddress() {
+		assertThat(HttpProtocolMemory.origin(InetSocketAddress.createUnresolved("Example.com", 443))).isEqualTo(ORIGIN);
+		assertThat(HttpProtocolMemory.origin(null)).isNull();
+	}
+
+	@Test
+	void http11IsRememberedUntilExpiry() {
+		HttpProtocolMemory memory = new HttpProtocolMemory();
+		assertThat(memory.isHttp11(ORIGIN, 0)).isFalse();
+
+		memory.http11(ORIGIN, 0);
+		assertThat(memory.isHttp11(ORIGIN, 1)).isTrue();
+		assertThat(memory.isHttp11(ORIGIN, HttpProtocolMemory.HTTP11_TTL)).isFalse();
+
+		memory.http11(ORIGIN, 0);
+		memory.forgetHttp11(ORIGIN);
+		assertThat(memory.isHttp11(ORIGIN, 1)).isFalse();
+	}
+
+	@Test
+	void altSvcIsProbedBeforeUse() {
+		HttpProtocolMemory memory = new HttpProtocolMemory();
+		memory.altSvc(ORIGIN, "h3-29=\":8443\", h3=\":8443\"; ma=60", 0);
+
+		assertThat(memory.http3Port(ORIGIN, 1)).isEqualTo(-1);
+		assertThat(memory.startHttp3Probe(ORIGIN, 1)).isEqualTo(8443);
+		assertThat(memory.startHttp3Probe(ORIGIN, 1)).isEqualTo(-1);
+
+		memory.http3Ready(ORIGIN);
+		assertThat(memory.http3Port(ORIGIN, 2)).isEqualTo(8443);
+		assertThat(memory.http3Port(ORIGIN, 60_000_000_000L)).isEqualTo(-1);
+	}
+
+	@Test
+	void altSvcOnDifferentHostIsIgnored() {
+		HttpProtocolMemory memory = new HttpProtocolMemory();
+		memory.altSvc(ORIGIN, "h3=\"other.com:443\"", 0);
+		assertThat(memory.startHttp3Probe(ORIGIN, 1)).isEqualTo(-1);
+
+		memory.altSvc(ORIGIN, "h3=\"example.com:443\"", 0);
+		assertThat(memory.startHttp3Probe(ORIGIN, 1)).isEqualTo(443);
+	}
+
+	@Test
+	void altSvcClear() {
+		HttpProtocolMemory memory = new HttpProtocolMemory();
+		memory.altSvc(ORIGIN, "h3=\":443\"", 0);
+		assertThat(memory.startHttp3Probe(ORIGIN, 1)).isEqualTo(443);
+		memory.http3Ready(ORIGIN);
+
+		memory.altSvc(ORIGIN, "clear", 2);
+		assertThat(memory.http3Port(ORIGIN, 3)).isEqualTo(-1);
+	}
+
+	@Test
+	void failedHttp3IsNotRetriedDuringBackoff() {
+		HttpProtocolMemory memory = new HttpProtocolMemory();
+		memory.altSvc(ORIGIN, "h3=\":443\"", 0);
+		memory.startHttp3Probe(ORIGIN, 0);
+		memory.http3Failed(ORIGIN, 0);
+
+		assertThat(memory.http3Port(ORIGIN, 1)).isEqualTo(-1);
+		assertThat(memory.startHttp3Probe(ORIGIN, 1)).isEqualTo(-1);
+		assertThat(memory.startHttp3Probe(ORIGIN, HttpProtocolMemory.HTTP3_BROKEN_BACKOFF)).isEqualTo(443);
+	}
+}
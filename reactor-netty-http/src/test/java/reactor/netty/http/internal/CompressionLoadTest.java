@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static reactor.netty.http.internal.CompressionLoad.BUSY;
+import static reactor.netty.http.internal.CompressionLoad.IDLE;
+import static reactor.netty.http.internal.CompressionLoad.MAX_DWELL_WINDOWS;
+import static reactor.netty.http.internal.CompressionLoad.MIN_DWELL_WINDOWS;
+import static reactor.netty.http.internal.CompressionLoad.NORMAL;
+import static reactor.netty.http.internal.CompressionLoad.OVERLOADED;
+
+/**
+ * This test class verifies {@link CompressionLoad}.
+ */
+class CompressionLoadTest {
+
+	final CompressionLoad compressionLoad = new CompressionLoad(0.25, 0.5, 100, 1024, 9, 1, 9, 1);
+
+	@Test
+	void classify() {
+		assertThat(compressionLoad.classify(0.01, 0, 1.0)).isEqualTo(IDLE);
+		assertThat(compressionLoad.classify(0.1, 0, 1.0)).isEqualTo(NORMAL);
+		assertThat(compressionLoad.classify(0.3, 0, 1.0)).isEqualTo(BUSY);
+		assertThat(compressionLoad.classify(0.6, 0, 1.0)).isEqualTo(OVERLOADED);
+		assertThat(compressionLoad.classify(0.01, 100, 1.0)).isEqualTo(OVERLOADED);
+	}
+
+	@Test
+	void loadWithHysteresis() {
+		assertThat(compressionLoad.load(ImmediateEventExecutor.INSTANCE)).isEqualTo(NORMAL);
+
+		// A higher load is applied immediately
+		assertThat(nextWindow(0.3)).isEqualTo(BUSY);
+		assertThat(nextWindow(0.6)).isEqualTo(OVERLOADED);
+
+		// A lower load is applied one step at a time when the signal is below half of the threshold,
+		// after the current load has been held for the dwell time
+		assertThat(nextWindows(0.2, MIN_DWELL_WINDOWS - 1)).isEqualTo(OVERLOADED);
+		assertThat(nextWindow(0.2)).isEqualTo(BUSY);
+		assertThat(nextWindows(0.2, MIN_DWELL_WINDOWS)).isEqualTo(BUSY);
+		assertThat(nextWindow(0.1)).isEqualTo(NORMAL);
+		assertThat(nextWindows(0.0, MIN_DWELL_WINDOWS)).isEqualTo(IDLE);
+
+		// A lower load that does not hold doubles the dwell time
+		assertThat(nextWindow(0.06)).isEqualTo(NORMAL);
+		assertThat(compressionLoad.states.get().dwellWindows).isEqualTo(2 * MIN_DWELL_WINDOWS);
+	}
+
+	@Test
+	void loadIsStableUnderSustainedLoad() {
+		// Compressing with the configured level or with the busy level costs more than the overloaded utilization,
+		// no compression costs nothing
+		int load = nextWindow(0.9);
+		assertThat(load).isEqualTo(OVERLOADED);
+
+		int transitions = 0;
+		int overloaded = 0;
+		int windows = 10 * MAX_DWELL_WINDOWS;
+		for (int i = 0; i < windows; i++) {
+			double utilization = load == OVERLOADED ? 0.0 : load == BUSY ? 0.6 : 0.9;
+			int next = nextWindow(utilization);
+			if (next != load) {
+				transitions++;
+			}
+			if (next == OVERLOADED) {
+				overloaded++;
+			}
+			load = next;
+		}
+
+		assertThat(transitions).isLessThan(windows / 100);
+		assertThat(overloaded).isGreaterThan(windows * 99 / 100);
+		assertThat(compressionLoad.states.get().dwellWindows).isEqualTo(MAX_DWELL_WINDOWS);
+	}
+
+	@Test
+	void compressionLevels() {
+		assertThat(compressionLoad.compressionLevel(IDLE)).isEqualTo(9);
+		assertThat(compressionLoad.compressionLevel(BUSY)).isEqualTo(1);
+		assertThat(compressionLoad.zstdCompressionLevel(IDLE)).isEqualTo(9);
+		assertThat(compressionLoad.zstdCompressionLevel(BUSY)).isEqualTo(1);
+	}
+
+	int nextWindows(double utilization, int windows) {
+		int load = -1;
+		for (int i = 0; i < windows; i++) {
+			load = nextWindow(utilization);
+		}
+		return load;
+	}
+
+	int nextWindow(double utilization) {
+		CompressionLoad.State state = compressionLoad.states.get();
+		long now = state.windowStart + CompressionLoad.WINDOW_NANOS;
+		state.compressionNanos = (long) (utilization * CompressionLoad.WINDOW_NANOS);
+		return compressionLoad.load(ImmediateEventExecutor.INSTANCE, now);
+	}
+}
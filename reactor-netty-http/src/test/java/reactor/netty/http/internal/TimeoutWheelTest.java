@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * This test class verifies {@link TimeoutWheel}.
+ */
+class TimeoutWheelTest {
+
+	EventLoop eventLoop;
+
+	@BeforeEach
+	void setUp() {
+		eventLoop = new DefaultEventLoop();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+	}
+
+	@Test
+	void timeoutExpires() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		eventLoop.execute(() -> {
+			TimeoutWheel.schedule(eventLoop, latch::countDown, 20, TimeUnit.MILLISECONDS);
+			// Further than one rotation of the wheel
+			TimeoutWheel.schedule(eventLoop, latch::countDown, TimeoutWheel.TICK_MILLIS * TimeoutWheel.WHEEL_SIZE + 20, TimeUnit.MILLISECONDS);
+		});
+
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void cancelledTimeoutDoesNotExpire() throws Exception {
+		AtomicBoolean cancelledInvoked = new AtomicBoolean();
+		CountDownLatch latch = new CountDownLatch(1);
+		eventLoop.execute(() -> {
+			TimeoutWheel.Timeout timeout = TimeoutWheel.schedule(eventLoop, () -> cancelledInvoked.set(true), 20, TimeUnit.MILLISECONDS);
+			TimeoutWheel.schedule(eventLoop, latch::countDown, 50, TimeUnit.MILLISECONDS);
+			timeout.cancel();
+		});
+
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(cancelledInvoked.get()).isFalse();
+	}
+
+	@Test
+	void scheduleOutsideEventLoop() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		TimeoutWheel.Timeout timeout = TimeoutWheel.schedule(eventLoop, latch::countDown, 10, TimeUnit.MILLISECONDS);
+
+		assertThat(timeout).isInstanceOf(TimeoutWheel.ScheduledTimeout.class);
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void readTimeoutIsResetByReads() throws Exception {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		TimeoutWheel.ReadTimeout readTimeout = new TimeoutWheel.ReadTimeout(channel, 200, TimeUnit.MILLISECONDS);
+		readTimeout.start();
+
+		for (int i = 0; i < 8; i++) {
+			Thread.sleep(50);
+			readTimeout.touch();
+			channel.runScheduledPendingTasks();
+		}
+		assertThat(channel.isActive()).isTrue();
+
+		// No more reads, the read timeout expires
+		await().atMost(Duration.ofSeconds(5))
+		       .until(() -> {
+		           channel.runScheduledPendingTasks();
+		           return !channel.isActive();
+		       });
+		assertThatExceptionOfType(ReadTimeoutException.class).isThrownBy(channel::checkException);
+	}
+
+	@Test
+	void stoppedReadTimeoutDoesNotExpire() throws Exception {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		TimeoutWheel.ReadTimeout readTimeout = new TimeoutWheel.ReadTimeout(channel, 20, TimeUnit.MILLISECONDS);
+		readTimeout.start();
+		readTimeout.stop();
+
+		Thread.sleep(100);
+		channel.runScheduledPendingTasks();
+
+		assertThat(channel.isActive()).isTrue();
+		channel.checkException();
+		assertThat(channel.finishAndReleaseAll()).isFalse();
+	}
+}
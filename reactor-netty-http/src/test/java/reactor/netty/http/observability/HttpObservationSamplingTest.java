@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import io.micrometer.tracing.propagation.Propagator;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+import static reactor.netty.Metrics.OBSERVATION_KEY;
+
+/**
+ * This test class verifies {@link HttpObservationSampling}.
+ */
+class HttpObservationSamplingTest extends BaseHttpTest {
+
+	static final String TRACE_HEADER = "X-Test-Trace";
+
+	final AtomicInteger observations = new AtomicInteger();
+
+	MeterRegistry meterRegistry;
+	ObservationRegistry previousObservationRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		Metrics.addRegistry(meterRegistry);
+
+		ObservationRegistry observationRegistry = ObservationRegistry.create();
+		observationRegistry.observationConfig().observationHandler(new CountingObservationHandler(observations));
+		previousObservationRegistry = reactor.netty.Metrics.observationRegistry(observationRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		reactor.netty.Metrics.observationRegistry(previousObservationRegistry);
+		HttpObservationSampling.serverSampler(null);
+		HttpObservationSampling.clientSampler(null);
+		HttpObservationSampling.clientPropagation(null);
+
+		Metrics.removeRegistry(meterRegistry);
+		meterRegistry.clear();
+		meterRegistry.close();
+	}
+
+	@Test
+	void rateBounds() {
+		Predicate<Object> never = HttpObservationSampling.rate(0.0d);
+		Predicate<Object> always = HttpObservationSampling.rate(1.0d);
+		for (int i = 0; i < 100; i++) {
+			assertThat(never.test(i)).isFalse();
+			assertThat(always.test(i)).isTrue();
+		}
+	}
+
+	@Test
+	void rateSamplesApproximately() {
+		Predicate<Object> half = HttpObservationSampling.rate(0.5d);
+		int sampled = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (half.test(i)) {
+				sampled++;
+			}
+		}
+		assertThat(sampled).isBetween(4_000, 6_000);
+	}
+
+	@Test
+	void rateBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpObservationSampling.rate(-0.1d));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpObservationSampling.rate(1.1d));
+	}
+
+	@Test
+	void serverSamplerReturnsPrevious() {
+		Predicate<HttpServerRequest> sampler = req -> true;
+		try {
+			assertThat(HttpObservationSampling.serverSampler(sampler)).isNull();
+			assertThat(HttpObservationSampling.serverSampler()).isSameAs(sampler);
+		}
+		finally {
+			assertThat(HttpObservationSampling.serverSampler(null)).isSameAs(sampler);
+		}
+	}
+
+	@Test
+	void unsampledServerRequestRecordsMetersWithoutObservation() {
+		HttpObservationSampling.serverSampler(req -> false);
+
+		disposableServer =
+				createServer()
+				        .metrics(true, Function.identity())
+				        .handle((req, res) -> res.sendString(Mono.just("test")))
+				        .bindNow();
+
+		String response =
+				createClient(disposableServer.port())
+				        .get()
+				        .uri("/")
+				        .responseSingle((res, bytes) -> bytes.asString())
+				        .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("test");
+		await().atMost(Duration.ofSeconds(5))
+		       .untilAsserted(() -> assertThat(count("reactor.netty.http.server.response.time")).isEqualTo(1));
+		assertThat(observations.get()).isZero();
+	}
+
+	@Test
+	void unsampledClientRequestRecordsMetersWithoutObservation() {
+		HttpObservationSampling.clientSampler(req -> false);
+
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.just("test")))
+				        .bindNow();
+
+		String response =
+				createClient(disposableServer.port())
+				        .metrics(true, Function.identity())
+				        .get()
+				        .uri("/")
+				        .responseSingle((res, bytes) -> bytes.asString())
+				        .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("test");
+		await().atMost(Duration.ofSeconds(5))
+		       .untilAsserted(() -> assertThat(count("reactor.netty.http.client.response.time")).isEqualTo(1));
+		assertThat(observations.get()).isZero();
+	}
+
+	@Test
+	void unsampledClientRequestPropagatesTraceContext() {
+		SimpleTracer tracer = new SimpleTracer();
+		ObservationRegistry tracingRegistry = ObservationRegistry.create();
+		tracingRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+
+		HttpObservationSampling.clientSampler(req -> false);
+		HttpObservationSampling.clientPropagation(ReactorNettyTracePropagation.propagationOnly(tracer, new TestPropagator()));
+
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.just(String.valueOf(req.requestHeaders().get(TRACE_HEADER)))))
+				        .bindNow();
+
+		Observation parent = Observation.start("parent", tracingRegistry);
+		try {
+			String response =
+					createClient(disposableServer.port())
+					        .metrics(true, Function.identity())
+					        .get()
+					        .uri("/")
+					        .responseSingle((res, bytes) -> bytes.asString())
+					        .contextWrite(Context.of(OBSERVATION_KEY, parent))
+					        .block(Duration.ofSeconds(5));
+
+			TracingObservationHandler.TracingContext tracingContext =
+					parent.getContextView().get(TracingObservationHandler.TracingContext.class);
+			assertThat(tracingContext).isNotNull();
+			assertThat(response).isEqualTo(TestPropagator.value(tracingContext.getSpan().context()));
+			assertThat(observations.get()).isZero();
+		}
+		finally {
+			parent.stop();
+		}
+	}
+
+	long count(String name) {
+		return meterRegistry.find(name)
+		                    .timers()
+		                    .stream()
+		                    .mapToLong(Timer::count)
+		                    .sum();
+	}
+
+	static final class CountingObservationHandler implements ObservationHandler<Observation.Context> {
+
+		final AtomicInteger started;
+
+		CountingObservationHandler(AtomicInteger started) {
+			this.started = started;
+		}
+
+		@Override
+		public void onStart(Observation.Context context) {
+			started.incrementAndGet();
+		}
+
+		@Override
+		public boolean supportsContext(Observation.Context context) {
+			return true;
+		}
+	}
+
+	static final class TestPropagator implements Propagator {
+
+		static String value(TraceContext context) {
+			return context.traceId() + "-" + context.spanId();
+		}
+
+		@Override
+		public List<String> fields() {
+			return Collections.singletonList(TRACE_HEADER);
+		}
+
+		@Override
+		public <C> void inject(TraceContext context, @Nullable C carrier, Setter<C> setter) {
+			setter.set(carrier, TRACE_HEADER, value(context));
+		}
+
+		@Override
+		public <C> Span.Builder extract(C carrier, Getter<C> getter) {
+			return Propagator.NOOP.extract(carrier, getter);
+		}
+	}
+}
@@ -55,6 +55,31 @@ class HttpRequestDecoderSpecTests {
 		checkDefaultAllowDuplicateContentLengths(conf);
 	}
 
+	@Test
+	void lazyHeaders() {
+		checkDefaultLazyHeaders(conf);
+
+		conf.lazyHeaders(true);
+
+		assertThat(conf.lazyHeaders()).as("lazy headers").isTrue();
+		assertThat(conf.build()).isEqualTo(conf)
+				.isNotEqualTo(new HttpRequestDecoderSpec());
+
+		checkDefaultMaxInitialLineLength(conf);
+		checkDefaultMaxHeaderSize(conf);
+		checkDefaultMaxChunkSize(conf);
+		checkDefaultValidateHeaders(conf);
+		checkDefaultInitialBufferSize(conf);
+		checkDefaultAllowDuplicateContentLengths(conf);
+		checkDefaultH2cMaxContentLength(conf);
+	}
+
+	private static void checkDefaultLazyHeaders(HttpRequestDecoderSpec conf) {
+		assertThat(conf.lazyHeaders()).as("default lazy headers")
+				.isEqualTo(HttpRequestDecoderSpec.DEFAULT_LAZY_HEADERS)
+				.isFalse();
+	}
+
 	private static void checkDefaultH2cMaxContentLength(HttpRequestDecoderSpec conf) {
 		assertThat(conf.h2cMaxContentLength()).as("default H2C max content length")
 				.isEqualTo(HttpRequestDecoderSpec.DEFAULT_H2C_MAX_CONTENT_LENGTH)
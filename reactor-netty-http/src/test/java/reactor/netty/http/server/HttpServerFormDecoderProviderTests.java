@@ -23,11 +23,15 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static reactor.netty.http.server.HttpServerFormDecoderProvider.Build.DEFAULT_CHARSET;
+import static reactor.netty.http.server.HttpServerFormDecoderProvider.Build.DEFAULT_FILE_WRITE_EXECUTOR;
 import static reactor.netty.http.server.HttpServerFormDecoderProvider.Build.DEFAULT_MAX_IN_MEMORY_SIZE;
+import static reactor.netty.http.server.HttpServerFormDecoderProvider.Build.DEFAULT_MAX_PENDING_FILE_WRITE_BYTES;
 import static reactor.netty.http.server.HttpServerFormDecoderProvider.Build.DEFAULT_MAX_SIZE;
 import static reactor.netty.http.server.HttpServerFormDecoderProvider.Build.DEFAULT_SCHEDULER;
 import static reactor.netty.http.server.HttpServerFormDecoderProvider.Build.DEFAULT_STREAMING;
@@ -47,6 +51,23 @@ class HttpServerFormDecoderProviderTests {
 		builder = new HttpServerFormDecoderProvider.Build();
 	}
 
+	@Test
+	void asyncFileWrites() {
+		assertThat(builder.asyncFileWrites).as("default async file writes").isFalse();
+
+		builder.asyncFileWrites(true);
+
+		assertThat(builder.asyncFileWrites).as("async file writes").isTrue();
+		assertThat(builder.build().asyncFileWrites()).as("async file writes").isTrue();
+		assertThat(builder.streaming(true).build().asyncFileWrites()).as("async file writes with streaming").isFalse();
+
+		checkDefaultBaseDirectory(builder);
+		checkDefaultCharset(builder);
+		checkDefaultMaxInMemorySize(builder);
+		checkDefaultMaxSize(builder);
+		checkDefaultScheduler(builder);
+	}
+
 	@Test
 	void baseDirectory() {
 		checkDefaultBaseDirectory(builder);
@@ -94,6 +115,63 @@ class HttpServerFormDecoderProviderTests {
 				.isThrownBy(() -> builder.charset(null));
 	}
 
+	@Test
+	void fileUploadPath() {
+		assertThat(builder.fileUploadPath).as("default file upload path").isNull();
+
+		Path path = Paths.get("/tmp/upload");
+		builder.fileUploadPath((name, filename) -> path);
+
+		assertThat(builder.fileUploadPath).as("file upload path").isNotNull();
+		assertThat(builder.fileUploadPath.apply("name", "filename")).as("file upload path").isSameAs(path);
+
+		checkDefaultBaseDirectory(builder);
+		checkDefaultCharset(builder);
+		checkDefaultMaxInMemorySize(builder);
+		checkDefaultMaxSize(builder);
+		checkDefaultScheduler(builder);
+		checkDefaultStreaming(builder);
+	}
+
+	@Test
+	@SuppressWarnings("NullAway")
+	void fileUploadPathBadValue() {
+		// Deliberately suppress "NullAway" for testing purposes
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.fileUploadPath(null));
+	}
+
+	@Test
+	void fileWriteExecutor() {
+		assertThat(builder.fileWriteExecutor).as("default file write executor").isSameAs(DEFAULT_FILE_WRITE_EXECUTOR);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			builder.fileWriteExecutor(executor);
+
+			assertThat(builder.fileWriteExecutor).as("file write executor").isSameAs(executor);
+			assertThat(builder.build().fileWriteExecutor()).as("file write executor").isSameAs(executor);
+
+			checkDefaultBaseDirectory(builder);
+			checkDefaultCharset(builder);
+			checkDefaultMaxInMemorySize(builder);
+			checkDefaultMaxSize(builder);
+			checkDefaultScheduler(builder);
+			checkDefaultStreaming(builder);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@SuppressWarnings("NullAway")
+	void fileWriteExecutorBadValue() {
+		// Deliberately suppress "NullAway" for testing purposes
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> builder.fileWriteExecutor(null));
+	}
+
 	@Test
 	void maxInMemorySize() {
 		checkDefaultMaxInMemorySize(builder);
@@ -116,6 +194,31 @@ class HttpServerFormDecoderProviderTests {
 				.withMessage("Maximum in-memory size must be greater or equal to -1");
 	}
 
+	@Test
+	void maxPendingFileWriteBytes() {
+		assertThat(builder.maxPendingFileWriteBytes).as("default max pending file write bytes")
+				.isEqualTo(DEFAULT_MAX_PENDING_FILE_WRITE_BYTES)
+				.isEqualTo(256 * 1024);
+
+		builder.maxPendingFileWriteBytes(1024);
+
+		assertThat(builder.maxPendingFileWriteBytes).as("max pending file write bytes").isEqualTo(1024);
+
+		checkDefaultBaseDirectory(builder);
+		checkDefaultCharset(builder);
+		checkDefaultMaxInMemorySize(builder);
+		checkDefaultMaxSize(builder);
+		checkDefaultScheduler(builder);
+		checkDefaultStreaming(builder);
+	}
+
+	@Test
+	void maxPendingFileWriteBytesBadValue() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> builder.maxPendingFileWriteBytes(0))
+				.withMessage("maxPendingFileWriteBytes must be positive");
+	}
+
 	@Test
 	void maxSize() {
 		checkDefaultMaxSize(builder);
@@ -22,6 +22,7 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.pkitesting.CertificateBuilder;
 import io.netty.pkitesting.X509Bundle;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import reactor.core.publisher.Flux;
@@ -48,8 +49,13 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -99,6 +105,53 @@ class HttpServerPostFormTests extends BaseHttpTest {
 				{h2Http1Server, h2Http1Client}};
 	}
 
+	@ParameterizedPostFormTest
+	void testMultipartAsyncFileWritesConfigOnRequest(HttpServer server, HttpClient client) throws Exception {
+		doTestPostForm(server, client, spec -> spec.maxInMemorySize(0).asyncFileWrites(true).maxPendingFileWriteBytes(1024),
+				false, true, false,
+				"[test1 AsyncFileUpload true] [attr1 MemoryAttribute true] [test2 AsyncFileUpload true] ");
+	}
+
+	@ParameterizedPostFormTest
+	void testMultipartAsyncFileWritesConfigOnServer(HttpServer server, HttpClient client) throws Exception {
+		doTestPostForm(server, client, spec -> spec.maxInMemorySize(0).asyncFileWrites(true).maxPendingFileWriteBytes(1024),
+				true, true, false,
+				"[test1 AsyncFileUpload true] [attr1 MemoryAttribute true] [test2 AsyncFileUpload true] ");
+	}
+
+	@ParameterizedPostFormTest
+	void testMultipartAsyncFileWritesCustomExecutor(HttpServer server, HttpClient client) throws Exception {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+		try {
+			doTestPostForm(server, client,
+					spec -> spec.maxInMemorySize(0).asyncFileWrites(true).fileWriteExecutor(executor),
+					false, true, false,
+					"[test1 AsyncFileUpload true] [attr1 MemoryAttribute true] [test2 AsyncFileUpload true] ");
+
+			// The files are created, opened and written on the configured executor
+			assertThat(executor.getCompletedTaskCount()).isGreaterThan(0);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@ParameterizedPostFormTest
+	void testMultipartFileUploadPath(HttpServer server, HttpClient client, @TempDir Path directory) throws Exception {
+		AtomicInteger counter = new AtomicInteger();
+		doTestPostForm(server, client,
+				spec -> spec.fileUploadPath((name, filename) -> directory.resolve(name + "-" + counter.incrementAndGet())),
+				false, true, false,
+				"[test1 AsyncFileUpload true] [attr1 MixedAttribute true] [test2 AsyncFileUpload true] ");
+
+		// The target files are kept when the file uploads are released
+		byte[] expected = Files.readAllBytes(Paths.get(getClass().getResource("/largeFile1.txt").toURI()));
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files).hasSize(4)
+			                 .allSatisfy(file -> assertThat(Files.readAllBytes(file)).isEqualTo(expected));
+		}
+	}
+
 	@ParameterizedPostFormTest
 	void testMultipartExceedsMaxSizeInMemoryConfigOnRequest(HttpServer server, HttpClient client) throws Exception {
 		doTestPostForm(server, client, spec -> spec.maxInMemorySize(-1).maxSize(8 * 1024), false, true, false,
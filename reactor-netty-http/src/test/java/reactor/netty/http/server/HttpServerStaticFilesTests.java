@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class HttpServerStaticFilesTests extends BaseHttpTest {
+
+	static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void conditionalRequests() throws IOException {
+		HttpClient client = createClient(spec -> {});
+
+		Tuple2<String, String> response =
+				client.get()
+				      .uri("/static/file.txt")
+				      .responseSingle((res, bytes) -> {
+				          assertThat(res.status().code()).isEqualTo(200);
+				          assertThat(res.responseHeaders().get(HttpHeaderNames.ACCEPT_RANGES)).isEqualTo("bytes");
+				          assertThat(res.responseHeaders().get(HttpHeaderNames.LAST_MODIFIED)).isNotNull();
+				          return bytes.asString().zipWith(Mono.just(res.responseHeaders().get(HttpHeaderNames.ETAG)));
+				      })
+				      .block(Duration.ofSeconds(5));
+
+		assertThat(response).isNotNull();
+		assertThat(response.getT1()).isEqualTo(CONTENT);
+		String etag = response.getT2();
+		assertThat(etag).startsWith("\"").endsWith("\"");
+
+		client.headers(h -> h.set(HttpHeaderNames.IF_NONE_MATCH, "\"other\", W/" + etag))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> bytes.asString().defaultIfEmpty("").map(body -> res.status().code() + body))
+		      .as(StepVerifier::create)
+		      .expectNext("304")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		String lastModified =
+				client.head()
+				      .uri("/static/file.txt")
+				      .response()
+				      .map(res -> {
+				          assertThat(res.status().code()).isEqualTo(200);
+				          assertThat(res.responseHeaders().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(CONTENT.length());
+				          return res.responseHeaders().get(HttpHeaderNames.LAST_MODIFIED);
+				      })
+				      .block(Duration.ofSeconds(5));
+
+		client.headers(h -> h.set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> bytes.asString().defaultIfEmpty("").map(body -> res.status().code() + body))
+		      .as(StepVerifier::create)
+		      .expectNext("304")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void notFound() throws IOException {
+		HttpClient client = createClient(spec -> {});
+
+		client.get()
+		      .uri("/static/missing.txt")
+		      .responseSingle((res, bytes) -> Mono.just(res.status().code()))
+		      .as(StepVerifier::create)
+		      .expectNext(404)
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		client.get()
+		      .uri("/static/../file.txt")
+		      .responseSingle((res, bytes) -> Mono.just(res.status().code()))
+		      .as(StepVerifier::create)
+		      .expectNext(404)
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void onlyMissingVariantsAreRemembered() throws IOException {
+		Files.write(directory.resolve("file.txt"), CONTENT.getBytes(StandardCharsets.UTF_8));
+		HttpServerStaticFiles staticFiles =
+				new HttpServerStaticFiles("/static", directory, HttpServerStaticFilesSpec.builder().build());
+		Path file = staticFiles.directory.resolve("file.txt");
+
+		assertThat(staticFiles.load(file, false).exists()).isTrue();
+		for (int i = 0; i < 100; i++) {
+			assertThat(staticFiles.load(staticFiles.directory.resolve("missing-" + i + ".txt"), false).exists()).isFalse();
+		}
+		assertThat(staticFiles.entries).containsOnlyKeys(file);
+
+		Path variant = file.resolveSibling("file.txt.gz");
+		assertThat(staticFiles.load(variant, true).exists()).isFalse();
+		assertThat(staticFiles.entries).containsOnlyKeys(file, variant);
+	}
+
+	@Test
+	void onlyMissesAreLoadedOnTheScheduler() throws IOException {
+		Files.write(directory.resolve("file.txt"), CONTENT.getBytes(StandardCharsets.UTF_8));
+		Scheduler scheduler = Schedulers.newSingle("static-files");
+		try {
+			HttpServerStaticFiles staticFiles =
+					new HttpServerStaticFiles("/static", directory,
+							HttpServerStaticFilesSpec.builder()
+							                         .revalidateInterval(Duration.ofMinutes(1))
+							                         .scheduler(scheduler)
+							                         .build());
+			Path file = staticFiles.directory.resolve("file.txt");
+
+			assertThat(staticFiles.resolve(file, false).map(entry -> Thread.currentThread().getName()).block(Duration.ofSeconds(5)))
+					.startsWith("static-files");
+			assertThat(staticFiles.resolve(file, false).map(entry -> Thread.currentThread().getName()).block(Duration.ofSeconds(5)))
+					.isEqualTo(Thread.currentThread().getName());
+		}
+		finally {
+			scheduler.dispose();
+		}
+	}
+
+	@Test
+	void precompressed() throws IOException {
+		HttpClient client = createClient(spec -> spec.precompressed(true));
+
+		ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+			out.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+		}
+		Path file = directory.resolve("file.txt");
+		Path gzFile = directory.resolve("file.txt.gz");
+		Files.write(gzFile, gzipped.toByteArray());
+		Files.setLastModifiedTime(gzFile, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+		client.headers(h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "br;q=0, gzip"))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> {
+		          assertThat(res.responseHeaders().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+		          assertThat(res.responseHeaders().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+		          return bytes.asByteArray();
+		      })
+		      .as(StepVerifier::create)
+		      .assertNext(body -> assertThat(body).isEqualTo(gzipped.toByteArray()))
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		client.headers(h -> h.set(HttpHeaderNames.ACCEPT_ENCODING, "br"))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> {
+		          assertThat(res.responseHeaders().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+		          return bytes.asString();
+		      })
+		      .as(StepVerifier::create)
+		      .expectNext(CONTENT)
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void rangeRequestsCachedContent() throws IOException {
+		doTestRangeRequests(createClient(spec -> {}));
+	}
+
+	@Test
+	void rangeRequestsFileTransfer() throws IOException {
+		doTestRangeRequests(createClient(spec -> spec.maxCacheSize(0)));
+	}
+
+	@Test
+	void revalidate() throws IOException {
+		HttpClient client = createClient(spec -> spec.revalidateInterval(Duration.ZERO));
+
+		client.get()
+		      .uri("/static/file.txt")
+		      .responseContent()
+		      .aggregate()
+		      .asString()
+		      .as(StepVerifier::create)
+		      .expectNext(CONTENT)
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		Path file = directory.resolve("file.txt");
+		Files.write(file, "updated".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+		client.get()
+		      .uri("/static/file.txt")
+		      .responseContent()
+		      .aggregate()
+		      .asString()
+		      .as(StepVerifier::create)
+		      .expectNext("updated")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void staticFilesSpecBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpServerStaticFilesSpec.builder().maxCachedFileSize(0))
+				.withMessage("maxCachedFileSize must be positive");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpServerStaticFilesSpec.builder().maxCacheSize(-1))
+				.withMessage("maxCacheSize must be positive or zero");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpServerStaticFilesSpec.builder().revalidateInterval(Duration.ofSeconds(-1)))
+				.withMessage("revalidateInterval must be positive or zero");
+	}
+
+	void doTestRangeRequests(HttpClient client) {
+		client.headers(h -> h.set(HttpHeaderNames.RANGE, "bytes=2-5"))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> {
+		          assertThat(res.status().code()).isEqualTo(206);
+		          assertThat(res.responseHeaders().get(HttpHeaderNames.CONTENT_RANGE))
+		                  .isEqualTo("bytes 2-5/" + CONTENT.length());
+		          return bytes.asString();
+		      })
+		      .as(StepVerifier::create)
+		      .expectNext("2345")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		client.headers(h -> h.set(HttpHeaderNames.RANGE, "bytes=-3"))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseContent()
+		      .aggregate()
+		      .asString()
+		      .as(StepVerifier::create)
+		      .expectNext("xyz")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		client.headers(h -> h.set(HttpHeaderNames.RANGE, "bytes=0-1,10-"))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> {
+		          assertThat(res.status().code()).isEqualTo(206);
+		          assertThat(res.responseHeaders().get(HttpHeaderNames.CONTENT_TYPE))
+		                  .startsWith("multipart/byteranges; boundary=");
+		          return bytes.asString().map(body -> {
+		              assertThat(body.length()).isEqualTo(res.responseHeaders().getInt(HttpHeaderNames.CONTENT_LENGTH));
+		              return body;
+		          });
+		      })
+		      .as(StepVerifier::create)
+		      .assertNext(body -> assertThat(body)
+		              .contains("content-range: bytes 0-1/" + CONTENT.length() + "\r\n\r\n01\r\n")
+		              .contains("content-range: bytes 10-35/" + CONTENT.length() + "\r\n\r\n" + CONTENT.substring(10) + "\r\n")
+		              .endsWith("--\r\n"))
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		client.headers(h -> h.set(HttpHeaderNames.RANGE, "bytes=100-200"))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> Mono.just(
+		              res.status().code() + " " + res.responseHeaders().get(HttpHeaderNames.CONTENT_RANGE)))
+		      .as(StepVerifier::create)
+		      .expectNext("416 bytes */" + CONTENT.length())
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		client.headers(h -> h.set(HttpHeaderNames.RANGE, "bytes=2-5")
+		                     .set(HttpHeaderNames.IF_RANGE, "\"other\""))
+		      .get()
+		      .uri("/static/file.txt")
+		      .responseSingle((res, bytes) -> bytes.asString().map(body -> res.status().code() + body))
+		      .as(StepVerifier::create)
+		      .expectNext("200" + CONTENT)
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+	}
+
+	HttpClient createClient(Consumer<HttpServerStaticFilesSpec.Builder> staticFilesSpec) throws IOException {
+		Files.write(directory.resolve("file.txt"), CONTENT.getBytes(StandardCharsets.UTF_8));
+		disposableServer =
+				createServer()
+				        .route(r -> r.staticFiles("/static", directory, staticFilesSpec))
+				        .bindNow();
+		return createClient(disposableServer.port());
+	}
+}
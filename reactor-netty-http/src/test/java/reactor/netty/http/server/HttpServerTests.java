@@ -34,6 +34,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -88,6 +89,7 @@ import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
 import io.netty.handler.codec.http.cookie.ServerCookieEncoder;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
@@ -980,6 +982,61 @@ class HttpServerTests extends BaseHttpTest {
 		            .verify(Duration.ofSeconds(5));
 	}
 
+	@Test
+	void httpServerRequestLazyHeaders() {
+		disposableServer =
+				createServer()
+				          .httpRequestDecoder(spec -> spec.lazyHeaders(true))
+				          .forwarded(true)
+				          .handle((req, res) -> {
+				              HttpHeaders headers = req.requestHeaders();
+				              Set<Cookie> cookies = req.cookies().get("cookie1");
+				              return res.sendString(Mono.just(headers.getClass().getSimpleName() + ' ' +
+				                      headers.get("X-Test") + ' ' + headers.getAll("x-multi") + ' ' +
+				                      (cookies == null ? null : cookies.iterator().next().value()) + ' ' +
+				                      req.scheme() + ' ' + req.hostName()));
+				          })
+				          .bindNow();
+
+		String response =
+				createClient(disposableServer.port())
+				          .headers(h -> h.add("x-test", "value")
+				                         .add("X-Multi", "1")
+				                         .add("x-multi", "2")
+				                         .add(HttpHeaderNames.COOKIE, "cookie1=test")
+				                         .add("X-Forwarded-Proto", "https")
+				                         .add("X-Forwarded-Host", "example.com"))
+				          .get()
+				          .uri("/")
+				          .responseContent()
+				          .aggregate()
+				          .asString()
+				          .block(Duration.ofSeconds(5));
+
+		assertThat(response).isEqualTo("LazyHttpHeaders value [1, 2] test https example.com");
+	}
+
+	@Test
+	void httpServerRequestLazyHeadersTooLong() {
+		disposableServer =
+				createServer()
+				          .httpRequestDecoder(spec -> spec.lazyHeaders(true).maxHeaderSize(20))
+				          .handle((req, res) -> res.sendString(Mono.just("Should not be reached")))
+				          .bindNow();
+
+		Mono<HttpResponseStatus> status =
+				createClient(disposableServer.port())
+				          .headers(h -> h.set("content-type", "somethingtooolooong"))
+				          .get()
+				          .uri("/path")
+				          .responseSingle((res, byteBufMono) -> Mono.just(res.status()));
+
+		StepVerifier.create(status)
+		            .expectNextMatches(HttpResponseStatus.REQUEST_HEADER_FIELDS_TOO_LARGE::equals)
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+	}
+
 	@Test
 	@SuppressWarnings("deprecation")
 	void httpServerRequestConfigInjectAttributes() {
@@ -3980,4 +4037,72 @@ class HttpServerTests extends BaseHttpTest {
 			disposableServer.disposeNow();
 		}
 	}
+
+	@Test
+	void testAdmissionControlRejectsRequestsAboveInFlightLimit() throws Exception {
+		LoopResources loop = LoopResources.create("testAdmissionControl", 1, true);
+		CountDownLatch slowReceived = new CountDownLatch(1);
+		Sinks.Empty<Void> release = Sinks.empty();
+		try {
+			disposableServer =
+					createServer()
+					          .runOn(loop)
+					          .admissionControl(spec -> spec.maxInFlightRequests(1)
+					                                        .retryAfter(Duration.ofMillis(1500))
+					                                        .priority(req -> req.uri().equals("/health")))
+					          .route(r -> r.get("/slow", (req, res) -> {
+					                           slowReceived.countDown();
+					                           return res.sendString(release.asMono().then(Mono.just("slow")));
+					                       })
+					                       .get("/health", (req, res) -> res.sendString(Mono.just("health")))
+					                       .get("/other", (req, res) -> res.sendString(Mono.just("other"))))
+					          .bindNow();
+
+			HttpClient client = createClient(disposableServer.port());
+
+			AtomicReference<String> slow = new AtomicReference<>();
+			CountDownLatch slowCompleted = new CountDownLatch(1);
+			client.get()
+			      .uri("/slow")
+			      .responseContent()
+			      .aggregate()
+			      .asString()
+			      .subscribe(s -> {
+			          slow.set(s);
+			          slowCompleted.countDown();
+			      });
+
+			assertThat(slowReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+			client.get()
+			      .uri("/other")
+			      .responseSingle((res, bytes) -> Mono.just(res.status().code() + " " + res.responseHeaders().get(HttpHeaderNames.RETRY_AFTER)))
+			      .as(StepVerifier::create)
+			      .expectNext("503 2")
+			      .expectComplete()
+			      .verify(Duration.ofSeconds(5));
+
+			client.get()
+			      .uri("/health")
+			      .responseContent()
+			      .aggregate()
+			      .asString()
+			      .as(StepVerifier::create)
+			      .expectNext("health")
+			      .expectComplete()
+			      .verify(Duration.ofSeconds(5));
+
+			release.tryEmitEmpty();
+
+			assertThat(slowCompleted.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(slow.get()).isEqualTo("slow");
+		}
+		finally {
+			if (disposableServer != null) {
+				disposableServer.disposeNow();
+			}
+			loop.disposeLater()
+			    .block(Duration.ofSeconds(30));
+		}
+	}
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.internal.CompressedContentCache;
+import reactor.netty.http.internal.CompressionLoad;
+import reactor.netty.http.server.compression.AdaptiveOption;
+import reactor.netty.http.server.compression.CacheOption;
+import reactor.netty.http.server.compression.CompressedResponseCache;
+import reactor.netty.http.server.compression.HttpCompressionOptionsSpec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * This test class verifies {@link SimpleCompressionHandler}.
+ */
+class SimpleCompressionHandlerTest {
+
+	static final String BODY = "reply reply reply reply reply reply reply reply";
+
+	@Test
+	void cachedResponseWhenBusy() throws Exception {
+		assertThat(Brotli.isAvailable()).isTrue();
+		HttpCompressionOptionsSpec spec =
+				new HttpCompressionOptionsSpec(
+						CacheOption.builder().build(),
+						AdaptiveOption.builder()
+						              .busyUtilization(0.01)
+						              .overloadedUtilization(1.0)
+						              .busyMinResponseSize(0)
+						              .build());
+		CompressedContentCache cache = (CompressedContentCache) spec.cache();
+		CompressionLoad compressionLoad = spec.compressionLoad();
+		assertThat(cache).isNotNull();
+		assertThat(compressionLoad).isNotNull();
+
+		// The embedded event loop runs on the current thread, make it busy for the next window
+		compressionLoad.record(0);
+		Thread.sleep(CompressionLoad.WINDOW_MILLIS);
+		compressionLoad.record(TimeUnit.MILLISECONDS.toNanos(CompressionLoad.WINDOW_MILLIS) / 2);
+		assertThat(compressionLoad.load(ImmediateEventExecutor.INSTANCE)).isEqualTo(CompressionLoad.BUSY);
+
+		EmbeddedChannel channel = new EmbeddedChannel(SimpleCompressionHandler.create(spec));
+		try {
+			FullHttpResponse response = exchange(channel);
+			try {
+				// The cheaper encoding is used and advertised, the body is not stored
+				assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+				assertThat(gunzip(ByteBufUtil.getBytes(response.content()))).isEqualTo(BODY);
+				assertThat(cache.get("/test \"1\" br")).isNull();
+				assertThat(cache.get("/test \"1\" gzip")).isNull();
+			}
+			finally {
+				response.release();
+			}
+		}
+		finally {
+			channel.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void uncacheableResponseIsNotStored() {
+		HttpCompressionOptionsSpec spec = new HttpCompressionOptionsSpec(CacheOption.builder().build());
+		CompressedResponseCache cache = spec.cache();
+		assertThat(cache).isNotNull();
+
+		String[][] headers = {
+				{"cache-control", "private, max-age=60"},
+				{"cache-control", "no-store"},
+				{"vary", "accept-encoding, cookie"},
+				{"vary", "*"}};
+		for (String[] header : headers) {
+			exchangeAndRelease(spec, header[0], header[1]);
+			assertThat(cache.size()).as(header[0] + ": " + header[1]).isZero();
+		}
+
+		// Accept-Encoding is part of the key
+		exchangeAndRelease(spec, "vary", "Accept-Encoding");
+		assertThat(cache.size()).isPositive();
+	}
+
+	static void exchangeAndRelease(HttpCompressionOptionsSpec spec, String name, String value) {
+		EmbeddedChannel channel = new EmbeddedChannel(SimpleCompressionHandler.create(spec));
+		try {
+			FullHttpResponse response = exchange(channel, name, value);
+			assertThat(response.headers().get(HttpHeaderNames.CONTENT_ENCODING)).isNotNull();
+			response.release();
+		}
+		finally {
+			channel.finishAndReleaseAll();
+		}
+	}
+
+	static FullHttpResponse exchange(EmbeddedChannel channel) {
+		return exchange(channel, null, null);
+	}
+
+	static FullHttpResponse exchange(EmbeddedChannel channel, @Nullable String name, @Nullable String value) {
+		DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/test");
+		request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "br, gzip");
+		channel.writeInbound(request);
+		ReferenceCountUtil.release(channel.readInbound());
+
+		DefaultFullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+				Unpooled.copiedBuffer(BODY, StandardCharsets.UTF_8));
+		response.headers()
+		        .set(HttpHeaderNames.ETAG, "\"1\"")
+		        .setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+		if (name != null && value != null) {
+			response.headers().set(name, value);
+		}
+		channel.writeOutbound(response);
+		return channel.readOutbound();
+	}
+
+	static String gunzip(byte[] bytes) throws IOException {
+		try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+			byte[] buf = new byte[1024];
+			int readable = gis.read(buf);
+			return new String(buf, 0, readable, StandardCharsets.UTF_8);
+		}
+	}
+}
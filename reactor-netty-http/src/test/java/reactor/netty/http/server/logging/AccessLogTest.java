@@ -97,6 +97,26 @@ class AccessLogTest extends BaseHttpTest {
 		assertAccessLogging(response, true, false, null);
 	}
 
+	@Test
+	void accessLogCommonLogFormat() {
+		disposableServer = server.accessLog(true, AccessLogFactory.createCommonLogFormat()).bindNow();
+
+		Tuple2<String, String> response = getHttpClientResponse(URI_1);
+
+		sleep(20);
+		Mockito.verify(mockedAppender, Mockito.times(1)).doAppend(loggingEventArgumentCaptor.capture());
+		assertThat(loggingEventArgumentCaptor.getAllValues()).hasSize(1);
+		final LoggingEvent relevantLog = loggingEventArgumentCaptor.getAllValues().get(0);
+		assertThat(relevantLog.getArgumentArray()).isNullOrEmpty();
+		assertThat(relevantLog.getFormattedMessage())
+				.contains(" - - [")
+				.contains(EXPECTED_FORMATTED_MESSAGE_1)
+				.isEqualTo(relevantLog.getMessage());
+
+		assertThat(response).isNotNull();
+		assertThat(response.getT2()).isEqualTo(FOUND);
+	}
+
 	@Test
 	void accessLogCustomFormat() {
 		disposableServer = server.accessLog(true, CUSTOM_ACCESS_LOG).bindNow();
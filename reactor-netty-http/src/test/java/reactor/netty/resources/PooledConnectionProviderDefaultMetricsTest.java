@@ -64,11 +64,15 @@ import static reactor.netty.Metrics.NAME;
 import static reactor.netty.Metrics.PENDING_STREAMS;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.STATUS;
+import static reactor.netty.Metrics.SUCCESS;
 import static reactor.netty.Metrics.TOTAL_CONNECTIONS;
 import static reactor.netty.http.client.HttpClientState.STREAM_CONFIGURED;
 import static reactor.netty.micrometer.GaugeAssert.assertGauge;
 import static reactor.netty.micrometer.TimerAssert.assertTimer;
+import static reactor.netty.resources.ConnectionProviderMeters.ALLOCATION_TIME;
+import static reactor.netty.resources.ConnectionProviderMeters.PENDING_CONNECTIONS_HIGH_WATER_MARK;
 import static reactor.netty.resources.ConnectionProviderMeters.PENDING_CONNECTIONS_TIME;
+import static reactor.netty.resources.ConnectionProviderMeters.DELIVERY_TIME;
 
 /**
  * This test class verifies {@link ConnectionProvider} metrics functionality.
@@ -235,6 +239,9 @@ class PooledConnectionProviderDefaultMetricsTest extends BaseHttpTest {
 		else {
 			assertGauge(registry, CONNECTION_PROVIDER_PREFIX + TOTAL_CONNECTIONS, NAME, poolName).hasValueEqualTo(0);
 			assertGauge(registry, CONNECTION_PROVIDER_PREFIX + ACTIVE_CONNECTIONS, NAME, poolName).hasValueEqualTo(0);
+			assertTimer(registry, ALLOCATION_TIME.getName(), NAME, poolName, STATUS, SUCCESS).hasCountEqualTo(1);
+			assertTimer(registry, DELIVERY_TIME.getName(), NAME, poolName, STATUS, SUCCESS).hasCountEqualTo(1);
+			assertGauge(registry, PENDING_CONNECTIONS_HIGH_WATER_MARK.getName(), NAME, poolName).hasValueLessThan(2);
 		}
 		assertGauge(registry, CONNECTION_PROVIDER_PREFIX + IDLE_CONNECTIONS, NAME, poolName).hasValueEqualTo(0);
 		assertGauge(registry, CONNECTION_PROVIDER_PREFIX + PENDING_CONNECTIONS, NAME, poolName).hasValueEqualTo(0);
@@ -15,13 +15,19 @@
  */
 package reactor.netty.transport;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelOption;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakTracker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,13 +43,18 @@ import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static reactor.netty.Metrics.ACTIVE_DIRECT_MEMORY;
 import static reactor.netty.Metrics.ACTIVE_HEAP_MEMORY;
+import static reactor.netty.Metrics.ARENA_ACTIVE_ALLOCATIONS;
+import static reactor.netty.Metrics.ARENA_ALLOCATIONS;
+import static reactor.netty.Metrics.ARENA_CHUNKS;
 import static reactor.netty.Metrics.BYTE_BUF_ALLOCATOR_PREFIX;
 import static reactor.netty.Metrics.CHUNK_SIZE;
 import static reactor.netty.Metrics.DIRECT_ARENAS;
 import static reactor.netty.Metrics.HEAP_ARENAS;
 import static reactor.netty.Metrics.ID;
+import static reactor.netty.Metrics.LEAKS;
 import static reactor.netty.Metrics.NORMAL_CACHE_SIZE;
 import static reactor.netty.Metrics.SMALL_CACHE_SIZE;
 import static reactor.netty.Metrics.THREAD_LOCAL_CACHES;
@@ -132,6 +143,92 @@ class ByteBufAllocatorMetricsTest extends BaseHttpTest {
 		}
 	}
 
+	@Test
+	void testArenaMetrics() {
+		PooledByteBufAllocator alloc = new PooledByteBufAllocator(true, 1, 1, 8192, 9, 0, 0, true);
+		String[] tags = new String[]{ID, "testArenaMetrics", TYPE, "pooled", "arena", "direct-0"};
+		ByteBufAllocatorMetrics.registerArenaMetrics("direct-", alloc.metric().directArenas(),
+				Tags.of(ID, "testArenaMetrics", TYPE, "pooled"));
+
+		ByteBuf small = alloc.directBuffer(256);
+		ByteBuf normal = alloc.directBuffer(65536);
+		ByteBuf huge = alloc.directBuffer(alloc.metric().chunkSize() + 1);
+		try {
+			assertThat(functionCounterValue(BYTE_BUF_ALLOCATOR_PREFIX + ARENA_ALLOCATIONS, tags, "small")).isEqualTo(1);
+			assertThat(functionCounterValue(BYTE_BUF_ALLOCATOR_PREFIX + ARENA_ALLOCATIONS, tags, "normal")).isEqualTo(1);
+			assertThat(functionCounterValue(BYTE_BUF_ALLOCATOR_PREFIX + ARENA_ALLOCATIONS, tags, "huge")).isEqualTo(1);
+			assertGauge(registry, BYTE_BUF_ALLOCATOR_PREFIX + ARENA_ACTIVE_ALLOCATIONS, sizeClassTags(tags, "huge"))
+					.hasValueEqualTo(1);
+
+			double chunks = registry.find(BYTE_BUF_ALLOCATOR_PREFIX + ARENA_CHUNKS)
+			                        .tags(tags)
+			                        .gauges()
+			                        .stream()
+			                        .mapToDouble(Gauge::value)
+			                        .sum();
+			assertThat(chunks).isGreaterThanOrEqualTo(1);
+		}
+		finally {
+			small.release();
+			normal.release();
+			huge.release();
+		}
+
+		assertGauge(registry, BYTE_BUF_ALLOCATOR_PREFIX + ARENA_ACTIVE_ALLOCATIONS, sizeClassTags(tags, "huge"))
+				.hasValueEqualTo(0);
+	}
+
+	@Test
+	void testLeakMetrics() {
+		ResourceLeakDetector.Level level = ResourceLeakDetector.getLevel();
+		ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.SIMPLE);
+		try {
+			MicrometerResourceLeakDetectorFactory.MicrometerResourceLeakDetector<ByteBuf> detector =
+					new MicrometerResourceLeakDetectorFactory.MicrometerResourceLeakDetector<>(ByteBuf.class, 1);
+
+			// The leaks are repeated from the same place, each of them is counted
+			await().atMost(Duration.ofSeconds(30))
+			       .untilAsserted(() -> {
+			           leak(detector);
+			           System.gc();
+			           // A new tracked resource triggers the detection of the previous leaks
+			           ByteBuf buf = Unpooled.buffer(8);
+			           ResourceLeakTracker<ByteBuf> tracker = detector.track(buf);
+			           assertThat(tracker).isNotNull();
+			           tracker.close(buf);
+			           buf.release();
+
+			           Counter counter = registry.find(BYTE_BUF_ALLOCATOR_PREFIX + LEAKS).tags("resource.type", "ByteBuf").counter();
+			           assertThat(counter).isNotNull();
+			           assertThat(counter.count()).isGreaterThanOrEqualTo(3);
+			       });
+		}
+		finally {
+			ResourceLeakDetector.setLevel(level);
+		}
+	}
+
+	static void leak(ResourceLeakDetector<ByteBuf> detector) {
+		ByteBuf buf = Unpooled.buffer(8);
+		assertThat(detector.track(buf)).isNotNull();
+		// The memory is released but the tracker is not closed, this is a leak for the detector
+		buf.release();
+	}
+
+	private double functionCounterValue(String name, String[] tags, String sizeClass) {
+		FunctionCounter counter = registry.find(name).tags(sizeClassTags(tags, sizeClass)).functionCounter();
+		assertThat(counter).isNotNull();
+		return counter.count();
+	}
+
+	private static String[] sizeClassTags(String[] tags, String sizeClass) {
+		String[] result = new String[tags.length + 2];
+		System.arraycopy(tags, 0, result, 0, tags.length);
+		result[tags.length] = "size.class";
+		result[tags.length + 1] = sizeClass;
+		return result;
+	}
+
 	private double getGaugeValue(String name, String... tags) {
 		Gauge gauge = registry.find(name).tags(tags).gauge();
 		double result = -1;